@@ -649,48 +649,37 @@ const DeviceDetails = ({ device: propDevice, roomName: propRoomName, onBack: pro
 
     const fetchReadingsOfDevice = async () => {
         try {
-            const response = await fetch(`http://10.9.24.232:8080/switch2023project_g6-1.0-SNAPSHOT/readings/device/${device.deviceId}?startPeriod=${startDate}&endPeriod=${endDate}`);
+            const response = await fetch(`http://10.9.24.232:8080/switch2023project_g6-1.0-SNAPSHOT/readings/device/${device.deviceId}/export?startPeriod=${startDate}&endPeriod=${endDate}&format=ndjson`);
 
             if (!response.ok) {
                 if (response.status === 400) {
                     throw new Error('Invalid date range.');
-                } else if (response.status === 404) {
-                    setPopupMessage("No readings found for the requested period.");
-                    setShowPopup(true);
-                    setTimeout(() => setShowPopup(false), 5000);
-                    return;
                 } else {
                     throw new Error(`HTTP error status: ${response.status}`);
                 }
             }
 
-            const data = await response.json();
-
-            if (Array.isArray(data)) {
-                const detailedReadings = await Promise.all(data.map(async (reading) => {
-                    const readingDetailsResponse = await fetch(`http://10.9.24.232:8080/switch2023project_g6-1.0-SNAPSHOT/readings/${reading.readingId}`);
-
-                    if (!readingDetailsResponse.ok) {
-                        throw new Error(`HTTP error status: ${readingDetailsResponse.status}`);
-                    }
-
-                    const readingDetailsData = await readingDetailsResponse.json();
-                    return {
-                        ...reading, ...readingDetailsData,
-                        /*                        transformedActuatorModel: transformActuatorModelName(readingDetailsData.actuatorModelName),
-                                                transformedSensorModel: transformSensorModelName(readingDetailsData.sensorModelName)*/
-                    };
-                }));
+            const text = await response.text();
+            const detailedReadings = text.split('\n')
+                .filter((line) => line.trim() !== '')
+                .map((line) => {
+                    const reading = JSON.parse(line);
+                    return {...reading, readingId: reading.id};
+                });
 
-                setReadings(detailedReadings);
-                setShowReadingsForm(false);
-                setShowReadingsList(true);
-                setDateErrorMessage(''); // Clear any previous error messages
-                setDateRequiredMessage(''); // Clear any previous required messages
-                console.log('Detailed readings fetched successfully:', detailedReadings);
-            } else {
-                console.error('Failed to fetch readings: Unexpected response format', data);
+            if (detailedReadings.length === 0) {
+                setPopupMessage("No readings found for the requested period.");
+                setShowPopup(true);
+                setTimeout(() => setShowPopup(false), 5000);
+                return;
             }
+
+            setReadings(detailedReadings);
+            setShowReadingsForm(false);
+            setShowReadingsList(true);
+            setDateErrorMessage(''); // Clear any previous error messages
+            setDateRequiredMessage(''); // Clear any previous required messages
+            console.log('Detailed readings fetched successfully:', detailedReadings);
         } catch (error) {
             console.error('Error fetching readings:', error);
             if (error.message === 'Invalid date range.') {
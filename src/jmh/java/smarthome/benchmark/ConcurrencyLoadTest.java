@@ -0,0 +1,119 @@
+package smarthome.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test of the number of requests a running application serves at once.
+ * <p>
+ * For each level of concurrency, it keeps that many requests in flight until it has sent the given number of
+ * requests, and reports the throughput, the latency percentiles and the errors. Tomcat serves at most 200 requests at
+ * once on platform threads, so beyond 200 in-flight requests the latency grows with the concurrency and the
+ * throughput stays flat; on virtual threads (Spring profile "virtual" on Java 21) the requests that wait on the
+ * database do not hold a thread, and the throughput keeps growing until the connection pool is the bound.
+ * </p>
+ * <p>
+ * Run it against a running application with:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.main=smarthome.benchmark.ConcurrencyLoadTest
+ * -Djmh.args="http://localhost:8080/devices 100,200,400,800 20000"}
+ * </p>
+ */
+public final class ConcurrencyLoadTest {
+
+    private ConcurrencyLoadTest() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the URL to request, the comma separated levels of concurrency, and the number of requests of each
+     *             level.
+     * @throws InterruptedException if the load test is interrupted.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length != 3) {
+            System.err.println("Usage: ConcurrencyLoadTest <url> <concurrency,...> <requests>");
+            return;
+        }
+        URI uri = URI.create(args[0]);
+        int[] levels = Arrays.stream(args[1].split(",")).mapToInt(Integer::parseInt).toArray();
+        int requests = Integer.parseInt(args[2]);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10)).build();
+
+        run(client, uri, Math.min(levels[0], 50), Math.min(requests, 1000));
+        System.out.printf("%11s %9s %12s %9s %9s %9s %7s%n",
+                "concurrency", "requests", "requests/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (int concurrency : levels) {
+            Result result = run(client, uri, concurrency, requests);
+            System.out.printf("%11d %9d %12.1f %9.1f %9.1f %9.1f %7d%n", concurrency, requests,
+                    requests / result.seconds, result.percentile(0.50), result.percentile(0.99),
+                    result.percentile(1.0), result.errors);
+        }
+    }
+
+    /**
+     * Sends the requests, with at most the given number in flight at once.
+     *
+     * @param client      the HTTP client.
+     * @param uri         the URI to request.
+     * @param concurrency the largest number of requests in flight.
+     * @param requests    the number of requests.
+     * @return the latencies and errors of the requests.
+     * @throws InterruptedException if the load test is interrupted.
+     */
+    private static Result run(HttpClient client, URI uri, int concurrency, int requests)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long[] latencies = new long[requests];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicLong errors = new AtomicLong();
+        List<CompletableFuture<Void>> responses = new ArrayList<>(requests);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            long sent = System.nanoTime();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, e) -> {
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - sent;
+                        if (e != null || response.statusCode() >= 500) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+        return new Result(latencies, seconds, errors.get());
+    }
+
+    /**
+     * The latencies, in order, the duration and the number of errors of a run.
+     */
+    private record Result(long[] latencies, double seconds, long errors) {
+
+        /**
+         * Returns a percentile of the latencies, in milliseconds.
+         *
+         * @param rank the rank of the percentile, between 0 and 1.
+         * @return the percentile.
+         */
+        private double percentile(double rank) {
+            int index = (int) Math.ceil(rank * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package smarthome.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactoryImpl;
+import smarthome.domain.sensormodel.SensorModel;
+import smarthome.domain.sensormodel.SensorModelFactoryImpl;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.domain.sensortype.SensorType;
+import smarthome.domain.sensortype.SensorTypeFactoryImpl;
+import smarthome.domain.sensortype.vo.SensorTypeName;
+import smarthome.domain.sensortype.vo.SensorTypeUnit;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
+import smarthome.persistence.mem.DeviceRepositoryMemImpl;
+import smarthome.persistence.mem.DeviceTypeRepositoryMemImpl;
+import smarthome.persistence.mem.RoomRepositoryMemImpl;
+import smarthome.persistence.mem.SensorModelRepositoryMemImpl;
+import smarthome.persistence.mem.SensorRepositoryMemImpl;
+import smarthome.persistence.mem.SensorTypeRepositoryMemImpl;
+import smarthome.service.impl.DeviceServiceImpl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the grouping of devices by the sensor types of their sensors by DeviceServiceImpl.
+ * <p>
+ * Each device has one to four sensors of random models among four, of four sensor types.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeviceServiceBenchmark {
+
+    private static final String[][] SENSOR_MODELS = {
+            {"SensorOfTemperature", "Temperature", "Celsius"},
+            {"SensorOfHumidity", "Humidity", "Percent"},
+            {"SensorOfPowerConsumption", "PowerConsumption", "Watts"},
+            {"SensorOfDewPoint", "DewPoint", "Celsius"}};
+
+    /**
+     * The number of devices.
+     */
+    @Param({"100", "10000"})
+    public int devices;
+
+    private DeviceServiceImpl service;
+
+    /**
+     * Generates the sensor types, sensor models, devices and sensors, and the service over them.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        DeviceRepositoryMemImpl deviceRepository = new DeviceRepositoryMemImpl();
+        SensorRepositoryMemImpl sensorRepository = new SensorRepositoryMemImpl();
+        SensorModelRepositoryMemImpl sensorModelRepository = new SensorModelRepositoryMemImpl();
+        SensorTypeRepositoryMemImpl sensorTypeRepository = new SensorTypeRepositoryMemImpl();
+        SensorTypeFactoryImpl sensorTypeFactory = new SensorTypeFactoryImpl();
+        SensorModelFactoryImpl sensorModelFactory = new SensorModelFactoryImpl();
+        for (String[] sensorModel : SENSOR_MODELS) {
+            SensorType sensorType = sensorTypeRepository.save(sensorTypeFactory.createSensorType(
+                    new SensorTypeName(sensorModel[1]), new SensorTypeUnit(sensorModel[2])));
+            SensorModel model = sensorModelFactory.createSensorModel(new SensorModelName(sensorModel[0]),
+                    sensorType.getIdentity());
+            sensorModelRepository.save(model);
+        }
+
+        Random random = SyntheticData.random();
+        int sensorNumber = 0;
+        for (int i = 0; i < devices; i++) {
+            Device device = deviceRepository.save(SyntheticData.device(i, "Default"));
+            int sensors = 1 + random.nextInt(SENSOR_MODELS.length);
+            for (int j = 0; j < sensors; j++) {
+                String sensorModel = SENSOR_MODELS[random.nextInt(SENSOR_MODELS.length)][0];
+                sensorRepository.save(SyntheticData.sensor(sensorNumber++, sensorModel, device.getIdentity()));
+            }
+        }
+
+        service = new DeviceServiceImpl(new RoomRepositoryMemImpl(), new DeviceFactoryImpl(), deviceRepository,
+                new DeviceTypeRepositoryMemImpl(),
+                new DeviceFunctionalityRepositoryMemImpl(sensorRepository, sensorModelRepository,
+                        sensorTypeRepository, deviceRepository));
+    }
+
+    /**
+     * Measures the grouping of the devices by sensor type.
+     *
+     * @return the devices by sensor type name.
+     * @throws IllegalAccessException if the devices cannot be grouped.
+     */
+    @Benchmark
+    public HashMap<String, List<Device>> getDevicesBySensorType() throws IllegalAccessException {
+        return service.getDevicesBySensorType();
+    }
+}
@@ -0,0 +1,145 @@
+package smarthome.benchmark;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactory;
+import smarthome.domain.device.DeviceFactoryImpl;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.device.vo.DeviceName;
+import smarthome.domain.deviceType.vo.DeviceTypeName;
+import smarthome.domain.room.vo.RoomId;
+import smarthome.persistence.datamodel.DeviceDataModel;
+import smarthome.persistence.datamodel.mapper.DeviceDataModelMapper;
+import smarthome.persistence.jpa.DeviceRepositoryJPAImpl;
+import smarthome.persistence.jpa.JPAPersistenceUnit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks of the reads and writes of a JPA repository, with an EntityManagerFactory per operation, as the JPA
+ * repositories had before, and with the factory shared by a {@link JPAPersistenceUnit}.
+ * <p>
+ * The repository is the device repository, on an in-memory H2 database that outlives its factories, so a factory
+ * built for one operation sees the same data as the shared one.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JPAPersistenceUnitBenchmark {
+
+    /**
+     * How the repository gets its EntityManagerFactory: "perOperation" builds and closes one for each operation, and
+     * "shared" keeps one for every operation.
+     */
+    @Param({"perOperation", "shared"})
+    public String factory;
+
+    private final DeviceFactory deviceFactory = new DeviceFactoryImpl();
+    private final DeviceDataModelMapper mapper = new DeviceDataModelMapper(deviceFactory);
+    private final Supplier<EntityManagerFactory> factorySupplier = JPAPersistenceUnitBenchmark::createFactory;
+    private JPAPersistenceUnit sharedUnit;
+    private DeviceRepositoryJPAImpl sharedRepository;
+    private DeviceId deviceId;
+
+    /**
+     * Opens the shared persistence unit and saves the device that the reads look up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        sharedUnit = new JPAPersistenceUnit(factorySupplier);
+        sharedRepository = new DeviceRepositoryJPAImpl(mapper, sharedUnit);
+        Device device = newDevice();
+        sharedRepository.save(device);
+        deviceId = device.getIdentity();
+    }
+
+    /**
+     * Closes the shared persistence unit.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sharedUnit.close();
+    }
+
+    /**
+     * Creates a factory for an in-memory H2 database that outlives the factory.
+     *
+     * @return the entity manager factory.
+     */
+    private static EntityManagerFactory createFactory() {
+        return new Configuration()
+                .addAnnotatedClass(DeviceDataModel.class)
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:jpa-benchmark;DB_CLOSE_DELAY=-1")
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "update")
+                .buildSessionFactory();
+    }
+
+    private Device newDevice() {
+        return deviceFactory.createDevice(new DeviceName("Heater"), new DeviceTypeName("Heater"), new RoomId("room"));
+    }
+
+    /**
+     * Measures the lookup of a device by identity.
+     *
+     * @return the device found, to be consumed.
+     */
+    @Benchmark
+    public Object findByIdentity() {
+        if ("shared".equals(factory)) {
+            return sharedRepository.findByIdentity(deviceId);
+        }
+        try (JPAPersistenceUnit unit = new JPAPersistenceUnit(factorySupplier)) {
+            return new DeviceRepositoryJPAImpl(mapper, unit).findByIdentity(deviceId);
+        }
+    }
+
+    /**
+     * Measures the existence check of a device.
+     *
+     * @return whether the device exists, to be consumed.
+     */
+    @Benchmark
+    public boolean containsIdentity() {
+        if ("shared".equals(factory)) {
+            return sharedRepository.containsIdentity(deviceId);
+        }
+        try (JPAPersistenceUnit unit = new JPAPersistenceUnit(factorySupplier)) {
+            return new DeviceRepositoryJPAImpl(mapper, unit).containsIdentity(deviceId);
+        }
+    }
+
+    /**
+     * Measures the save of a new device.
+     *
+     * @return the device saved, to be consumed.
+     */
+    @Benchmark
+    public Object save() {
+        if ("shared".equals(factory)) {
+            return sharedRepository.save(newDevice());
+        }
+        try (JPAPersistenceUnit unit = new JPAPersistenceUnit(factorySupplier)) {
+            return new DeviceRepositoryJPAImpl(mapper, unit).save(newDevice());
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package smarthome.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactoryImpl;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.device.vo.DeviceName;
+import smarthome.domain.device.vo.DeviceStatus;
+import smarthome.domain.deviceType.vo.DeviceTypeName;
+import smarthome.domain.room.vo.RoomId;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.persistence.mem.DeviceRepositoryMemImpl;
+import smarthome.persistence.mem.SensorRepositoryMemImpl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the queries by secondary key of the in-memory repositories of devices and sensors.
+ * <p>
+ * The devices are spread over rooms of ten devices each, and every device has four sensors, one of each model. The
+ * queries read the indexes of the repositories, so their time depends on the number of entities found, not on the
+ * number of entities in the repository. The group benchmark runs the room query on three threads while a fourth
+ * updates devices, to measure the queries under concurrent writes.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemRepositoryBenchmark {
+
+    private static final String[] SENSOR_MODELS = {"SensorOfTemperature", "SensorOfHumidity",
+            "SensorOfPowerConsumption", "SensorOfDewPoint"};
+    private static final DeviceFactoryImpl DEVICE_FACTORY = new DeviceFactoryImpl();
+
+    /**
+     * The number of devices.
+     */
+    @Param({"1000", "100000"})
+    public int devices;
+
+    private DeviceRepositoryMemImpl deviceRepository;
+    private SensorRepositoryMemImpl sensorRepository;
+    private int rooms;
+
+    /**
+     * Generates the devices and their sensors.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        deviceRepository = new DeviceRepositoryMemImpl();
+        sensorRepository = new SensorRepositoryMemImpl();
+        rooms = devices / 10;
+        for (int i = 0; i < devices; i++) {
+            Device device = deviceRepository.save(device(i, i % rooms));
+            for (int j = 0; j < SENSOR_MODELS.length; j++) {
+                sensorRepository.save(SyntheticData.sensor(i * SENSOR_MODELS.length + j, SENSOR_MODELS[j],
+                        device.getIdentity()));
+            }
+        }
+    }
+
+    private static Device device(int number, int room) {
+        return DEVICE_FACTORY.createDevice(new DeviceId("device-" + number), new DeviceName("Device " + number),
+                new DeviceTypeName("Default"), new RoomId("room-" + room), new DeviceStatus(true));
+    }
+
+    /**
+     * Measures the query of the devices of a random room.
+     *
+     * @return the devices of the room.
+     */
+    @Benchmark
+    public Iterable<Device> findDevicesByRoomId() {
+        return deviceRepository.findDevicesByRoomId(new RoomId("room-" + ThreadLocalRandom.current().nextInt(rooms)));
+    }
+
+    /**
+     * Measures the query of the identities of the devices of a device type, which every device has.
+     *
+     * @return the identities of the devices.
+     */
+    @Benchmark
+    public Iterable<DeviceId> findDeviceIdsByDeviceTypeName() {
+        return deviceRepository.findDeviceIdsByDeviceTypeName(new DeviceTypeName("Default"));
+    }
+
+    /**
+     * Measures the query of the sensors of a random device.
+     *
+     * @return the sensors of the device.
+     */
+    @Benchmark
+    public Iterable<Sensor> findSensorsByDeviceId() {
+        return sensorRepository.findSensorsByDeviceId(randomDeviceId());
+    }
+
+    /**
+     * Measures the query of the sensors of a model of a random device.
+     *
+     * @return the sensors of the device and model.
+     */
+    @Benchmark
+    public Iterable<Sensor> findSensorsByDeviceIdAndSensorModelName() {
+        return sensorRepository.findSensorsByDeviceIdAndSensorModelName(randomDeviceId(),
+                new SensorModelName(SENSOR_MODELS[0]));
+    }
+
+    /**
+     * Measures the query of the devices of a random room while another thread updates devices.
+     *
+     * @return the devices of the room.
+     */
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(3)
+    public Iterable<Device> readDevicesByRoomId() {
+        return findDevicesByRoomId();
+    }
+
+    /**
+     * Measures the move of a random device to a random room, while other threads query devices by room.
+     *
+     * @return the updated device.
+     */
+    @Benchmark
+    @Group("readWhileWriting")
+    @GroupThreads(1)
+    public Device updateDeviceRoom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return deviceRepository.update(device(random.nextInt(devices), random.nextInt(rooms)));
+    }
+
+    private DeviceId randomDeviceId() {
+        return new DeviceId("device-" + ThreadLocalRandom.current().nextInt(devices));
+    }
+}
@@ -0,0 +1,130 @@
+package smarthome.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the encoding and decoding of compressed reading chunks, against building a series from readings.
+ * <p>
+ * The compression ratio of the same data is printed by {@link ReadingChunkCompression}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingChunkBenchmark {
+
+    /**
+     * The kind of series: temperatures to a tenth of a degree, or power in whole watts.
+     */
+    @Param({"temperature", "power"})
+    public String data;
+
+    /**
+     * The number of samples of the series.
+     */
+    @Param({"100000"})
+    public int samples;
+
+    private final SensorId sensorId = new SensorId("sensor-0");
+    private ReadingSeries series;
+    private List<ReadingChunk> chunks;
+    private List<Reading> readings;
+
+    /**
+     * Generates the series, its chunks, and its readings.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        series = syntheticSeries(data, samples);
+        chunks = ReadingChunkPolicy.DEFAULT.append(null, sensorId, series);
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        readings = new ArrayList<>(samples);
+        for (int i = 0; i < samples; i++) {
+            readings.add(readingFactory.createReading(new ReadingId("reading-" + i),
+                    new NumericReadingValue(series.valueAt(i)), sensorId,
+                    new TimeStamp(toLocalDateTime(series.epochNanosAt(i)))));
+        }
+    }
+
+    /**
+     * Generates a synthetic series of a given kind.
+     *
+     * @param data    the kind of series: "temperature" or "power".
+     * @param samples the number of samples.
+     * @return the series.
+     */
+    static ReadingSeries syntheticSeries(String data, int samples) {
+        return "power".equals(data) ? SyntheticData.powerSeries(samples, SyntheticData.random())
+                : SyntheticData.temperatureSeries(samples, SyntheticData.random());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(0, epochNanos), ZoneOffset.UTC);
+    }
+
+    /**
+     * Measures the encoding of the series in chunks.
+     *
+     * @return the chunks.
+     */
+    @Benchmark
+    public List<ReadingChunk> encode() {
+        return ReadingChunkPolicy.DEFAULT.append(null, sensorId, series);
+    }
+
+    /**
+     * Measures the decoding of every chunk straight into a series, as the aggregations of the reading service read
+     * them.
+     *
+     * @return the series.
+     */
+    @Benchmark
+    public ReadingSeries decode() {
+        ReadingSeries result = new ReadingSeries();
+        for (ReadingChunk chunk : chunks) {
+            chunk.decodeInto(result, Long.MIN_VALUE, Long.MAX_VALUE);
+        }
+        return result;
+    }
+
+    /**
+     * Measures the building of a series from the readings, as when the readings are loaded as rows.
+     *
+     * @return the series.
+     */
+    @Benchmark
+    public ReadingSeries seriesOfReadings() {
+        return ReadingSeries.of(readings);
+    }
+}
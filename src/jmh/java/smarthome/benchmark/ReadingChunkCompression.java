@@ -0,0 +1,53 @@
+package smarthome.benchmark;
+
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Report of the size of the synthetic series of {@link ReadingChunkBenchmark} once encoded in chunks.
+ * <p>
+ * For each kind of series and chunk policy, it prints the bytes per sample of the chunk data, and the ratio to the
+ * 16 bytes of a sample of a {@link ReadingSeries}, a timestamp and a double.
+ * </p>
+ * <p>
+ * Run it with:
+ * {@code mvn -Pjmh test-compile exec:exec -Djmh.main=smarthome.benchmark.ReadingChunkCompression
+ * -Djmh.args="100000"}
+ * </p>
+ */
+public final class ReadingChunkCompression {
+
+    private static final int SAMPLE_BYTES = 16;
+
+    private ReadingChunkCompression() {
+    }
+
+    /**
+     * Prints the report.
+     *
+     * @param args the number of samples of each series, 100000 if not given.
+     */
+    public static void main(String[] args) {
+        int samples = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<ReadingChunkPolicy> policies = List.of(ReadingChunkPolicy.DEFAULT,
+                new ReadingChunkPolicy(ReadingChunkPolicy.DEFAULT_MAX_POINTS, Duration.ofDays(1)));
+        System.out.printf("%-12s %10s %10s %8s %14s %8s%n",
+                "data", "max points", "window", "chunks", "bytes/sample", "ratio");
+        for (String data : List.of("temperature", "power")) {
+            ReadingSeries series = ReadingChunkBenchmark.syntheticSeries(data, samples);
+            for (ReadingChunkPolicy policy : policies) {
+                List<ReadingChunk> chunks = policy.append(null, new SensorId("sensor-0"), series);
+                long bytes = chunks.stream().mapToLong(ReadingChunk::getDataLength).sum();
+                double bytesPerSample = (double) bytes / samples;
+                System.out.printf("%-12s %10d %10s %8d %14.2f %8.1f%n", data, policy.getMaxPoints(),
+                        Duration.ofNanos(policy.getWindowNanos()), chunks.size(), bytesPerSample,
+                        SAMPLE_BYTES / bytesPerSample);
+            }
+        }
+    }
+}
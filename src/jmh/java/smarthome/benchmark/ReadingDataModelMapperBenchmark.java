@@ -0,0 +1,61 @@
+package smarthome.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.persistence.datamodel.ReadingDataModel;
+import smarthome.persistence.datamodel.mapper.ReadingDataModelMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the mapping of reading data models, as loaded from the database, to readings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingDataModelMapperBenchmark {
+
+    /**
+     * The number of data models mapped.
+     */
+    @Param({"1000", "100000"})
+    public int readings;
+
+    private ReadingDataModelMapper mapper;
+    private List<ReadingDataModel> dataModels;
+
+    /**
+     * Generates the data models of numeric readings of ten sensors.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ReadingDataModelMapper(new ReadingFactoryImpl());
+        dataModels = SyntheticData.readingDataModels(readings, 10, SyntheticData.random());
+    }
+
+    /**
+     * Measures the mapping of the data models to readings.
+     *
+     * @return the readings.
+     */
+    @Benchmark
+    public Iterable<Reading> toReadingDomainModels() {
+        return mapper.toReadingDomainModels(dataModels);
+    }
+}
@@ -0,0 +1,250 @@
+package smarthome.benchmark;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import smarthome.persistence.datamodel.ReadingDataModel;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the reading queries of the Spring Data repository, with and without the composite
+ * (sensor_id, time_stamp) index, on a large reading table of an H2 database in MySQL mode.
+ * <p>
+ * The setup checks that the schema generated from ReadingDataModel has the index on (sensor_id, time_stamp), fills
+ * the table with one reading per sensor and minute, and, with the index, checks that the EXPLAIN plans of the period
+ * and latest value queries use idx_reading_sensor_time; it fails if they do not. The database is kept in a file under
+ * target, as 10 million rows do not fit in memory, and deleted when the trial ends.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingIndexBenchmark {
+
+    private static final String URL = "jdbc:h2:file:./target/reading-index-benchmark/db;MODE=MySQL";
+    private static final String INDEX = "idx_reading_sensor_time";
+    private static final int SENSORS = 1000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final LocalDateTime FIRST_READING = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final String PERIOD_QUERY = "SELECT reading_id, numeric_value, reading_value, sensor_id, "
+            + "time_stamp FROM reading WHERE sensor_id = ? AND time_stamp BETWEEN ? AND ?";
+    private static final String LATEST_QUERY = "SELECT reading_id, numeric_value, reading_value, sensor_id, "
+            + "time_stamp FROM reading WHERE sensor_id = ? ORDER BY time_stamp DESC FETCH FIRST 1 ROWS ONLY";
+
+    /**
+     * The number of readings of the table.
+     */
+    @Param({"10000000"})
+    public int rows;
+
+    /**
+     * Whether the table has the composite index: "none" or "sensorTime".
+     */
+    @Param({"none", "sensorTime"})
+    public String index;
+
+    private Connection connection;
+    private PreparedStatement periodQuery;
+    private PreparedStatement latestQuery;
+    private Timestamp start;
+    private Timestamp end;
+    private Random random;
+
+    /**
+     * Checks the generated index, fills the reading table, creates the index if asked to, and checks the query plans.
+     *
+     * @throws SQLException if a statement fails.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        List<String> columns = generatedIndexColumns();
+        if (!columns.equals(List.of("SENSOR_ID", "TIME_STAMP"))) {
+            throw new IllegalStateException("ReadingDataModel generates " + INDEX + " on " + columns);
+        }
+        connection = DriverManager.getConnection(URL, "sa", "");
+        createTable();
+        fill();
+        start = Timestamp.valueOf(FIRST_READING.plusHours(1));
+        end = Timestamp.valueOf(FIRST_READING.plusHours(1).plusDays(1));
+        if ("sensorTime".equals(index)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX " + INDEX + " ON reading (sensor_id, time_stamp)");
+            }
+            checkPlanUsesIndex(PERIOD_QUERY, sensorId(7), start, end);
+            checkPlanUsesIndex(LATEST_QUERY, sensorId(7));
+        }
+        periodQuery = connection.prepareStatement(PERIOD_QUERY);
+        latestQuery = connection.prepareStatement(LATEST_QUERY);
+        random = new Random(7);
+    }
+
+    /**
+     * Deletes the database.
+     *
+     * @throws SQLException if the database cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS DELETE FILES");
+        }
+        connection.close();
+    }
+
+    /**
+     * Generates the schema of ReadingDataModel with the naming strategy of Spring Boot and returns the columns of
+     * its composite index.
+     */
+    private static List<String> generatedIndexColumns() throws SQLException {
+        String url = "jdbc:h2:mem:reading-index-schema;MODE=MySQL;DB_CLOSE_DELAY=-1";
+        Configuration configuration = new Configuration().addAnnotatedClass(ReadingDataModel.class);
+        configuration.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy());
+        try (SessionFactory ignored = configuration
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.connection.username", "sa")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.hbm2ddl.import_files", "")
+                .buildSessionFactory();
+             Connection schema = DriverManager.getConnection(url, "sa", "");
+             Statement statement = schema.createStatement();
+             ResultSet columns = statement.executeQuery(
+                     "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.INDEX_COLUMNS "
+                             + "WHERE INDEX_NAME = '" + INDEX.toUpperCase() + "' ORDER BY ORDINAL_POSITION")) {
+            List<String> names = new ArrayList<>();
+            while (columns.next()) {
+                names.add(columns.getString(1));
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Creates the reading table of import.sql, without the composite index.
+     */
+    private void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS reading");
+            statement.execute("CREATE TABLE reading (reading_id VARCHAR(255) NOT NULL PRIMARY KEY, "
+                    + "reading_value VARCHAR(255), numeric_value DOUBLE, sensor_id VARCHAR(255), "
+                    + "time_stamp TIMESTAMP)");
+        }
+    }
+
+    /**
+     * Fills the reading table with one reading per sensor and minute, in batches.
+     */
+    private void fill() throws SQLException {
+        connection.setAutoCommit(false);
+        Random values = new Random(42);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO reading (reading_id, numeric_value, sensor_id, time_stamp) VALUES (?, ?, ?, ?)")) {
+            for (int row = 0; row < rows; row++) {
+                insert.setString(1, "reading-" + row);
+                insert.setDouble(2, values.nextDouble() * 1000);
+                insert.setString(3, sensorId(row % SENSORS));
+                insert.setTimestamp(4, Timestamp.valueOf(FIRST_READING.plusMinutes(row / SENSORS)));
+                insert.addBatch();
+                if ((row + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        connection.setAutoCommit(true);
+    }
+
+    /**
+     * Checks that the EXPLAIN plan of a query uses the composite index.
+     *
+     * @throws IllegalStateException if the plan does not use the index.
+     */
+    private void checkPlanUsesIndex(String query, Object... parameters) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + query)) {
+            bind(explain, parameters);
+            try (ResultSet result = explain.executeQuery()) {
+                StringJoiner plan = new StringJoiner("\n");
+                while (result.next()) {
+                    plan.add(result.getString(1));
+                }
+                if (!plan.toString().toLowerCase().contains(INDEX)) {
+                    throw new IllegalStateException("The plan does not use " + INDEX + ":\n" + plan);
+                }
+            }
+        }
+    }
+
+    /**
+     * Measures the query of one day of readings of a random sensor.
+     *
+     * @param blackhole the sink of the readings found.
+     * @throws SQLException if the query fails.
+     */
+    @Benchmark
+    public void periodQuery(Blackhole blackhole) throws SQLException {
+        bind(periodQuery, sensorId(random.nextInt(SENSORS)), start, end);
+        consume(periodQuery, blackhole);
+    }
+
+    /**
+     * Measures the query of the latest reading of a random sensor.
+     *
+     * @param blackhole the sink of the reading found.
+     * @throws SQLException if the query fails.
+     */
+    @Benchmark
+    public void latestQuery(Blackhole blackhole) throws SQLException {
+        bind(latestQuery, sensorId(random.nextInt(SENSORS)));
+        consume(latestQuery, blackhole);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet result = query.executeQuery()) {
+            while (result.next()) {
+                blackhole.consume(result.getString(1));
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+    }
+
+    private static String sensorId(int sensor) {
+        return "sensor-" + sensor;
+    }
+}
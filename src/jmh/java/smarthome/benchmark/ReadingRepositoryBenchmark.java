@@ -0,0 +1,102 @@
+package smarthome.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.mem.ReadingRepositoryMemImpl;
+import smarthome.persistence.mem.ReadingRepositoryTimeIndexedMemImpl;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the range queries of the in-memory reading repositories.
+ * <p>
+ * The readings are spread evenly over ten sensors, one every minute each, and the queries ask for the readings of
+ * one sensor in a period that holds a tenth of its readings.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingRepositoryBenchmark {
+
+    private static final int SENSORS = 10;
+
+    /**
+     * The number of readings of the repository.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int readings;
+
+    /**
+     * The implementation of the repository.
+     */
+    @Param({"mem", "timeIndexed"})
+    public String repository;
+
+    private IReadingRepository readingRepository;
+    private SensorId sensorId;
+    private TimeStamp start;
+    private TimeStamp end;
+
+    /**
+     * Generates the readings and saves them in the repository.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        readingRepository = "mem".equals(repository)
+                ? new ReadingRepositoryMemImpl() : new ReadingRepositoryTimeIndexedMemImpl();
+        Random random = SyntheticData.random();
+        int perSensor = readings / SENSORS;
+        for (int i = 0; i < SENSORS; i++) {
+            readingRepository.saveAll(
+                    SyntheticData.readings(new SensorId("sensor-" + i), perSensor, i, 20, 5, random));
+        }
+        sensorId = new SensorId("sensor-0");
+        start = new TimeStamp(SyntheticData.timeOf(perSensor / 2, 0));
+        end = new TimeStamp(SyntheticData.timeOf(perSensor / 2 + perSensor / 10, 0));
+    }
+
+    /**
+     * Measures the query of the readings of a sensor in a period.
+     *
+     * @param blackhole the sink of the readings found.
+     */
+    @Benchmark
+    public void findReadingsBySensorIdInAGivenPeriod(Blackhole blackhole) {
+        for (Reading reading : readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start, end)) {
+            blackhole.consume(reading);
+        }
+    }
+
+    /**
+     * Measures the query of the identities of the readings of a sensor in a period.
+     *
+     * @param blackhole the sink of the identities found.
+     */
+    @Benchmark
+    public void findReadingIdsBySensorIdInAGivenPeriod(Blackhole blackhole) {
+        for (ReadingId readingId : readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start, end)) {
+            blackhole.consume(readingId);
+        }
+    }
+}
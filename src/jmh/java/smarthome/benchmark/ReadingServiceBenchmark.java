@@ -0,0 +1,136 @@
+package smarthome.benchmark;
+
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.device.Device;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensor.vo.values.Value;
+import smarthome.persistence.mem.DeviceRepositoryMemImpl;
+import smarthome.persistence.mem.ReadingRepositoryTimeIndexedMemImpl;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
+import smarthome.persistence.mem.SensorRepositoryMemImpl;
+import smarthome.service.impl.ReadingServiceImpl;
+import smarthome.service.impl.ReadingStreamServiceImpl;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the queries of ReadingServiceImpl over a period that holds every reading of the data set.
+ * <p>
+ * The readings are split between two series, of two temperature sensors on two devices and of the power consumption
+ * sensors of a grid and a power source power meter, taken every minute. The readings are kept in the time indexed
+ * in-memory repository, which finds the readings of a period without scanning the others, as the database does.
+ * The largest data sets need a heap of several gigabytes, e.g. {@code -jvmArgsAppend -Xmx8g}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingServiceBenchmark {
+
+    /**
+     * The number of readings of each query.
+     */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int readings;
+
+    private ReadingServiceImpl service;
+    private Device thermometer1;
+    private Device thermometer2;
+    private TimeStamp start;
+    private TimeStamp end;
+
+    /**
+     * Generates the devices, sensors and readings, and the service over them.
+     *
+     * @throws ConfigurationException if the configuration files cannot be read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ConfigurationException {
+        DeviceRepositoryMemImpl deviceRepository = new DeviceRepositoryMemImpl();
+        SensorRepositoryMemImpl sensorRepository = new SensorRepositoryMemImpl();
+        ReadingRepositoryTimeIndexedMemImpl readingRepository = new ReadingRepositoryTimeIndexedMemImpl();
+        ReadingRollupRepositoryMemImpl rollupRepository = new ReadingRollupRepositoryMemImpl();
+        Random random = SyntheticData.random();
+
+        thermometer1 = deviceRepository.save(SyntheticData.device(1, "Default"));
+        thermometer2 = deviceRepository.save(SyntheticData.device(2, "Default"));
+        Device gridPowerMeter = deviceRepository.save(SyntheticData.device(3, "GridPowerMeter"));
+        Device powerSourcePowerMeter = deviceRepository.save(SyntheticData.device(4, "PowerSourcePowerMeter"));
+        Sensor temperature1 = sensorRepository.save(
+                SyntheticData.sensor(1, "SensorOfTemperature", thermometer1.getIdentity()));
+        Sensor temperature2 = sensorRepository.save(
+                SyntheticData.sensor(2, "SensorOfTemperature", thermometer2.getIdentity()));
+        Sensor gridPower = sensorRepository.save(
+                SyntheticData.sensor(3, "SensorOfPowerConsumption", gridPowerMeter.getIdentity()));
+        Sensor sourcePower = sensorRepository.save(
+                SyntheticData.sensor(4, "SensorOfPowerConsumption", powerSourcePowerMeter.getIdentity()));
+
+        int perSeries = readings / 2;
+        save(readingRepository, rollupRepository,
+                SyntheticData.readings(temperature1.getIdentity(), perSeries, 0, 20, 5, random));
+        save(readingRepository, rollupRepository,
+                SyntheticData.readings(temperature2.getIdentity(), perSeries, 15, 18, 8, random));
+        save(readingRepository, rollupRepository,
+                SyntheticData.readings(gridPower.getIdentity(), perSeries, 0, 3000, 1500, random));
+        save(readingRepository, rollupRepository,
+                SyntheticData.readings(sourcePower.getIdentity(), perSeries, 0, 1000, 1000, random));
+
+        LocalDateTime last = SyntheticData.timeOf(perSeries, 0);
+        start = new TimeStamp(SyntheticData.START.minusSeconds(1));
+        end = new TimeStamp(last);
+        Clock clock = Clock.fixed(last.plusDays(1).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new ReadingServiceImpl(readingRepository, rollupRepository,
+                new ReadingStreamServiceImpl(sensorRepository, deviceRepository), sensorRepository, deviceRepository,
+                new ReadingFactoryImpl(), "configDelta.properties", "configModels.properties", clock);
+    }
+
+    private static void save(ReadingRepositoryTimeIndexedMemImpl readingRepository,
+                             ReadingRollupRepositoryMemImpl rollupRepository, List<Reading> readings) {
+        readingRepository.saveAll(readings);
+        rollupRepository.addReadings(readings);
+    }
+
+    /**
+     * Measures the largest difference between the temperatures of two devices at the same instant.
+     *
+     * @return the difference.
+     */
+    @Benchmark
+    public Value maxInstantTemperatureDifference() {
+        return service.getMaxInstantTemperatureDifferenceInAGivenPeriod(thermometer1.getIdentity(),
+                thermometer2.getIdentity(), start, end);
+    }
+
+    /**
+     * Measures the peak power consumption of the house.
+     *
+     * @return the peak power consumption.
+     */
+    @Benchmark
+    public Value peakPowerConsumption() {
+        return service.getPeakPowerConsumptionInAGivenPeriod(start, end);
+    }
+}
@@ -0,0 +1,71 @@
+package smarthome.benchmark;
+
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensor.SensorFactoryImpl;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the creation of sensors by SensorFactoryImpl, with and without a given identity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SensorFactoryBenchmark {
+
+    private SensorFactoryImpl sensorFactory;
+    private SensorModelName sensorModelName;
+    private SensorId sensorId;
+    private DeviceId deviceId;
+
+    /**
+     * Creates the factory with the sensor models of the configuration file.
+     *
+     * @throws ConfigurationException if the configuration file cannot be read.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ConfigurationException {
+        sensorFactory = new SensorFactoryImpl("configModels.properties");
+        sensorModelName = new SensorModelName("SensorOfTemperature");
+        sensorId = new SensorId("sensor-1");
+        deviceId = new DeviceId("device-1");
+    }
+
+    /**
+     * Measures the creation of a sensor with a new identity.
+     *
+     * @return the sensor.
+     */
+    @Benchmark
+    public Sensor createSensor() {
+        return sensorFactory.createSensor(sensorModelName, deviceId);
+    }
+
+    /**
+     * Measures the creation of a sensor with a given identity, as loaded from the database.
+     *
+     * @return the sensor.
+     */
+    @Benchmark
+    public Sensor createSensorWithId() {
+        return sensorFactory.createSensor(sensorId, sensorModelName, deviceId);
+    }
+}
@@ -0,0 +1,187 @@
+package smarthome.benchmark;
+
+import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactoryImpl;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.device.vo.DeviceName;
+import smarthome.domain.device.vo.DeviceStatus;
+import smarthome.domain.deviceType.vo.DeviceTypeName;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.room.vo.RoomId;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensor.SensorFactoryImpl;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.persistence.datamodel.ReadingDataModel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generators of the synthetic data of the benchmarks.
+ * <p>
+ * Every generator is deterministic: identities are numbered, and values come from a random number generator seeded
+ * with {@link #SEED}, so each run of a benchmark measures the same data.
+ * </p>
+ */
+public final class SyntheticData {
+
+    /**
+     * The seed of the random number generators.
+     */
+    public static final long SEED = 42L;
+
+    /**
+     * The time of the first reading of every series.
+     */
+    public static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    /**
+     * The time between two readings of a series, in seconds.
+     */
+    public static final long INTERVAL_SECONDS = 60;
+
+    private static final DeviceFactoryImpl DEVICE_FACTORY = new DeviceFactoryImpl();
+    private static final SensorFactoryImpl SENSOR_FACTORY = new SensorFactoryImpl();
+    private static final ReadingFactory READING_FACTORY = new ReadingFactoryImpl();
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Returns a random number generator seeded with {@link #SEED}.
+     *
+     * @return the random number generator.
+     */
+    public static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * Creates an active device with a numbered identity.
+     *
+     * @param number     the number of the device.
+     * @param deviceType the name of the type of the device.
+     * @return the device.
+     */
+    public static Device device(int number, String deviceType) {
+        return DEVICE_FACTORY.createDevice(new DeviceId("device-" + number), new DeviceName("Device " + number),
+                new DeviceTypeName(deviceType), new RoomId("room-" + number % 10), new DeviceStatus(true));
+    }
+
+    /**
+     * Creates a sensor with a numbered identity.
+     *
+     * @param number      the number of the sensor.
+     * @param sensorModel the name of the model of the sensor.
+     * @param deviceId    the identity of the device of the sensor.
+     * @return the sensor.
+     */
+    public static Sensor sensor(int number, String sensorModel, DeviceId deviceId) {
+        return SENSOR_FACTORY.createSensor(new SensorId("sensor-" + number), new SensorModelName(sensorModel),
+                deviceId);
+    }
+
+    /**
+     * Returns the time of a reading of a series.
+     *
+     * @param index  the index of the reading in the series.
+     * @param offset the time of the first reading after {@link #START}, in seconds.
+     * @return the time of the reading.
+     */
+    public static LocalDateTime timeOf(long index, long offset) {
+        return START.plusSeconds(index * INTERVAL_SECONDS + offset);
+    }
+
+    /**
+     * Creates a series of numeric readings of a sensor, one every {@link #INTERVAL_SECONDS}, with values that swing
+     * around a mean once a day, plus noise.
+     *
+     * @param sensorId  the identity of the sensor.
+     * @param count     the number of readings.
+     * @param offset    the time of the first reading after {@link #START}, in seconds.
+     * @param mean      the mean of the values.
+     * @param amplitude the amplitude of the daily swing.
+     * @param random    the random number generator of the noise.
+     * @return the readings, in time order.
+     */
+    public static List<Reading> readings(SensorId sensorId, int count, long offset, double mean, double amplitude,
+                                         Random random) {
+        List<Reading> readings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double value = mean + amplitude * Math.sin(2 * Math.PI * i * INTERVAL_SECONDS / 86_400.0)
+                    + random.nextGaussian();
+            readings.add(READING_FACTORY.createReading(new ReadingId(sensorId.getSensorId() + "-" + i),
+                    new NumericReadingValue(value), sensorId, new TimeStamp(timeOf(i, offset))));
+        }
+        return readings;
+    }
+
+    /**
+     * Creates a series of temperatures, one every {@link #INTERVAL_SECONDS}, that swing around 20 degrees once a
+     * day, plus noise, rounded to a tenth of a degree as a thermometer reports them.
+     *
+     * @param count  the number of samples.
+     * @param random the random number generator of the noise.
+     * @return the series, in time order.
+     */
+    public static ReadingSeries temperatureSeries(int count, Random random) {
+        ReadingSeries series = new ReadingSeries();
+        for (int i = 0; i < count; i++) {
+            double value = 20 + 3 * Math.sin(2 * Math.PI * i * INTERVAL_SECONDS / 86_400.0)
+                    + 0.2 * random.nextGaussian();
+            series.add(timeOf(i, 0), Math.round(value * 10) / 10.0);
+        }
+        return series;
+    }
+
+    /**
+     * Creates a series of power readings, one every {@link #INTERVAL_SECONDS}, in whole watts: a base load plus
+     * appliances that switch on and off, so the power stays the same for minutes at a time.
+     *
+     * @param count  the number of samples.
+     * @param random the random number generator of the switching.
+     * @return the series, in time order.
+     */
+    public static ReadingSeries powerSeries(int count, Random random) {
+        ReadingSeries series = new ReadingSeries();
+        int[] appliances = {60, 120, 800, 1500, 2000};
+        boolean[] on = new boolean[appliances.length];
+        for (int i = 0; i < count; i++) {
+            int power = 150;
+            for (int a = 0; a < appliances.length; a++) {
+                if (random.nextInt(20) == 0) {
+                    on[a] = !on[a];
+                }
+                power += on[a] ? appliances[a] : 0;
+            }
+            series.add(timeOf(i, 0), power);
+        }
+        return series;
+    }
+
+    /**
+     * Creates the data models of numeric readings spread over a number of sensors, as loaded from the database.
+     *
+     * @param count   the number of readings.
+     * @param sensors the number of sensors.
+     * @param random  the random number generator of the values.
+     * @return the data models.
+     */
+    public static List<ReadingDataModel> readingDataModels(int count, int sensors, Random random) {
+        List<ReadingDataModel> dataModels = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dataModels.add(new ReadingDataModel("reading-" + i, "sensor-" + i % sensors, null,
+                    random.nextDouble() * 100, timeOf(i / sensors, 0)));
+        }
+        return dataModels;
+    }
+}
@@ -3,6 +3,8 @@ package smarthome;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @Configuration
 public class AppConfig {
     @Bean
@@ -14,4 +16,9 @@ public class AppConfig {
     public String filePathDelta() {
         return "configDelta.properties";
     }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
@@ -1,6 +1,7 @@
 package smarthome.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -134,6 +135,34 @@ public class ActuatorRESTController {
         }
     }
 
+    /**
+     * Get actuators by device identity, embedded in a HAL collection.
+     * The actuators are read with a single query, so a client gets them all in one request instead of one request
+     * per actuator id.
+     *
+     * @param id the device id
+     * @return the response entity with the collection of actuators
+     */
+    @GetMapping(value = "/device/{id}", params = "embed=true", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<ActuatorDTO>> getEmbeddedByDeviceIdentity(@PathVariable("id") String id) {
+        try {
+            DeviceId deviceId = new DeviceId(id);
+            Iterable<Actuator> actuators = actuatorService.getActuatorsByDeviceIdentity(deviceId);
+            if (actuators == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            List<ActuatorDTO> actuatorDTOs = actuatorMapper.actuatorsToDTO(actuators);
+            if (actuatorDTOs.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            for (ActuatorDTO actuatorDTO : actuatorDTOs) {
+                actuatorDTO.add(linkTo(methodOn(ActuatorRESTController.class).getActuatorByIdentity(actuatorDTO.getActuatorId())).withSelfRel());
+            }
+            return new ResponseEntity<>(CollectionModel.of(actuatorDTOs), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
 
     /**
      * Operate (open/close) the blind roller with the given id and value.
@@ -2,6 +2,8 @@ package smarthome.controller;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +14,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.device.vo.DeviceName;
@@ -23,6 +27,7 @@ import smarthome.mapper.DeviceIdDTO;
 import smarthome.mapper.mapper.DeviceMapper;
 import smarthome.mapper.mapper.DeviceTypeMapper;
 import smarthome.service.IDeviceService;
+import smarthome.utils.KeysetCursor;
 
 import java.util.List;
 import java.util.Map;
@@ -227,4 +232,43 @@ public class DeviceRESTController {
             return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         }
     }
+
+    /**
+     * Endpoint for getting a page of devices, in the order of their ids.
+     * Each page starts after the cursor of the last device of the page before it, which is given in the next link
+     * while there are more devices, so deep pages cost the same as the first one.
+     * @param limit the largest number of devices of the page.
+     * @param after the cursor to start after, or none for the first page.
+     * @return A ResponseEntity containing the page of DeviceIdDTO objects if successful, a not found response if the
+     * page is empty, or a bad request response if the limit or the cursor are invalid.
+     */
+    @GetMapping(params = "limit", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<DeviceIdDTO>> getDevices(
+            @RequestParam("limit") int limit, @RequestParam(value = "after", required = false) String after) {
+        try {
+            DeviceId afterId = after == null ? null : new DeviceId(KeysetCursor.decode(after, 1)[0]);
+            KeysetPage<DeviceId> page = deviceService.findDeviceIds(afterId, limit);
+            if (page == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            if (page.getContent().isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            List<DeviceIdDTO> deviceIdsDTO = deviceMapper.toDeviceIdsDTO(page.getContent());
+            for (DeviceIdDTO deviceIdDTO : deviceIdsDTO) {
+                deviceIdDTO.add(linkTo(methodOn(DeviceRESTController.class)
+                        .getDeviceById(deviceIdDTO.getDeviceId())).withSelfRel());
+            }
+            CollectionModel<DeviceIdDTO> result = CollectionModel.of(deviceIdsDTO);
+            result.add(linkTo(methodOn(DeviceRESTController.class).getDevices(limit, after)).withSelfRel().expand());
+            if (page.hasNext()) {
+                String next = KeysetCursor.encode(deviceIdsDTO.get(deviceIdsDTO.size() - 1).getDeviceId());
+                result.add(linkTo(methodOn(DeviceRESTController.class).getDevices(limit, next))
+                        .withRel(IanaLinkRelations.NEXT));
+            }
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
\ No newline at end of file
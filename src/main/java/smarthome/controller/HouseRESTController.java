@@ -1,6 +1,8 @@
 package smarthome.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -10,7 +12,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.house.vo.Location;
@@ -18,6 +22,7 @@ import smarthome.mapper.HouseDTO;
 import smarthome.mapper.HouseIdDTO;
 import smarthome.mapper.mapper.HouseMapper;
 import smarthome.service.IHouseService;
+import smarthome.utils.KeysetCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -120,6 +125,44 @@ public class HouseRESTController {
         }
     }
 
+    /**
+     * Get a page of the available house ids, in order. The next link holds the cursor of the next page while there
+     * are more houses.
+     *
+     * @param limit the largest number of house ids of the page
+     * @param after the cursor to start after, or none for the first page
+     * @return the response entity with the page of house ids, not found if the page is empty, or bad request if the
+     * limit or the cursor are invalid
+     */
+    @GetMapping(params = "limit", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<HouseIdDTO>> getHouses(
+            @RequestParam("limit") int limit, @RequestParam(value = "after", required = false) String after) {
+        try {
+            HouseName afterId = after == null ? null : new HouseName(KeysetCursor.decode(after, 1)[0]);
+            KeysetPage<HouseName> page = houseService.getHouseIds(afterId, limit);
+            if (page == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            if (page.getContent().isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            List<HouseIdDTO> houseIdDTOS = houseMapper.toHouseIdsDTO(page.getContent());
+            for (HouseIdDTO houseIdDTO : houseIdDTOS) {
+                addLinksToHouseIdDTO(houseIdDTO);
+            }
+            CollectionModel<HouseIdDTO> result = CollectionModel.of(houseIdDTOS);
+            result.add(linkTo(methodOn(HouseRESTController.class).getHouses(limit, after)).withSelfRel().expand());
+            if (page.hasNext()) {
+                String next = KeysetCursor.encode(houseIdDTOS.get(houseIdDTOS.size() - 1).getHouseId());
+                result.add(linkTo(methodOn(HouseRESTController.class).getHouses(limit, next))
+                        .withRel(IanaLinkRelations.NEXT));
+            }
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Get the house.
      *
@@ -1,30 +1,53 @@
 package smarthome.controller;
 
-
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.actuator.vo.DecimalValue;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.mapper.ReadingDTO;
 import smarthome.mapper.ReadingIdDTO;
+import smarthome.mapper.ReadingStatisticsDTO;
 import smarthome.mapper.ValueDTO;
 import smarthome.mapper.mapper.ReadingMapper;
 import smarthome.mapper.mapper.ValueMapper;
 import smarthome.service.IReadingService;
+import smarthome.service.ReadingExport;
+import smarthome.utils.KeysetCursor;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
@@ -37,6 +60,23 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 @RequestMapping("/readings")
 public class ReadingRESTController {
 
+    /**
+     * The largest number of sensors whose latest readings are got in a single request.
+     */
+    static final int MAX_LATEST_SENSORS = 1000;
+
+    /**
+     * The largest number of readings added in a single batch. A batch is saved in one transaction, so its size
+     * bounds how long that transaction holds its locks and how much of it is kept in memory.
+     */
+    static final int MAX_BATCH_READINGS = 10000;
+
+    private static final String NDJSON_FORMAT = "ndjson";
+    private static final String CSV_FORMAT = "csv";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
     private final IReadingService readingService;
     private final ReadingMapper readingMapper;
     private final ValueMapper valueMapper;
@@ -90,6 +130,200 @@ public class ReadingRESTController {
         }
     }
 
+    /**
+     * This method receives a deviceID and a period and returns the readings of the device in the given period,
+     * embedded in a HAL collection, so a client gets them in one request instead of one request per reading id.
+     * <p>
+     * The response is the first page of at most {@link KeysetPage#MAX_LIMIT} readings, sorted by time and then by
+     * id and read with a single query over the sensors of the device. The next link holds the cursor of the next
+     * page while there are more readings, so a long period does not make an unbounded response.
+     * </p>
+     *
+     * @param id          the id of the device.
+     * @param startPeriod the start of the period.
+     * @param endPeriod   the end of the period.
+     * @return the collection of readingDTOs, bad request if the parameters are invalid, not found if there are no
+     * readings or unprocessable entity if the parameters cannot be parsed.
+     */
+    @GetMapping(value = "/device/{id}", params = "embed=true", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<ReadingDTO>> getEmbeddedReadingsFromDeviceInAGivenPeriod(
+            @PathVariable("id") String id, @RequestParam("startPeriod") String startPeriod,
+            @RequestParam("endPeriod") String endPeriod) {
+        return getEmbeddedReadingsFromDeviceInAGivenPeriod(id, startPeriod, endPeriod, KeysetPage.MAX_LIMIT, null);
+    }
+
+    /**
+     * This method receives a deviceID and a period and returns a page of the reading IDs of the device in the given
+     * period, sorted by time and then by id. The next link holds the cursor of the next page while there are more
+     * readings, and each page is read with a single query that seeks to its cursor.
+     *
+     * @param id          the id of the device.
+     * @param startPeriod the start of the period.
+     * @param endPeriod   the end of the period.
+     * @param limit       the largest number of readings of the page.
+     * @param after       the cursor to start after, or none for the first page.
+     * @return the page of readingIdDTOs, bad request if the parameters are invalid, not found if the page is empty or
+     * unprocessable entity if the parameters cannot be parsed.
+     */
+    @GetMapping(value = "/device/{id}", params = {"limit", "embed!=true"}, produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<ReadingIdDTO>> getReadingsFromDeviceInAGivenPeriod(
+            @PathVariable("id") String id, @RequestParam("startPeriod") String startPeriod,
+            @RequestParam("endPeriod") String endPeriod, @RequestParam("limit") int limit,
+            @RequestParam(value = "after", required = false) String after) {
+        try {
+            KeysetPage<Reading> page = getPageOfReadingsFromDevice(id, startPeriod, endPeriod, limit, after);
+            if (page == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            if (page.getContent().isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            List<ReadingIdDTO> readingIdDTOs = readingMapper.toReadingIdsDTO(
+                    page.getContent().stream().map(Reading::getIdentity).toList());
+            for (ReadingIdDTO readingIdDTO : readingIdDTOs) {
+                readingIdDTO.add(linkTo(methodOn(ReadingRESTController.class)
+                        .getReading(readingIdDTO.getReadingId())).withSelfRel());
+            }
+            CollectionModel<ReadingIdDTO> result = CollectionModel.of(readingIdDTOs);
+            result.add(linkTo(methodOn(ReadingRESTController.class)
+                    .getReadingsFromDeviceInAGivenPeriod(id, startPeriod, endPeriod, limit, after)).withSelfRel()
+                    .expand());
+            if (page.hasNext()) {
+                result.add(linkTo(methodOn(ReadingRESTController.class).getReadingsFromDeviceInAGivenPeriod(
+                        id, startPeriod, endPeriod, limit, nextCursor(page))).withRel(IanaLinkRelations.NEXT));
+            }
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    /**
+     * This method receives a deviceID and a period and returns a page of the readings of the device in the given
+     * period, sorted by time and then by id, embedded in a HAL collection. The next link holds the cursor of the
+     * next page while there are more readings.
+     *
+     * @param id          the id of the device.
+     * @param startPeriod the start of the period.
+     * @param endPeriod   the end of the period.
+     * @param limit       the largest number of readings of the page.
+     * @param after       the cursor to start after, or none for the first page.
+     * @return the page of readingDTOs, bad request if the parameters are invalid, not found if the page is empty or
+     * unprocessable entity if the parameters cannot be parsed.
+     */
+    @GetMapping(value = "/device/{id}", params = {"limit", "embed=true"}, produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<ReadingDTO>> getEmbeddedReadingsFromDeviceInAGivenPeriod(
+            @PathVariable("id") String id, @RequestParam("startPeriod") String startPeriod,
+            @RequestParam("endPeriod") String endPeriod, @RequestParam("limit") int limit,
+            @RequestParam(value = "after", required = false) String after) {
+        try {
+            KeysetPage<Reading> page = getPageOfReadingsFromDevice(id, startPeriod, endPeriod, limit, after);
+            if (page == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            if (page.getContent().isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            List<ReadingDTO> readingDTOs = readingMapper.toReadingsDTO(page.getContent());
+            for (ReadingDTO readingDTO : readingDTOs) {
+                readingDTO.add(linkTo(methodOn(ReadingRESTController.class)
+                        .getReading(readingDTO.getId())).withSelfRel());
+            }
+            CollectionModel<ReadingDTO> result = CollectionModel.of(readingDTOs);
+            result.add(linkTo(methodOn(ReadingRESTController.class).getEmbeddedReadingsFromDeviceInAGivenPeriod(
+                    id, startPeriod, endPeriod, limit, after)).withSelfRel().expand());
+            if (page.hasNext()) {
+                result.add(linkTo(methodOn(ReadingRESTController.class).getEmbeddedReadingsFromDeviceInAGivenPeriod(
+                        id, startPeriod, endPeriod, limit, nextCursor(page)))
+                        .withRel(IanaLinkRelations.NEXT));
+            }
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    /**
+     * Gets a page of the readings of a device in a period, from the request parameters.
+     *
+     * @param id          the id of the device.
+     * @param startPeriod the start of the period.
+     * @param endPeriod   the end of the period.
+     * @param limit       the largest number of readings of the page.
+     * @param after       the cursor to start after, or null for the first page.
+     * @return the page of readings, or null if the parameters are invalid.
+     * @throws IllegalArgumentException if the id or the cursor are invalid.
+     * @throws java.time.format.DateTimeParseException if a date cannot be parsed.
+     */
+    private KeysetPage<Reading> getPageOfReadingsFromDevice(String id, String startPeriod, String endPeriod, int limit,
+                                                            String after) {
+        DeviceId deviceId = new DeviceId(id);
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        TimeStamp afterTime = null;
+        ReadingId afterId = null;
+        if (after != null) {
+            String[] keys = KeysetCursor.decode(after, 2);
+            afterTime = new TimeStamp(LocalDateTime.parse(keys[0]));
+            afterId = new ReadingId(keys[1]);
+        }
+        return readingService.getReadingsFromDeviceInAGivenPeriod(deviceId, start, end, afterTime, afterId, limit);
+    }
+
+    /**
+     * Returns the cursor of the page that follows a page of readings: the time and id of its last reading.
+     *
+     * @param page the page of readings, which is not empty.
+     * @return the cursor of the next page.
+     */
+    private static String nextCursor(KeysetPage<Reading> page) {
+        Reading last = page.getContent().get(page.getContent().size() - 1);
+        return KeysetCursor.encode(last.getTime().getValue().toString(), last.getIdentity().getId());
+    }
+
+    /**
+     * This method receives a deviceID and a period and streams the readings of the device in the given period.
+     * <p>
+     * The readings are written as they are read from the repository, so the memory used does not grow with the
+     * length of the period. The NDJSON format writes one JSON object per line, and the CSV format writes a header
+     * line followed by one line per reading.
+     * </p>
+     *
+     * @param id          the id of the device.
+     * @param startPeriod the start of the period.
+     * @param endPeriod   the end of the period.
+     * @param format      the format of the export, ndjson (the default) or csv.
+     * @return the response entity streaming the readings, or bad request if the parameters are invalid.
+     */
+    @GetMapping("/device/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportReadingsFromDeviceInAGivenPeriod(
+            @PathVariable("id") String id, @RequestParam("startPeriod") String startPeriod,
+            @RequestParam("endPeriod") String endPeriod,
+            @RequestParam(value = "format", defaultValue = NDJSON_FORMAT) String format) {
+        if (!NDJSON_FORMAT.equals(format) && !CSV_FORMAT.equals(format)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        ReadingExport readingExport;
+        try {
+            DeviceId deviceId = new DeviceId(id);
+            TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+            TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+            readingExport = readingService.exportReadingsFromDeviceInAGivenPeriod(deviceId, start, end);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        if (readingExport == null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        if (CSV_FORMAT.equals(format)) {
+            return ResponseEntity.ok().contentType(TEXT_CSV)
+                    .body(outputStream -> writeCsv(readingExport, outputStream));
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> writeNdjson(readingExport, outputStream));
+    }
+
     /**
      * This method returns the maximum temperature difference between the two devices in the given period.
      *
@@ -126,6 +360,65 @@ public class ReadingRESTController {
         }
     }
 
+    /**
+     * This method receives a sensorID, a period and a resolution and returns the statistics of the readings of the
+     * sensor in the given period, one per minute, hour or day. They are read from the reading rollups, so a long
+     * period costs as much as its number of buckets.
+     *
+     * @param id          the id of the sensor.
+     * @param startPeriod the start of the period, included.
+     * @param endPeriod   the end of the period, excluded.
+     * @param resolution  the resolution of the buckets, minute, hour or day (the default).
+     * @return the response entity with the statistics of each bucket, bad request if the parameters are invalid or
+     * unprocessable entity if they cannot be parsed.
+     */
+    @GetMapping("/sensor/{id}/statistics")
+    public ResponseEntity<List<ReadingStatisticsDTO>> getReadingStatisticsOfSensorInAGivenPeriod(
+            @PathVariable("id") String id, @RequestParam("startPeriod") String startPeriod,
+            @RequestParam("endPeriod") String endPeriod,
+            @RequestParam(value = "resolution", defaultValue = "day") String resolution) {
+        try {
+            SensorId sensorId = new SensorId(id);
+            TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+            TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+            ReadingRollupResolution rollupResolution = ReadingRollupResolution.valueOf(
+                    resolution.toUpperCase(Locale.ROOT));
+            List<ReadingRollup> statistics = readingService.getReadingStatisticsOfSensorInAGivenPeriod(sensorId,
+                    rollupResolution, start, end);
+            if (statistics == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>(readingMapper.toReadingStatisticsDTO(statistics), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    /**
+     * Get the latest reading of each of some sensors, without links, in a single request.
+     * The latest readings are kept in memory as readings are saved, so this costs no query per sensor.
+     *
+     * @param sensorIds the comma separated ids of the sensors, at most {@link #MAX_LATEST_SENSORS}.
+     * @return the response entity with the latest reading of each sensor that has readings, in the order of the
+     * sensors, or bad request if the ids are invalid or too many.
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<List<ReadingDTO>> getLatestReadings(@RequestParam("sensorIds") List<String> sensorIds) {
+        if (sensorIds.size() > MAX_LATEST_SENSORS) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            List<SensorId> ids = sensorIds.stream().map(SensorId::new).toList();
+            List<Reading> readings = readingService.getLatestReadings(ids);
+            if (readings == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            return new ResponseEntity<>(readingMapper.toReadingsDTO(readings), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Get the house.
      *
@@ -183,5 +476,134 @@ public class ReadingRESTController {
         return new ResponseEntity<>(peakPowerConsumptionDTO, HttpStatus.OK);
     }
 
+    /**
+     * Adds a batch of readings.
+     * <p>
+     * The readings are validated and saved together, so either all of them are added or none is. The ids of the
+     * added readings are returned in the order of the request, without links, to keep the response of large
+     * batches small.
+     * </p>
+     *
+     * @param readingDTOs the readings to add, each with the id of its sensor, its value and its timestamp, at most
+     *                    {@link #MAX_BATCH_READINGS}.
+     * @return the response entity with the ids of the added readings, bad request if a reading is malformed,
+     * payload too large if there are too many readings, or unprocessable entity if the batch is empty or a sensor
+     * does not exist.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<ReadingIdDTO>> addReadings(@RequestBody List<ReadingDTO> readingDTOs) {
+        if (readingDTOs.size() > MAX_BATCH_READINGS) {
+            return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+        }
+        List<SensorId> sensorIds = new ArrayList<>(readingDTOs.size());
+        List<Value> values = new ArrayList<>(readingDTOs.size());
+        List<TimeStamp> timeStamps = new ArrayList<>(readingDTOs.size());
+        try {
+            for (ReadingDTO readingDTO : readingDTOs) {
+                sensorIds.add(readingMapper.toSensorId(readingDTO));
+                values.add(readingMapper.toReadingValue(readingDTO));
+                timeStamps.add(readingMapper.toTimeStamp(readingDTO));
+            }
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<ReadingId> readingIds = readingService.addReadings(sensorIds, values, timeStamps);
+            if (readingIds == null) {
+                return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+            return new ResponseEntity<>(readingMapper.toReadingIdsDTO(readingIds), HttpStatus.CREATED);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    /**
+     * Writes the readings of an export as NDJSON, one JSON object per line.
+     *
+     * @param readingExport the readings to write.
+     * @param outputStream  the stream to write to.
+     * @throws IOException if the readings could not be written.
+     */
+    private void writeNdjson(ReadingExport readingExport, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            forEachReadingDTO(readingExport, readingDTO -> {
+                generator.writeStartObject();
+                generator.writeStringField("id", readingDTO.getId());
+                generator.writeStringField("sensorId", readingDTO.getSensorId());
+                generator.writeStringField("readingValue", readingDTO.getReadingValue());
+                generator.writeStringField("timestamp", readingDTO.getTimestamp());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            });
+        }
+    }
+
+    /**
+     * Writes the readings of an export as CSV, with a header line and one line per reading.
+     *
+     * @param readingExport the readings to write.
+     * @param outputStream  the stream to write to.
+     * @throws IOException if the readings could not be written.
+     */
+    private void writeCsv(ReadingExport readingExport, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write("id,sensorId,readingValue,timestamp\n");
+        forEachReadingDTO(readingExport, readingDTO -> {
+            writer.write(toCsvField(readingDTO.getId()));
+            writer.write(',');
+            writer.write(toCsvField(readingDTO.getSensorId()));
+            writer.write(',');
+            writer.write(toCsvField(readingDTO.getReadingValue()));
+            writer.write(',');
+            writer.write(toCsvField(readingDTO.getTimestamp()));
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    /**
+     * Maps each reading of an export to a reading DTO and writes it, reporting the first write failure.
+     *
+     * @param readingExport the readings to write.
+     * @param readingWriter the writer of a reading DTO.
+     * @throws IOException if a reading could not be written.
+     */
+    private void forEachReadingDTO(ReadingExport readingExport, ReadingDTOWriter readingWriter) throws IOException {
+        try {
+            readingExport.forEach(reading -> {
+                try {
+                    readingWriter.write(readingMapper.toReadingDTO(reading));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Quotes a CSV field if it holds a separator, a quote or a line break, doubling its quotes.
+     *
+     * @param field the field to write.
+     * @return the field as written in a CSV line.
+     */
+    private static String toCsvField(String field) {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0
+                && field.indexOf('\r') < 0) {
+            return field;
+        }
+        return '"' + field.replace("\"", "\"\"") + '"';
+    }
 
+    /**
+     * Writes a reading DTO to an export.
+     */
+    @FunctionalInterface
+    private interface ReadingDTOWriter {
+        void write(ReadingDTO readingDTO) throws IOException;
+    }
 }
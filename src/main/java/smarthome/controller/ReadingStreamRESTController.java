@@ -0,0 +1,153 @@
+package smarthome.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.mapper.ReadingDTO;
+import smarthome.mapper.mapper.ReadingMapper;
+import smarthome.service.IReadingStreamService;
+import smarthome.service.IReadingStreamService.OverflowPolicy;
+import smarthome.service.ReadingStreamListener;
+import smarthome.service.ReadingSubscription;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST Controller for the live stream of readings, as Server-Sent Events.
+ * <p>
+ * A client that shows the current values of a device, such as the position of a blind roller, subscribes once and
+ * receives each reading as it is saved, instead of polling for it.
+ * </p>
+ */
+@RestController
+@RequestMapping("/readings")
+public class ReadingStreamRESTController {
+
+    /**
+     * The time after which a stream is ended, in milliseconds. Browsers reconnect to an ended stream on their own,
+     * so a stream whose client went away without closing it is ended at the latest after this time.
+     */
+    static final long STREAM_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    /**
+     * The time a client waits before it reconnects to an ended stream, in milliseconds.
+     */
+    static final long RECONNECT_MILLIS = 3000L;
+
+    private static final String READING_EVENT = "reading";
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final IReadingStreamService readingStreamService;
+    private final ReadingMapper readingMapper;
+
+    /**
+     * Constructor for the ReadingStreamRESTController.
+     *
+     * @param readingStreamService the service of the stream of readings.
+     * @param readingMapper        the mapper of the readings.
+     */
+    @Autowired
+    public ReadingStreamRESTController(IReadingStreamService readingStreamService, ReadingMapper readingMapper) {
+        this.readingStreamService = readingStreamService;
+        this.readingMapper = readingMapper;
+    }
+
+    /**
+     * Streams the readings of a device, of a sensor, or of every sensor, as they are saved.
+     * <p>
+     * Each reading is sent as an event named "reading", with the id of the reading as the event id and the reading
+     * as JSON data. Readings are buffered for a client that reads slower than they are saved; when its buffer is
+     * full, the overflow policy drops the oldest readings ("drop-oldest", the default), drops the newest readings
+     * ("drop-newest") or ends the stream ("disconnect").
+     * </p>
+     *
+     * @param deviceId the id of the device, if any.
+     * @param sensorId the id of the sensor, if any; it must be of the device if both are given.
+     * @param overflow the overflow policy.
+     * @return the response entity with the stream, bad request if a parameter is malformed or not found if the device
+     * or the sensor do not exist, or the sensor is not of the device.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamReadings(
+            @RequestParam(value = "deviceId", required = false) String deviceId,
+            @RequestParam(value = "sensorId", required = false) String sensorId,
+            @RequestParam(value = "overflow", defaultValue = "drop-oldest") String overflow) {
+        DeviceId device;
+        SensorId sensor;
+        OverflowPolicy policy;
+        try {
+            device = deviceId == null ? null : new DeviceId(deviceId);
+            sensor = sensorId == null ? null : new SensorId(sensorId);
+            policy = OverflowPolicy.valueOf(overflow.toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        ReadingSubscription subscription = readingStreamService.subscribe(device, sensor, policy,
+                new ReadingStreamListener() {
+                    @Override
+                    public void onReadings(List<Reading> readings) throws IOException {
+                        for (Reading reading : readings) {
+                            emitter.send(SseEmitter.event()
+                                    .name(READING_EVENT)
+                                    .id(reading.getIdentity().getId())
+                                    .data(toJson(readingMapper.toReadingDTO(reading))));
+                        }
+                    }
+
+                    @Override
+                    public void onClose() {
+                        emitter.complete();
+                    }
+                });
+        if (subscription == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(e -> subscription.cancel());
+        try {
+            // Opens the stream at once, rather than on its first reading, and tells the client when to reconnect
+            emitter.send(SseEmitter.event().reconnectTime(RECONNECT_MILLIS));
+        } catch (IOException e) {
+            subscription.cancel();
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+        return new ResponseEntity<>(emitter, HttpStatus.OK);
+    }
+
+    /**
+     * Writes a reading DTO as a JSON object, with the fields of the readings export and without links.
+     *
+     * @param readingDTO the reading DTO.
+     * @return the JSON object.
+     * @throws IOException if the reading could not be written.
+     */
+    private static String toJson(ReadingDTO readingDTO) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", readingDTO.getId());
+            generator.writeStringField("sensorId", readingDTO.getSensorId());
+            generator.writeStringField("readingValue", readingDTO.getReadingValue());
+            generator.writeStringField("timestamp", readingDTO.getTimestamp());
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+}
@@ -2,6 +2,7 @@ package smarthome.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,7 +12,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.room.Room;
 import smarthome.domain.room.vo.Dimensions;
@@ -21,6 +24,7 @@ import smarthome.domain.room.vo.RoomName;
 import smarthome.mapper.RoomDTO;
 import smarthome.mapper.mapper.RoomMapper;
 import smarthome.service.IRoomService;
+import smarthome.utils.KeysetCursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -119,6 +123,39 @@ public class RoomRESTController {
         return new ResponseEntity<>(result, HttpStatus.OK);
     }
 
+    /**
+     * Gets a page of rooms, in the order of their ids. The next link holds the cursor of the next page while there
+     * are more rooms.
+     *
+     * @param limit the largest number of rooms of the page
+     * @param after the cursor to start after, or none for the first page
+     * @return the response entity with the page of rooms, or bad request if the limit or the cursor are invalid
+     */
+    @GetMapping(params = "limit", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<RoomDTO>> getRooms(
+            @RequestParam("limit") int limit, @RequestParam(value = "after", required = false) String after) {
+        try {
+            RoomId afterId = after == null ? null : new RoomId(KeysetCursor.decode(after, 1)[0]);
+            KeysetPage<RoomId> page = roomService.getRoomIds(afterId, limit);
+            if (page == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            List<RoomDTO> rooms = toRoomDTOs(page.getContent());
+
+            CollectionModel<RoomDTO> result = CollectionModel.of(rooms);
+            result.add(linkTo(methodOn(RoomRESTController.class).getRooms(limit, after)).withSelfRel().expand());
+            if (page.hasNext()) {
+                String next = KeysetCursor.encode(rooms.get(rooms.size() - 1).getRoomId());
+                result.add(linkTo(methodOn(RoomRESTController.class).getRooms(limit, next))
+                        .withRel(IanaLinkRelations.NEXT));
+            }
+
+            return new ResponseEntity<>(result, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+    }
+
     /**
      * Gets all rooms in a house.
      *
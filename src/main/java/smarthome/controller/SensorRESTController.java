@@ -2,6 +2,7 @@ package smarthome.controller;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -135,4 +136,35 @@ public class SensorRESTController {
             return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
         }
     }
+
+    /**
+     * Handles the GET request to retrieve all sensors associated with a specific device, embedded in a HAL collection.
+     * The sensors are read with a single query, so a client gets them all in one request instead of one request per
+     * sensor id.
+     *
+     * @param id The identity of the device whose associated sensors are to be retrieved.
+     * @return A ResponseEntity containing a collection of SensorDTOs if the sensors are found,
+     * or a ResponseEntity with an HTTP status code of NOT_FOUND if no sensors are found,
+     * BAD_REQUEST if the device does not exist, or UNPROCESSABLE_ENTITY if an exception occurs.
+     */
+    @GetMapping(value = "/device/{id}", params = "embed=true", produces = {"application/hal+json"})
+    public ResponseEntity<CollectionModel<SensorDTO>> getEmbeddedSensorsByDeviceIdentity(@PathVariable("id") String id) {
+        try {
+            DeviceId deviceId = new DeviceId(id);
+            Iterable<Sensor> sensors = sensorService.getSensorsByDeviceIdentity(deviceId);
+            if (sensors == null) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+            List<SensorDTO> sensorDTOs = sensorMapper.toSensorsDTO(sensors);
+            if (sensorDTOs.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            for (SensorDTO sensorDTO : sensorDTOs) {
+                sensorDTO.add(linkTo(methodOn(SensorRESTController.class).getSensorByIdentity(sensorDTO.getSensorId())).withSelfRel());
+            }
+            return new ResponseEntity<>(CollectionModel.of(sensorDTOs), HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package smarthome.ddd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * A page of a keyset (cursor) traversal: the entries that follow a position in a fixed order, and whether more
+ * entries follow the last of them.
+ * <p>
+ * The next page is the one that follows the last entry of this page, so a page is found by seeking to a position
+ * rather than by skipping the entries of the pages before it, and its cost does not grow with the depth of the
+ * traversal.
+ * </p>
+ *
+ * @param <T> the type of the entries.
+ */
+public final class KeysetPage<T> {
+
+    /**
+     * The largest number of entries of a page.
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<T> content;
+    private final boolean hasNext;
+
+    /**
+     * Constructs a page.
+     *
+     * @param content the entries of the page, in order.
+     * @param hasNext true if more entries follow the last one of the page, false otherwise.
+     * @throws IllegalArgumentException if the entries are null.
+     */
+    public KeysetPage(List<T> content, boolean hasNext) {
+        if (content == null) {
+            throw new IllegalArgumentException();
+        }
+        this.content = Collections.unmodifiableList(new ArrayList<>(content));
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Builds a page from the entries of a query that fetched one entry more than the limit, which is only there to
+     * tell if there is a next page.
+     *
+     * @param rows  the entries fetched, in order, at most one more than the limit.
+     * @param limit the number of entries of the page.
+     * @param <T>   the type of the entries.
+     * @return the page.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit) {
+        if (rows.size() > limit) {
+            return new KeysetPage<>(rows.subList(0, limit), true);
+        }
+        return new KeysetPage<>(rows, false);
+    }
+
+    /**
+     * Finds the page of entries that follow an entry, by a traversal of every entry.
+     *
+     * @param entries the entries, in any order.
+     * @param order   the order of the traversal, which must be total.
+     * @param after   the entry to start after, or null to start at the first entry.
+     * @param limit   the largest number of entries of the page.
+     * @param <T>     the type of the entries.
+     * @return the page.
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link #MAX_LIMIT}.
+     */
+    public static <T> KeysetPage<T> after(Iterable<T> entries, Comparator<? super T> order, T after, int limit) {
+        return first(entries, order, entry -> after == null || order.compare(entry, after) > 0, limit);
+    }
+
+    /**
+     * Finds the page of entries that follow a position, by a traversal of every entry. Only the entries of the page
+     * are kept and sorted, so the traversal takes linear time and memory bounded by the limit.
+     *
+     * @param entries the entries, in any order.
+     * @param order   the order of the traversal, which must be total.
+     * @param follows the test of whether an entry follows the position.
+     * @param limit   the largest number of entries of the page.
+     * @param <T>     the type of the entries.
+     * @return the page.
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link #MAX_LIMIT}.
+     */
+    public static <T> KeysetPage<T> first(Iterable<T> entries, Comparator<? super T> order,
+                                          Predicate<? super T> follows, int limit) {
+        checkLimit(limit);
+        PriorityQueue<T> page = new PriorityQueue<>(limit + 1, order.reversed());
+        for (T entry : entries) {
+            if (!follows.test(entry)) {
+                continue;
+            }
+            if (page.size() <= limit) {
+                page.add(entry);
+            } else if (order.compare(entry, page.peek()) < 0) {
+                page.poll();
+                page.add(entry);
+            }
+        }
+        List<T> rows = new ArrayList<>(page);
+        rows.sort(order);
+        return of(rows, limit);
+    }
+
+    /**
+     * Checks that the limit of a page is between 1 and {@link #MAX_LIMIT}.
+     *
+     * @param limit the largest number of entries of a page.
+     * @throws IllegalArgumentException if the limit is out of range.
+     */
+    public static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * Returns the entries of the page.
+     *
+     * @return an unmodifiable list of the entries, in order.
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * Checks if more entries follow the last one of the page.
+     *
+     * @return true if there is a next page, false otherwise.
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+}
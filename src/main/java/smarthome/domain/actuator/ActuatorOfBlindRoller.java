@@ -4,6 +4,7 @@ package smarthome.domain.actuator;
 import smarthome.domain.actuator.vo.ActuatorId;
 import smarthome.domain.actuatormodel.vo.ActuatorModelName;
 import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.sensor.vo.values.NumericValue;
 import smarthome.domain.sensor.vo.values.Value;
 
 import java.util.UUID;
@@ -58,7 +59,8 @@ public class ActuatorOfBlindRoller implements Actuator {
      * @return The new state of the ActuatorOfBlindRoller.
      */
     public Value operate(Value value) {
-        double valueDouble = Double.parseDouble(value.valueToString());
+        double valueDouble = value instanceof NumericValue numericValue ? numericValue.toDouble()
+                : Double.parseDouble(value.valueToString());
         if (valueDouble >= 0.0 && valueDouble <= 100.0) {
             return value;
         }
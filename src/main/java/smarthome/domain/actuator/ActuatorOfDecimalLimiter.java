@@ -6,6 +6,7 @@ import smarthome.domain.actuator.vo.DecimalValue;
 import smarthome.domain.actuator.vo.Precision;
 import smarthome.domain.actuatormodel.vo.ActuatorModelName;
 import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.sensor.vo.values.NumericValue;
 import smarthome.domain.sensor.vo.values.Value;
 
 import java.util.UUID;
@@ -144,7 +145,8 @@ public class ActuatorOfDecimalLimiter implements Actuator{
      * @return the updated value
      */
     public Value operate(Value value) {
-        double decimalValue = Double.parseDouble(value.valueToString());
+        double decimalValue = value instanceof NumericValue numericValue ? numericValue.toDouble()
+                : Double.parseDouble(value.valueToString());
         if (!validValue(decimalValue)) {
             throw new IllegalArgumentException();
         }
@@ -1,13 +1,13 @@
 package smarthome.domain.actuator.vo;
 
-import smarthome.domain.sensor.vo.values.Value;
+import smarthome.domain.sensor.vo.values.NumericValue;
 
 import java.util.Objects;
 
 /**
  * Represents a specific decimal value for actuators.
  */
-public class DecimalValue implements Value {
+public class DecimalValue implements NumericValue {
 
     private final double decimalValue;
 
@@ -53,4 +53,14 @@ public class DecimalValue implements Value {
     public String valueToString() {
         return String.valueOf(decimalValue);
     }
+
+    /**
+     * Returns the decimal value as a primitive double.
+     *
+     * @return the decimal value.
+     */
+    @Override
+    public double toDouble() {
+        return decimalValue;
+    }
 }
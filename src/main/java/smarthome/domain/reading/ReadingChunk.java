@@ -0,0 +1,603 @@
+package smarthome.domain.reading;
+
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.Arrays;
+
+/**
+ * The ReadingChunk class holds a run of numeric readings of a sensor, compressed in the style of Gorilla.
+ * <p>
+ * Timestamps are stored as the difference between consecutive deltas, which is zero for readings taken at a regular
+ * interval and costs a single bit. Values are stored as the XOR of each value with the previous one: a repeated
+ * value costs a single bit, and a value close to the previous one shares its sign, exponent and leading bits, so only
+ * the bits that changed are written. A series of a slowly changing sensor read every minute takes a few bits per
+ * reading, instead of the 16 bytes of a {@link ReadingSeries} sample or the row of a reading.
+ * </p>
+ * <p>
+ * Timestamps are written in the coarsest unit, of seconds, milliseconds, microseconds or nanoseconds, that holds
+ * every timestamp of the chunk exactly. The compression is lossless: a chunk decodes to the very timestamps and
+ * values it was encoded from. The samples of a chunk are sorted by time; the chunks of a sensor are numbered in the
+ * order they were started, and may overlap in time when readings arrive late.
+ * </p>
+ * Chunks are immutable. A chunk that takes more readings is encoded again, as a new chunk with the same number; an
+ * {@link Encoder} keeps the state of the encoding, so the readings it takes are written after the ones it holds
+ * instead of encoding them all again.
+ */
+public class ReadingChunk {
+
+    private static final long[] UNITS = {1_000_000_000L, 1_000_000L, 1_000L, 1L};
+
+    private final SensorId sensorId;
+    private final long sequence;
+    private final int size;
+    private final long firstEpochNanos;
+    private final long lastEpochNanos;
+    private final byte[] data;
+
+    /**
+     * Constructs a chunk from its encoded samples.
+     *
+     * @param sensorId        the sensor of the readings.
+     * @param sequence        the number of the chunk among the chunks of the sensor.
+     * @param size            the number of samples.
+     * @param firstEpochNanos the time of the first sample, in nanoseconds since the epoch.
+     * @param lastEpochNanos  the time of the last sample, in nanoseconds since the epoch.
+     * @param data            the encoded samples.
+     * @throws IllegalArgumentException if the sensor or the data are null, the sequence is negative, the size is not
+     *                                  positive, or the last time is before the first.
+     */
+    public ReadingChunk(SensorId sensorId, long sequence, int size, long firstEpochNanos, long lastEpochNanos,
+                        byte[] data) {
+        if (sensorId == null || data == null || sequence < 0 || size < 1 || lastEpochNanos < firstEpochNanos) {
+            throw new IllegalArgumentException();
+        }
+        this.sensorId = sensorId;
+        this.sequence = sequence;
+        this.size = size;
+        this.firstEpochNanos = firstEpochNanos;
+        this.lastEpochNanos = lastEpochNanos;
+        this.data = data.clone();
+    }
+
+    /**
+     * Encodes the samples of a series as a chunk.
+     *
+     * @param sensorId the sensor of the readings.
+     * @param sequence the number of the chunk among the chunks of the sensor.
+     * @param samples  the samples, sorted by time.
+     * @return the chunk.
+     * @throws IllegalArgumentException if the sensor or the samples are null, the sequence is negative, or the samples
+     *                                  are empty or not sorted by time.
+     */
+    public static ReadingChunk encode(SensorId sensorId, long sequence, ReadingSeries samples) {
+        if (samples == null || samples.isEmpty() || !samples.isSortedByTime()) {
+            throw new IllegalArgumentException();
+        }
+        Encoder encoder = new Encoder(sensorId, sequence, coarsestUnit(samples));
+        for (int i = 0; i < samples.size(); i++) {
+            encoder.add(samples.epochNanosAt(i), samples.valueAt(i));
+        }
+        return encoder.toChunk();
+    }
+
+    /**
+     * Returns the index of the coarsest unit that holds every timestamp of the samples exactly.
+     */
+    private static int coarsestUnit(ReadingSeries samples) {
+        int unitIndex = 0;
+        for (int i = 0; i < samples.size() && unitIndex < UNITS.length - 1; i++) {
+            while (samples.epochNanosAt(i) % UNITS[unitIndex] != 0) {
+                unitIndex++;
+            }
+        }
+        return unitIndex;
+    }
+
+    /**
+     * Writes a difference of deltas with a prefix that tells its length: a single bit for zero, and 7, 9, 12, 32 or
+     * 64 bits for larger differences.
+     */
+    private static void writeDeltaOfDelta(BitWriter writer, long deltaOfDelta) {
+        if (deltaOfDelta == 0) {
+            writer.write(0, 1);
+        } else if (fits(deltaOfDelta, 7)) {
+            writer.write(0b10, 2);
+            writer.write(deltaOfDelta, 7);
+        } else if (fits(deltaOfDelta, 9)) {
+            writer.write(0b110, 3);
+            writer.write(deltaOfDelta, 9);
+        } else if (fits(deltaOfDelta, 12)) {
+            writer.write(0b1110, 4);
+            writer.write(deltaOfDelta, 12);
+        } else if (fits(deltaOfDelta, 32)) {
+            writer.write(0b11110, 5);
+            writer.write(deltaOfDelta, 32);
+        } else {
+            writer.write(0b11111, 5);
+            writer.write(deltaOfDelta, 64);
+        }
+    }
+
+    private static boolean fits(long value, int bits) {
+        long bound = 1L << (bits - 1);
+        return value >= -bound && value < bound;
+    }
+
+    /**
+     * Decodes the samples of the chunk taken in a period, both ends included, and appends them to a series. The
+     * samples are decoded one at a time straight into the series, and decoding stops at the first sample after the
+     * period.
+     *
+     * @param series          the series to append the samples to.
+     * @param fromEpochNanos  the start of the period, in nanoseconds since the epoch.
+     * @param toEpochNanos    the end of the period, in nanoseconds since the epoch.
+     * @throws IllegalArgumentException if the series is null.
+     */
+    public void decodeInto(ReadingSeries series, long fromEpochNanos, long toEpochNanos) {
+        if (series == null) {
+            throw new IllegalArgumentException();
+        }
+        if (!overlaps(fromEpochNanos, toEpochNanos)) {
+            return;
+        }
+        BitReader reader = new BitReader(data);
+        long unit = UNITS[(int) reader.read(2)];
+        long time = reader.read(64);
+        long bits = reader.read(64);
+        addIfInPeriod(series, time * unit, bits, fromEpochNanos, toEpochNanos);
+        long delta = 0;
+        int leading = 0;
+        int trailing = 0;
+        for (int i = 1; i < size; i++) {
+            delta += readDeltaOfDelta(reader);
+            time += delta;
+            if (reader.read(1) == 1) {
+                if (reader.read(1) == 1) {
+                    leading = (int) reader.read(6);
+                    trailing = 64 - leading - ((int) reader.read(6) + 1);
+                }
+                bits ^= reader.read(64 - leading - trailing) << trailing;
+            }
+            long epochNanos = time * unit;
+            if (epochNanos > toEpochNanos) {
+                return;
+            }
+            addIfInPeriod(series, epochNanos, bits, fromEpochNanos, toEpochNanos);
+        }
+    }
+
+    private static void addIfInPeriod(ReadingSeries series, long epochNanos, long bits, long fromEpochNanos,
+                                      long toEpochNanos) {
+        if (epochNanos >= fromEpochNanos && epochNanos <= toEpochNanos) {
+            series.add(epochNanos, Double.longBitsToDouble(bits));
+        }
+    }
+
+    private static long readDeltaOfDelta(BitReader reader) {
+        if (reader.read(1) == 0) {
+            return 0;
+        }
+        if (reader.read(1) == 0) {
+            return reader.readSigned(7);
+        }
+        if (reader.read(1) == 0) {
+            return reader.readSigned(9);
+        }
+        if (reader.read(1) == 0) {
+            return reader.readSigned(12);
+        }
+        return reader.read(1) == 0 ? reader.readSigned(32) : reader.read(64);
+    }
+
+    /**
+     * Decodes every sample of the chunk.
+     *
+     * @return the samples, sorted by time.
+     */
+    public ReadingSeries decode() {
+        ReadingSeries series = new ReadingSeries();
+        decodeInto(series, firstEpochNanos, lastEpochNanos);
+        return series;
+    }
+
+    /**
+     * Checks if the chunk has samples in a period, both ends included.
+     *
+     * @param fromEpochNanos the start of the period, in nanoseconds since the epoch.
+     * @param toEpochNanos   the end of the period, in nanoseconds since the epoch.
+     * @return true if the period overlaps the time span of the chunk, false otherwise.
+     */
+    public boolean overlaps(long fromEpochNanos, long toEpochNanos) {
+        return firstEpochNanos <= toEpochNanos && lastEpochNanos >= fromEpochNanos;
+    }
+
+    /**
+     * Returns the sensor of the readings.
+     *
+     * @return the sensor of the readings.
+     */
+    public SensorId getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * Returns the number of the chunk among the chunks of its sensor.
+     *
+     * @return the number of the chunk.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Returns the number of samples.
+     *
+     * @return the number of samples.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the time of the first sample.
+     *
+     * @return the time of the first sample, in nanoseconds since the epoch.
+     */
+    public long getFirstEpochNanos() {
+        return firstEpochNanos;
+    }
+
+    /**
+     * Returns the time of the last sample.
+     *
+     * @return the time of the last sample, in nanoseconds since the epoch.
+     */
+    public long getLastEpochNanos() {
+        return lastEpochNanos;
+    }
+
+    /**
+     * Returns the encoded samples.
+     *
+     * @return a copy of the encoded samples.
+     */
+    public byte[] getData() {
+        return data.clone();
+    }
+
+    /**
+     * Returns the size of the encoded samples.
+     *
+     * @return the number of bytes of the encoded samples.
+     */
+    public int getDataLength() {
+        return data.length;
+    }
+
+    /**
+     * Compares this chunk with another object. Two chunks are equal if they hold the same samples of the same sensor
+     * under the same number.
+     *
+     * @param o the object to compare with.
+     * @return true if the object is an equal chunk, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ReadingChunk chunk)) {
+            return false;
+        }
+        return sequence == chunk.sequence && size == chunk.size && firstEpochNanos == chunk.firstEpochNanos
+                && lastEpochNanos == chunk.lastEpochNanos && sensorId.equals(chunk.sensorId)
+                && Arrays.equals(data, chunk.data);
+    }
+
+    /**
+     * Returns the hash code of the chunk.
+     *
+     * @return the hash code of the chunk.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * sensorId.hashCode() + Long.hashCode(sequence)) + Arrays.hashCode(data);
+    }
+
+    /**
+     * Encodes a chunk one sample at a time, so a chunk that takes more readings costs only the bits of the new
+     * readings.
+     * <p>
+     * The encoder keeps the bits written so far and the state the next sample is encoded against: the previous time,
+     * delta and value, and the window of the changed bits of the previous value. A sample that needs a finer unit of
+     * time than the samples before it has all the samples encoded again in that unit, which happens at most three
+     * times per chunk. An encoder is not thread safe.
+     * </p>
+     */
+    public static final class Encoder {
+        private final SensorId sensorId;
+        private final long sequence;
+        private int unitIndex;
+        private BitWriter writer;
+        private int size;
+        private long firstEpochNanos;
+        private long lastEpochNanos;
+        private long previousTime;
+        private long previousDelta;
+        private long previousBits;
+        private int leading;
+        private int trailing;
+
+        /**
+         * Constructs an encoder of an empty chunk.
+         *
+         * @param sensorId the sensor of the readings.
+         * @param sequence the number of the chunk among the chunks of the sensor.
+         * @throws IllegalArgumentException if the sensor is null or the sequence is negative.
+         */
+        public Encoder(SensorId sensorId, long sequence) {
+            this(sensorId, sequence, 0);
+        }
+
+        private Encoder(SensorId sensorId, long sequence, int unitIndex) {
+            if (sensorId == null || sequence < 0) {
+                throw new IllegalArgumentException();
+            }
+            this.sensorId = sensorId;
+            this.sequence = sequence;
+            this.unitIndex = unitIndex;
+        }
+
+        /**
+         * Constructs an encoder that holds the samples of a chunk, to append more samples to it.
+         *
+         * @param chunk the chunk.
+         * @return the encoder, whose chunk is equal to the given one.
+         * @throws IllegalArgumentException if the chunk is null.
+         */
+        public static Encoder resume(ReadingChunk chunk) {
+            if (chunk == null) {
+                throw new IllegalArgumentException();
+            }
+            Encoder encoder = new Encoder(chunk.sensorId, chunk.sequence, (chunk.data[0] >>> 6) & 0b11);
+            ReadingSeries samples = chunk.decode();
+            for (int i = 0; i < samples.size(); i++) {
+                encoder.add(samples.epochNanosAt(i), samples.valueAt(i));
+            }
+            return encoder;
+        }
+
+        /**
+         * Appends a sample to the chunk.
+         *
+         * @param epochNanos the time of the sample, in nanoseconds since the epoch, not before the last sample.
+         * @param value      the value of the sample.
+         * @throws IllegalArgumentException if the sample is older than the last sample of the chunk.
+         */
+        public void add(long epochNanos, double value) {
+            if (size > 0 && epochNanos < lastEpochNanos) {
+                throw new IllegalArgumentException();
+            }
+            int neededUnitIndex = unitIndex;
+            while (epochNanos % UNITS[neededUnitIndex] != 0) {
+                neededUnitIndex++;
+            }
+            if (neededUnitIndex != unitIndex && size > 0) {
+                ReadingSeries samples = toChunk().decode();
+                samples.add(epochNanos, value);
+                restart(neededUnitIndex);
+                for (int i = 0; i < samples.size(); i++) {
+                    write(samples.epochNanosAt(i), samples.valueAt(i));
+                }
+                return;
+            }
+            unitIndex = neededUnitIndex;
+            write(epochNanos, value);
+        }
+
+        /**
+         * Clears the samples, to encode them again in another unit of time.
+         */
+        private void restart(int newUnitIndex) {
+            unitIndex = newUnitIndex;
+            writer = null;
+            size = 0;
+        }
+
+        /**
+         * Writes a sample whose time is a whole number of the unit of the chunk.
+         */
+        private void write(long epochNanos, double value) {
+            long unit = UNITS[unitIndex];
+            long time = epochNanos / unit;
+            long bits = Double.doubleToRawLongBits(value);
+            if (size == 0) {
+                writer = new BitWriter(0);
+                writer.write(unitIndex, 2);
+                writer.write(time, 64);
+                writer.write(bits, 64);
+                firstEpochNanos = epochNanos;
+                previousDelta = 0;
+                leading = Integer.MAX_VALUE;
+                trailing = 0;
+            } else {
+                long delta = time - previousTime;
+                writeDeltaOfDelta(writer, delta - previousDelta);
+                previousDelta = delta;
+                writeXor(bits ^ previousBits);
+            }
+            previousTime = time;
+            previousBits = bits;
+            lastEpochNanos = epochNanos;
+            size++;
+        }
+
+        /**
+         * Writes the XOR of a value with the previous one.
+         */
+        private void writeXor(long xor) {
+            if (xor == 0) {
+                writer.write(0, 1);
+                return;
+            }
+            int xorLeading = Long.numberOfLeadingZeros(xor);
+            int xorTrailing = Long.numberOfTrailingZeros(xor);
+            if (xorLeading >= leading && xorTrailing >= trailing) {
+                // The changed bits fit in the window of the previous value: only the window is written
+                writer.write(0b10, 2);
+                writer.write(xor >>> trailing, 64 - leading - trailing);
+            } else {
+                leading = xorLeading;
+                trailing = xorTrailing;
+                int length = 64 - leading - trailing;
+                writer.write(0b11, 2);
+                writer.write(leading, 6);
+                writer.write(length - 1, 6);
+                writer.write(xor >>> trailing, length);
+            }
+        }
+
+        /**
+         * Returns the chunk of the samples added so far.
+         *
+         * @return the chunk.
+         * @throws IllegalStateException if no sample was added.
+         */
+        public ReadingChunk toChunk() {
+            if (size == 0) {
+                throw new IllegalStateException();
+            }
+            return new ReadingChunk(sensorId, sequence, size, firstEpochNanos, lastEpochNanos, writer.toBytes());
+        }
+
+        /**
+         * Returns the sensor of the readings.
+         *
+         * @return the sensor of the readings.
+         */
+        public SensorId getSensorId() {
+            return sensorId;
+        }
+
+        /**
+         * Returns the number of the chunk among the chunks of its sensor.
+         *
+         * @return the number of the chunk.
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        /**
+         * Returns the number of samples added.
+         *
+         * @return the number of samples.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the time of the first sample.
+         *
+         * @return the time of the first sample, in nanoseconds since the epoch; undefined if there are no samples.
+         */
+        public long getFirstEpochNanos() {
+            return firstEpochNanos;
+        }
+
+        /**
+         * Returns the time of the last sample.
+         *
+         * @return the time of the last sample, in nanoseconds since the epoch; undefined if there are no samples.
+         */
+        public long getLastEpochNanos() {
+            return lastEpochNanos;
+        }
+    }
+
+    /**
+     * Writes bits to a growing array of words, most significant bit first.
+     */
+    private static final class BitWriter {
+        private long[] words;
+        private long position;
+
+        private BitWriter(int samples) {
+            words = new long[Math.max(4, samples / 16)];
+        }
+
+        /**
+         * Writes the lowest bits of a value.
+         *
+         * @param value the value.
+         * @param bits  the number of bits to write, from 1 to 64.
+         */
+        private void write(long value, int bits) {
+            long masked = bits == 64 ? value : value & ((1L << bits) - 1);
+            int word = (int) (position >>> 6);
+            int free = 64 - (int) (position & 63);
+            if (word + 1 >= words.length) {
+                words = Arrays.copyOf(words, words.length * 2);
+            }
+            if (bits <= free) {
+                words[word] |= masked << (free - bits);
+            } else {
+                words[word] |= masked >>> (bits - free);
+                words[word + 1] |= masked << (64 - (bits - free));
+            }
+            position += bits;
+        }
+
+        private byte[] toBytes() {
+            byte[] bytes = new byte[(int) ((position + 7) >>> 3)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (words[i >>> 3] >>> (56 - 8 * (i & 7)));
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Reads bits from an array of bytes, most significant bit first.
+     */
+    private static final class BitReader {
+        private final long[] words;
+        private long position;
+
+        private BitReader(byte[] bytes) {
+            // One word more than the data, so a read that crosses into the next word never runs out of the array
+            words = new long[(bytes.length + 7) / 8 + 1];
+            for (int i = 0; i < bytes.length; i++) {
+                words[i >>> 3] |= (bytes[i] & 0xFFL) << (56 - 8 * (i & 7));
+            }
+        }
+
+        /**
+         * Reads bits as an unsigned value.
+         *
+         * @param bits the number of bits to read, from 1 to 64.
+         * @return the value.
+         */
+        private long read(int bits) {
+            int word = (int) (position >>> 6);
+            int offset = (int) (position & 63);
+            long value = (words[word] << offset) >>> (64 - bits);
+            if (offset + bits > 64) {
+                value |= words[word + 1] >>> (128 - offset - bits);
+            }
+            position += bits;
+            return value;
+        }
+
+        /**
+         * Reads bits as a two's complement value.
+         *
+         * @param bits the number of bits to read, from 1 to 63.
+         * @return the value.
+         */
+        private long readSigned(int bits) {
+            return (read(bits) << (64 - bits)) >> (64 - bits);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package smarthome.domain.reading;
+
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ReadingChunkPolicy class tells when the chunk a sensor is writing to is sealed and a new chunk is started.
+ * <p>
+ * A chunk is sealed when it holds the largest number of samples, or when a sample falls in another time window, so
+ * each chunk covers at most one window, such as one clock hour. A period query then only decodes the chunks whose
+ * windows overlap the period. A sample older than the last sample of the chunk, which arrived late, starts a new
+ * chunk too, so the samples of every chunk stay sorted by time.
+ * </p>
+ */
+public class ReadingChunkPolicy {
+
+    /**
+     * The default largest number of samples of a chunk.
+     */
+    public static final int DEFAULT_MAX_POINTS = 1024;
+
+    /**
+     * The default time window of a chunk.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofHours(1);
+
+    /**
+     * The policy of chunks of at most {@link #DEFAULT_MAX_POINTS} samples in a window of {@link #DEFAULT_WINDOW}.
+     */
+    public static final ReadingChunkPolicy DEFAULT = new ReadingChunkPolicy(DEFAULT_MAX_POINTS, DEFAULT_WINDOW);
+
+    private final int maxPoints;
+    private final long windowNanos;
+
+    /**
+     * Constructs a policy.
+     *
+     * @param maxPoints the largest number of samples of a chunk.
+     * @param window    the time window of a chunk, of at least one second.
+     * @throws IllegalArgumentException if the largest number of samples is not positive, or the window is null or
+     *                                  shorter than one second.
+     */
+    public ReadingChunkPolicy(int maxPoints, Duration window) {
+        if (maxPoints < 1 || window == null || window.getSeconds() < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.maxPoints = maxPoints;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Returns the largest number of samples of a chunk.
+     *
+     * @return the largest number of samples.
+     */
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    /**
+     * Returns the time window of a chunk. A chunk spans less than one window.
+     *
+     * @return the time window, in nanoseconds.
+     */
+    public long getWindowNanos() {
+        return windowNanos;
+    }
+
+    /**
+     * Appends samples of a sensor to its chunks.
+     * <p>
+     * The samples are sorted by time, and added to the last chunk of the sensor for as long as the policy lets it
+     * take them. The rest are split in new chunks, numbered after the last one.
+     * </p>
+     *
+     * @param last     the last chunk of the sensor, or null if the sensor has no chunks.
+     * @param sensorId the sensor of the samples.
+     * @param samples  the samples.
+     * @return the chunks that changed: the last chunk with the samples it took, if any, and the new chunks, by number.
+     * @throws IllegalArgumentException if the sensor or the samples are null, or the last chunk is of another sensor.
+     */
+    public List<ReadingChunk> append(ReadingChunk last, SensorId sensorId, ReadingSeries samples) {
+        List<ReadingChunk> chunks = new ArrayList<>();
+        for (ReadingChunk.Encoder encoder : appendTo(last == null ? null : ReadingChunk.Encoder.resume(last),
+                sensorId, samples)) {
+            chunks.add(encoder.toChunk());
+        }
+        return chunks;
+    }
+
+    /**
+     * Appends samples of a sensor to the encoder of its last chunk, so the samples already in the chunk are not
+     * encoded again.
+     * <p>
+     * The samples are sorted by time, and added to the last chunk of the sensor for as long as the policy lets it
+     * take them. The rest are split in new chunks, numbered after the last one. The encoder of the last chunk takes
+     * the samples it accepts; once it is sealed, it is left as it is.
+     * </p>
+     *
+     * @param open     the encoder of the last chunk of the sensor, or null if the sensor has no chunks.
+     * @param sensorId the sensor of the samples.
+     * @param samples  the samples.
+     * @return the encoders of the chunks that changed, by number: the given encoder if it took samples, and the
+     * encoders of the new chunks. The last of them is the encoder of the new last chunk of the sensor.
+     * @throws IllegalArgumentException if the sensor or the samples are null, or the encoder is of another sensor.
+     */
+    public List<ReadingChunk.Encoder> appendTo(ReadingChunk.Encoder open, SensorId sensorId, ReadingSeries samples) {
+        if (sensorId == null || samples == null || (open != null && !sensorId.equals(open.getSensorId()))) {
+            throw new IllegalArgumentException();
+        }
+        List<ReadingChunk.Encoder> changed = new ArrayList<>();
+        ReadingSeries sorted = samples.sortedByTime();
+        for (int i = 0; i < sorted.size(); i++) {
+            long epochNanos = sorted.epochNanosAt(i);
+            if (open == null) {
+                open = new ReadingChunk.Encoder(sensorId, 0);
+            } else if (open.getSize() > 0 && !accepts(open, epochNanos)) {
+                open = new ReadingChunk.Encoder(sensorId, open.getSequence() + 1);
+            }
+            if (changed.isEmpty() || changed.get(changed.size() - 1) != open) {
+                changed.add(open);
+            }
+            open.add(epochNanos, sorted.valueAt(i));
+        }
+        return changed;
+    }
+
+    /**
+     * Checks if an open chunk takes a sample: it is not full, the sample is in its window, and the sample is not
+     * older than its last sample.
+     */
+    private boolean accepts(ReadingChunk.Encoder open, long epochNanos) {
+        return open.getSize() < maxPoints && epochNanos >= open.getLastEpochNanos()
+                && Math.floorDiv(epochNanos, windowNanos) == Math.floorDiv(open.getFirstEpochNanos(), windowNanos);
+    }
+}
@@ -1,10 +1,12 @@
 package smarthome.domain.reading;
 
 import org.springframework.stereotype.Component;
+import smarthome.domain.reading.vo.NumericReadingValue;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.ReadingValue;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensor.vo.values.NumericValue;
 import smarthome.domain.sensor.vo.values.Value;
 
 /**
@@ -17,32 +19,45 @@ public class ReadingFactoryImpl implements ReadingFactory {
     /**
      * Creates a Reading object without a ReadingId.
      * This method takes in a Value, SensorId, and TimeStamp to create a new Reading.
-     * The Value is converted to a string before being passed to the Reading constructor.
+     * A numeric Value is kept as a primitive double, any other Value is converted to a string.
      *
-     * @param value     the Value of the Reading, converted to a string.
+     * @param value     the Value of the Reading.
      * @param sensorId  the SensorId associated with the Reading.
      * @param timeStamp the TimeStamp of the Reading.
      * @return a new Reading object.
      */
     @Override
     public Reading createReading(Value value, SensorId sensorId, TimeStamp timeStamp) {
-        return new Reading(new ReadingValue(value.valueToString()), sensorId, timeStamp);
+        return new Reading(toReadingValue(value), sensorId, timeStamp);
     }
 
     /**
      * Creates a Reading object with a ReadingId.
      * This method takes in a ReadingId, Value, SensorId, and TimeStamp to create a new Reading.
-     * The Value is converted to a string before being passed to the Reading constructor.
+     * A numeric Value is kept as a primitive double, any other Value is converted to a string.
      *
      * @param readingId the ReadingId of the Reading.
-     * @param value     the Value of the Reading, converted to a string.
+     * @param value     the Value of the Reading.
      * @param sensorId  the SensorId associated with the Reading.
      * @param timeStamp the TimeStamp of the Reading.
      * @return a new Reading object.
      */
     @Override
     public Reading createReading(ReadingId readingId, Value value, SensorId sensorId, TimeStamp timeStamp) {
-        return new Reading(readingId, new ReadingValue(value.valueToString()), sensorId, timeStamp);
+        return new Reading(readingId, toReadingValue(value), sensorId, timeStamp);
+    }
+
+    /**
+     * Converts a Value to the value kept by a Reading.
+     *
+     * @param value the Value to convert.
+     * @return a NumericReadingValue for numeric values, a ReadingValue with the string representation otherwise.
+     */
+    private Value toReadingValue(Value value) {
+        if (value instanceof NumericValue numericValue) {
+            return new NumericReadingValue(numericValue.toDouble());
+        }
+        return new ReadingValue(value.valueToString());
     }
 }
 
@@ -0,0 +1,247 @@
+package smarthome.domain.reading;
+
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensor.vo.values.NumericValue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The ReadingRollup class holds the aggregate of the numeric readings of a sensor in one bucket of time.
+ * <p>
+ * A bucket starts at {@link #getBucketStart()} and lasts one {@link ReadingRollupResolution}, excluding its end.
+ * Besides the count, sum, minimum and maximum of its readings, a rollup keeps apart the count and sum of the readings
+ * taken exactly at the start of the bucket. Period queries include both of their ends, so a reading on the border of
+ * two sub-periods belongs to both, and these are the readings that sit on a border.
+ * </p>
+ * Rollups are immutable. Readings are added by combining rollups of the same bucket.
+ */
+public class ReadingRollup {
+
+    private final SensorId sensorId;
+    private final ReadingRollupResolution resolution;
+    private final LocalDateTime bucketStart;
+    private final long count;
+    private final double sum;
+    private final double min;
+    private final double max;
+    private final long startCount;
+    private final double startSum;
+
+    /**
+     * Constructs a rollup.
+     *
+     * @param sensorId    the sensor of the readings.
+     * @param resolution  the resolution of the bucket.
+     * @param bucketStart the start of the bucket.
+     * @param count       the number of readings.
+     * @param sum         the sum of the readings.
+     * @param min         the smallest reading.
+     * @param max         the largest reading.
+     * @param startCount  the number of readings taken exactly at the start of the bucket.
+     * @param startSum    the sum of the readings taken exactly at the start of the bucket.
+     * @throws IllegalArgumentException if a parameter is null, the bucket start is not the start of a bucket, or
+     *                                  the counts are not valid.
+     */
+    public ReadingRollup(SensorId sensorId, ReadingRollupResolution resolution, LocalDateTime bucketStart, long count,
+                         double sum, double min, double max, long startCount, double startSum) {
+        if (sensorId == null || resolution == null || bucketStart == null || !resolution.isBucketStart(bucketStart)
+                || count < 1 || startCount < 0 || startCount > count) {
+            throw new IllegalArgumentException();
+        }
+        this.sensorId = sensorId;
+        this.resolution = resolution;
+        this.bucketStart = bucketStart;
+        this.count = count;
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.startCount = startCount;
+        this.startSum = startSum;
+    }
+
+    /**
+     * Creates the rollup of a single reading value, in the bucket of the given resolution that holds its time.
+     *
+     * @param sensorId   the sensor of the reading.
+     * @param resolution the resolution of the bucket.
+     * @param time       the time of the reading.
+     * @param value      the value of the reading.
+     * @return the rollup of the reading.
+     */
+    public static ReadingRollup of(SensorId sensorId, ReadingRollupResolution resolution, LocalDateTime time,
+                                   double value) {
+        LocalDateTime bucketStart = resolution.bucketStart(time);
+        boolean atStart = bucketStart.equals(time);
+        return new ReadingRollup(sensorId, resolution, bucketStart, 1, value, value, value, atStart ? 1 : 0,
+                atStart ? value : 0.0);
+    }
+
+    /**
+     * Rolls up readings at every resolution, combining the readings that fall in the same bucket.
+     * Readings with a non numeric value are ignored.
+     *
+     * @param readings the readings to roll up.
+     * @return the rollups of the readings, one per sensor, resolution and bucket.
+     * @throws IllegalArgumentException if the readings are null.
+     */
+    public static List<ReadingRollup> aggregate(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        Map<List<Object>, ReadingRollup> rollups = new LinkedHashMap<>();
+        for (Reading reading : readings) {
+            if (!(reading.getValue() instanceof NumericValue numericValue)) {
+                continue;
+            }
+            LocalDateTime time = reading.getTime().getValue();
+            for (ReadingRollupResolution resolution : ReadingRollupResolution.values()) {
+                ReadingRollup rollup = of(reading.getSensorId(), resolution, time, numericValue.toDouble());
+                rollups.merge(List.of(rollup.sensorId, resolution, rollup.bucketStart), rollup, ReadingRollup::plus);
+            }
+        }
+        return new ArrayList<>(rollups.values());
+    }
+
+    /**
+     * Combines this rollup with another rollup of the same bucket.
+     *
+     * @param other the other rollup.
+     * @return the rollup of the readings of both.
+     * @throws IllegalArgumentException if the other rollup is null or of another sensor or bucket.
+     */
+    public ReadingRollup plus(ReadingRollup other) {
+        if (other == null || !sensorId.equals(other.sensorId) || resolution != other.resolution
+                || !bucketStart.equals(other.bucketStart)) {
+            throw new IllegalArgumentException();
+        }
+        return new ReadingRollup(sensorId, resolution, bucketStart, count + other.count, sum + other.sum,
+                Math.min(min, other.min), Math.max(max, other.max), startCount + other.startCount,
+                startSum + other.startSum);
+    }
+
+    /**
+     * Returns the sensor of the readings.
+     *
+     * @return the sensor of the readings.
+     */
+    public SensorId getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * Returns the resolution of the bucket.
+     *
+     * @return the resolution.
+     */
+    public ReadingRollupResolution getResolution() {
+        return resolution;
+    }
+
+    /**
+     * Returns the start of the bucket.
+     *
+     * @return the start of the bucket.
+     */
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Returns the number of readings.
+     *
+     * @return the number of readings.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the readings.
+     *
+     * @return the sum of the readings.
+     */
+    public double getSum() {
+        return sum;
+    }
+
+    /**
+     * Returns the smallest reading.
+     *
+     * @return the smallest reading.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the largest reading.
+     *
+     * @return the largest reading.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the number of readings taken exactly at the start of the bucket.
+     *
+     * @return the number of readings at the start.
+     */
+    public long getStartCount() {
+        return startCount;
+    }
+
+    /**
+     * Returns the sum of the readings taken exactly at the start of the bucket.
+     *
+     * @return the sum of the readings at the start.
+     */
+    public double getStartSum() {
+        return startSum;
+    }
+
+    /**
+     * Returns the average of the readings.
+     *
+     * @return the average of the readings.
+     */
+    public double getAverage() {
+        return sum / count;
+    }
+
+    /**
+     * Compares the rollup with another object.
+     *
+     * @param o the object to compare with.
+     * @return true if the object is a rollup of the same bucket with the same aggregates, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReadingRollup that = (ReadingRollup) o;
+        return count == that.count && Double.compare(sum, that.sum) == 0 && Double.compare(min, that.min) == 0
+                && Double.compare(max, that.max) == 0 && startCount == that.startCount
+                && Double.compare(startSum, that.startSum) == 0 && sensorId.equals(that.sensorId)
+                && resolution == that.resolution && bucketStart.equals(that.bucketStart);
+    }
+
+    /**
+     * Returns the hash code of the rollup.
+     *
+     * @return the hash code of the rollup.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sensorId, resolution, bucketStart, count, sum, min, max, startCount, startSum);
+    }
+}
@@ -0,0 +1,86 @@
+package smarthome.domain.reading;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The resolutions at which the readings of a sensor are rolled up.
+ * Buckets start at whole multiples of the resolution since the epoch, with timestamps taken as UTC.
+ */
+public enum ReadingRollupResolution {
+    MINUTE(60),
+    HOUR(3600),
+    DAY(86400);
+
+    private final long seconds;
+
+    ReadingRollupResolution(long seconds) {
+        this.seconds = seconds;
+    }
+
+    /**
+     * Returns the length of a bucket.
+     *
+     * @return the length of a bucket, in seconds.
+     */
+    public long getSeconds() {
+        return seconds;
+    }
+
+    /**
+     * Returns the start of the bucket that holds a moment in time.
+     *
+     * @param time the moment in time.
+     * @return the start of its bucket.
+     */
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, seconds) * seconds, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Checks if a moment in time is the start of a bucket.
+     *
+     * @param time the moment in time.
+     * @return true if the moment starts a bucket, false otherwise.
+     */
+    public boolean isBucketStart(LocalDateTime time) {
+        return time.getNano() == 0 && Math.floorMod(time.toEpochSecond(ZoneOffset.UTC), seconds) == 0;
+    }
+
+    /**
+     * Returns the coarsest resolution whose buckets tile sub-periods of a given length, starting at a given moment.
+     *
+     * @param start        the start of the first sub-period.
+     * @param deltaSeconds the length of each sub-period, in seconds.
+     * @return the coarsest resolution that fits, or null if none does.
+     */
+    public static ReadingRollupResolution coarsestFitting(LocalDateTime start, long deltaSeconds) {
+        ReadingRollupResolution[] resolutions = values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            ReadingRollupResolution resolution = resolutions[i];
+            if (deltaSeconds % resolution.seconds == 0 && resolution.isBucketStart(start)) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the coarsest resolution whose buckets are shorter than sub-periods of a given length and divide it,
+     * wherever the sub-periods start.
+     *
+     * @param deltaSeconds the length of each sub-period, in seconds.
+     * @return the coarsest resolution that divides the sub-periods, or null if none does.
+     */
+    public static ReadingRollupResolution coarsestDividing(long deltaSeconds) {
+        ReadingRollupResolution[] resolutions = values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            ReadingRollupResolution resolution = resolutions[i];
+            if (resolution.seconds < deltaSeconds && deltaSeconds % resolution.seconds == 0) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+}
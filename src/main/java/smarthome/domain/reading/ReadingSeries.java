@@ -0,0 +1,226 @@
+package smarthome.domain.reading;
+
+import smarthome.domain.sensor.vo.values.NumericValue;
+import smarthome.domain.sensor.vo.values.Value;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * The ReadingSeries class is a compact, columnar representation of the numeric readings of one or more sensors.
+ * <p>
+ * Each sample is kept as a primitive epoch-nanosecond timestamp and a primitive double value, in two parallel
+ * columns. The columns are split in fixed size chunks, so the series grows without copying the samples already
+ * stored. A sample costs 16 bytes, instead of the several hundred bytes of a {@link Reading} with its identity,
+ * timestamp and string value, and its value is parsed only once.
+ * </p>
+ * Timestamps are taken as UTC, and are only meaningful relative to each other.
+ */
+public class ReadingSeries {
+
+    private static final int CHUNK_SHIFT = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    public static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private long[][] timeChunks = new long[1][];
+    private double[][] valueChunks = new double[1][];
+    private int size;
+    private boolean sortedByTime = true;
+
+    /**
+     * Creates a series with the numeric values of the given readings, in iteration order.
+     *
+     * @param readings the readings to convert.
+     * @return the series of the readings.
+     * @throws NumberFormatException if a reading value is not numeric.
+     */
+    public static ReadingSeries of(Iterable<Reading> readings) {
+        ReadingSeries series = new ReadingSeries();
+        for (Reading reading : readings) {
+            series.add(reading.getTime().getValue(), toDouble(reading.getValue()));
+        }
+        return series;
+    }
+
+    /**
+     * Returns the number held by a value, reading it directly from numeric values and parsing any other value.
+     *
+     * @param value the value.
+     * @return the number held by the value.
+     * @throws NumberFormatException if the value is not numeric.
+     */
+    public static double toDouble(Value value) {
+        if (value instanceof NumericValue numericValue) {
+            return numericValue.toDouble();
+        }
+        return Double.parseDouble(value.valueToString());
+    }
+
+    /**
+     * Converts a moment in time to nanoseconds since the epoch, taking it as UTC.
+     *
+     * @param time the moment in time.
+     * @return the nanoseconds since the epoch.
+     */
+    public static long toEpochNanos(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + time.getNano();
+    }
+
+    /**
+     * Appends a sample to the series.
+     *
+     * @param time  the time of the sample.
+     * @param value the value of the sample.
+     */
+    public void add(LocalDateTime time, double value) {
+        add(toEpochNanos(time), value);
+    }
+
+    /**
+     * Appends a sample to the series.
+     *
+     * @param epochNanos the time of the sample, in nanoseconds since the epoch.
+     * @param value      the value of the sample.
+     */
+    public void add(long epochNanos, double value) {
+        int chunk = size >>> CHUNK_SHIFT;
+        int offset = size & CHUNK_MASK;
+        if (offset == 0) {
+            if (chunk == timeChunks.length) {
+                timeChunks = Arrays.copyOf(timeChunks, chunk * 2);
+                valueChunks = Arrays.copyOf(valueChunks, chunk * 2);
+            }
+            timeChunks[chunk] = new long[CHUNK_SIZE];
+            valueChunks[chunk] = new double[CHUNK_SIZE];
+        }
+        if (size > 0 && epochNanos < epochNanosAt(size - 1)) {
+            sortedByTime = false;
+        }
+        timeChunks[chunk][offset] = epochNanos;
+        valueChunks[chunk][offset] = value;
+        size++;
+    }
+
+    /**
+     * Appends every sample of another series to this one.
+     *
+     * @param other the series to append.
+     */
+    public void addAll(ReadingSeries other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.epochNanosAt(i), other.valueAt(i));
+        }
+    }
+
+    /**
+     * Returns the number of samples in the series.
+     *
+     * @return the number of samples.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the series has no samples.
+     *
+     * @return true if the series is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the time of a sample.
+     *
+     * @param index the index of the sample.
+     * @return the time of the sample, in nanoseconds since the epoch.
+     * @throws IndexOutOfBoundsException if the index is not within the series.
+     */
+    public long epochNanosAt(int index) {
+        checkIndex(index);
+        return timeChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Returns the value of a sample.
+     *
+     * @param index the index of the sample.
+     * @return the value of the sample.
+     * @throws IndexOutOfBoundsException if the index is not within the series.
+     */
+    public double valueAt(int index) {
+        checkIndex(index);
+        return valueChunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    /**
+     * Checks if the samples were added in time order.
+     *
+     * @return true if the series is sorted by time, false otherwise.
+     */
+    public boolean isSortedByTime() {
+        return sortedByTime;
+    }
+
+    /**
+     * Returns the series sorted by time. Samples with the same time keep their order.
+     *
+     * @return this series if it is already sorted, otherwise a sorted copy.
+     */
+    public ReadingSeries sortedByTime() {
+        if (sortedByTime) {
+            return this;
+        }
+        long[] times = new long[size];
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            times[i] = epochNanosAt(i);
+            values[i] = valueAt(i);
+        }
+        mergeSort(times, values, new long[size], new double[size], 0, size);
+
+        ReadingSeries sorted = new ReadingSeries();
+        for (int i = 0; i < size; i++) {
+            sorted.add(times[i], values[i]);
+        }
+        return sorted;
+    }
+
+    /**
+     * Sorts a range of the parallel time and value arrays by time, keeping the order of equal times.
+     */
+    private static void mergeSort(long[] times, double[] values, long[] timesBuffer, double[] valuesBuffer,
+                                  int from, int to) {
+        if (to - from < 2) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        mergeSort(times, values, timesBuffer, valuesBuffer, from, middle);
+        mergeSort(times, values, timesBuffer, valuesBuffer, middle, to);
+        if (times[middle - 1] <= times[middle]) {
+            return;
+        }
+        System.arraycopy(times, from, timesBuffer, from, to - from);
+        System.arraycopy(values, from, valuesBuffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && timesBuffer[left] <= timesBuffer[right])) {
+                times[i] = timesBuffer[left];
+                values[i] = valuesBuffer[left++];
+            } else {
+                times[i] = timesBuffer[right];
+                values[i] = valuesBuffer[right++];
+            }
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+}
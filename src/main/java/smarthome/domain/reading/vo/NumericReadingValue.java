@@ -0,0 +1,68 @@
+package smarthome.domain.reading.vo;
+
+import smarthome.domain.sensor.vo.values.NumericValue;
+
+/**
+ * Represents the value of a reading that is a single number, kept as a primitive double.
+ */
+public class NumericReadingValue implements NumericValue {
+
+    private final double value;
+
+    /**
+     * Initializes the value of the reading.
+     *
+     * @param value the value of the reading.
+     */
+    public NumericReadingValue(double value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the value of the reading.
+     *
+     * @return the value of the reading.
+     */
+    @Override
+    public double toDouble() {
+        return this.value;
+    }
+
+    /**
+     * Returns the string representation of the value of the reading.
+     *
+     * @return the string representation of the value of the reading.
+     */
+    @Override
+    public String valueToString() {
+        return String.valueOf(this.value);
+    }
+
+    /**
+     * Compares the value of the reading with another object.
+     *
+     * @param o the object to compare with.
+     * @return true if the object is equal to the value of the reading, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        NumericReadingValue that = (NumericReadingValue) o;
+        return Double.compare(this.value, that.value) == 0;
+    }
+
+    /**
+     * Returns the hash code of the value of the reading.
+     *
+     * @return the hash code of the value of the reading.
+     */
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+}
@@ -19,4 +19,12 @@ public interface IActuatorRepository extends IRepository<ActuatorId, Actuator> {
      * @return the actuator ids associated with the device id
      */
     Iterable<ActuatorId> findActuatorIdsByDeviceId(DeviceId deviceId);
+
+    /**
+     * Finds all actuators by device id.
+     * <p>
+     * @param deviceId the device id
+     * @return the actuators associated with the device id
+     */
+    Iterable<Actuator> findActuatorsByDeviceId(DeviceId deviceId);
 }
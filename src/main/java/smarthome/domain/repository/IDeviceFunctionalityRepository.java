@@ -0,0 +1,23 @@
+package smarthome.domain.repository;
+
+import smarthome.domain.device.Device;
+import smarthome.domain.sensortype.vo.SensorTypeName;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The read-only repository that relates devices to the functionalities their sensors provide.
+ * A device has a functionality when one of its sensors is of a model of that sensor type.
+ */
+public interface IDeviceFunctionalityRepository {
+
+    /**
+     * Finds every pair of a sensor type name and a device that has a sensor of that type.
+     * <p>
+     * Each pair is returned once, however many sensors of that type the device has. Sensors whose model, type or
+     * device does not exist are ignored.
+     * @return the pairs of sensor type name and device.
+     */
+    List<Map.Entry<SensorTypeName, Device>> findDevicesBySensorTypeName();
+}
@@ -1,11 +1,14 @@
 package smarthome.domain.repository;
 
 import smarthome.ddd.IRepository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.room.vo.RoomId;
 
+import java.util.Comparator;
+
 /**
  * Repository for devices.
  */
@@ -49,4 +52,18 @@ public interface IDeviceRepository extends IRepository<DeviceId, Device> {
      * @return an iterable collection of all device IDs.
      */
     Iterable<DeviceId> findDeviceIds();
+
+    /**
+     * Retrieves a page of device IDs, in the order of the IDs, that follow a given device ID.
+     * <p>
+     * Implementations backed by a database should override this method with a keyset query, which seeks to the
+     * given ID instead of reading every ID of the repository.
+     * @param after the device ID to start after, or null to start at the first one.
+     * @param limit the largest number of device IDs of the page.
+     * @return the page of device IDs.
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link KeysetPage#MAX_LIMIT}.
+     */
+    default KeysetPage<DeviceId> findDeviceIds(DeviceId after, int limit) {
+        return KeysetPage.after(findDeviceIds(), Comparator.comparing(DeviceId::getIdentity), after, limit);
+    }
 }
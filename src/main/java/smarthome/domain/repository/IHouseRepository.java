@@ -1,9 +1,12 @@
 package smarthome.domain.repository;
 
 import smarthome.ddd.IRepository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.vo.HouseName;
 
+import java.util.Comparator;
+
 /**
  * Repository for the House entity.
  */
@@ -23,4 +26,18 @@ public interface IHouseRepository extends IRepository<HouseName, House> {
      * @return an iterable collection of all the house IDs.
      */
     Iterable<HouseName> findHouseIds();
+
+    /**
+     * Retrieves a page of house IDs, in the order of the IDs, that follow a given house ID.
+     * Implementations backed by a database should override this method with a keyset query, which seeks to the
+     * given ID instead of reading every ID of the repository.
+     *
+     * @param after the house ID to start after, or null to start at the first one.
+     * @param limit the largest number of house IDs of the page.
+     * @return the page of house IDs.
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link KeysetPage#MAX_LIMIT}.
+     */
+    default KeysetPage<HouseName> findHouseIds(HouseName after, int limit) {
+        return KeysetPage.after(findHouseIds(), Comparator.comparing(HouseName::getName), after, limit);
+    }
 }
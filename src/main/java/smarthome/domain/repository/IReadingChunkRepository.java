@@ -0,0 +1,119 @@
+package smarthome.domain.repository;
+
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The repository for the compressed chunks of the numeric readings of sensors.
+ * The chunks are appended to as readings arrive, so they hold the series of every saved numeric reading.
+ */
+public interface IReadingChunkRepository {
+
+    /**
+     * Returns the policy that tells when a chunk is sealed.
+     * <p>
+     * @return the policy of the chunks.
+     */
+    ReadingChunkPolicy getPolicy();
+
+    /**
+     * Saves chunks, replacing the stored chunks of the same sensor and number.
+     * <p>
+     * @param chunks the chunks to save.
+     * @throws IllegalArgumentException if the chunks, or any of them, are null.
+     */
+    void saveAll(List<ReadingChunk> chunks);
+
+    /**
+     * Finds the chunk of a sensor with the highest number, which takes the next readings of the sensor.
+     * <p>
+     * @param sensorId the identity of the sensor.
+     * @return the last chunk of the sensor, or empty if the sensor has no chunks.
+     */
+    Optional<ReadingChunk> findLastChunkBySensorId(SensorId sensorId);
+
+    /**
+     * Finds the chunks of a sensor that have samples in a given period, both ends included.
+     * <p>
+     * @param sensorId the identity of the sensor.
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @return the chunks of the sensor in the period, by number.
+     */
+    List<ReadingChunk> findChunksBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end);
+
+    /**
+     * Checks if the repository has no chunks.
+     * <p>
+     * @return true if the repository has no chunks, false otherwise.
+     */
+    boolean isEmpty();
+
+    /**
+     * Appends samples of a sensor to its chunks.
+     * <p>
+     * @param sensorId the identity of the sensor.
+     * @param samples  the samples to append.
+     * @throws IllegalArgumentException if the sensor or the samples are null.
+     */
+    default void addReadingSeries(SensorId sensorId, ReadingSeries samples) {
+        saveAll(getPolicy().append(findLastChunkBySensorId(sensorId).orElse(null), sensorId, samples));
+    }
+
+    /**
+     * Appends readings to the chunks of their sensors. Readings with a non numeric value are ignored.
+     * <p>
+     * The readings of the same sensor are appended together, so the last chunk of each sensor is read and written
+     * once per call.
+     * @param readings the readings to add.
+     * @throws IllegalArgumentException if the readings are null.
+     */
+    default void addReadings(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        Map<SensorId, ReadingSeries> seriesBySensor = new LinkedHashMap<>();
+        for (Reading reading : readings) {
+            double value;
+            try {
+                value = ReadingSeries.toDouble(reading.getValue());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            seriesBySensor.computeIfAbsent(reading.getSensorId(), sensorId -> new ReadingSeries())
+                    .add(reading.getTime().getValue(), value);
+        }
+        for (Map.Entry<SensorId, ReadingSeries> entry : seriesBySensor.entrySet()) {
+            addReadingSeries(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Finds the numeric values of a sensor in a given period, both ends included, decoded from its chunks straight
+     * into a series.
+     * <p>
+     * @param sensorId the identity of the sensor.
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @return the series of the sensor values in the period, sorted by time.
+     */
+    default ReadingSeries findReadingSeriesBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start,
+                                                                    TimeStamp end) {
+        long from = ReadingSeries.toEpochNanos(start.getValue());
+        long to = ReadingSeries.toEpochNanos(end.getValue());
+        ReadingSeries series = new ReadingSeries();
+        for (ReadingChunk chunk : findChunksBySensorIdInAGivenPeriod(sensorId, start, end)) {
+            chunk.decodeInto(series, from, to);
+        }
+        return series.sortedByTime();
+    }
+}
@@ -1,18 +1,33 @@
 package smarthome.domain.repository;
 
 import smarthome.ddd.IRepository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingSeries;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.sensor.vo.SensorId;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * The repository for readings of devices.
  */
 public interface IReadingRepository extends IRepository<ReadingId, Reading> {
 
+    /**
+     * The order of the pages of readings: by time, and by identity for the readings taken at the same time.
+     */
+    Comparator<Reading> TIME_ORDER = Comparator.comparing((Reading reading) -> reading.getTime().getValue())
+            .thenComparing(reading -> reading.getIdentity().getId());
+
     /**
      * Finds all readings for a specific sensor in a given period.
      * <p>
@@ -41,4 +56,115 @@ public interface IReadingRepository extends IRepository<ReadingId, Reading> {
      */
     Optional<Reading> findLastReadingBySensorId(SensorId sensorId);
 
+    /**
+     * Finds the latest reading of each of some sensors.
+     * <p>
+     * Implementations that keep the latest reading of each sensor at hand answer this without a query per sensor.
+     * @param sensorIds the identities of the sensors.
+     * @return the latest reading of each sensor that has readings, in the order of the sensors.
+     * @throws IllegalArgumentException if the sensors, or any of them, are null.
+     */
+    default Map<SensorId, Reading> findLastReadingsBySensorIds(Collection<SensorId> sensorIds) {
+        if (sensorIds == null) {
+            throw new IllegalArgumentException();
+        }
+        Map<SensorId, Reading> readings = new LinkedHashMap<>();
+        for (SensorId sensorId : sensorIds) {
+            if (sensorId == null) {
+                throw new IllegalArgumentException();
+            }
+            findLastReadingBySensorId(sensorId).ifPresent(reading -> readings.put(sensorId, reading));
+        }
+        return readings;
+    }
+
+    /**
+     * Finds the numeric values of a specific sensor in a given period, as a compact series.
+     * <p>
+     * Implementations should override this method to fill the series straight from their storage, without creating
+     * a Reading for each sample.
+     * @param sensorId the identity of the sensor.
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @return the series of the sensor values in the given period.
+     * @throws NumberFormatException if a reading value is not numeric.
+     */
+    default ReadingSeries findReadingSeriesBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        return ReadingSeries.of(findReadingsBySensorIdInAGivenPeriod(sensorId, start, end));
+    }
+
+    /**
+     * Performs an action for each reading of a specific sensor in a given period, in the order of the storage.
+     * <p>
+     * Implementations backed by a database should override this method to read the readings from a cursor, so
+     * they are never all held in memory at once.
+     * @param sensorId the identity of the sensor.
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @param action   the action to perform on each reading.
+     * @throws IllegalArgumentException if the action is null.
+     */
+    default void forEachReadingBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end,
+                                                        Consumer<Reading> action) {
+        if (action == null) {
+            throw new IllegalArgumentException();
+        }
+        findReadingsBySensorIdInAGivenPeriod(sensorId, start, end).forEach(action);
+    }
+
+    /**
+     * Finds a page of the readings of some sensors in a given period, in {@link #TIME_ORDER}, that follow a given
+     * position.
+     * <p>
+     * Implementations backed by a database should override this method with a keyset query, which seeks to the
+     * position with the index on the sensor and time instead of reading every reading of the period.
+     * @param sensorIds the identities of the sensors.
+     * @param start     the start of the period.
+     * @param end       the end of the period.
+     * @param afterTime the time of the reading to start after, or null to start at the first reading of the period.
+     * @param afterId   the identity of the reading to start after; ignored if the time is null.
+     * @param limit     the largest number of readings of the page.
+     * @return the page of readings.
+     * @throws IllegalArgumentException if the sensors are null, or if the time to start after is given without an
+     *                                  identity, or if the limit is not between 1 and {@link KeysetPage#MAX_LIMIT}.
+     */
+    default KeysetPage<Reading> findReadingsBySensorIdsInAGivenPeriod(Collection<SensorId> sensorIds, TimeStamp start,
+                                                                      TimeStamp end, TimeStamp afterTime,
+                                                                      ReadingId afterId, int limit) {
+        if (sensorIds == null || (afterTime != null && afterId == null)) {
+            throw new IllegalArgumentException();
+        }
+        KeysetPage.checkLimit(limit);
+        List<Reading> readings = new ArrayList<>();
+        for (SensorId sensorId : sensorIds) {
+            findReadingsBySensorIdInAGivenPeriod(sensorId, start, end).forEach(readings::add);
+        }
+        if (afterTime == null) {
+            return KeysetPage.first(readings, TIME_ORDER, reading -> true, limit);
+        }
+        return KeysetPage.first(readings, TIME_ORDER, reading -> {
+            int byTime = reading.getTime().getValue().compareTo(afterTime.getValue());
+            return byTime > 0 || (byTime == 0 && reading.getIdentity().getId().compareTo(afterId.getId()) > 0);
+        }, limit);
+    }
+
+    /**
+     * Saves a batch of readings.
+     * <p>
+     * Implementations backed by a database should override this method to write the batch in a single transaction,
+     * with batched inserts.
+     * @param readings the readings to save.
+     * @return the saved readings.
+     * @throws IllegalArgumentException if the readings, or any of them, are null.
+     */
+    default Iterable<Reading> saveAll(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        for (Reading reading : readings) {
+            save(reading);
+        }
+        return readings;
+    }
+
 }
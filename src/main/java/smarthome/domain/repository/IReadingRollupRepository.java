@@ -0,0 +1,50 @@
+package smarthome.domain.repository;
+
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.List;
+
+/**
+ * The repository for the rollups of the readings of sensors, at minute, hour and day resolution.
+ * The rollups are updated incrementally as readings arrive, so they always cover every saved numeric reading.
+ */
+public interface IReadingRollupRepository {
+
+    /**
+     * Adds a rollup to the stored rollup of the same bucket, or stores it if the bucket has no rollup yet.
+     * <p>
+     * @param rollup the rollup to add.
+     * @throws IllegalArgumentException if the rollup is null.
+     */
+    void add(ReadingRollup rollup);
+
+    /**
+     * Finds the rollups of a sensor at a given resolution whose buckets start in a given period.
+     * <p>
+     * @param sensorId   the identity of the sensor.
+     * @param resolution the resolution of the rollups.
+     * @param start      the start of the period, included.
+     * @param end        the end of the period, excluded.
+     * @return the rollups of the sensor, sorted by the start of their bucket.
+     */
+    List<ReadingRollup> findRollupsBySensorIdInAGivenPeriod(SensorId sensorId, ReadingRollupResolution resolution,
+                                                            TimeStamp start, TimeStamp end);
+
+    /**
+     * Adds readings to the rollups of their sensors, at every resolution. Readings with a non numeric value are
+     * ignored.
+     * <p>
+     * Readings of the same bucket are combined first, so each bucket is updated once per call.
+     * @param readings the readings to add.
+     * @throws IllegalArgumentException if the readings are null.
+     */
+    default void addReadings(Iterable<Reading> readings) {
+        for (ReadingRollup rollup : ReadingRollup.aggregate(readings)) {
+            add(rollup);
+        }
+    }
+}
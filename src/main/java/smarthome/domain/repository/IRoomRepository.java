@@ -1,10 +1,13 @@
 package smarthome.domain.repository;
 
 import smarthome.ddd.IRepository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.room.Room;
 import smarthome.domain.room.vo.RoomId;
 
+import java.util.Comparator;
+
 /**
  * Repository for rooms.
  */
@@ -24,4 +27,19 @@ public interface IRoomRepository extends IRepository<RoomId, Room> {
      * @return An Iterable of Room identities.
      */
     Iterable<RoomId> findRoomIdsByHouseName(HouseName houseName);
+
+    /**
+     * Retrieve a page of Room identities, in the order of the identities, that follow a given Room identity.
+     * <p>
+     * Implementations backed by a database should override this method with a keyset query, which seeks to the
+     * given identity instead of reading every identity of the repository.
+     *
+     * @param after the Room identity to start after, or null to start at the first one.
+     * @param limit the largest number of Room identities of the page.
+     * @return The page of Room identities.
+     * @throws IllegalArgumentException if the limit is not between 1 and {@link KeysetPage#MAX_LIMIT}.
+     */
+    default KeysetPage<RoomId> findRoomIds(RoomId after, int limit) {
+        return KeysetPage.after(findRoomIds(), Comparator.comparing(RoomId::getRoomId), after, limit);
+    }
 }
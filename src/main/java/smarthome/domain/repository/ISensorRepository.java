@@ -6,6 +6,8 @@ import smarthome.domain.sensor.Sensor;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
+import java.util.Collection;
+
 /**
  * The ISensorRepository interface represents a repository for managing Sensor entities.
  * It provides methods to save, retrieve, and manipulate Sensor objects.
@@ -47,4 +49,24 @@ public interface ISensorRepository extends IRepository<SensorId, Sensor> {
      * @return An Iterable collection containing all SensorId entities associated with the provided DeviceId.
      */
     Iterable<SensorId> findSensorIdsByDeviceId(DeviceId deviceId);
+
+    /**
+     * Checks if every sensor with the given identities exists in the repository.
+     * <p>
+     * Implementations backed by a database should override this method to check all the identities in one query.
+     * @param sensorIds The sensor ids to check.
+     * @return true if all the sensors exist, false otherwise.
+     * @throws IllegalArgumentException if the sensor ids are null.
+     */
+    default boolean containsAllIdentities(Collection<SensorId> sensorIds) {
+        if (sensorIds == null) {
+            throw new IllegalArgumentException();
+        }
+        for (SensorId sensorId : sensorIds) {
+            if (!containsIdentity(sensorId)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -1,18 +1,63 @@
 package smarthome.domain.sensor;
 
+import org.apache.commons.configuration2.Configuration;
+import org.apache.commons.configuration2.builder.fluent.Configurations;
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
-import java.lang.reflect.InvocationTargetException;
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This class implements the SensorFactory interface.
  * It is used in the domain layer of the application to create Sensor objects.
+ * <p>
+ * The class of a sensor is named after its sensor model. The constructors of each class are looked up once, as method
+ * handles, and kept by sensor model name, so creating a sensor does no reflection after the first one of its model.
+ * </p>
  */
 @Component
 public class SensorFactoryImpl implements SensorFactory {
+
+    private static final String SENSOR_PACKAGE = "smarthome.domain.sensor.";
+    private static final MethodType NEW_SENSOR = MethodType.methodType(Sensor.class, DeviceId.class,
+            SensorModelName.class);
+    private static final MethodType NEW_SENSOR_WITH_ID = MethodType.methodType(Sensor.class, SensorId.class,
+            DeviceId.class, SensorModelName.class);
+
+    private final Map<SensorModelName, SensorConstructors> constructors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a SensorFactoryImpl that looks up the constructors of each sensor model on first use.
+     */
+    public SensorFactoryImpl() {
+    }
+
+    /**
+     * Constructs a SensorFactoryImpl with the constructors of the sensor models of the configuration file already
+     * looked up.
+     *
+     * @param filePathModels the path to the configModels file
+     * @throws ConfigurationException if the configuration file cannot be read
+     */
+    @Autowired
+    public SensorFactoryImpl(@Qualifier("filePathModels") String filePathModels) throws ConfigurationException {
+        Configuration configuration = new Configurations().properties(new File(filePathModels));
+        for (String sensorModel : configuration.getStringArray("sensorModel")) {
+            constructorsOf(new SensorModelName(sensorModel.substring(0, sensorModel.indexOf("."))));
+        }
+    }
+
     /**
      * Creates a Sensor object with the given parameters.
      *
@@ -36,19 +81,102 @@ public class SensorFactoryImpl implements SensorFactory {
      * @return a Sensor object if the sensor class name is valid and no exception is thrown during its creation, null otherwise.
      */
     public Sensor createSensor(SensorId sensorId, SensorModelName sensorModelName, DeviceId deviceId) {
-        String sensorClassNamepath = "smarthome.domain.sensor." + sensorModelName.getSensorModelName();
-            try {
-                if(sensorId != null) {
-                    return (Sensor) Class.forName(sensorClassNamepath)
-                            .getDeclaredConstructor(SensorId.class, DeviceId.class,SensorModelName.class)
-                            .newInstance(sensorId, deviceId,sensorModelName);
-                }else{
-                    return (Sensor) Class.forName(sensorClassNamepath)
-                            .getDeclaredConstructor(DeviceId.class,SensorModelName.class)
-                            .newInstance(deviceId,sensorModelName);
-                }
-            } catch (InstantiationException | IllegalAccessException | InvocationTargetException
-                     | NoSuchMethodException | ClassNotFoundException e)
-            {return null;}
+        SensorConstructors sensorConstructors = constructorsOf(sensorModelName);
+        if (sensorConstructors == null) {
+            return null;
+        }
+        try {
+            if (sensorId != null) {
+                return sensorConstructors.newSensorWithId == null ? null
+                        : (Sensor) sensorConstructors.newSensorWithId.invokeExact(sensorId, deviceId, sensorModelName);
+            }
+            return sensorConstructors.newSensor == null ? null
+                    : (Sensor) sensorConstructors.newSensor.invokeExact(deviceId, sensorModelName);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks if the constructors of a sensor model have been looked up.
+     *
+     * @param sensorModelName the model name of the sensor
+     * @return true if the constructors are known, false otherwise
+     */
+    boolean isResolved(SensorModelName sensorModelName) {
+        return constructors.containsKey(sensorModelName);
+    }
+
+    /**
+     * Returns the constructors of the sensor class of a model, looking them up on the first call for the model.
+     * Models without a sensor class are not kept, as their names may come from user input.
+     *
+     * @param sensorModelName the model name of the sensor
+     * @return the constructors, or null if the model has no sensor class
+     */
+    private SensorConstructors constructorsOf(SensorModelName sensorModelName) {
+        SensorConstructors sensorConstructors = constructors.get(sensorModelName);
+        if (sensorConstructors == null) {
+            sensorConstructors = lookUp(sensorModelName);
+            if (sensorConstructors != null) {
+                constructors.put(sensorModelName, sensorConstructors);
+            }
+        }
+        return sensorConstructors;
+    }
+
+    /**
+     * Looks up the constructors of the sensor class of a model.
+     *
+     * @param sensorModelName the model name of the sensor
+     * @return the constructors, or null if there is no such concrete sensor class or it has neither constructor
+     */
+    private static SensorConstructors lookUp(SensorModelName sensorModelName) {
+        Class<?> sensorClass;
+        try {
+            sensorClass = Class.forName(SENSOR_PACKAGE + sensorModelName.getSensorModelName());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        if (!Sensor.class.isAssignableFrom(sensorClass) || Modifier.isAbstract(sensorClass.getModifiers())) {
+            return null;
+        }
+        MethodHandle newSensor = findConstructor(sensorClass, NEW_SENSOR);
+        MethodHandle newSensorWithId = findConstructor(sensorClass, NEW_SENSOR_WITH_ID);
+        if (newSensor == null && newSensorWithId == null) {
+            return null;
+        }
+        return new SensorConstructors(newSensor, newSensorWithId);
+    }
+
+    /**
+     * Finds a constructor of a sensor class, typed to return a Sensor.
+     *
+     * @param sensorClass the sensor class
+     * @param type        the parameters of the constructor, with Sensor as return type
+     * @return the constructor, or null if the class has no accessible constructor with those parameters
+     */
+    private static MethodHandle findConstructor(Class<?> sensorClass, MethodType type) {
+        try {
+            return MethodHandles.lookup().findConstructor(sensorClass, type.changeReturnType(void.class))
+                    .asType(type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The constructors of a sensor class, either of which may be missing.
+     */
+    private static final class SensorConstructors {
+        private final MethodHandle newSensor;
+        private final MethodHandle newSensorWithId;
+
+        private SensorConstructors(MethodHandle newSensor, MethodHandle newSensorWithId) {
+            this.newSensor = newSensor;
+            this.newSensorWithId = newSensorWithId;
+        }
     }
 }
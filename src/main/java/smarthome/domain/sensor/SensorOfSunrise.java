@@ -6,6 +6,7 @@ import smarthome.domain.sensor.vo.values.SunriseValue;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -96,7 +97,21 @@ public class SensorOfSunrise implements Sensor{
      */
     @Override
     public Value getValue() {
-        return new SunriseValue(LocalDateTime.of(LocalDate.now(), LocalTime.of(7,0))); //Default value;
+        return getValueOfToday(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the value from the sensor for today, as told by the given clock.
+     * The default value of the sensor is set to 07:00
+     *
+     * @param clock the clock that tells the current date
+     * @return the value from the sensor
+     */
+    public Value getValueOfToday(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException();
+        }
+        return new SunriseValue(LocalDateTime.of(LocalDate.now(clock), LocalTime.of(7,0))); //Default value;
     }
 
     /**
@@ -6,6 +6,7 @@ import smarthome.domain.sensor.vo.values.SunsetValue;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -90,8 +91,20 @@ public class SensorOfSunset implements Sensor {
      * @return the value of the sensor
      */
     public Value getValue() {
-        LocalDate dateDate = LocalDate.now();
-        return getValue(dateDate);
+        return getValueOfToday(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Returns the value of the sensor for the current date, as told by the given clock
+     *
+     * @param clock the clock that tells the current date
+     * @return the value of the sensor
+     */
+    public Value getValueOfToday(Clock clock) {
+        if (clock == null) {
+            throw new IllegalArgumentException();
+        }
+        return getValue(LocalDate.now(clock));
     }
 
     /**
@@ -6,7 +6,7 @@ import java.util.Objects;
  * This class represents the average power consumption value.
  * It implements the Value interface and ensures that the value is not negative.
  */
-public class AveragePowerConsumptionValue implements Value {
+public class AveragePowerConsumptionValue implements NumericValue {
     private final double value;
 
     /**
@@ -57,4 +57,14 @@ public class AveragePowerConsumptionValue implements Value {
     public int hashCode() {
         return Objects.hashCode(value);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the average power consumption value as a primitive double.
+     *
+     * @return the average power consumption value.
+     */
+    @Override
+    public double toDouble() {
+        return value;
+    }
+}
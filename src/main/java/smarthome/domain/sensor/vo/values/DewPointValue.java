@@ -5,7 +5,7 @@ import java.util.Objects;
 /**
  * Represents the value of a dew point sensor
  */
-public class DewPointValue implements Value {
+public class DewPointValue implements NumericValue {
 
     final private double dewPointValue;
 
@@ -51,4 +51,14 @@ public class DewPointValue implements Value {
     public int hashCode() {
         return Objects.hash(dewPointValue);
     }
+
+    /**
+     * Returns the dew point value as a primitive double.
+     *
+     * @return the dew point value.
+     */
+    @Override
+    public double toDouble() {
+        return dewPointValue;
+    }
 }
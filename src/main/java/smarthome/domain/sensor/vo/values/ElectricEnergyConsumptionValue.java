@@ -6,7 +6,7 @@ import java.util.Objects;
  * This class represents the electric energy consumption value.
  * It implements the Value interface and ensures that the value is not negative.
  */
-public class ElectricEnergyConsumptionValue implements Value {
+public class ElectricEnergyConsumptionValue implements NumericValue {
     private final double value;
 
     /**
@@ -57,4 +57,14 @@ public class ElectricEnergyConsumptionValue implements Value {
     public int hashCode() {
         return Objects.hashCode(value);
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the electric energy consumption value as a primitive double.
+     *
+     * @return the electric energy consumption value.
+     */
+    @Override
+    public double toDouble() {
+        return value;
+    }
+}
@@ -5,7 +5,7 @@ import java.util.Objects;
 /**
  * Represents the value of a humidity sensor
  */
-public class HumidityValue implements Value {
+public class HumidityValue implements NumericValue {
 
     final private double humidityValue;
 
@@ -51,4 +51,14 @@ public class HumidityValue implements Value {
     public String valueToString() {
         return String.valueOf(humidityValue);
     }
+
+    /**
+     * Returns the humidity value as a primitive double.
+     *
+     * @return the humidity value.
+     */
+    @Override
+    public double toDouble() {
+        return humidityValue;
+    }
 }
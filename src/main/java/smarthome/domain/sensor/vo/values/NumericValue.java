@@ -0,0 +1,14 @@
+package smarthome.domain.sensor.vo.values;
+
+/**
+ * Represents a value of a sensor that is a single number.
+ */
+public interface NumericValue extends Value {
+
+    /**
+     * Returns the value as a primitive double, without going through its string representation.
+     *
+     * @return The numeric value.
+     */
+    double toDouble();
+}
@@ -6,7 +6,7 @@ import java.util.Objects;
  * Represents the value of a power consumption.
  * It is a value object and an immutable object, an implementation of the Value interface.
  */
-public class PowerConsumptionValue implements Value{
+public class PowerConsumptionValue implements NumericValue {
     /**
      * The value of the power consumption.
      */
@@ -55,4 +55,14 @@ public class PowerConsumptionValue implements Value{
     public String valueToString() {
         return Double.toString(value);
     }
+
+    /**
+     * Returns the power consumption value as a primitive double.
+     *
+     * @return the power consumption value.
+     */
+    @Override
+    public double toDouble() {
+        return value;
+    }
 }
@@ -5,7 +5,7 @@ import java.util.Objects;
 /**
  * Represents the value of a scale percentage.
  */
-public class ScalePercentageValue implements Value {
+public class ScalePercentageValue implements NumericValue {
 
 
     private final double scalePercentageValue;
@@ -52,4 +52,14 @@ public class ScalePercentageValue implements Value {
     public String valueToString() {
         return String.valueOf(scalePercentageValue);
     }
+
+    /**
+     * Returns the scale percentage value as a primitive double.
+     *
+     * @return the scale percentage value.
+     */
+    @Override
+    public double toDouble() {
+        return scalePercentageValue;
+    }
 }
@@ -6,7 +6,7 @@ import java.util.Objects;
  * This class represents a solar irradiance value.
  * It implements the Value interface.
  */
-public class SolarIrradianceValue implements Value {
+public class SolarIrradianceValue implements NumericValue {
 
     private final double solarIrradianceValue;
 
@@ -52,4 +52,14 @@ public class SolarIrradianceValue implements Value {
     public int hashCode() {
         return Objects.hash(solarIrradianceValue);
     }
+
+    /**
+     * Returns the solar irradiance value as a primitive double.
+     *
+     * @return the solar irradiance value.
+     */
+    @Override
+    public double toDouble() {
+        return solarIrradianceValue;
+    }
 }
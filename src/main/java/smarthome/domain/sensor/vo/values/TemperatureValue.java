@@ -5,7 +5,7 @@ import java.util.Objects;
 /**
  * Represents the value of a temperature sensor
  */
-public class TemperatureValue implements Value {
+public class TemperatureValue implements NumericValue {
 
     final private double value;
 
@@ -55,4 +55,14 @@ public class TemperatureValue implements Value {
     public int hashCode() {
         return Objects.hashCode(value);
     }
+
+    /**
+     * Returns the temperature value as a primitive double.
+     *
+     * @return the temperature value.
+     */
+    @Override
+    public double toDouble() {
+        return value;
+    }
 }
@@ -1,10 +1,12 @@
 package smarthome.mapper;
 
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
 
 /**
  * ActuatorDTO is a Data Transfer Object class for Actuator.
  */
+@Relation(collectionRelation = "actuators", itemRelation = "actuator")
 public class ActuatorDTO extends RepresentationModel<ActuatorDTO> {
 
     private String actuatorId;
@@ -1,10 +1,12 @@
 package smarthome.mapper;
 
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
 
 /**
  * Data transfer object for the id of a reading.
  */
+@Relation(collectionRelation = "devices", itemRelation = "device")
 public class DeviceIdDTO extends RepresentationModel<DeviceIdDTO> {
 
     private final String deviceId;
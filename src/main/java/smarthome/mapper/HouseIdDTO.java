@@ -1,10 +1,12 @@
 package smarthome.mapper;
 
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
 
 /**
  * Data transfer object for the id of a house.
  */
+@Relation(collectionRelation = "houses", itemRelation = "house")
 public class HouseIdDTO extends RepresentationModel<HouseIdDTO> {
 
 
@@ -1,21 +1,30 @@
 package smarthome.mapper;
 
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
 
 /**
  * The ReadingDTO class represents a data transfer object for readings.
  * It provides methods to get the unique identifier of the reading, the sensor that produced the reading,
  * the value of the reading, and the timestamp of the reading.
  */
+@Relation(collectionRelation = "readings", itemRelation = "reading")
 public class ReadingDTO extends RepresentationModel<ReadingDTO> {
 
-    private final String id;
+    private String id;
 
-    private final String sensorId;
+    private String sensorId;
 
-    private final String readingValue;
+    private String readingValue;
 
-    private final String timestamp;
+    private String timestamp;
+
+    /**
+     * Constructs an empty ReadingDTO, used when a reading is received in a request body.
+     */
+    public ReadingDTO() {
+        // Empty constructor
+    }
 
     /**
      * Constructs a new ReadingDTO with the given parameters.
@@ -0,0 +1,77 @@
+package smarthome.mapper;
+
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Data transfer object for the statistics of the readings of a sensor in one bucket of time.
+ */
+public class ReadingStatisticsDTO extends RepresentationModel<ReadingStatisticsDTO> {
+
+    private final String bucketStart;
+    private final long count;
+    private final double min;
+    private final double max;
+    private final double average;
+
+    /**
+     * Constructor for the ReadingStatisticsDTO.
+     *
+     * @param bucketStart the start of the bucket
+     * @param count       the number of readings
+     * @param min         the smallest reading
+     * @param max         the largest reading
+     * @param average     the average of the readings
+     */
+    public ReadingStatisticsDTO(String bucketStart, long count, double min, double max, double average) {
+        this.bucketStart = bucketStart;
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.average = average;
+    }
+
+    /**
+     * Get the start of the bucket.
+     *
+     * @return the start of the bucket
+     */
+    public String getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Get the number of readings.
+     *
+     * @return the number of readings
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the smallest reading.
+     *
+     * @return the smallest reading
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Get the largest reading.
+     *
+     * @return the largest reading
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Get the average of the readings.
+     *
+     * @return the average of the readings
+     */
+    public double getAverage() {
+        return average;
+    }
+}
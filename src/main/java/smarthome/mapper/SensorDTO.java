@@ -1,8 +1,10 @@
 package smarthome.mapper;
 
-import org.springframework.hateoas.RepresentationModel; /**
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation; /**
  * Data Transfer Object for Sensor.
  */
+@Relation(collectionRelation = "sensors", itemRelation = "sensor")
 public class SensorDTO extends RepresentationModel<SensorDTO>{
 
      private String sensorId;
@@ -205,6 +205,20 @@ public class ActuatorMapper {
 
     }
 
+    /**
+     * This method is used to convert a list of Actuator objects into a list of ActuatorDTO objects.
+     *
+     * @param actuators The list of Actuator objects that needs to be converted into a list of ActuatorDTO objects.
+     * @return List of ActuatorDTO objects that contains the information extracted from the Actuator objects.
+     */
+    public List<ActuatorDTO> actuatorsToDTO(Iterable<Actuator> actuators) {
+        List<ActuatorDTO> actuatorsDTO = new ArrayList<>();
+        for (Actuator actuator : actuators) {
+            actuatorsDTO.add(actuatorToDTO(actuator));
+        }
+        return actuatorsDTO;
+    }
+
     /**
      * This method is used to convert a list of Actuator ids into a list of ActuatorIdDTO objects.
      *
@@ -2,10 +2,18 @@ package smarthome.mapper.mapper;
 
 import org.springframework.stereotype.Component;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.vo.NumericReadingValue;
 import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensor.vo.values.Value;
 import smarthome.mapper.ReadingDTO;
 import smarthome.mapper.ReadingIdDTO;
+import smarthome.mapper.ReadingStatisticsDTO;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,6 +30,46 @@ public class ReadingMapper {
         // Empty constructor
     }
 
+    /**
+     * Converts the reading data to a SensorId value object.
+     *
+     * @param readingDTO the reading DTO
+     * @return the id of the sensor of the reading
+     */
+    public SensorId toSensorId(ReadingDTO readingDTO) {
+        return new SensorId(readingDTO.getSensorId());
+    }
+
+    /**
+     * Converts the reading data to a Value. A numeric value is kept as a number, any other value as text.
+     *
+     * @param readingDTO the reading DTO
+     * @return the value of the reading
+     * @throws IllegalArgumentException if the value is missing
+     */
+    public Value toReadingValue(ReadingDTO readingDTO) {
+        String value = readingDTO.getReadingValue();
+        if (value != null) {
+            try {
+                return new NumericReadingValue(Double.parseDouble(value));
+            } catch (NumberFormatException e) {
+                // Not a number, kept as text
+            }
+        }
+        return new ReadingValue(value);
+    }
+
+    /**
+     * Converts the reading data to a TimeStamp value object.
+     *
+     * @param readingDTO the reading DTO
+     * @return the timestamp of the reading
+     * @throws java.time.format.DateTimeParseException if the timestamp is not an ISO local date time
+     */
+    public TimeStamp toTimeStamp(ReadingDTO readingDTO) {
+        return new TimeStamp(LocalDateTime.parse(readingDTO.getTimestamp()));
+    }
+
     /**
      * Converts a reading to a reading DTO.
      *
@@ -66,4 +114,19 @@ public class ReadingMapper {
         }
         return readingIdsDTO;
     }
+
+    /**
+     * Converts reading rollups to reading statistics DTOs, one per bucket.
+     *
+     * @param rollups the rollups to convert
+     * @return the converted list of reading statistics DTOs
+     */
+    public List<ReadingStatisticsDTO> toReadingStatisticsDTO(Iterable<ReadingRollup> rollups) {
+        List<ReadingStatisticsDTO> statisticsDTO = new ArrayList<>();
+        for (ReadingRollup rollup : rollups) {
+            statisticsDTO.add(new ReadingStatisticsDTO(rollup.getBucketStart().toString(), rollup.getCount(),
+                    rollup.getMin(), rollup.getMax(), rollup.getAverage()));
+        }
+        return statisticsDTO;
+    }
 }
@@ -58,6 +58,20 @@ public class SensorMapper {
         return new SensorDTO(sensorID, deviceID, sensorModelName, value);
     }
 
+    /**
+     * Converts a list of Sensor objects to a list of SensorDTO objects.
+     *
+     * @param sensors the Sensor objects
+     * @return the SensorDTO objects
+     */
+    public List<SensorDTO> toSensorsDTO(Iterable<Sensor> sensors) {
+        List<SensorDTO> sensorDTOList = new ArrayList<>();
+        for (Sensor sensor : sensors) {
+            sensorDTOList.add(toSensorDTO(sensor));
+        }
+        return sensorDTOList;
+    }
+
     /**
      * Converts a list of Sensor objects to a list of SensorDTO objects.
      * @param sensorIds
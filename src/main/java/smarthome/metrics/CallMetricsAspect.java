@@ -0,0 +1,164 @@
+package smarthome.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import smarthome.ddd.KeysetPage;
+import smarthome.domain.repository.IReadingRepository;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the calls to the services and the repositories.
+ * <p>
+ * Every call to a method of an {@code I*Service} or {@code I*Repository} interface is timed, tagged with the class
+ * and the method called and with the outcome of the call. The calls to the reading repositories that find readings
+ * also record the number of rows they return. The meters of each method of each class are registered on its first
+ * call and kept, so a call does not look them up in the registry.
+ * </p>
+ */
+@Aspect
+@Component
+public class CallMetricsAspect {
+
+    /**
+     * The name of the timers of the calls to the services.
+     */
+    public static final String SERVICE_CALLS = "smarthome.service.calls";
+
+    /**
+     * The name of the timers of the calls to the repositories.
+     */
+    public static final String REPOSITORY_CALLS = "smarthome.repository.calls";
+
+    /**
+     * The name of the distributions of the number of rows returned by the reading repositories.
+     */
+    public static final String REPOSITORY_ROWS = "smarthome.repository.rows";
+
+    private final MeterRegistry registry;
+    private final Map<Class<?>, Map<Method, CallMeters>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the aspect over the given registry.
+     *
+     * @param registry the registry of the meters.
+     * @throws IllegalArgumentException if the registry is null.
+     */
+    public CallMetricsAspect(MeterRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException();
+        }
+        this.registry = registry;
+    }
+
+    /**
+     * Times a call to a service.
+     *
+     * @param call the call.
+     * @return the result of the call.
+     * @throws Throwable the exception thrown by the call.
+     */
+    @Around("execution(* smarthome.service.I*Service.*(..))")
+    public Object timeServiceCall(ProceedingJoinPoint call) throws Throwable {
+        return time(call, SERVICE_CALLS);
+    }
+
+    /**
+     * Times a call to a repository.
+     *
+     * @param call the call.
+     * @return the result of the call.
+     * @throws Throwable the exception thrown by the call.
+     */
+    @Around("execution(* smarthome.domain.repository.I*Repository.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint call) throws Throwable {
+        return time(call, REPOSITORY_CALLS);
+    }
+
+    /**
+     * Times a call, and records the number of rows it returns if its method has a distribution of rows.
+     *
+     * @param call the call.
+     * @param name the name of the timers of the call.
+     * @return the result of the call.
+     * @throws Throwable the exception thrown by the call.
+     */
+    private Object time(ProceedingJoinPoint call, String name) throws Throwable {
+        Object target = call.getTarget();
+        CallMeters callMeters = meters.computeIfAbsent(target.getClass(), type -> new ConcurrentHashMap<>())
+                .computeIfAbsent(((MethodSignature) call.getSignature()).getMethod(),
+                        method -> new CallMeters(name, target, method));
+        long start = registry.config().clock().monotonicTime();
+        Object result;
+        try {
+            result = call.proceed();
+        } catch (Throwable e) {
+            callMeters.error(e).record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        callMeters.success.record(registry.config().clock().monotonicTime() - start, TimeUnit.NANOSECONDS);
+        if (callMeters.rows != null) {
+            recordRows(callMeters.rows, result);
+        }
+        return result;
+    }
+
+    /**
+     * Records the number of rows of a result, when it is a collection or a page.
+     *
+     * @param rows   the distribution of the number of rows.
+     * @param result the result of the call.
+     */
+    private static void recordRows(DistributionSummary rows, Object result) {
+        if (result instanceof Collection<?> collection) {
+            rows.record(collection.size());
+        } else if (result instanceof KeysetPage<?> page) {
+            rows.record(page.getContent().size());
+        }
+    }
+
+    /**
+     * The meters of the calls to a method.
+     */
+    private final class CallMeters {
+        private final String name;
+        private final String className;
+        private final String methodName;
+        private final Timer success;
+        private final DistributionSummary rows;
+
+        private CallMeters(String name, Object target, Method method) {
+            this.name = name;
+            this.className = target.getClass().getSimpleName();
+            this.methodName = method.getName();
+            this.success = timer("success", "none");
+            this.rows = target instanceof IReadingRepository && methodName.startsWith("find")
+                    ? DistributionSummary.builder(REPOSITORY_ROWS)
+                    .description("The number of rows returned by the reading repositories")
+                    .tags("class", className, "method", methodName)
+                    .publishPercentileHistogram()
+                    .register(registry)
+                    : null;
+        }
+
+        private Timer error(Throwable e) {
+            return timer("error", e.getClass().getSimpleName());
+        }
+
+        private Timer timer(String outcome, String exception) {
+            return Timer.builder(name)
+                    .tags("class", className, "method", methodName, "outcome", outcome, "exception", exception)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package smarthome.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import smarthome.persistence.cache.CatalogCache;
+import smarthome.persistence.cache.CatalogCaches;
+
+/**
+ * Binds the hit and miss statistics of the catalog caches to meters.
+ * <p>
+ * Each cache has the counters {@code cache.gets} of its hits and of its misses, named as the caches of Micrometer,
+ * and the gauge {@code cache.hit.ratio} of the ratio of its identity lookups that were hits. The meters read the
+ * statistics of the caches, so a lookup in a cache costs nothing more.
+ * </p>
+ */
+@Component
+public class CatalogCacheMetrics implements MeterBinder {
+
+    private final CatalogCaches catalogCaches;
+
+    /**
+     * Constructs the binder of the given caches.
+     *
+     * @param catalogCaches the catalog caches.
+     * @throws IllegalArgumentException if the caches are null.
+     */
+    public CatalogCacheMetrics(CatalogCaches catalogCaches) {
+        if (catalogCaches == null) {
+            throw new IllegalArgumentException();
+        }
+        this.catalogCaches = catalogCaches;
+    }
+
+    /**
+     * Registers the meters of every cache.
+     *
+     * @param registry the registry of the meters.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (CatalogCache<?, ?> cache : catalogCaches.getCaches()) {
+            FunctionCounter.builder("cache.gets", cache, CatalogCache::getHits)
+                    .description("The number of identity lookups answered by the cache")
+                    .tags("cache", cache.getName(), "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, CatalogCache::getMisses)
+                    .description("The number of identity lookups that went to the repository")
+                    .tags("cache", cache.getName(), "result", "miss")
+                    .register(registry);
+            Gauge.builder("cache.hit.ratio", cache, CatalogCacheMetrics::hitRatio)
+                    .description("The ratio of the identity lookups answered by the cache")
+                    .tags("cache", cache.getName())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Returns the ratio of the lookups in a cache that were hits.
+     *
+     * @param cache the cache.
+     * @return the ratio, or 0 if there were no lookups.
+     */
+    static double hitRatio(CatalogCache<?, ?> cache) {
+        long hits = cache.getHits();
+        long lookups = hits + cache.getMisses();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
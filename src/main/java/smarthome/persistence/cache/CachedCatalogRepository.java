@@ -0,0 +1,14 @@
+package smarthome.persistence.cache;
+
+/**
+ * A catalog repository that keeps its catalog in a {@link CatalogCache}.
+ */
+public interface CachedCatalogRepository {
+
+    /**
+     * Returns the cache of the catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    CatalogCache<?, ?> getCatalogCache();
+}
@@ -0,0 +1,195 @@
+package smarthome.persistence.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process cache of a catalog repository, such as the sensor types or the device types.
+ * <p>
+ * Catalogs are small and almost never change, so the cache holds the whole catalog in an immutable snapshot that is
+ * replaced, never modified, when an entry is written. Reads are lock free and a hit is a single map read, with no
+ * allocation. The repository writes through the cache, so a saved entry is cached at once. A lookup of an identity
+ * that is not cached falls back to the repository, and caches the entry if it is found there. The snapshot is loaded
+ * on first use, or earlier by {@link #warm()}, and reloaded on first use after {@link #invalidate()}.
+ * </p>
+ * Cached entries are shared between callers, so they must be immutable.
+ *
+ * @param <ID> the type of the identity of the entries.
+ * @param <T>  the type of the entries.
+ */
+public class CatalogCache<ID, T> {
+
+    private final String name;
+    private final Function<T, ID> identity;
+    private final Supplier<Iterable<T>> loadAll;
+    private final Function<ID, Optional<T>> loadOne;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile Snapshot<ID, T> snapshot;
+
+    /**
+     * Constructs an empty cache.
+     *
+     * @param name     the name of the catalog, used in its statistics.
+     * @param identity the function that returns the identity of an entry.
+     * @param loadAll  the function that loads every entry of the catalog from the repository.
+     * @param loadOne  the function that loads one entry of the catalog from the repository.
+     * @throws IllegalArgumentException if a parameter is null.
+     */
+    public CatalogCache(String name, Function<T, ID> identity, Supplier<Iterable<T>> loadAll,
+                        Function<ID, Optional<T>> loadOne) {
+        if (name == null || identity == null || loadAll == null || loadOne == null) {
+            throw new IllegalArgumentException();
+        }
+        this.name = name;
+        this.identity = identity;
+        this.loadAll = loadAll;
+        this.loadOne = loadOne;
+    }
+
+    /**
+     * Finds an entry by its identity, in the cache first and then in the repository.
+     *
+     * @param id the identity of the entry.
+     * @return an Optional with the entry, or empty if it is not in the catalog.
+     */
+    public Optional<T> findByIdentity(ID id) {
+        Optional<T> cached = snapshot().entries.get(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        Optional<T> loaded = loadOne.apply(id);
+        loaded.ifPresent(this::put);
+        return loaded;
+    }
+
+    /**
+     * Checks if an entry is in the catalog, in the cache first and then in the repository.
+     *
+     * @param id the identity of the entry.
+     * @return true if the entry is in the catalog, false otherwise.
+     */
+    public boolean containsIdentity(ID id) {
+        return findByIdentity(id).isPresent();
+    }
+
+    /**
+     * Returns every entry of the catalog.
+     *
+     * @return an unmodifiable list of the entries.
+     */
+    public List<T> findAll() {
+        return snapshot().values;
+    }
+
+    /**
+     * Caches an entry that was written to the repository, replacing the cached entry of the same identity.
+     * If the cache is not loaded, the entry is read with the rest of the catalog when it is.
+     *
+     * @param entry the entry.
+     */
+    public synchronized void put(T entry) {
+        Snapshot<ID, T> current = snapshot;
+        if (current == null) {
+            return;
+        }
+        Map<ID, Optional<T>> entries = new LinkedHashMap<>(current.entries);
+        entries.put(identity.apply(entry), Optional.of(entry));
+        snapshot = new Snapshot<>(entries);
+    }
+
+    /**
+     * Loads the whole catalog from the repository into the cache, replacing what it held.
+     */
+    public synchronized void warm() {
+        Map<ID, Optional<T>> entries = new LinkedHashMap<>();
+        for (T entry : loadAll.get()) {
+            entries.put(identity.apply(entry), Optional.of(entry));
+        }
+        snapshot = new Snapshot<>(entries);
+    }
+
+    /**
+     * Empties the cache, so the catalog is loaded again from the repository on its next use.
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Checks if the catalog is loaded in the cache.
+     *
+     * @return true if the catalog is loaded, false otherwise.
+     */
+    public boolean isWarm() {
+        return snapshot != null;
+    }
+
+    /**
+     * Returns the name of the catalog.
+     *
+     * @return the name of the catalog.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of identity lookups answered by the cache.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of identity lookups that had to go to the repository.
+     *
+     * @return the number of misses.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the snapshot of the catalog, loading it if the cache is empty.
+     */
+    private Snapshot<ID, T> snapshot() {
+        Snapshot<ID, T> current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                warm();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * An immutable state of the cache: the entries by identity, each wrapped once in the Optional that lookups
+     * return, and the entries in order.
+     */
+    private static final class Snapshot<ID, T> {
+        private final Map<ID, Optional<T>> entries;
+        private final List<T> values;
+
+        private Snapshot(Map<ID, Optional<T>> entries) {
+            List<T> list = new ArrayList<>(entries.size());
+            entries.values().forEach(entry -> list.add(entry.get()));
+            this.entries = Collections.unmodifiableMap(entries);
+            this.values = Collections.unmodifiableList(list);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package smarthome.persistence.cache;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * The catalog caches of the application, warmed when the application starts.
+ */
+@Component
+public class CatalogCaches {
+
+    private final List<CachedCatalogRepository> repositories;
+
+    /**
+     * Constructs the catalog caches of the given repositories.
+     *
+     * @param repositories the cached catalog repositories.
+     * @throws IllegalArgumentException if the repositories are null.
+     */
+    public CatalogCaches(List<CachedCatalogRepository> repositories) {
+        if (repositories == null) {
+            throw new IllegalArgumentException();
+        }
+        this.repositories = List.copyOf(repositories);
+    }
+
+    /**
+     * Loads every catalog into its cache. It runs once the application is ready, so the first requests do not
+     * pay for it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmAll() {
+        for (CachedCatalogRepository repository : repositories) {
+            repository.getCatalogCache().warm();
+        }
+    }
+
+    /**
+     * Empties every cache, so each catalog is loaded again from the database on its next use. Use it after the
+     * catalog tables are changed outside the application.
+     */
+    public void invalidateAll() {
+        for (CachedCatalogRepository repository : repositories) {
+            repository.getCatalogCache().invalidate();
+        }
+    }
+
+    /**
+     * Returns the caches, for their hit and miss statistics.
+     *
+     * @return the caches.
+     */
+    public List<CatalogCache<?, ?>> getCaches() {
+        return repositories.stream().<CatalogCache<?, ?>>map(CachedCatalogRepository::getCatalogCache).toList();
+    }
+}
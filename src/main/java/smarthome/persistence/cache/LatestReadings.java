@@ -0,0 +1,148 @@
+package smarthome.persistence.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-process table of the latest reading of each sensor, for the "current value" queries.
+ * <p>
+ * The repository of readings updates the table with every reading it saves. A reading replaces the latest reading of
+ * its sensor only if it is not older, with a compare-and-set on the entry of the sensor, so a late reading never
+ * overwrites a newer one, whatever the order in which concurrent saves reach the table. Reads and updates are lock
+ * free: a read is a single map read. A repository that saves inside a transaction updates the table once the
+ * transaction commits, with {@link #updateAllAfterCommit(Iterable)}, so a rolled back reading never shows as the
+ * latest one.
+ * </p>
+ * <p>
+ * The table is loaded with the latest reading of every sensor by {@link #load()}, once the application is ready.
+ * Until then, a lookup falls back to the repository. Once loaded, a sensor with no entry has no readings, so the
+ * table must see every reading saved: readings written to the database outside the application are only seen after
+ * the table is loaded again.
+ * </p>
+ */
+public class LatestReadings {
+
+    private final Supplier<Iterable<Reading>> loadAll;
+    private final Function<SensorId, Optional<Reading>> loadOne;
+    private final Map<SensorId, AtomicReference<Reading>> latest = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    /**
+     * Constructs an empty table, not loaded.
+     *
+     * @param loadAll the function that loads the latest reading of every sensor from the repository.
+     * @param loadOne the function that loads the latest reading of one sensor from the repository.
+     * @throws IllegalArgumentException if a parameter is null.
+     */
+    public LatestReadings(Supplier<Iterable<Reading>> loadAll, Function<SensorId, Optional<Reading>> loadOne) {
+        if (loadAll == null || loadOne == null) {
+            throw new IllegalArgumentException();
+        }
+        this.loadAll = loadAll;
+        this.loadOne = loadOne;
+    }
+
+    /**
+     * Constructs an empty table, loaded, for a repository that starts with no readings.
+     *
+     * @return the table.
+     */
+    public static LatestReadings empty() {
+        LatestReadings table = new LatestReadings(List::of, sensorId -> Optional.empty());
+        table.load();
+        return table;
+    }
+
+    /**
+     * Makes a reading the latest reading of its sensor, unless the sensor has a newer one. Of two readings at the
+     * same time, the one updated last is kept.
+     *
+     * @param reading the saved reading.
+     */
+    public void update(Reading reading) {
+        AtomicReference<Reading> entry = latest.computeIfAbsent(reading.getSensorId(),
+                sensorId -> new AtomicReference<>());
+        Reading current = entry.get();
+        while (current == null || !current.getTime().getValue().isAfter(reading.getTime().getValue())) {
+            if (entry.compareAndSet(current, reading)) {
+                return;
+            }
+            current = entry.get();
+        }
+    }
+
+    /**
+     * Updates the table with saved readings.
+     *
+     * @param readings the saved readings.
+     */
+    public void updateAll(Iterable<Reading> readings) {
+        for (Reading reading : readings) {
+            update(reading);
+        }
+    }
+
+    /**
+     * Updates the table with saved readings once the current transaction commits, and not at all if it rolls back.
+     * Without a transaction, the table is updated at once.
+     *
+     * @param readings the saved readings.
+     */
+    public void updateAllAfterCommit(Iterable<Reading> readings) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    updateAll(readings);
+                }
+            });
+        } else {
+            updateAll(readings);
+        }
+    }
+
+    /**
+     * Finds the latest reading of a sensor, in the table once it is loaded and in the repository before.
+     *
+     * @param sensorId the identity of the sensor.
+     * @return an Optional with the latest reading, or empty if the sensor has no readings.
+     */
+    public Optional<Reading> findLatest(SensorId sensorId) {
+        AtomicReference<Reading> entry = latest.get(sensorId);
+        Reading reading = entry == null ? null : entry.get();
+        if (reading != null || loaded) {
+            return Optional.ofNullable(reading);
+        }
+        Optional<Reading> found = loadOne.apply(sensorId);
+        found.ifPresent(this::update);
+        return found;
+    }
+
+    /**
+     * Loads the latest reading of every sensor from the repository. The readings saved while it loads are kept if
+     * they are newer than the loaded ones.
+     */
+    public void load() {
+        updateAll(loadAll.get());
+        loaded = true;
+    }
+
+    /**
+     * Checks if the table was loaded, so it answers every lookup without the repository.
+     *
+     * @return true if the table was loaded, false otherwise.
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
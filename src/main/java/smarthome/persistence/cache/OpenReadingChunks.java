@@ -0,0 +1,217 @@
+package smarthome.persistence.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.repository.IReadingChunkRepository;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * In-process table of the open chunk of each sensor, the last one, which takes the next readings of the sensor.
+ * <p>
+ * Each sensor has its own lock, so the readings of different sensors are appended to their chunks at the same time.
+ * The open chunk of a sensor is kept as an encoder, so a reading appended to it costs only its own bits, and the
+ * stored chunk is only written, never read back. Within a transaction, the lock of a sensor is held until the
+ * transaction completes, so the chunks of a sensor are written by one transaction at a time. If the transaction rolls
+ * back, the open chunk of the sensor is dropped, and read again from the repository when it is next needed. The
+ * sensors of a batch are locked in the order of their ids, so two batches never deadlock; a transaction that appends
+ * to the chunks in more than one call should keep to that order too.
+ * </p>
+ * <p>
+ * A sensor is loaded before its first reading is appended. A sensor with chunks resumes its last chunk. A sensor
+ * without chunks has them filled from its stored readings first, page by page, by the given backfill function, under
+ * the lock of the sensor and in the transaction of the caller, so a crash leaves a sensor with all its chunks or with
+ * none. Until a sensor is loaded and the transaction that loaded it has committed, its chunks may miss readings, and
+ * its series should be read from its readings.
+ * </p>
+ */
+public class OpenReadingChunks {
+
+    private final IReadingChunkRepository chunkRepository;
+    private final ReadingChunkPolicy policy;
+    private final BiConsumer<SensorId, Consumer<ReadingSeries>> backfill;
+    private final Map<SensorId, SensorChunks> sensors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an empty table, with no sensor loaded.
+     *
+     * @param chunkRepository the repository of the chunks.
+     * @param backfill        the function that hands the numeric readings of a sensor, sorted by time, to a consumer,
+     *                        a page at a time.
+     * @throws IllegalArgumentException if a parameter is null.
+     */
+    public OpenReadingChunks(IReadingChunkRepository chunkRepository,
+                             BiConsumer<SensorId, Consumer<ReadingSeries>> backfill) {
+        if (chunkRepository == null || backfill == null) {
+            throw new IllegalArgumentException();
+        }
+        this.chunkRepository = chunkRepository;
+        this.policy = chunkRepository.getPolicy();
+        this.backfill = backfill;
+    }
+
+    /**
+     * Checks if the stored chunks of a sensor hold all its numeric readings: the sensor was loaded by a transaction
+     * that committed.
+     *
+     * @param sensorId the identity of the sensor.
+     * @return true if the sensor is loaded, false otherwise.
+     */
+    public boolean isLoaded(SensorId sensorId) {
+        SensorChunks chunks = sensors.get(sensorId);
+        return chunks != null && chunks.committed;
+    }
+
+    /**
+     * Loads a sensor, filling its chunks from its readings if it has none.
+     *
+     * @param sensorId the identity of the sensor.
+     * @throws IllegalArgumentException if the sensor id is null.
+     */
+    public void load(SensorId sensorId) {
+        if (sensorId == null) {
+            throw new IllegalArgumentException();
+        }
+        SensorChunks chunks = sensors.computeIfAbsent(sensorId, id -> new SensorChunks());
+        withLock(chunks, () -> loadLocked(sensorId, chunks));
+    }
+
+    /**
+     * Appends readings to the chunks of their sensors, loading the sensors first. Readings with a non numeric value
+     * are ignored. The readings must not be stored yet, or the backfill of their sensor would add them twice.
+     *
+     * @param readings the readings to append.
+     * @throws IllegalArgumentException if the readings are null.
+     */
+    public void append(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        Map<SensorId, ReadingSeries> seriesBySensor =
+                new TreeMap<>(Comparator.comparing(SensorId::getSensorId));
+        for (Reading reading : readings) {
+            double value;
+            try {
+                value = ReadingSeries.toDouble(reading.getValue());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            seriesBySensor.computeIfAbsent(reading.getSensorId(), sensorId -> new ReadingSeries())
+                    .add(reading.getTime().getValue(), value);
+        }
+        for (Map.Entry<SensorId, ReadingSeries> entry : seriesBySensor.entrySet()) {
+            SensorId sensorId = entry.getKey();
+            SensorChunks chunks = sensors.computeIfAbsent(sensorId, id -> new SensorChunks());
+            withLock(chunks, () -> {
+                loadLocked(sensorId, chunks);
+                chunks.open = appendLocked(sensorId, chunks.open, entry.getValue());
+            });
+        }
+    }
+
+    /**
+     * Runs an action under the lock of a sensor. Within a transaction, the lock is held until the transaction
+     * completes, and the sensor is unloaded if it does not commit. Without one, the lock is released when the action
+     * ends. Either way, the sensor is unloaded if the action fails.
+     */
+    private void withLock(SensorChunks chunks, Runnable action) {
+        chunks.lock.lock();
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        chunks.committed |= chunks.loaded;
+                    } else {
+                        chunks.unload();
+                    }
+                    chunks.lock.unlock();
+                }
+            });
+        }
+        try {
+            action.run();
+            if (!inTransaction) {
+                chunks.committed = chunks.loaded;
+            }
+        } catch (RuntimeException e) {
+            chunks.unload();
+            if (!inTransaction) {
+                chunks.committed = false;
+            }
+            throw e;
+        } finally {
+            if (!inTransaction) {
+                chunks.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Loads a sensor whose lock is held.
+     */
+    private void loadLocked(SensorId sensorId, SensorChunks chunks) {
+        if (chunks.loaded) {
+            return;
+        }
+        ReadingChunk last = chunkRepository.findLastChunkBySensorId(sensorId).orElse(null);
+        if (last != null) {
+            chunks.open = ReadingChunk.Encoder.resume(last);
+        } else {
+            chunks.open = null;
+            backfill.accept(sensorId, page -> chunks.open = appendLocked(sensorId, chunks.open, page));
+        }
+        chunks.loaded = true;
+    }
+
+    /**
+     * Appends samples to the open chunk of a sensor whose lock is held, and saves the chunks that changed.
+     *
+     * @return the encoder of the new open chunk.
+     */
+    private ReadingChunk.Encoder appendLocked(SensorId sensorId, ReadingChunk.Encoder open, ReadingSeries samples) {
+        List<ReadingChunk.Encoder> changed = policy.appendTo(open, sensorId, samples);
+        if (changed.isEmpty()) {
+            return open;
+        }
+        List<ReadingChunk> chunks = new ArrayList<>(changed.size());
+        for (ReadingChunk.Encoder encoder : changed) {
+            chunks.add(encoder.toChunk());
+        }
+        chunkRepository.saveAll(chunks);
+        return changed.get(changed.size() - 1);
+    }
+
+    /**
+     * The lock and the open chunk of a sensor. The open chunk and whether it is loaded are only used under the lock;
+     * whether the stored chunks are complete is read without it.
+     */
+    private static final class SensorChunks {
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean loaded;
+        private ReadingChunk.Encoder open;
+        private volatile boolean committed;
+
+        /**
+         * Drops the open chunk, to be read again from the repository.
+         */
+        private void unload() {
+            loaded = false;
+            open = null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package smarthome.persistence.datamodel;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import smarthome.domain.reading.ReadingChunk;
+
+/**
+ * ReadingChunkDataModel is a data model that represents a compressed chunk of readings in the database.
+ * Each row holds the encoded samples of one sensor in a BLOB, with the time of its first and last sample in
+ * nanoseconds since the epoch, so a period query reads only the rows of the chunks that overlap the period.
+ * <p>
+ * A chunk spans less than one window of its policy, so the chunks with samples in a period start at most one window
+ * before it, and the index on (sensor_id, first_epoch_nanos) seeks straight to them.
+ * </p>
+ */
+@Entity
+@Table(name = "READING_CHUNK",
+        indexes = @Index(name = "idx_reading_chunk_sensor_first", columnList = "sensorId, firstEpochNanos"))
+public class ReadingChunkDataModel {
+    @EmbeddedId
+    private ReadingChunkIdDataModel id;
+    private int pointCount;
+    private long firstEpochNanos;
+    private long lastEpochNanos;
+    @Lob
+    private byte[] data;
+
+    /**
+     * Empty constructor of the Reading Chunk Data Model
+     */
+    public ReadingChunkDataModel() {
+    }
+
+    /**
+     * Constructs a new ReadingChunkDataModel from a ReadingChunk domain object.
+     *
+     * @param chunk the ReadingChunk domain object to construct the ReadingChunkDataModel from.
+     * @throws IllegalArgumentException if the provided ReadingChunk object is null.
+     */
+    public ReadingChunkDataModel(ReadingChunk chunk) {
+        if (chunk == null) {
+            throw new IllegalArgumentException();
+        }
+        this.id = new ReadingChunkIdDataModel(chunk.getSensorId().getSensorId(), chunk.getSequence());
+        this.pointCount = chunk.getSize();
+        this.firstEpochNanos = chunk.getFirstEpochNanos();
+        this.lastEpochNanos = chunk.getLastEpochNanos();
+        this.data = chunk.getData();
+    }
+
+    /**
+     * Get the key of the chunk
+     *
+     * @return the sensor and number of the chunk
+     */
+    public ReadingChunkIdDataModel getId() {
+        return id;
+    }
+
+    /**
+     * Get the number of samples
+     *
+     * @return the number of samples
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Get the time of the first sample
+     *
+     * @return the time of the first sample, in nanoseconds since the epoch
+     */
+    public long getFirstEpochNanos() {
+        return firstEpochNanos;
+    }
+
+    /**
+     * Get the time of the last sample
+     *
+     * @return the time of the last sample, in nanoseconds since the epoch
+     */
+    public long getLastEpochNanos() {
+        return lastEpochNanos;
+    }
+
+    /**
+     * Get the encoded samples
+     *
+     * @return the encoded samples
+     */
+    public byte[] getData() {
+        return data;
+    }
+}
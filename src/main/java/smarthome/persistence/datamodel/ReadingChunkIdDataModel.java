@@ -0,0 +1,80 @@
+package smarthome.persistence.datamodel;
+
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * ReadingChunkIdDataModel is the composite primary key of a reading chunk: its sensor and its number.
+ */
+@Embeddable
+public class ReadingChunkIdDataModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String sensorId;
+    private long chunkSequence;
+
+    /**
+     * Empty constructor of the Reading Chunk Id Data Model
+     */
+    public ReadingChunkIdDataModel() {
+    }
+
+    /**
+     * Constructs the key of a reading chunk.
+     *
+     * @param sensorId      the sensor ID.
+     * @param chunkSequence the number of the chunk among the chunks of the sensor.
+     */
+    public ReadingChunkIdDataModel(String sensorId, long chunkSequence) {
+        this.sensorId = sensorId;
+        this.chunkSequence = chunkSequence;
+    }
+
+    /**
+     * Get the sensor ID
+     *
+     * @return the sensor ID
+     */
+    public String getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * Get the number of the chunk
+     *
+     * @return the number of the chunk among the chunks of the sensor
+     */
+    public long getChunkSequence() {
+        return chunkSequence;
+    }
+
+    /**
+     * Compares the key with another object.
+     *
+     * @param o the object to compare with.
+     * @return true if the object is a key of the same sensor and number, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReadingChunkIdDataModel that = (ReadingChunkIdDataModel) o;
+        return chunkSequence == that.chunkSequence && Objects.equals(sensorId, that.sensorId);
+    }
+
+    /**
+     * Returns the hash code of the key.
+     *
+     * @return the hash code of the key.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sensorId, chunkSequence);
+    }
+}
@@ -3,25 +3,45 @@ package smarthome.persistence.datamodel;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.sensor.vo.values.NumericValue;
+import smarthome.domain.sensor.vo.values.Value;
 
 import java.time.LocalDateTime;
 
 /**
  * ReadingDataModel is a data model that represents the Reading entity in the database.
  * It is annotated as an Entity, meaning it can be persisted to the database.
+ * Numeric values are stored in a DOUBLE column, while composite values, such as wind values, keep their string
+ * encoding in a VARCHAR column. Exactly one of the two columns is set.
+ * <p>
+ * The reading id is assigned by the domain, so the data model tells Spring Data when it is new. A new reading is
+ * persisted straight away instead of merged, which would first select the row by its id and prevent batched inserts.
+ * </p>
+ * <p>
+ * Readings are always looked up by sensor and time, so the table has a composite index on (sensor_id, time_stamp).
+ * A period or latest value query seeks straight to the rows of the sensor, already sorted by time.
+ * </p>
  */
 
 @Entity
-@Table(name = "READING")
+@Table(name = "READING", indexes = @Index(name = "idx_reading_sensor_time", columnList = "sensorId, timeStamp"))
 
-public class ReadingDataModel {
+public class ReadingDataModel implements Persistable<String> {
     @Id
     private String readingId;
     private String sensorId;
     private String readingValue;
+    private Double numericValue;
     private LocalDateTime timeStamp;
+    @Transient
+    private boolean isNew = true;
 
     /**
      * Empty constructor of the Reading Data Model
@@ -39,12 +59,36 @@ public class ReadingDataModel {
         if (reading == null) {
             throw new IllegalArgumentException();
         }
-        this.readingId = reading.getIdentity().toString();
+        this.readingId = reading.getIdentity().getId();
         this.sensorId = reading.getSensorId().getSensorId();
-        this.readingValue = reading.getValue().valueToString();
+        Value value = reading.getValue();
+        if (value instanceof NumericValue numeric) {
+            this.numericValue = numeric.toDouble();
+        } else {
+            this.readingValue = value.valueToString();
+        }
         this.timeStamp = reading.getTime().getValue();
     }
 
+    /**
+     * Constructs a ReadingDataModel from its columns, used by queries that read readings without managing them.
+     *
+     * @param readingId    the reading ID.
+     * @param sensorId     the sensor ID.
+     * @param readingValue the string encoded value, or null if the value is numeric.
+     * @param numericValue the numeric value, or null if the value is not numeric.
+     * @param timeStamp    the timestamp.
+     */
+    public ReadingDataModel(String readingId, String sensorId, String readingValue, Double numericValue,
+                            LocalDateTime timeStamp) {
+        this.readingId = readingId;
+        this.sensorId = sensorId;
+        this.readingValue = readingValue;
+        this.numericValue = numericValue;
+        this.timeStamp = timeStamp;
+        this.isNew = false;
+    }
+
     /**
      * Get the reading ID
      *
@@ -54,6 +98,35 @@ public class ReadingDataModel {
         return readingId;
     }
 
+    /**
+     * Get the reading ID, as the identifier of the persistable entity
+     *
+     * @return the reading ID
+     */
+    @Override
+    public String getId() {
+        return readingId;
+    }
+
+    /**
+     * Checks if the reading was not yet persisted nor loaded from the database
+     *
+     * @return true if the reading is new, false otherwise
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    /**
+     * Marks the reading as not new, once it is persisted or loaded from the database
+     */
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     /**
      * Returns the sensor ID associated with the reading.
      *
@@ -64,15 +137,24 @@ public class ReadingDataModel {
     }
 
     /**
-     * Get the value of the reading
+     * Get the string encoded value of the reading
      *
-     * @return the reading value
+     * @return the reading value, or null if the value is numeric
      */
 
     public String getReadingValue() {
         return readingValue;
     }
 
+    /**
+     * Get the numeric value of the reading
+     *
+     * @return the numeric value, or null if the value is not numeric
+     */
+    public Double getNumericValue() {
+        return numericValue;
+    }
+
     /**
      * Get the timestamp of the reading
      *
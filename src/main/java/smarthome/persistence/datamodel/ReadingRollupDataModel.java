@@ -0,0 +1,114 @@
+package smarthome.persistence.datamodel;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import smarthome.domain.reading.ReadingRollup;
+
+/**
+ * ReadingRollupDataModel is a data model that represents a reading rollup in the database.
+ * Each row holds the aggregate of the numeric readings of one sensor in one minute, hour or day bucket.
+ * Rows are only written through an upsert that adds to the stored aggregates, so concurrent writers never lose
+ * readings.
+ */
+@Entity
+@Table(name = "READING_ROLLUP")
+public class ReadingRollupDataModel {
+    @EmbeddedId
+    private ReadingRollupIdDataModel id;
+    private long readingCount;
+    private double valueSum;
+    private double minValue;
+    private double maxValue;
+    private long startCount;
+    private double startSum;
+
+    /**
+     * Empty constructor of the Reading Rollup Data Model
+     */
+    public ReadingRollupDataModel() {
+    }
+
+    /**
+     * Constructs a new ReadingRollupDataModel from a ReadingRollup domain object.
+     *
+     * @param rollup the ReadingRollup domain object to construct the ReadingRollupDataModel from.
+     * @throws IllegalArgumentException if the provided ReadingRollup object is null.
+     */
+    public ReadingRollupDataModel(ReadingRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException();
+        }
+        this.id = new ReadingRollupIdDataModel(rollup.getSensorId().getSensorId(),
+                rollup.getResolution().getSeconds(), rollup.getBucketStart());
+        this.readingCount = rollup.getCount();
+        this.valueSum = rollup.getSum();
+        this.minValue = rollup.getMin();
+        this.maxValue = rollup.getMax();
+        this.startCount = rollup.getStartCount();
+        this.startSum = rollup.getStartSum();
+    }
+
+    /**
+     * Get the key of the rollup
+     *
+     * @return the sensor, resolution and bucket of the rollup
+     */
+    public ReadingRollupIdDataModel getId() {
+        return id;
+    }
+
+    /**
+     * Get the number of readings
+     *
+     * @return the number of readings
+     */
+    public long getReadingCount() {
+        return readingCount;
+    }
+
+    /**
+     * Get the sum of the readings
+     *
+     * @return the sum of the readings
+     */
+    public double getValueSum() {
+        return valueSum;
+    }
+
+    /**
+     * Get the smallest reading
+     *
+     * @return the smallest reading
+     */
+    public double getMinValue() {
+        return minValue;
+    }
+
+    /**
+     * Get the largest reading
+     *
+     * @return the largest reading
+     */
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Get the number of readings taken exactly at the start of the bucket
+     *
+     * @return the number of readings at the start of the bucket
+     */
+    public long getStartCount() {
+        return startCount;
+    }
+
+    /**
+     * Get the sum of the readings taken exactly at the start of the bucket
+     *
+     * @return the sum of the readings at the start of the bucket
+     */
+    public double getStartSum() {
+        return startSum;
+    }
+}
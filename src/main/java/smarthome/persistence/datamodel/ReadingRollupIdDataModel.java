@@ -0,0 +1,94 @@
+package smarthome.persistence.datamodel;
+
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * ReadingRollupIdDataModel is the composite primary key of a reading rollup: its sensor, resolution and bucket.
+ */
+@Embeddable
+public class ReadingRollupIdDataModel implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String sensorId;
+    private long resolutionSeconds;
+    private LocalDateTime bucketStart;
+
+    /**
+     * Empty constructor of the Reading Rollup Id Data Model
+     */
+    public ReadingRollupIdDataModel() {
+    }
+
+    /**
+     * Constructs the key of a reading rollup.
+     *
+     * @param sensorId          the sensor ID.
+     * @param resolutionSeconds the length of the bucket, in seconds.
+     * @param bucketStart       the start of the bucket.
+     */
+    public ReadingRollupIdDataModel(String sensorId, long resolutionSeconds, LocalDateTime bucketStart) {
+        this.sensorId = sensorId;
+        this.resolutionSeconds = resolutionSeconds;
+        this.bucketStart = bucketStart;
+    }
+
+    /**
+     * Get the sensor ID
+     *
+     * @return the sensor ID
+     */
+    public String getSensorId() {
+        return sensorId;
+    }
+
+    /**
+     * Get the length of the bucket
+     *
+     * @return the length of the bucket, in seconds
+     */
+    public long getResolutionSeconds() {
+        return resolutionSeconds;
+    }
+
+    /**
+     * Get the start of the bucket
+     *
+     * @return the start of the bucket
+     */
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Compares the key with another object.
+     *
+     * @param o the object to compare with.
+     * @return true if the object is a key of the same sensor, resolution and bucket, false otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReadingRollupIdDataModel that = (ReadingRollupIdDataModel) o;
+        return resolutionSeconds == that.resolutionSeconds && Objects.equals(sensorId, that.sensorId)
+                && Objects.equals(bucketStart, that.bucketStart);
+    }
+
+    /**
+     * Returns the hash code of the key.
+     *
+     * @return the hash code of the key.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(sensorId, resolutionSeconds, bucketStart);
+    }
+}
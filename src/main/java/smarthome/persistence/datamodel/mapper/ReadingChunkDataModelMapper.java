@@ -0,0 +1,50 @@
+package smarthome.persistence.datamodel.mapper;
+
+import org.springframework.stereotype.Component;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.datamodel.ReadingChunkDataModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps data model objects to domain model objects for reading chunks.
+ */
+@Component
+public class ReadingChunkDataModelMapper {
+
+    /**
+     * Constructs a new {@code ReadingChunkDataModelMapper}.
+     */
+    public ReadingChunkDataModelMapper() {
+        // Empty constructor
+    }
+
+    /**
+     * Converts a {@link ReadingChunkDataModel} to a {@link ReadingChunk} domain model object.
+     *
+     * @param chunkDataModel the data model object to convert
+     * @return the domain model object created from the data model
+     */
+    public ReadingChunk toReadingChunk(ReadingChunkDataModel chunkDataModel) {
+        return new ReadingChunk(new SensorId(chunkDataModel.getId().getSensorId()),
+                chunkDataModel.getId().getChunkSequence(), chunkDataModel.getPointCount(),
+                chunkDataModel.getFirstEpochNanos(), chunkDataModel.getLastEpochNanos(), chunkDataModel.getData());
+    }
+
+    /**
+     * Converts an iterable collection of {@link ReadingChunkDataModel} to a list of {@link ReadingChunk} domain
+     * models.
+     *
+     * @param chunkDataModels the iterable collection of data model objects to convert
+     * @return a list of domain model objects created from the data models
+     */
+    public List<ReadingChunk> toReadingChunks(Iterable<ReadingChunkDataModel> chunkDataModels) {
+        List<ReadingChunk> chunks = new ArrayList<>();
+        for (ReadingChunkDataModel chunkDataModel : chunkDataModels) {
+            chunks.add(toReadingChunk(chunkDataModel));
+        }
+        return chunks;
+    }
+}
@@ -3,10 +3,12 @@ package smarthome.persistence.datamodel.mapper;
 import org.springframework.stereotype.Component;
 import smarthome.domain.reading.Reading;
 import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.vo.NumericReadingValue;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.ReadingValue;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensor.vo.values.Value;
 import smarthome.persistence.datamodel.ReadingDataModel;
 
 import java.util.ArrayList;
@@ -41,8 +43,10 @@ public class ReadingDataModelMapper {
         ReadingId readingId = new ReadingId(readingDataModel.getReadingId());
         SensorId sensorId = new SensorId(readingDataModel.getSensorId());
         TimeStamp timeStamp = new TimeStamp(readingDataModel.getTimeStamp());
-        ReadingValue valueString = new ReadingValue(readingDataModel.getReadingValue());
-        return readingFactory.createReading(readingId, valueString, sensorId, timeStamp);
+        Value value = readingDataModel.getNumericValue() != null
+                ? new NumericReadingValue(readingDataModel.getNumericValue())
+                : new ReadingValue(readingDataModel.getReadingValue());
+        return readingFactory.createReading(readingId, value, sensorId, timeStamp);
     }
 
     /**
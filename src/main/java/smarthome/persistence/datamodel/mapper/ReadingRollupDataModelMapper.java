@@ -0,0 +1,62 @@
+package smarthome.persistence.datamodel.mapper;
+
+import org.springframework.stereotype.Component;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.datamodel.ReadingRollupDataModel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps data model objects to domain model objects for reading rollups.
+ */
+@Component
+public class ReadingRollupDataModelMapper {
+
+    /**
+     * Constructs a new {@code ReadingRollupDataModelMapper}.
+     */
+    public ReadingRollupDataModelMapper() {
+        // Empty constructor
+    }
+
+    /**
+     * Converts a {@link ReadingRollupDataModel} to a {@link ReadingRollup} domain model object.
+     *
+     * @param rollupDataModel the data model object to convert
+     * @return the domain model object created from the data model
+     * @throws IllegalArgumentException if the resolution of the data model is not known
+     */
+    public ReadingRollup toReadingRollup(ReadingRollupDataModel rollupDataModel) {
+        return new ReadingRollup(new SensorId(rollupDataModel.getId().getSensorId()),
+                toResolution(rollupDataModel.getId().getResolutionSeconds()), rollupDataModel.getId().getBucketStart(),
+                rollupDataModel.getReadingCount(), rollupDataModel.getValueSum(), rollupDataModel.getMinValue(),
+                rollupDataModel.getMaxValue(), rollupDataModel.getStartCount(), rollupDataModel.getStartSum());
+    }
+
+    /**
+     * Converts an iterable collection of {@link ReadingRollupDataModel} to a list of {@link ReadingRollup} domain
+     * models.
+     *
+     * @param rollupDataModels the iterable collection of data model objects to convert
+     * @return a list of domain model objects created from the data models
+     */
+    public List<ReadingRollup> toReadingRollups(Iterable<ReadingRollupDataModel> rollupDataModels) {
+        List<ReadingRollup> rollups = new ArrayList<>();
+        for (ReadingRollupDataModel rollupDataModel : rollupDataModels) {
+            rollups.add(toReadingRollup(rollupDataModel));
+        }
+        return rollups;
+    }
+
+    private ReadingRollupResolution toResolution(long seconds) {
+        for (ReadingRollupResolution resolution : ReadingRollupResolution.values()) {
+            if (resolution.getSeconds() == seconds) {
+                return resolution;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+}
@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.actuatormodel.ActuatorModel;
 import smarthome.domain.actuatormodel.vo.ActuatorModelName;
@@ -25,6 +21,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository {
 
     private final ActuatorModelDataModelMapper actuatorModelDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor for the ActuatorModelRepositoryJPAImpl class.
@@ -32,7 +29,18 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
      * @param actuatorModelDataModelMapper The mapper to convert between the ActuatorModel and ActuatorModelDataModel.
      */
     public ActuatorModelRepositoryJPAImpl(ActuatorModelDataModelMapper actuatorModelDataModelMapper) {
+        this(actuatorModelDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the ActuatorModelRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param actuatorModelDataModelMapper The mapper to convert between the ActuatorModel and ActuatorModelDataModel.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public ActuatorModelRepositoryJPAImpl(ActuatorModelDataModelMapper actuatorModelDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.actuatorModelDataModelMapper = actuatorModelDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -47,25 +55,11 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
         if (actuatorModel == null || containsIdentity(actuatorModel.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
-            EntityTransaction transaction = manager.getTransaction();
+        return persistenceUnit.write(manager -> {
             ActuatorModelDataModel actuatorModelDataModel = new ActuatorModelDataModel(actuatorModel);
-            transaction.begin();
             manager.persist(actuatorModelDataModel);
-            transaction.commit();
             return actuatorModel;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -75,22 +69,11 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
      */
     @Override
     public Iterable<ActuatorModel> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM ActuatorModelDataModel  e");
             List<ActuatorModelDataModel> actuatorModelDataModels = query.getResultList();
             return actuatorModelDataModelMapper.toActuatorModelsDomain(actuatorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
 
@@ -106,11 +89,7 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
         if (actuatorModelName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             ActuatorModelDataModel actuatorModelDataModel = manager.find(ActuatorModelDataModel.class,
                     actuatorModelName.getActuatorModelName());
             if (actuatorModelDataModel != null) {
@@ -120,14 +99,7 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -142,8 +114,7 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
         if (actuatorModelName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<ActuatorModel> optionalActuatorModel = findByIdentity(actuatorModelName);
-        return optionalActuatorModel.isPresent();
+        return persistenceUnit.exists(ActuatorModelDataModel.class, "actuatorModelName", actuatorModelName.getActuatorModelName());
     }
 
     /**
@@ -158,24 +129,13 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM ActuatorModelDataModel e WHERE e.actuatorTypeName = " +
                     ":typeName", ActuatorModelDataModel.class);
             query.setParameter("typeName", actuatorTypeName.getActuatorTypeName());
             List<ActuatorModelDataModel> actuatorModelDataModels = query.getResultList();
             return actuatorModelDataModelMapper.toActuatorModelsDomain(actuatorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -190,23 +150,12 @@ public class ActuatorModelRepositoryJPAImpl implements IActuatorModelRepository
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM ActuatorModelDataModel e WHERE e.actuatorTypeName = " +
                     ":typeName", ActuatorModelDataModel.class);
             query.setParameter("typeName", actuatorTypeName);
             List<ActuatorModelDataModel> actuatorModelDataModels = query.getResultList();
             return actuatorModelDataModelMapper.toActuatorModelNamesDomain(actuatorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 }
@@ -1,11 +1,8 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
 import jakarta.persistence.NoResultException;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 import smarthome.domain.actuator.Actuator;
 import smarthome.domain.actuator.vo.ActuatorId;
 import smarthome.domain.device.vo.DeviceId;
@@ -23,6 +20,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
  */
 public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
     private final ActuatorDataModelMapper actuatorDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor for ActuatorRepositoryJPAImpl.
@@ -30,7 +28,18 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
      * @param actuatorDataModelMapper The data model mapper for actuator objects.
      */
     public ActuatorRepositoryJPAImpl(ActuatorDataModelMapper actuatorDataModelMapper) {
+        this(actuatorDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the ActuatorRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param actuatorDataModelMapper The data model mapper for actuator objects.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public ActuatorRepositoryJPAImpl(ActuatorDataModelMapper actuatorDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.actuatorDataModelMapper = actuatorDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -46,23 +55,11 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
         if (entity == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory fac = null;
-        EntityManager manager = null;
-        try {
-            fac = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = fac.createEntityManager();
+        return persistenceUnit.write(manager -> {
             ActuatorDataModel actuatorDataModel = new ActuatorDataModel(entity);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(actuatorDataModel);
-            transaction.commit();
             return entity;
-        } finally {
-            assert manager != null;
-            manager.close();
-            assert fac != null;
-            fac.close();
-        }
+        });
     }
 
     /**
@@ -72,20 +69,11 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
      */
     @Override
     public Iterable<Actuator> findAll() {
-        EntityManagerFactory fac = null;
-        EntityManager manager = null;
-        try {
-            fac = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = fac.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT a FROM ActuatorDataModel a");
             List<ActuatorDataModel> actuatorDataModels = query.getResultList();
             return actuatorDataModelMapper.toActuatorsDomain(actuatorDataModels);
-        } finally {
-            assert manager != null;
-            manager.close();
-            assert fac != null;
-            fac.close();
-        }
+        });
     }
 
     /**
@@ -100,23 +88,16 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory fac = null;
-        EntityManager manager = null;
-        try {
-            fac = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = fac.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT a FROM ActuatorDataModel a WHERE a.actuatorId = :id");
             query.setParameter("id", id.getActuatorId());
-            ActuatorDataModel actuatorDataModel = (ActuatorDataModel) query.getSingleResult();
-            return Optional.of(actuatorDataModelMapper.toActuatorDomain(actuatorDataModel));
-        } catch (NoResultException e) {
-            return Optional.empty();
-        } finally {
-            assert manager != null;
-            manager.close();
-            assert fac != null;
-            fac.close();
-        }
+            try {
+                ActuatorDataModel actuatorDataModel = (ActuatorDataModel) query.getSingleResult();
+                return Optional.of(actuatorDataModelMapper.toActuatorDomain(actuatorDataModel));
+            } catch (NoResultException e) {
+                return Optional.empty();
+            }
+        });
     }
 
     /**
@@ -130,7 +111,7 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        return findByIdentity(id).isPresent();
+        return persistenceUnit.exists(ActuatorDataModel.class, "actuatorId", id.getActuatorId());
     }
 
     /**
@@ -144,23 +125,31 @@ public class ActuatorRepositoryJPAImpl implements IActuatorRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT a.actuatorId FROM ActuatorDataModel a WHERE a.deviceId = :deviceId");
             query.setParameter("deviceId", deviceId.getIdentity());
             return query.getResultList();
+        });
+    }
+
+    /**
+     * Retrieves all actuators of a device.
+     *
+     * @param deviceId The identity of the device.
+     * @return An Iterable containing the actuators of the device.
+     */
+    @Override
+    public Iterable<Actuator> findActuatorsByDeviceId(DeviceId deviceId) {
+        if (deviceId == null) {
+            throw new IllegalArgumentException();
         }
-        finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        return persistenceUnit.read(manager -> {
+            TypedQuery<ActuatorDataModel> query = manager.createQuery(
+                    "SELECT a FROM ActuatorDataModel a WHERE a.deviceId = :deviceId", ActuatorDataModel.class);
+            query.setParameter("deviceId", deviceId.getIdentity());
+            List<ActuatorDataModel> actuatorDataModels = query.getResultList();
+            return actuatorDataModelMapper.toActuatorsDomain(actuatorDataModels);
+        });
     }
 }
@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.actuatortype.ActuatorType;
 import smarthome.domain.actuatortype.vo.ActuatorTypeName;
@@ -21,6 +17,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
  */
 public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
     private final ActuatorTypeDataModelMapper actuatorTypeDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor for the ActuatorTypeRepositoryJPAImpl class.
@@ -28,7 +25,19 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
      *                                    ActuatorTypeDataModel persistence model.
      */
     public ActuatorTypeRepositoryJPAImpl(ActuatorTypeDataModelMapper actuatorTypeDataModelMapper) {
+        this(actuatorTypeDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the ActuatorTypeRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param actuatorTypeDataModelMapper The mapper to convert between the ActuatorType domain model and the
+     *                                    ActuatorTypeDataModel persistence model.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public ActuatorTypeRepositoryJPAImpl(ActuatorTypeDataModelMapper actuatorTypeDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.actuatorTypeDataModelMapper = actuatorTypeDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -41,25 +50,11 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
         if (actuatorType == null || containsIdentity(actuatorType.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             ActuatorTypeDataModel actuatorTypeDataModel = new ActuatorTypeDataModel(actuatorType);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(actuatorTypeDataModel);
-            transaction.commit();
             return actuatorType;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -68,24 +63,13 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
      */
     @Override
     public Iterable<ActuatorType> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM ActuatorTypeDataModel e");
 
             List<ActuatorTypeDataModel> listDataModel = query.getResultList();
 
             return actuatorTypeDataModelMapper.toDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -95,23 +79,12 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
      */
     @Override
     public Iterable<ActuatorTypeName> findActuatorTypeNames() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.actuatorTypeName FROM ActuatorTypeDataModel e");
 
             List<String> actuatorTypeIds = query.getResultList();
             return actuatorTypeIds.stream().map(ActuatorTypeName::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -124,11 +97,7 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             ActuatorTypeDataModel actuatorTypeDataModel = manager.find(ActuatorTypeDataModel.class,
                     actuatorTypeName.getActuatorTypeName());
             if (actuatorTypeDataModel != null) {
@@ -137,14 +106,7 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -157,7 +119,6 @@ public class ActuatorTypeRepositoryJPAImpl implements IActuatorTypeRepository {
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<ActuatorType> actuatorType = findByIdentity(actuatorTypeName);
-        return actuatorType.isPresent();
+        return persistenceUnit.exists(ActuatorTypeDataModel.class, "actuatorTypeName", actuatorTypeName.getActuatorTypeName());
     }
 }
\ No newline at end of file
@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.vo.DeviceId;
@@ -26,6 +22,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class DeviceRepositoryJPAImpl implements IDeviceRepository {
 
     private final DeviceDataModelMapper deviceDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor of the Device Repository JPA
@@ -34,7 +31,18 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      * @param deviceDataModelMapper the device data model mapper
      */
     public DeviceRepositoryJPAImpl(DeviceDataModelMapper deviceDataModelMapper) {
+        this(deviceDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the DeviceRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param deviceDataModelMapper the device data model mapper
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public DeviceRepositoryJPAImpl(DeviceDataModelMapper deviceDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.deviceDataModelMapper = deviceDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -49,25 +57,11 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
         if (device == null || containsIdentity(device.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             DeviceDataModel deviceDataModel = new DeviceDataModel(device);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(deviceDataModel);
-            transaction.commit();
             return device;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -79,24 +73,13 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<Device> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e FROM DeviceDataModel e");
             List<DeviceDataModel> deviceDataModels = query.getResultList();
             Iterable<Device> devices = deviceDataModelMapper.toDevicesDomain(deviceDataModels);
             return devices;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -113,11 +96,7 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             DeviceDataModel deviceDataModel = manager.find(DeviceDataModel.class, deviceId.getIdentity());
             if (deviceDataModel != null) {
                 Device device = deviceDataModelMapper.toDeviceDomain(deviceDataModel);
@@ -125,14 +104,7 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -147,8 +119,7 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        Optional<Device> device = findByIdentity(deviceId);
-        return device.isPresent();
+        return persistenceUnit.exists(DeviceDataModel.class, "deviceId", deviceId.getIdentity());
     }
 
     /**
@@ -161,25 +132,14 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<Device> findDevicesByRoomId(RoomId roomId) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e FROM DeviceDataModel e WHERE e.roomIdentity = :roomId");
             query.setParameter("roomId", roomId.getRoomId());
             List<DeviceDataModel> deviceDataModels = query.getResultList();
             Iterable<Device> devices = deviceDataModelMapper.toDevicesDomain(deviceDataModels);
             return devices;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -193,24 +153,13 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<DeviceId> findDeviceIdsByRoomId(RoomId roomId) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e.roomIdentity FROM DeviceDataModel e WHERE e.roomIdentity = :roomId");
             query.setParameter("roomId", roomId.getRoomId());
             List<DeviceId> deviceIds = query.getResultList();
             return deviceIds;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -225,11 +174,7 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Device update(Device device) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             DeviceDataModel deviceDataModel = manager.find(DeviceDataModel.class, device.getIdentity().getIdentity());
             if (deviceDataModel == null) {
                 return null;
@@ -238,19 +183,9 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
             if (!isUpdated) {
                 return null;
             }
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.merge(deviceDataModel);
-            transaction.commit();
             return device;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -260,24 +195,13 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<DeviceId> findDeviceIdsByDeviceTypeName(DeviceTypeName deviceTypeName) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e.deviceId FROM DeviceDataModel e WHERE e.deviceTypeName = :deviceTypeName");
             query.setParameter("deviceTypeName", deviceTypeName.getDeviceTypeName());
             List<DeviceId> deviceIds = query.getResultList();
             return deviceIds;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -286,22 +210,11 @@ public class DeviceRepositoryJPAImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<DeviceId> findDeviceIds() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e.deviceId FROM DeviceDataModel e");
             List<String> deviceIds = query.getResultList();
             return deviceIds.stream().map(DeviceId::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 }
@@ -18,6 +18,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
 
     private final DeviceTypeDataModelMapper deviceTypeDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor for the DeviceTypeRepositoryJPAImpl class.
@@ -25,7 +26,19 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
      *                                  DeviceTypeDataModel persistence model.
      */
     public DeviceTypeRepositoryJPAImpl(DeviceTypeDataModelMapper deviceTypeDataModelMapper) {
+        this(deviceTypeDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the DeviceTypeRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param deviceTypeDataModelMapper The mapper to convert between the DeviceType domain model and the
+     *                                  DeviceTypeDataModel persistence model.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public DeviceTypeRepositoryJPAImpl(DeviceTypeDataModelMapper deviceTypeDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.deviceTypeDataModelMapper = deviceTypeDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -39,25 +52,11 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
         if (deviceType == null || containsIdentity(deviceType.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             DeviceTypeDataModel deviceTypeDataModel = new DeviceTypeDataModel(deviceType);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(deviceTypeDataModel);
-            transaction.commit();
             return deviceType;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -67,24 +66,13 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
      */
     @Override
     public Iterable<DeviceType> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM DeviceTypeDataModel e");
 
             List<DeviceTypeDataModel> listDataModel = query.getResultList();
 
             return deviceTypeDataModelMapper.toDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -94,23 +82,12 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
      */
     @Override
     public Iterable<DeviceTypeName> findDeviceTypeNames() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.deviceTypeName FROM DeviceTypeDataModel e");
 
             List<String> deviceTypeNames = query.getResultList();
             return deviceTypeNames.stream().map(DeviceTypeName::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -124,11 +101,7 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
         if (deviceTypeName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             DeviceTypeDataModel deviceTypeDataModel = manager.find(DeviceTypeDataModel.class,
                     deviceTypeName.getDeviceTypeName());
             if (deviceTypeDataModel != null) {
@@ -137,14 +110,7 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -158,8 +124,7 @@ public class DeviceTypeRepositoryJPAImpl implements IDeviceTypeRepository {
         if (deviceTypeName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<DeviceType> deviceType = findByIdentity(deviceTypeName);
-        return deviceType.isPresent();
+        return persistenceUnit.exists(DeviceTypeDataModel.class, "deviceTypeName", deviceTypeName.getDeviceTypeName());
     }
 
 }
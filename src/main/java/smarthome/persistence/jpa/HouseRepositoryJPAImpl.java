@@ -1,13 +1,9 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.house.House;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IHouseRepository;
-import smarthome.persistence.PersistenceUnitName;
 import smarthome.persistence.datamodel.HouseDataModel;
 import smarthome.persistence.datamodel.mapper.HouseDataModelMapper;
 
@@ -25,6 +21,7 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
      * Mapper to convert between House and HouseDataModel objects.
      */
     private final HouseDataModelMapper houseDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructs a new repository with the specified data model mapper.
@@ -32,7 +29,18 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
      * @param houseDataModelMapper the mapper to convert between domain and data model objects.
      */
     public HouseRepositoryJPAImpl(HouseDataModelMapper houseDataModelMapper) {
+        this(houseDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the HouseRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param houseDataModelMapper the mapper to convert between domain and data model objects.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public HouseRepositoryJPAImpl(HouseDataModelMapper houseDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.houseDataModelMapper = houseDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -47,23 +55,10 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
         if (theHouse == null) {
             throw new IllegalArgumentException("House cannot be null.");
         }
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PersistenceUnitName.PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
-            em.getTransaction().begin();
+        return persistenceUnit.write(em -> {
             em.merge(theHouse);
-            em.getTransaction().commit();
             return theHouse;
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -73,23 +68,12 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
      */
     @Override
     public List<HouseName> findHouseIds() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT h.houseName FROM HouseDataModel h");
 
             List<String> houseIdsList = query.getResultList();
             return houseIdsList.stream().map(HouseName::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -104,23 +88,10 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
         if (entity == null) {
             throw new IllegalArgumentException("House cannot be null.");
         }
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PersistenceUnitName.PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
-            em.getTransaction().begin();
+        return persistenceUnit.write(em -> {
             em.persist(entity);
-            em.getTransaction().commit();
             return entity;
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -130,22 +101,11 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
      */
     @Override
     public Iterable<House> findAll() {
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PersistenceUnitName.PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             Query query = em.createQuery("SELECT e FROM HouseDataModel e");
             List<HouseDataModel> houseDataModels = query.getResultList();
             return houseDataModelMapper.toHousesDomain(houseDataModels);
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -160,24 +120,13 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
         if (id == null) {
             throw new IllegalArgumentException("House identity cannot be null.");
         }
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PersistenceUnitName.PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             HouseDataModel houseDataModel = em.find(HouseDataModel.class, id);
             if (houseDataModel == null) {
                 return Optional.empty();
             }
             return Optional.of(houseDataModelMapper.toHouseDomain(houseDataModel));
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -192,6 +141,6 @@ public class HouseRepositoryJPAImpl implements IHouseRepository {
         if (id == null) {
             throw new IllegalArgumentException("House identity cannot be null.");
         }
-        return findByIdentity(id).isPresent();
+        return persistenceUnit.exists(HouseDataModel.class, "houseName", id.getName());
     }
 }
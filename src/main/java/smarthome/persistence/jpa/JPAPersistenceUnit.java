@@ -0,0 +1,149 @@
+package smarthome.persistence.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import jakarta.persistence.Persistence;
+import smarthome.persistence.PersistenceUnitName;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Shared access to the EntityManagerFactory of a persistence unit, used by the JPA repositories.
+ * <p>
+ * Building an EntityManagerFactory bootstraps the Hibernate metadata and a connection pool, so there is a single
+ * factory per persistence unit, created on first use and closed when the unit is closed or the JVM shuts down.
+ * Each operation runs on its own EntityManager, which is cheap to create and not thread safe, and is closed as
+ * soon as the operation ends.
+ * </p>
+ */
+public final class JPAPersistenceUnit implements AutoCloseable {
+
+    private static final Map<String, JPAPersistenceUnit> UNITS = new ConcurrentHashMap<>();
+
+    private final Supplier<EntityManagerFactory> factorySupplier;
+    private volatile EntityManagerFactory factory;
+
+    /**
+     * Constructs a persistence unit whose factory is created, on first use, by the given supplier.
+     *
+     * @param factorySupplier the supplier of the entity manager factory.
+     * @throws IllegalArgumentException if the supplier is null.
+     */
+    public JPAPersistenceUnit(Supplier<EntityManagerFactory> factorySupplier) {
+        if (factorySupplier == null) {
+            throw new IllegalArgumentException();
+        }
+        this.factorySupplier = factorySupplier;
+    }
+
+    /**
+     * Returns the shared persistence unit with the given name, registering it on first use.
+     * The factory of a shared unit is closed when the JVM shuts down.
+     *
+     * @param persistenceUnitName the name of the persistence unit.
+     * @return the shared persistence unit.
+     */
+    public static JPAPersistenceUnit of(PersistenceUnitName persistenceUnitName) {
+        String name = persistenceUnitName.getPersistenceUnitName();
+        return UNITS.computeIfAbsent(name, key -> {
+            JPAPersistenceUnit unit = new JPAPersistenceUnit(() -> Persistence.createEntityManagerFactory(key));
+            Runtime.getRuntime().addShutdownHook(new Thread(unit::close));
+            return unit;
+        });
+    }
+
+    /**
+     * Runs a read only operation on a new EntityManager, closing it afterwards.
+     *
+     * @param operation the operation to run.
+     * @param <R>       the type of the result.
+     * @return the result of the operation.
+     */
+    public <R> R read(Function<EntityManager, R> operation) {
+        EntityManager manager = getFactory().createEntityManager();
+        try {
+            return operation.apply(manager);
+        } finally {
+            manager.close();
+        }
+    }
+
+    /**
+     * Runs an operation inside a transaction on a new EntityManager, closing it afterwards.
+     * The transaction is committed if the operation ends normally, and rolled back if it throws.
+     *
+     * @param operation the operation to run.
+     * @param <R>       the type of the result.
+     * @return the result of the operation.
+     */
+    public <R> R write(Function<EntityManager, R> operation) {
+        EntityManager manager = getFactory().createEntityManager();
+        EntityTransaction transaction = manager.getTransaction();
+        try {
+            transaction.begin();
+            R result = operation.apply(manager);
+            transaction.commit();
+            return result;
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        } finally {
+            manager.close();
+        }
+    }
+
+    /**
+     * Checks if an entity with the given primary key exists, without loading or mapping the entity.
+     *
+     * @param dataModelClass the entity class.
+     * @param idAttribute    the name of the primary key attribute.
+     * @param id             the primary key.
+     * @return true if the entity exists, false otherwise.
+     */
+    public boolean exists(Class<?> dataModelClass, String idAttribute, Object id) {
+        String jpql = "SELECT 1 FROM " + dataModelClass.getSimpleName() + " e WHERE e." + idAttribute + " = :id";
+        return read(manager -> !manager.createQuery(jpql, Integer.class)
+                .setParameter("id", id)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty());
+    }
+
+    /**
+     * Closes the entity manager factory, if it was created. A later operation creates a new one.
+     */
+    @Override
+    public synchronized void close() {
+        if (factory != null) {
+            if (factory.isOpen()) {
+                factory.close();
+            }
+            factory = null;
+        }
+    }
+
+    /**
+     * Returns the entity manager factory, creating it on first use.
+     *
+     * @return the entity manager factory.
+     */
+    private EntityManagerFactory getFactory() {
+        EntityManagerFactory current = factory;
+        if (current == null) {
+            synchronized (this) {
+                current = factory;
+                if (current == null) {
+                    current = factorySupplier.get();
+                    factory = current;
+                }
+            }
+        }
+        return current;
+    }
+}
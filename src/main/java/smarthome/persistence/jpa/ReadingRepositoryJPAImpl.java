@@ -1,8 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.TypedQuery;
 import smarthome.domain.reading.Reading;
 import smarthome.domain.reading.vo.ReadingId;
@@ -10,7 +7,8 @@ import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.repository.IReadingRepository;
 import smarthome.domain.sensor.vo.SensorId;
 
-import java.util.ArrayList;
+import smarthome.persistence.datamodel.ReadingDataModel;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +19,25 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
  * Implementation of IReadingRepository using JPA
  */
 public class ReadingRepositoryJPAImpl implements IReadingRepository {
+
+    private final JPAPersistenceUnit persistenceUnit;
+
+    /**
+     * Constructor of the ReadingRepositoryJPAImpl, running its operations on the shared persistence unit.
+     */
+    public ReadingRepositoryJPAImpl() {
+        this(JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the ReadingRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public ReadingRepositoryJPAImpl(JPAPersistenceUnit persistenceUnit) {
+        this.persistenceUnit = persistenceUnit;
+    }
+
     /**
      * Save a Reading entity to the repository.
      *
@@ -32,23 +49,10 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
         if (entity == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
-            em.getTransaction().begin();
+        return persistenceUnit.write(em -> {
             em.persist(entity);
-            em.getTransaction().commit();
             return entity;
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -58,20 +62,9 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
      */
     @Override
     public Iterable<Reading> findAll() {
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             return em.createQuery("SELECT r FROM ReadingDataModel r", Reading.class).getResultList();
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -85,20 +78,9 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = jakarta.persistence.Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             return Optional.ofNullable(em.find(Reading.class, id));
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 
     /**
@@ -113,7 +95,7 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        return findByIdentity(id).isPresent();
+        return persistenceUnit.exists(ReadingDataModel.class, "readingId", id.getId());
     }
 
     /**
@@ -126,28 +108,15 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
      */
     @Override
     public Iterable<Reading> findReadingsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        List<Reading> results = new ArrayList<>();
-        try {
-            emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             String jpql = "SELECT r FROM ReadingDataModel r WHERE r.sensorId = :sensorId " + "AND r.timeStamp >= " +
                     ":start " + "AND r.timeStamp <= :end";
             TypedQuery<Reading> query = em.createQuery(jpql, Reading.class);
             query.setParameter("sensorId", sensorId);
             query.setParameter("start", start);
             query.setParameter("end", end);
-            results = query.getResultList();
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
-        return results;
+            return query.getResultList();
+        });
     }
 
     /**
@@ -159,28 +128,15 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
      * @return all reading identities for the sensor in the given period
      */
     public Iterable<ReadingId> findReadingIdsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        List<ReadingId> results = new ArrayList<>();
-        try {
-            emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             String jpql = "SELECT r.id FROM ReadingDataModel r WHERE r.sensorId = :sensorId " + "AND r.timeStamp >= " +
                     ":start " + "AND r.timeStamp <= :end";
             TypedQuery<ReadingId> query = em.createQuery(jpql, ReadingId.class);
             query.setParameter("sensorId", sensorId);
             query.setParameter("start", start);
             query.setParameter("end", end);
-            results = query.getResultList();
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
-        return results;
+            return query.getResultList();
+        });
     }
 
     /**
@@ -191,23 +147,12 @@ public class ReadingRepositoryJPAImpl implements IReadingRepository {
      */
     @Override
     public Optional<Reading> findLastReadingBySensorId(SensorId sensorId) {
-        EntityManagerFactory emf = null;
-        EntityManager em = null;
-        try {
-            emf = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            em = emf.createEntityManager();
+        return persistenceUnit.read(em -> {
             String jpql = "SELECT r FROM ReadingDataModel r WHERE r.sensorId = :sensorId ORDER BY r.timeStamp DESC";
             TypedQuery<Reading> query = em.createQuery(jpql, Reading.class);
             query.setParameter("sensorId", sensorId);
             query.setMaxResults(1);
             return Optional.ofNullable(query.getSingleResult());
-        } finally {
-            if (em != null) {
-                em.close();
-            }
-            if (emf != null) {
-                emf.close();
-            }
-        }
+        });
     }
 }
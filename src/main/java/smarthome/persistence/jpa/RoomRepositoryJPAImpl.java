@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IRoomRepository;
@@ -23,6 +19,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class RoomRepositoryJPAImpl implements IRoomRepository {
 
     private final RoomDataModelMapper roomDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Instantiates a new Room repository JPA implementation.
@@ -30,7 +27,18 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
      * @param roomDataModelMapper The room data model mapper.
      */
     public RoomRepositoryJPAImpl(RoomDataModelMapper roomDataModelMapper) {
+        this(roomDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the RoomRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param roomDataModelMapper The room data model mapper.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public RoomRepositoryJPAImpl(RoomDataModelMapper roomDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.roomDataModelMapper = roomDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -46,25 +54,11 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
         if (room == null || containsIdentity(room.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
-            EntityTransaction transaction = manager.getTransaction();
+        return persistenceUnit.write(manager -> {
             RoomDataModel roomDataModel = new RoomDataModel(room);
-            transaction.begin();
             manager.persist(roomDataModel);
-            transaction.commit();
             return room;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -74,23 +68,12 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
      */
     @Override
     public Iterable<Room> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM RoomDataModel e");
 
             List<RoomDataModel> roomDataModels = query.getResultList();
             return roomDataModelMapper.toRoomsDomain(roomDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -100,23 +83,12 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
      */
     @Override
     public Iterable<RoomId> findRoomIds() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.roomId FROM RoomDataModel e");
 
             List<String> roomIds = query.getResultList();
             return roomIds.stream().map(RoomId::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -127,24 +99,13 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
      */
     @Override
     public Iterable<RoomId> findRoomIdsByHouseName(HouseName houseName) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.
                     createQuery("SELECT e.roomId FROM RoomDataModel e WHERE e.houseName = :houseName");
 
             List<String> roomIds = query.getResultList();
             return roomIds.stream().map(RoomId::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -160,11 +121,7 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
             throw new IllegalArgumentException();
         }
 
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             RoomDataModel roomDataModel = manager.find(RoomDataModel.class, roomId.getRoomId());
             if (roomDataModel != null) {
                 Room room = roomDataModelMapper.toRoomDomain(roomDataModel);
@@ -172,14 +129,7 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -194,8 +144,7 @@ public class RoomRepositoryJPAImpl implements IRoomRepository {
         if (roomId == null) {
             throw new IllegalArgumentException();
         }
-        Optional<Room> room = findByIdentity(roomId);
-        return room.isPresent();
+        return persistenceUnit.exists(RoomDataModel.class, "roomId", roomId.getRoomId());
     }
 
 }
@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.repository.ISensorModelRepository;
 import smarthome.domain.sensormodel.SensorModel;
@@ -24,6 +20,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
 
     private final SensorModelDataModelMapper sensorModelDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructs a SensorModelRepositoryJPAImpl object with the given SensorModelDataModelMapper.
@@ -31,8 +28,18 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
      * @param sensorModelDataModelMapper
      */
     public SensorModelRepositoryJPAImpl(SensorModelDataModelMapper sensorModelDataModelMapper) {
-        this.sensorModelDataModelMapper = sensorModelDataModelMapper;
+        this(sensorModelDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
 
+    /**
+     * Constructor of the SensorModelRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param sensorModelDataModelMapper the mapper to convert between SensorModel and SensorModelDataModel objects.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public SensorModelRepositoryJPAImpl(SensorModelDataModelMapper sensorModelDataModelMapper, JPAPersistenceUnit persistenceUnit) {
+        this.sensorModelDataModelMapper = sensorModelDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -47,25 +54,13 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
         if (sensorTypeId == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorModelDataModel e" + " WHERE e.sensorTypeId = " +
                     ":sensorTypeId", SensorModelDataModel.class);
             query.setParameter("sensorTypeId", sensorTypeId.getSensorTypeId());
             List<SensorModelDataModel> sensorModelDataModels = query.getResultList();
             return sensorModelDataModelMapper.toSensorModelsDomain(sensorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -80,24 +75,12 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
         if (sensorTypeId == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorModelDataModel e WHERE e.sensorTypeId = :sensorTypeId", SensorModelDataModel.class);
             query.setParameter("sensorTypeId", sensorTypeId);
             List<SensorModelDataModel> sensorModelDataModels = query.getResultList();
             return sensorModelDataModelMapper.toSensorModelNamesDomain(sensorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -112,26 +95,11 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
         if (sensorModel == null || containsIdentity(sensorModel.getIdentity())) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             SensorModelDataModel sensorModelDataModel = new SensorModelDataModel(sensorModel);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(sensorModelDataModel);
-            transaction.commit();
             return sensorModel;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -141,23 +109,12 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
      */
     @Override
     public Iterable<SensorModel> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorModelDataModel e");
 
             List<SensorModelDataModel> sensorModelDataModels = query.getResultList();
             return sensorModelDataModelMapper.toSensorModelsDomain(sensorModelDataModels);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -172,13 +129,7 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
         if (sensorModelName == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-
-
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             SensorModelDataModel sensorModelDataModel = manager.find(SensorModelDataModel.class,
                     sensorModelName.getSensorModelName());
             if (sensorModelDataModel != null) {
@@ -187,14 +138,7 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -209,8 +153,6 @@ public class SensorModelRepositoryJPAImpl implements ISensorModelRepository {
         if (sensorModelName == null) {
             throw new IllegalArgumentException();
         }
-
-        Optional<SensorModel> optionalSensorModel = findByIdentity(sensorModelName);
-        return optionalSensorModel.isPresent();
+        return persistenceUnit.exists(SensorModelDataModel.class, "sensorModelName", sensorModelName.getSensorModelName());
     }
 }
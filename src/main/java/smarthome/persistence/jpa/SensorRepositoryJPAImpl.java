@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.repository.ISensorRepository;
@@ -26,6 +22,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class SensorRepositoryJPAImpl implements ISensorRepository {
 
     private final SensorDataModelMapper sensorDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
 
     /**
@@ -36,7 +33,18 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      * @param sensorDataModelMapper The SensorDataModelMapper object to be used for entity mapping.
      */
     public SensorRepositoryJPAImpl(SensorDataModelMapper sensorDataModelMapper) {
+        this(sensorDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the SensorRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param sensorDataModelMapper The SensorDataModelMapper object to be used for entity mapping.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public SensorRepositoryJPAImpl(SensorDataModelMapper sensorDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.sensorDataModelMapper = sensorDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -52,25 +60,11 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
             throw new IllegalArgumentException();
         }
 
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.write(manager -> {
             SensorDataModel sensorDataModel = new SensorDataModel(sensor);
-            EntityTransaction transaction = manager.getTransaction();
-            transaction.begin();
             manager.persist(sensorDataModel);
-            transaction.commit();
             return sensor;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -80,25 +74,13 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      */
     @Override
     public Iterable<Sensor> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorDataModel e");
 
             List<SensorDataModel> listDataModel = query.getResultList();
 
             return sensorDataModelMapper.toDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-
-        }
+        });
     }
 
     /**
@@ -109,13 +91,7 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      */
     @Override
     public Optional<Sensor> findByIdentity(SensorId id) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
-
+        return persistenceUnit.read(manager -> {
             SensorDataModel sensorDataModel = manager.find(SensorDataModel.class, id.toString());
 
             if (sensorDataModel != null) {
@@ -124,14 +100,7 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
             } else {
                 return Optional.empty();
             }
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -139,13 +108,14 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      *
      * @param id The identity of the Sensor object
      * @return true if the Sensor object exists, false otherwise
+     * @throws IllegalArgumentException if the identity is null
      */
     @Override
     public boolean containsIdentity(SensorId id) {
-
-        Optional<Sensor> optionalSensor = findByIdentity(id);
-
-        return optionalSensor.isPresent();
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        return persistenceUnit.exists(SensorDataModel.class, "sensorId", id.getSensorId());
     }
 
     /**
@@ -161,25 +131,13 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      */
     public Iterable<Sensor> findSensorsByDeviceId(DeviceId deviceId) {
 
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorDataModel e WHERE e.deviceId = :deviceId");
 
             List<SensorDataModel> listDataModel = query.getResultList();
 
             return sensorDataModelMapper.toDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-
-        }
+        });
 
     }
 
@@ -193,11 +151,7 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
      */
     @Override
     public Iterable<Sensor> findSensorsByDeviceIdAndSensorModelName(DeviceId deviceId, SensorModelName sensorModelName) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery(
                     "SELECT e FROM SensorDataModel e WHERE e.deviceId = :deviceId " +
                             "AND e.sensorModelName = :sensorModelName");
@@ -205,14 +159,7 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
             List<SensorDataModel> listDataModel = query.getResultList();
 
             return sensorDataModelMapper.toDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -225,24 +172,13 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
     @Override
     public Iterable<SensorId> findSensorIdsByDeviceIdAndSensorModelName(DeviceId deviceId,
                                                                         SensorModelName sensorModelName) {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.sensorId FROM SensorDataModel e WHERE e.deviceId = :deviceId " + "AND e.sensorModelName" + " = :sensorModelName");
 
             List<SensorId> sensorIds = query.getResultList();
 
             return sensorIds;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -259,11 +195,7 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.sensorId FROM SensorDataModel e WHERE e.deviceId = :deviceId");
 
             query.setParameter("deviceId", deviceId.toString());
@@ -271,13 +203,6 @@ public class SensorRepositoryJPAImpl implements ISensorRepository {
             List<SensorId> sensorIds = query.getResultList();
 
             return sensorIds;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 }
\ No newline at end of file
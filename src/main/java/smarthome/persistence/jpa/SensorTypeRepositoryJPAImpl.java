@@ -1,9 +1,5 @@
 package smarthome.persistence.jpa;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.EntityManagerFactory;
-import jakarta.persistence.EntityTransaction;
-import jakarta.persistence.Persistence;
 import jakarta.persistence.Query;
 import smarthome.domain.repository.ISensorTypeRepository;
 import smarthome.domain.sensortype.SensorType;
@@ -23,6 +19,7 @@ import static smarthome.persistence.PersistenceUnitName.PERSISTENCE_UNIT_NAME;
 public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
 
     private final SensorTypeDataModelMapper sensorTypeDataModelMapper;
+    private final JPAPersistenceUnit persistenceUnit;
 
     /**
      * Constructor for the SensorTypeRepositoryJPAImpl class.
@@ -30,7 +27,18 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
      * @param sensorTypeDataModelMapper The sensor type data model mapper.
      */
     public SensorTypeRepositoryJPAImpl(SensorTypeDataModelMapper sensorTypeDataModelMapper) {
+        this(sensorTypeDataModelMapper, JPAPersistenceUnit.of(PERSISTENCE_UNIT_NAME));
+    }
+
+    /**
+     * Constructor of the SensorTypeRepositoryJPAImpl running its operations on the given persistence unit.
+     *
+     * @param sensorTypeDataModelMapper The sensor type data model mapper.
+     * @param persistenceUnit the persistence unit to run the operations on.
+     */
+    public SensorTypeRepositoryJPAImpl(SensorTypeDataModelMapper sensorTypeDataModelMapper, JPAPersistenceUnit persistenceUnit) {
         this.sensorTypeDataModelMapper = sensorTypeDataModelMapper;
+        this.persistenceUnit = persistenceUnit;
     }
 
     /**
@@ -46,25 +54,11 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
         if (sensorType == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
-            EntityTransaction transaction = manager.getTransaction();
+        return persistenceUnit.write(manager -> {
             SensorTypeDataModel sensorTypeDataModel = new SensorTypeDataModel(sensorType);
-            transaction.begin();
             manager.persist(sensorTypeDataModel);
-            transaction.commit();
             return sensorType;
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -74,22 +68,11 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
      */
     @Override
     public Iterable<SensorType> findAll() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e FROM SensorTypeDataModel e");
             List<SensorTypeDataModel> listDataModel = query.getResultList();
             return sensorTypeDataModelMapper.toSensorTypesDomain(listDataModel);
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -104,24 +87,13 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             SensorTypeDataModel sensorTypeDataModel = manager.find(SensorTypeDataModel.class, id.getSensorTypeId());
             if (sensorTypeDataModel == null) {
                 return Optional.empty();
             }
             return Optional.of(sensorTypeDataModelMapper.toSensorTypeDomain(sensorTypeDataModel));
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 
     /**
@@ -136,7 +108,7 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        return findByIdentity(id).isPresent();
+        return persistenceUnit.exists(SensorTypeDataModel.class, "sensorTypeId", id.getSensorTypeId());
     }
 
     /**
@@ -150,21 +122,10 @@ public class SensorTypeRepositoryJPAImpl implements ISensorTypeRepository {
      */
     @Override
     public Iterable<SensorTypeId> findSensorTypeIds() {
-        EntityManagerFactory factory = null;
-        EntityManager manager = null;
-        try {
-            factory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME.getPersistenceUnitName());
-            manager = factory.createEntityManager();
+        return persistenceUnit.read(manager -> {
             Query query = manager.createQuery("SELECT e.sensorTypeId FROM SensorTypeDataModel e");
             List<String> sensorTypeIds = query.getResultList();
             return sensorTypeIds.stream().map(SensorTypeId::new).toList();
-        } finally {
-            if (manager != null) {
-                manager.close();
-            }
-            if (factory != null) {
-                factory.close();
-            }
-        }
+        });
     }
 }
@@ -5,17 +5,17 @@ import smarthome.domain.actuator.vo.ActuatorId;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.repository.IActuatorRepository;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 /**
  * Repository for actuators.
- * This implementation stores the data in memory.
+ * This implementation stores the data in memory, with an index of the actuators by device. It is safe for use by
+ * concurrent threads.
  */
 public class ActuatorRepositoryMemImpl implements IActuatorRepository {
 
-    private final Map<ActuatorId, Actuator> DATA = new HashMap<>();
+    private final IndexedEntities<ActuatorId, Actuator> DATA = new IndexedEntities<>(Actuator::getIdentity);
+    private final IndexedEntities<ActuatorId, Actuator>.Index<DeviceId> BY_DEVICE = DATA.index(Actuator::getDeviceId);
 
     /**
      * Saves an actuator to the repository.
@@ -28,7 +28,7 @@ public class ActuatorRepositoryMemImpl implements IActuatorRepository {
     public Actuator save(Actuator actuator) {
         if (actuator == null)
             throw new IllegalArgumentException();
-        DATA.put(actuator.getIdentity(), actuator);
+        DATA.put(actuator);
         return actuator;
     }
 
@@ -56,7 +56,7 @@ public class ActuatorRepositoryMemImpl implements IActuatorRepository {
     public Optional<Actuator> findByIdentity(ActuatorId id) {
         if (id == null)
             throw new IllegalArgumentException();
-        return Optional.ofNullable(DATA.get(id));
+        return DATA.get(id);
     }
 
     /**
@@ -70,7 +70,7 @@ public class ActuatorRepositoryMemImpl implements IActuatorRepository {
     public boolean containsIdentity(ActuatorId id) {
         if (id == null)
             throw new IllegalArgumentException();
-        return DATA.containsKey(id);
+        return DATA.contains(id);
     }
 
     /**
@@ -85,9 +85,21 @@ public class ActuatorRepositoryMemImpl implements IActuatorRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        return DATA.values().stream()
-                .filter(actuator -> actuator.getDeviceId().equals(deviceId))
-                .map(Actuator::getIdentity)
-                .toList();
+        return BY_DEVICE.findIds(deviceId);
+    }
+
+    /**
+     * Finds all actuators by device id.
+     *
+     * @param deviceId the device id
+     * @return the actuators associated with the device id
+     * @throws IllegalArgumentException if the device id is null
+     */
+    @Override
+    public Iterable<Actuator> findActuatorsByDeviceId(DeviceId deviceId) {
+        if (deviceId == null) {
+            throw new IllegalArgumentException();
+        }
+        return BY_DEVICE.find(deviceId);
     }
 }
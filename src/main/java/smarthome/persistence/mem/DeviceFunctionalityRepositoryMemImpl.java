@@ -0,0 +1,94 @@
+package smarthome.persistence.mem;
+
+import smarthome.domain.device.Device;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.repository.IDeviceFunctionalityRepository;
+import smarthome.domain.repository.IDeviceRepository;
+import smarthome.domain.repository.ISensorModelRepository;
+import smarthome.domain.repository.ISensorRepository;
+import smarthome.domain.repository.ISensorTypeRepository;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensormodel.SensorModel;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.domain.sensortype.SensorType;
+import smarthome.domain.sensortype.vo.SensorTypeId;
+import smarthome.domain.sensortype.vo.SensorTypeName;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Repository that relates devices to the sensor types of their sensors.
+ * It is an in-memory implementation of the repository, joining the sensors, sensor models, sensor types and devices
+ * of the given repositories by hash.
+ */
+public class DeviceFunctionalityRepositoryMemImpl implements IDeviceFunctionalityRepository {
+
+    private final ISensorRepository sensorRepository;
+    private final ISensorModelRepository sensorModelRepository;
+    private final ISensorTypeRepository sensorTypeRepository;
+    private final IDeviceRepository deviceRepository;
+
+    /**
+     * Constructs the repository over the repositories it joins.
+     *
+     * @param sensorRepository      the repository of sensors.
+     * @param sensorModelRepository the repository of sensor models.
+     * @param sensorTypeRepository  the repository of sensor types.
+     * @param deviceRepository      the repository of devices.
+     * @throws IllegalArgumentException if a repository is null.
+     */
+    public DeviceFunctionalityRepositoryMemImpl(ISensorRepository sensorRepository,
+                                                ISensorModelRepository sensorModelRepository,
+                                                ISensorTypeRepository sensorTypeRepository,
+                                                IDeviceRepository deviceRepository) {
+        if (sensorRepository == null || sensorModelRepository == null || sensorTypeRepository == null
+                || deviceRepository == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sensorRepository = sensorRepository;
+        this.sensorModelRepository = sensorModelRepository;
+        this.sensorTypeRepository = sensorTypeRepository;
+        this.deviceRepository = deviceRepository;
+    }
+
+    /**
+     * Finds every pair of a sensor type name and a device that has a sensor of that type.
+     * Each repository is read once, and each pair is returned once.
+     *
+     * @return the pairs of sensor type name and device.
+     */
+    @Override
+    public List<Map.Entry<SensorTypeName, Device>> findDevicesBySensorTypeName() {
+        Map<SensorTypeId, SensorTypeName> sensorTypeNames = new HashMap<>();
+        for (SensorType sensorType : sensorTypeRepository.findAll()) {
+            sensorTypeNames.put(sensorType.getIdentity(), sensorType.getSensorTypeName());
+        }
+        Map<SensorModelName, SensorTypeName> sensorTypeNamesByModel = new HashMap<>();
+        for (SensorModel sensorModel : sensorModelRepository.findAll()) {
+            SensorTypeName sensorTypeName = sensorTypeNames.get(sensorModel.getSensorTypeId());
+            if (sensorTypeName != null) {
+                sensorTypeNamesByModel.put(sensorModel.getIdentity(), sensorTypeName);
+            }
+        }
+        Map<DeviceId, Device> devices = new HashMap<>();
+        for (Device device : deviceRepository.findAll()) {
+            devices.put(device.getIdentity(), device);
+        }
+
+        Set<Map.Entry<SensorTypeName, Device>> pairs = new LinkedHashSet<>();
+        for (Sensor sensor : sensorRepository.findAll()) {
+            SensorTypeName sensorTypeName = sensorTypeNamesByModel.get(sensor.getSensorModelName());
+            Device device = devices.get(sensor.getDeviceId());
+            if (sensorTypeName != null && device != null) {
+                pairs.add(new AbstractMap.SimpleImmutableEntry<>(sensorTypeName, device));
+            }
+        }
+        return new ArrayList<>(pairs);
+    }
+}
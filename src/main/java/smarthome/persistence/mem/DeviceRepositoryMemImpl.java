@@ -6,20 +6,22 @@ import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.repository.IDeviceRepository;
 import smarthome.domain.room.vo.RoomId;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 /**
  * Repository for devices.
  * <p>
- * This repository is backed by an in-memory HashMap data structure.
+ * This repository is backed by an in-memory HashMap data structure, with indexes of the devices by room and by
+ * device type. It is safe for use by concurrent threads.
  * It is an in-memory implementation of the repository.
  * </p>
  */
 public class DeviceRepositoryMemImpl implements IDeviceRepository {
 
-    private final Map<DeviceId, Device> DATA = new HashMap<>();
+    private final IndexedEntities<DeviceId, Device> DATA = new IndexedEntities<>(Device::getIdentity);
+    private final IndexedEntities<DeviceId, Device>.Index<RoomId> BY_ROOM = DATA.index(Device::getRoomId);
+    private final IndexedEntities<DeviceId, Device>.Index<DeviceTypeName> BY_DEVICE_TYPE =
+            DATA.index(Device::getDeviceTypeName);
 
     /**
      * Saves a device to the repository.
@@ -33,10 +35,9 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
      */
     @Override
     public Device save(Device device) {
-        if (device == null || containsIdentity(device.getIdentity())) {
+        if (device == null || !DATA.insert(device)) {
             throw new IllegalArgumentException();
         }
-        DATA.put(device.getIdentity(), device);
         return device;
     }
 
@@ -69,7 +70,7 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        return Optional.ofNullable(DATA.get(deviceId));
+        return DATA.get(deviceId);
     }
 
     /**
@@ -86,14 +87,14 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        return DATA.containsKey(deviceId);
+        return DATA.contains(deviceId);
     }
 
     /**
      * Finds all devices located in the specified room.
      * <p>
      * The method first checks if the roomID parameter is null and throws an IllegalArgumentException if it is.
-     * The method then iterates over all devices in the repository and filters out the devices located in the specified room.
+     * The method then reads the devices located in the specified room from the index of devices by room.
      * The method returns an iterable collection of devices located in the specified room.
      * The method returns an empty collection if no devices are located in the specified room.
      * The method does not return null.
@@ -110,16 +111,14 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
             throw new IllegalArgumentException();
         }
 
-        return DATA.values().stream()
-                .filter(device -> device.getRoomId().equals(roomID))
-                .toList();
+        return BY_ROOM.find(roomID);
     }
 
     /**
      * Finds all device IDs located in the specified room.
      * <p>
      * The method first checks if the roomId parameter is null and throws an IllegalArgumentException if it is.
-     * The method then iterates over all devices in the repository and filters out the device IDs located in the specified room.
+     * The method then reads the device IDs located in the specified room from the index of devices by room.
      * The method returns an iterable collection of device IDs located in the specified room.
      * The method returns an empty collection if no device IDs are located in the specified room.
      * The method does not return null.
@@ -137,10 +136,7 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
             throw new IllegalArgumentException();
         }
 
-        return DATA.values().stream()
-                .filter(device -> device.getRoomId().equals(roomId))
-                .map(Device::getIdentity)
-                .toList();
+        return BY_ROOM.findIds(roomId);
     }
 
     /**
@@ -159,10 +155,9 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
      */
     @Override
     public Device update(Device device) {
-        if (!containsIdentity(device.getIdentity())) {
+        if (!DATA.replace(device)) {
             throw new IllegalArgumentException();
         }
-        DATA.put(device.getIdentity(), device);
         return device;
     }
 
@@ -176,8 +171,7 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
         if (deviceTypeName == null)
             throw new IllegalArgumentException();
 
-        return DATA.values().stream().filter(device -> device.getDeviceTypeName().equals(deviceTypeName))
-                .map(Device::getIdentity).toList();
+        return BY_DEVICE_TYPE.findIds(deviceTypeName);
     }
 
     /**
@@ -186,6 +180,6 @@ public class DeviceRepositoryMemImpl implements IDeviceRepository {
      */
     @Override
     public Iterable<DeviceId> findDeviceIds() {
-        return DATA.keySet();
+        return DATA.ids();
     }
 }
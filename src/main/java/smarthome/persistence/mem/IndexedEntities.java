@@ -0,0 +1,252 @@
+package smarthome.persistence.mem;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * The entities of an in-memory repository, by identity and by the keys of their secondary indexes.
+ * <p>
+ * Each index maps a key of the entities, such as the room of a device, to the entities with that key, so a query by
+ * key reads only those entities instead of every entity of the repository. A write updates the map by identity and
+ * every index under a write lock, so concurrent writes are atomic and a read never sees an entity in some indexes
+ * and not in others. Reads share a read lock and return copies, which callers can iterate while others write.
+ * </p>
+ *
+ * @param <ID> the type of the identities of the entities.
+ * @param <T>  the type of the entities.
+ */
+final class IndexedEntities<ID, T> {
+
+    private final Function<T, ID> identity;
+    private final Map<ID, T> entities = new HashMap<>();
+    private final List<Index<?>> indexes = new ArrayList<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructs an empty set of entities, with no indexes.
+     *
+     * @param identity the function that returns the identity of an entity.
+     */
+    IndexedEntities(Function<T, ID> identity) {
+        this.identity = identity;
+    }
+
+    /**
+     * Adds an index of the entities by a key. Indexes are added before any entity.
+     *
+     * @param key the function that returns the key of an entity.
+     * @param <K> the type of the keys.
+     * @return the index.
+     */
+    <K> Index<K> index(Function<T, K> key) {
+        Index<K> index = new Index<>(key);
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Adds an entity, unless there is an entity with its identity.
+     *
+     * @param entity the entity.
+     * @return true if the entity was added, false if its identity was taken.
+     */
+    boolean insert(T entity) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            if (entities.containsKey(identity.apply(entity))) {
+                return false;
+            }
+            store(entity);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Replaces the entity with the identity of the given one, unless there is no such entity.
+     *
+     * @param entity the entity.
+     * @return true if the entity was replaced, false if there was no entity with its identity.
+     */
+    boolean replace(T entity) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            if (!entities.containsKey(identity.apply(entity))) {
+                return false;
+            }
+            store(entity);
+            return true;
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Adds an entity, or replaces the entity with its identity.
+     *
+     * @param entity the entity.
+     */
+    void put(T entity) {
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            store(entity);
+        } finally {
+            write.unlock();
+        }
+    }
+
+    /**
+     * Stores an entity and indexes it, in place of the entity with its identity. Runs under the write lock.
+     *
+     * @param entity the entity.
+     */
+    private void store(T entity) {
+        ID id = identity.apply(entity);
+        entities.put(id, entity);
+        for (Index<?> index : indexes) {
+            index.add(id, entity);
+        }
+    }
+
+    /**
+     * Finds an entity by its identity.
+     *
+     * @param id the identity.
+     * @return the entity, or empty if there is none.
+     */
+    Optional<T> get(ID id) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return Optional.ofNullable(entities.get(id));
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Checks if there is an entity with the given identity.
+     *
+     * @param id the identity.
+     * @return true if there is such an entity, false otherwise.
+     */
+    boolean contains(ID id) {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return entities.containsKey(id);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Returns every entity.
+     *
+     * @return a copy of the entities.
+     */
+    List<T> values() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return new ArrayList<>(entities.values());
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Returns the identity of every entity.
+     *
+     * @return a copy of the identities.
+     */
+    List<ID> ids() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return new ArrayList<>(entities.keySet());
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * An index of the entities by a key.
+     * <p>
+     * The index keeps the key each entity was indexed by, so an entity is moved to its new key when it is replaced,
+     * even if the replaced entity was changed in place.
+     * </p>
+     *
+     * @param <K> the type of the keys.
+     */
+    final class Index<K> {
+        private final Function<T, K> key;
+        private final Map<K, Map<ID, T>> entitiesByKey = new HashMap<>();
+        private final Map<ID, K> keys = new HashMap<>();
+
+        private Index(Function<T, K> key) {
+            this.key = key;
+        }
+
+        private void add(ID id, T entity) {
+            K entityKey = key.apply(entity);
+            boolean indexed = keys.containsKey(id);
+            K previousKey = keys.put(id, entityKey);
+            if (indexed && !Objects.equals(previousKey, entityKey)) {
+                Map<ID, T> withPreviousKey = entitiesByKey.get(previousKey);
+                withPreviousKey.remove(id);
+                if (withPreviousKey.isEmpty()) {
+                    entitiesByKey.remove(previousKey);
+                }
+            }
+            entitiesByKey.computeIfAbsent(entityKey, k -> new LinkedHashMap<>()).put(id, entity);
+        }
+
+        /**
+         * Finds the entities with a key.
+         *
+         * @param value the key.
+         * @return a copy of the entities with the key, in the order they were added.
+         */
+        List<T> find(K value) {
+            Lock read = lock.readLock();
+            read.lock();
+            try {
+                Map<ID, T> withKey = entitiesByKey.get(value);
+                return withKey == null ? new ArrayList<>() : new ArrayList<>(withKey.values());
+            } finally {
+                read.unlock();
+            }
+        }
+
+        /**
+         * Finds the identities of the entities with a key.
+         *
+         * @param value the key.
+         * @return a copy of the identities of the entities with the key, in the order they were added.
+         */
+        List<ID> findIds(K value) {
+            Lock read = lock.readLock();
+            read.lock();
+            try {
+                Map<ID, T> withKey = entitiesByKey.get(value);
+                return withKey == null ? new ArrayList<>() : new ArrayList<>(withKey.keySet());
+            } finally {
+                read.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package smarthome.persistence.mem;
+
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingChunkRepository;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Repository for the compressed chunks of readings.
+ * <p>
+ * The chunks of each sensor are kept by number, and indexed by the time of their first sample. A chunk spans less
+ * than one window of the policy, so the chunks with samples in a period start at most one window before it, and a
+ * period query only looks at the chunks that start in that range.
+ * </p>
+ * It is an in-memory implementation of the repository.
+ */
+public class ReadingChunkRepositoryMemImpl implements IReadingChunkRepository {
+    private final HashMap<SensorId, SensorChunks> DATA = new HashMap<>();
+    private final ReadingChunkPolicy policy;
+
+    /**
+     * Constructs a new repository with the default policy.
+     */
+    public ReadingChunkRepositoryMemImpl() {
+        this(ReadingChunkPolicy.DEFAULT);
+    }
+
+    /**
+     * Constructs a new repository with the given policy.
+     *
+     * @param policy the policy that tells when a chunk is sealed.
+     * @throws IllegalArgumentException if the policy is null.
+     */
+    public ReadingChunkRepositoryMemImpl(ReadingChunkPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException();
+        }
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the policy that tells when a chunk is sealed.
+     *
+     * @return the policy of the chunks.
+     */
+    @Override
+    public ReadingChunkPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Saves chunks, replacing the stored chunks of the same sensor and number.
+     *
+     * @param chunks the chunks to save.
+     * @throws IllegalArgumentException if the chunks, or any of them, are null.
+     */
+    @Override
+    public void saveAll(List<ReadingChunk> chunks) {
+        if (chunks == null || chunks.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException();
+        }
+        for (ReadingChunk chunk : chunks) {
+            DATA.computeIfAbsent(chunk.getSensorId(), sensorId -> new SensorChunks()).put(chunk);
+        }
+    }
+
+    /**
+     * Finds the chunk of a sensor with the highest number.
+     *
+     * @param sensorId the identity of the sensor.
+     * @return the last chunk of the sensor, or empty if the sensor has no chunks.
+     * @throws IllegalArgumentException if the sensor id is null.
+     */
+    @Override
+    public Optional<ReadingChunk> findLastChunkBySensorId(SensorId sensorId) {
+        if (sensorId == null) {
+            throw new IllegalArgumentException();
+        }
+        SensorChunks chunks = DATA.get(sensorId);
+        return chunks == null ? Optional.empty() : Optional.of(chunks.bySequence.lastEntry().getValue());
+    }
+
+    /**
+     * Finds the chunks of a sensor that have samples in a given period, both ends included.
+     *
+     * @param sensorId the identity of the sensor.
+     * @param start    the start of the period.
+     * @param end      the end of the period.
+     * @return the chunks of the sensor in the period, by number.
+     * @throws IllegalArgumentException if any parameter is null.
+     */
+    @Override
+    public List<ReadingChunk> findChunksBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        if (sensorId == null || start == null || end == null) {
+            throw new IllegalArgumentException();
+        }
+        SensorChunks chunks = DATA.get(sensorId);
+        if (chunks == null) {
+            return List.of();
+        }
+        long from = ReadingSeries.toEpochNanos(start.getValue());
+        long to = ReadingSeries.toEpochNanos(end.getValue());
+        List<ReadingChunk> found = new ArrayList<>();
+        if (from > to) {
+            return found;
+        }
+        for (List<ReadingChunk> startingAt :
+                chunks.byFirstTime.subMap(from - policy.getWindowNanos(), true, to, true).values()) {
+            for (ReadingChunk chunk : startingAt) {
+                if (chunk.overlaps(from, to)) {
+                    found.add(chunk);
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(ReadingChunk::getSequence));
+        return found;
+    }
+
+    /**
+     * Checks if the repository has no chunks.
+     *
+     * @return true if the repository has no chunks, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return DATA.isEmpty();
+    }
+
+    /**
+     * The chunks of a single sensor, by number and by the time of their first sample.
+     */
+    private static final class SensorChunks {
+        private final NavigableMap<Long, ReadingChunk> bySequence = new TreeMap<>();
+        private final NavigableMap<Long, List<ReadingChunk>> byFirstTime = new TreeMap<>();
+
+        /**
+         * Stores a chunk, replacing the chunk with the same number.
+         *
+         * @param chunk the chunk to store
+         */
+        private void put(ReadingChunk chunk) {
+            ReadingChunk replaced = bySequence.put(chunk.getSequence(), chunk);
+            if (replaced != null) {
+                List<ReadingChunk> startingAt = byFirstTime.get(replaced.getFirstEpochNanos());
+                startingAt.remove(replaced);
+                if (startingAt.isEmpty()) {
+                    byFirstTime.remove(replaced.getFirstEpochNanos());
+                }
+            }
+            byFirstTime.computeIfAbsent(chunk.getFirstEpochNanos(), time -> new ArrayList<>()).add(chunk);
+        }
+    }
+}
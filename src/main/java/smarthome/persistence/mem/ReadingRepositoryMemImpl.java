@@ -5,8 +5,8 @@ import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.repository.IReadingRepository;
 import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.cache.LatestReadings;
 
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Optional;
 
@@ -20,6 +20,7 @@ import java.util.Optional;
  */
 public class ReadingRepositoryMemImpl implements IReadingRepository {
     private final HashMap<ReadingId, Reading> DATA = new HashMap<>();
+    private final LatestReadings latestReadings = LatestReadings.empty();
 
     /**
      * Saves a reading to the repository.
@@ -38,6 +39,7 @@ public class ReadingRepositoryMemImpl implements IReadingRepository {
             throw new IllegalArgumentException();
         }
         DATA.put(reading.getIdentity(), reading);
+        latestReadings.update(reading);
 
         return reading;
     }
@@ -146,16 +148,15 @@ public class ReadingRepositoryMemImpl implements IReadingRepository {
 
     /**
      * Finds the latest reading by sensor id.
+     * <p>
+     * The latest reading of each sensor is kept as the readings are saved, so it is found without a scan.
+     * </p>
      *
      * @param sensorId the sensor id to filter by
      * @return an optional containing the latest reading with the given sensor id if it exists in the repository
      */
     @Override
     public Optional<Reading> findLastReadingBySensorId(SensorId sensorId) {
-        Reading latestReading = DATA.values().stream()
-                .filter(reading -> reading.getSensorId().getSensorId().equals(sensorId.getSensorId()))
-                .max(Comparator.comparing(reading -> reading.getTime().getValue()))
-                .orElse(null);
-        return Optional.ofNullable(latestReading);
+        return latestReadings.findLatest(sensorId);
     }
 }
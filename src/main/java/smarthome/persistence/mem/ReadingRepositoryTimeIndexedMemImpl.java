@@ -0,0 +1,326 @@
+package smarthome.persistence.mem;
+
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Repository for readings, indexed by sensor and partitioned by time.
+ * <p>
+ * Besides the map of readings by identity, every sensor has its own series of readings, split in fixed size time
+ * partitions. Each partition keeps its readings sorted by time, so a range query only looks at the partitions that
+ * overlap the period and binary searches the first and the last one, in O(log n + k). The latest reading of each
+ * sensor is kept apart, so it is found in O(1).
+ * </p>
+ * Readings arriving in time order are appended at the end of the last partition. Late readings are inserted in
+ * their partition, shifting only the readings of that partition.
+ * <p>
+ * A save updates the map by identity and the series of its sensor under a write lock, so a read never sees a reading
+ * in one and not in the other. Reads share a read lock and return copies, which callers can iterate or change
+ * without touching the repository.
+ * </p>
+ * It is an in-memory implementation of the repository. It is not wired into the application context; the
+ * benchmarks and the tests construct it directly.
+ */
+public class ReadingRepositoryTimeIndexedMemImpl implements IReadingRepository {
+    private static final Duration DEFAULT_PARTITION_DURATION = Duration.ofDays(1);
+
+    private final HashMap<ReadingId, Reading> DATA = new HashMap<>();
+    private final HashMap<SensorId, SensorSeries> SERIES = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long partitionSeconds;
+
+    /**
+     * Constructs a new repository with partitions of one day.
+     */
+    public ReadingRepositoryTimeIndexedMemImpl() {
+        this(DEFAULT_PARTITION_DURATION);
+    }
+
+    /**
+     * Constructs a new repository with partitions of the given duration.
+     *
+     * @param partitionDuration the time span covered by each partition, of at least one second.
+     * @throws IllegalArgumentException if the partition duration is null or shorter than one second.
+     */
+    public ReadingRepositoryTimeIndexedMemImpl(Duration partitionDuration) {
+        if (partitionDuration == null || partitionDuration.getSeconds() < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.partitionSeconds = partitionDuration.getSeconds();
+    }
+
+    /**
+     * Saves a reading to the repository.
+     * <p>
+     * The method throws an IllegalArgumentException if the reading is null or if its identity is already in the
+     * repository. The reading is then indexed by its identity and added to the series of its sensor.
+     * </p>
+     *
+     * @param reading the reading to save
+     * @return the saved reading
+     */
+    @Override
+    public Reading save(Reading reading) {
+        if (reading == null || reading.getIdentity() == null) {
+            throw new IllegalArgumentException();
+        }
+        Lock write = lock.writeLock();
+        write.lock();
+        try {
+            if (DATA.containsKey(reading.getIdentity())) {
+                throw new IllegalArgumentException();
+            }
+            DATA.put(reading.getIdentity(), reading);
+            SERIES.computeIfAbsent(reading.getSensorId(), sensorId -> new SensorSeries()).add(reading);
+        } finally {
+            write.unlock();
+        }
+        return reading;
+    }
+
+    /**
+     * Finds all readings in the repository.
+     *
+     * @return an unmodifiable copy of all readings in the repository
+     */
+    @Override
+    public Iterable<Reading> findAll() {
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return List.copyOf(DATA.values());
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Finds a reading by its identity.
+     *
+     * @param id the identity of the reading to find
+     * @return an optional containing the reading with the given identity if it exists in the repository
+     * @throws IllegalArgumentException if the id is null
+     */
+    @Override
+    public Optional<Reading> findByIdentity(ReadingId id) {
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return Optional.ofNullable(DATA.get(id));
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Checks if a reading with the given identity exists in the repository.
+     *
+     * @param id the identity of the reading to check
+     * @return true if a reading with the given identity exists in the repository, and false otherwise.
+     * @throws IllegalArgumentException if the id is null
+     */
+    @Override
+    public boolean containsIdentity(ReadingId id) {
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            return DATA.containsKey(id);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Finds readings by sensor id in a given period, both ends included, sorted by time.
+     *
+     * @param sensorId the sensor id to filter by
+     * @param start    the start of the time period
+     * @param end      the end of the time period
+     * @return the readings of the sensor in the time period
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    @Override
+    public Iterable<Reading> findReadingsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        if (sensorId == null || start == null || end == null) {
+            throw new IllegalArgumentException();
+        }
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            SensorSeries series = SERIES.get(sensorId);
+            if (series == null) {
+                return List.of();
+            }
+            return series.findInPeriod(start.getValue(), end.getValue());
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Finds reading ids by sensor id in a given period, both ends included, sorted by time.
+     *
+     * @param sensorId the sensor id to filter by
+     * @param start    the start of the time period
+     * @param end      the end of the time period
+     * @return the reading ids of the sensor in the time period
+     * @throws IllegalArgumentException if any parameter is null
+     */
+    @Override
+    public Iterable<ReadingId> findReadingIdsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start,
+                                                                      TimeStamp end) {
+        List<ReadingId> readingIds = new ArrayList<>();
+        for (Reading reading : findReadingsBySensorIdInAGivenPeriod(sensorId, start, end)) {
+            readingIds.add(reading.getIdentity());
+        }
+        return readingIds;
+    }
+
+    /**
+     * Finds the latest reading by sensor id.
+     *
+     * @param sensorId the sensor id to filter by
+     * @return an optional containing the latest reading of the sensor if it exists in the repository
+     * @throws IllegalArgumentException if the sensor id is null
+     */
+    @Override
+    public Optional<Reading> findLastReadingBySensorId(SensorId sensorId) {
+        if (sensorId == null) {
+            throw new IllegalArgumentException();
+        }
+        Lock read = lock.readLock();
+        read.lock();
+        try {
+            SensorSeries series = SERIES.get(sensorId);
+            return series == null ? Optional.empty() : Optional.of(series.latest);
+        } finally {
+            read.unlock();
+        }
+    }
+
+    /**
+     * Returns the partition a moment in time belongs to.
+     *
+     * @param time the moment in time
+     * @return the key of the partition
+     */
+    private long partitionOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), partitionSeconds);
+    }
+
+    /**
+     * The readings of a single sensor, split in time partitions sorted by time.
+     */
+    private final class SensorSeries {
+        private final NavigableMap<Long, List<Reading>> partitions = new TreeMap<>();
+        private Reading latest;
+
+        /**
+         * Adds a reading to its partition, keeping the partition sorted by time.
+         * Readings with the same time keep their arrival order.
+         *
+         * @param reading the reading to add
+         */
+        private void add(Reading reading) {
+            LocalDateTime time = reading.getTime().getValue();
+            List<Reading> partition = partitions.computeIfAbsent(partitionOf(time), key -> new ArrayList<>());
+            if (partition.isEmpty() || !partition.get(partition.size() - 1).getTime().getValue().isAfter(time)) {
+                partition.add(reading);
+            } else {
+                partition.add(firstIndexAfter(partition, time), reading);
+            }
+            if (latest == null || !latest.getTime().getValue().isAfter(time)) {
+                latest = reading;
+            }
+        }
+
+        /**
+         * Returns the readings within a period, both ends included, sorted by time.
+         *
+         * @param start the start of the period
+         * @param end   the end of the period
+         * @return the readings within the period
+         */
+        private List<Reading> findInPeriod(LocalDateTime start, LocalDateTime end) {
+            List<Reading> readings = new ArrayList<>();
+            if (start.isAfter(end)) {
+                return readings;
+            }
+            for (Map.Entry<Long, List<Reading>> entry :
+                    partitions.subMap(partitionOf(start), true, partitionOf(end), true).entrySet()) {
+                List<Reading> partition = entry.getValue();
+                int from = firstIndexAtOrAfter(partition, start);
+                int to = firstIndexAfter(partition, end);
+                if (from < to) {
+                    readings.addAll(partition.subList(from, to));
+                }
+            }
+            return readings;
+        }
+
+        /**
+         * Binary searches the first reading of a partition taken at or after a given time.
+         *
+         * @param partition the sorted partition
+         * @param time      the time to search for
+         * @return the index of the first reading not before the time, or the partition size if there is none
+         */
+        private int firstIndexAtOrAfter(List<Reading> partition, LocalDateTime time) {
+            int low = 0;
+            int high = partition.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (partition.get(middle).getTime().getValue().isBefore(time)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Binary searches the first reading of a partition taken after a given time.
+         *
+         * @param partition the sorted partition
+         * @param time      the time to search for
+         * @return the index of the first reading after the time, or the partition size if there is none
+         */
+        private int firstIndexAfter(List<Reading> partition, LocalDateTime time) {
+            int low = 0;
+            int high = partition.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (partition.get(middle).getTime().getValue().isAfter(time)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
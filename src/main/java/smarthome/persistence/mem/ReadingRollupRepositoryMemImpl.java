@@ -0,0 +1,62 @@
+package smarthome.persistence.mem;
+
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRollupRepository;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Repository for the rollups of readings, with the rollups of each sensor and resolution sorted by bucket.
+ * It is an in-memory implementation of the repository.
+ */
+public class ReadingRollupRepositoryMemImpl implements IReadingRollupRepository {
+
+    private final HashMap<SensorId, Map<ReadingRollupResolution, TreeMap<LocalDateTime, ReadingRollup>>> DATA =
+            new HashMap<>();
+
+    /**
+     * Adds a rollup to the stored rollup of the same bucket, or stores it if the bucket has no rollup yet.
+     *
+     * @param rollup the rollup to add.
+     * @throws IllegalArgumentException if the rollup is null.
+     */
+    @Override
+    public void add(ReadingRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException();
+        }
+        DATA.computeIfAbsent(rollup.getSensorId(), sensorId -> new EnumMap<>(ReadingRollupResolution.class))
+                .computeIfAbsent(rollup.getResolution(), resolution -> new TreeMap<>())
+                .merge(rollup.getBucketStart(), rollup, ReadingRollup::plus);
+    }
+
+    /**
+     * Finds the rollups of a sensor at a given resolution whose buckets start in a given period.
+     *
+     * @param sensorId   the identity of the sensor.
+     * @param resolution the resolution of the rollups.
+     * @param start      the start of the period, included.
+     * @param end        the end of the period, excluded.
+     * @return the rollups of the sensor, sorted by the start of their bucket.
+     */
+    @Override
+    public List<ReadingRollup> findRollupsBySensorIdInAGivenPeriod(SensorId sensorId,
+                                                                   ReadingRollupResolution resolution,
+                                                                   TimeStamp start, TimeStamp end) {
+        Map<ReadingRollupResolution, TreeMap<LocalDateTime, ReadingRollup>> sensorRollups = DATA.get(sensorId);
+        if (sensorRollups == null || !sensorRollups.containsKey(resolution)
+                || !start.getValue().isBefore(end.getValue())) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(sensorRollups.get(resolution).subMap(start.getValue(), end.getValue()).values());
+    }
+}
@@ -5,17 +5,18 @@ import smarthome.domain.repository.IRoomRepository;
 import smarthome.domain.room.Room;
 import smarthome.domain.room.vo.RoomId;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * RoomRepositoryMemImpl is a class that implements the IRoomRepository interface.
  * It provides methods to interact with the Room data.
+ * The rooms are kept in memory, with an index of the rooms by house. It is safe for use by concurrent threads.
  */
 public class RoomRepositoryMemImpl implements IRoomRepository {
 
-    private final Map<RoomId, Room> DATA = new HashMap<>();
+    private final IndexedEntities<RoomId, Room> DATA = new IndexedEntities<>(Room::getIdentity);
+    private final IndexedEntities<RoomId, Room>.Index<HouseName> BY_HOUSE = DATA.index(Room::getHouseName);
 
     /**
      * Save a Room to the repository.
@@ -26,11 +27,9 @@ public class RoomRepositoryMemImpl implements IRoomRepository {
      */
     @Override
     public Room save(Room room) {
-        if (room == null || containsIdentity(room.getIdentity())) {
+        if (room == null || !DATA.insert(room)) {
             throw new IllegalArgumentException();
         }
-
-        DATA.put(room.getIdentity(), room);
         return room;
     }
 
@@ -51,7 +50,7 @@ public class RoomRepositoryMemImpl implements IRoomRepository {
      */
     @Override
     public Iterable<RoomId> findRoomIds() {
-        return DATA.keySet();
+        return DATA.ids();
     }
 
     /**
@@ -62,10 +61,10 @@ public class RoomRepositoryMemImpl implements IRoomRepository {
      */
     @Override
     public Iterable<RoomId> findRoomIdsByHouseName(HouseName houseName) {
-        return DATA.values().stream()
-                .filter(room -> room.getHouseName().equals(houseName))
-                .map(Room::getIdentity)
-                ::iterator;
+        if (houseName == null) {
+            return List.of();
+        }
+        return BY_HOUSE.findIds(houseName);
     }
 
     /**
@@ -81,7 +80,7 @@ public class RoomRepositoryMemImpl implements IRoomRepository {
             throw new IllegalArgumentException();
         }
 
-        return Optional.ofNullable(DATA.get(roomId));
+        return DATA.get(roomId);
     }
 
     /**
@@ -96,6 +95,6 @@ public class RoomRepositoryMemImpl implements IRoomRepository {
         if (roomId == null) {
             throw new IllegalArgumentException();
         }
-        return DATA.containsKey(roomId);
+        return DATA.contains(roomId);
     }
 }
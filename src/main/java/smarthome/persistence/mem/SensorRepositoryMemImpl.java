@@ -6,21 +6,24 @@ import smarthome.domain.sensor.Sensor;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * The SensorRepositoryMemImpl class represents a repository for managing Sensor entities.
  * It provides methods to save, retrieve, and manipulate Sensor objects.
- * This repository is backed by an in-memory HashMap data structure.
+ * This repository is backed by an in-memory HashMap data structure, with indexes of the sensors by device and by
+ * device and sensor model. It is safe for use by concurrent threads.
  * SensorId representing the identity of Sensor entities.
  * Sensor   representing Sensor entities.
  */
 public class SensorRepositoryMemImpl implements ISensorRepository {
 
-    // Internal storage for Sensor entities using a HashMap
-    private final Map<SensorId, Sensor> DATA = new HashMap<>();
+    // Internal storage for Sensor entities using a HashMap, and its indexes
+    private final IndexedEntities<SensorId, Sensor> DATA = new IndexedEntities<>(Sensor::getIdentity);
+    private final IndexedEntities<SensorId, Sensor>.Index<DeviceId> BY_DEVICE = DATA.index(Sensor::getDeviceId);
+    private final IndexedEntities<SensorId, Sensor>.Index<DeviceAndModel> BY_DEVICE_AND_MODEL =
+            DATA.index(sensor -> new DeviceAndModel(sensor.getDeviceId(), sensor.getSensorModelName()));
 
     /**
      * Saves a Sensor entity to the repository.
@@ -30,7 +33,7 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
      */
     @Override
     public Sensor save(Sensor sensor) {
-        DATA.put(sensor.getIdentity(), sensor);
+        DATA.put(sensor);
         return sensor;
     }
 
@@ -52,7 +55,7 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
      */
     @Override
     public Optional<Sensor> findByIdentity(SensorId id) {
-        return Optional.ofNullable(DATA.get(id));
+        return DATA.get(id);
     }
 
     /**
@@ -63,7 +66,7 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
      */
     @Override
     public boolean containsIdentity(SensorId id) {
-        return DATA.containsKey(id);
+        return DATA.contains(id);
     }
 
     /**
@@ -73,7 +76,10 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
      * @return An Iterable collection containing all Sensor entities associated with the specified device.
      */
     public Iterable<Sensor> findSensorsByDeviceId(DeviceId deviceId) {
-        return DATA.values().stream().filter(sensor -> sensor.getDeviceId().equals(deviceId)).toList();
+        if (deviceId == null) {
+            return List.of();
+        }
+        return BY_DEVICE.find(deviceId);
     }
 
     /**
@@ -86,10 +92,10 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
      */
     @Override
     public Iterable<Sensor> findSensorsByDeviceIdAndSensorModelName(DeviceId deviceId, SensorModelName sensorModelName) {
-
-        return DATA.values().stream().filter(sensor ->
-                sensor.getDeviceId().equals(deviceId) && sensor.getSensorModelName().equals(sensorModelName)
-        ).toList();
+        if (deviceId == null || sensorModelName == null) {
+            return List.of();
+        }
+        return BY_DEVICE_AND_MODEL.find(new DeviceAndModel(deviceId, sensorModelName));
     }
 
     /**
@@ -105,9 +111,7 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
         if (deviceId == null || sensorModelName == null) {
             throw new IllegalArgumentException();
         }
-        return DATA.values().stream().filter(sensor ->
-                sensor.getDeviceId().equals(deviceId) && sensor.getSensorModelName().equals(sensorModelName)
-        ).map(Sensor::getIdentity).toList();
+        return BY_DEVICE_AND_MODEL.findIds(new DeviceAndModel(deviceId, sensorModelName));
     }
 
     /**
@@ -122,6 +126,12 @@ public class SensorRepositoryMemImpl implements ISensorRepository {
         if (deviceId == null) {
             throw new IllegalArgumentException();
         }
-        return DATA.values().stream().filter(sensor -> sensor.getDeviceId().equals(deviceId)).map(Sensor::getIdentity).toList();
+        return BY_DEVICE.findIds(deviceId);
+    }
+
+    /**
+     * The key of the index of sensors by device and sensor model.
+     */
+    private record DeviceAndModel(DeviceId deviceId, SensorModelName sensorModelName) {
     }
 }
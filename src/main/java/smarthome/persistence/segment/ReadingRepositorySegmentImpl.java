@@ -0,0 +1,475 @@
+package smarthome.persistence.segment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.cache.LatestReadings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * The Reading repository backed by append only segment files on local disk, for single node installs that keep their
+ * readings without a database.
+ * <p>
+ * Each sensor has a directory of its own, named after the hexadecimal UTF-8 bytes of its identity, with numbered
+ * {@link ReadingSegment} files. Readings are appended to the last segment of their sensor through its memory mapping,
+ * and written to disk before the save returns, or, for a save inside a transaction, once the transaction commits; a
+ * new segment is started when the last one is full, and the full one
+ * is sealed, so only the last segment of each sensor stays mapped. Queries on a period read the records straight from
+ * the mappings, with the sparse time index of each segment, without SQL.
+ * </p>
+ * <p>
+ * The location of each reading, by identity, and the latest reading of each sensor are kept in memory, and built
+ * again from the segments when the repository is opened. Enabled by the Spring profile "segment".
+ * </p>
+ * <p>
+ * The segment files are not part of the database transaction. A save inside a transaction reserves the identities of
+ * its readings at once, so a repeated identity is still refused by the save, but only appends the readings, and
+ * makes them the latest ones, after the transaction commits; if it rolls back, nothing is written and the identities
+ * are given back. The readings are not seen by the rest of the transaction. A crash between the commit and the
+ * append loses the readings of the transaction, while its database writes stay.
+ * </p>
+ */
+@Repository
+@Profile("segment")
+public class ReadingRepositorySegmentImpl implements IReadingRepository, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final HexFormat HEX = HexFormat.of();
+    private static final Location RESERVED = new Location(null, null, -1);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReadingFactory readingFactory;
+    private final Map<SensorId, SensorSegments> sensors = new ConcurrentHashMap<>();
+    private final Map<ReadingId, Location> locations = new ConcurrentHashMap<>();
+    private final LatestReadings latestReadings = LatestReadings.empty();
+
+    /**
+     * Opens the segment store in a directory, creating the directory if it does not exist, and reads the segments
+     * in it.
+     *
+     * @param directory      the directory of the segment store.
+     * @param segmentSize    the size of each new segment file, in bytes.
+     * @param readingFactory the factory of the readings read from the segments.
+     * @throws IllegalArgumentException if the directory or the factory are null, or the segment size is not positive.
+     * @throws UncheckedIOException     if the directory or a segment cannot be read.
+     */
+    public ReadingRepositorySegmentImpl(@Value("${smarthome.readings.segments.directory}") String directory,
+                                        @Value("${smarthome.readings.segments.segment-size:8388608}") int segmentSize,
+                                        ReadingFactory readingFactory) {
+        if (directory == null || readingFactory == null || segmentSize < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.directory = Path.of(directory);
+        this.segmentSize = segmentSize;
+        this.readingFactory = readingFactory;
+        open();
+    }
+
+    /**
+     * Reads the segments of every sensor, and indexes the location of each reading and the latest reading of each
+     * sensor.
+     */
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> sensorDirectories = Files.list(directory)) {
+                for (Path sensorDirectory : sensorDirectories.filter(Files::isDirectory).toList()) {
+                    SensorId sensorId = new SensorId(new String(
+                            HEX.parseHex(sensorDirectory.getFileName().toString()), StandardCharsets.UTF_8));
+                    SensorSegments sensor = new SensorSegments(sensorDirectory);
+                    try (Stream<Path> files = Files.list(sensorDirectory)) {
+                        for (Path file : files.filter(ReadingRepositorySegmentImpl::isSegment).sorted().toList()) {
+                            sensor.segments.add(new ReadingSegment(file, segmentSize, sensorId, readingFactory));
+                        }
+                    }
+                    sensors.put(sensorId, sensor);
+                    indexSensor(sensor);
+                    for (int i = 0; i < sensor.segments.size() - 1; i++) {
+                        sensor.segments.get(i).seal();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private void indexSensor(SensorSegments sensor) {
+        Reading latest = null;
+        for (ReadingSegment segment : sensor.segments) {
+            segment.forEachIdentity((id, offset) -> locations.put(new ReadingId(id), new Location(sensor, segment,
+                    offset)));
+            if (segment.getLatestOffset() >= 0) {
+                Reading reading = segment.readingAt(segment.getLatestOffset());
+                if (latest == null || !reading.getTime().getValue().isBefore(latest.getTime().getValue())) {
+                    latest = reading;
+                }
+            }
+        }
+        if (latest != null) {
+            latestReadings.update(latest);
+        }
+    }
+
+    /**
+     * Returns the segments of a sensor, creating its directory on its first reading.
+     */
+    private SensorSegments sensorSegments(SensorId sensorId) {
+        return sensors.computeIfAbsent(sensorId, id -> {
+            Path sensorDirectory = directory.resolve(HEX.formatHex(id.getSensorId().getBytes(StandardCharsets.UTF_8)));
+            try {
+                Files.createDirectories(sensorDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return new SensorSegments(sensorDirectory);
+        });
+    }
+
+    /**
+     * Save a Reading entity to the repository, appending it to the last segment of its sensor.
+     *
+     * @param reading The Reading entity to be saved.
+     * @return The saved Reading entity.
+     * @throws IllegalArgumentException if the Reading is null, its identity is already in the repository, or it is
+     *                                  larger than a segment
+     */
+    @Override
+    public Reading save(Reading reading) {
+        if (reading == null) {
+            throw new IllegalArgumentException();
+        }
+        saveAll(List.of(reading));
+        return reading;
+    }
+
+    /**
+     * Save a batch of Reading entities to the repository. The readings of each sensor are appended together, and
+     * written to disk once per segment.
+     * The identities are reserved before any reading is appended, so of two saves of the same identity at the same
+     * time only one appends it; if an identity is taken, the identities reserved by the batch are given back.
+     * Inside a transaction, the readings are appended once it commits, and their identities given back if it does
+     * not.
+     *
+     * @param readings The Reading entities to be saved.
+     * @return The saved Reading entities.
+     * @throws IllegalArgumentException if the readings, or any of them, are null, an identity is repeated or already
+     *                                  in the repository, or a reading is larger than a segment
+     */
+    @Override
+    public Iterable<Reading> saveAll(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        Map<SensorId, List<Reading>> readingsBySensor = new LinkedHashMap<>();
+        for (Reading reading : readings) {
+            if (reading == null || ReadingSegment.recordLength(reading) > segmentSize) {
+                throw new IllegalArgumentException();
+            }
+            readingsBySensor.computeIfAbsent(reading.getSensorId(), sensorId -> new ArrayList<>()).add(reading);
+        }
+        List<ReadingId> reserved = new ArrayList<>();
+        for (Reading reading : readings) {
+            if (locations.putIfAbsent(reading.getIdentity(), RESERVED) != null) {
+                release(reserved);
+                throw new IllegalArgumentException();
+            }
+            reserved.add(reading.getIdentity());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(readings, readingsBySensor, reserved);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        release(reserved);
+                    }
+                }
+            });
+        } else {
+            write(readings, readingsBySensor, reserved);
+        }
+        return readings;
+    }
+
+    /**
+     * Appends readings whose identities are reserved to the segments of their sensors, and makes them the latest
+     * readings. If an append fails, the identities of the readings not appended are given back.
+     */
+    private void write(Iterable<Reading> readings, Map<SensorId, List<Reading>> readingsBySensor,
+                       List<ReadingId> reserved) {
+        try {
+            for (Map.Entry<SensorId, List<Reading>> entry : readingsBySensor.entrySet()) {
+                SensorSegments sensor = sensorSegments(entry.getKey());
+                sensor.lock.writeLock().lock();
+                try {
+                    append(entry.getKey(), sensor, entry.getValue());
+                } finally {
+                    sensor.lock.writeLock().unlock();
+                }
+            }
+        } catch (RuntimeException e) {
+            release(reserved);
+            throw e;
+        }
+        latestReadings.updateAll(readings);
+    }
+
+    /**
+     * Gives back the identities reserved for readings that were not appended.
+     */
+    private void release(List<ReadingId> reserved) {
+        for (ReadingId id : reserved) {
+            locations.remove(id, RESERVED);
+        }
+    }
+
+    /**
+     * Appends readings of a sensor to its last segment, starting new segments as they fill up, and writes the
+     * segments to disk.
+     */
+    private void append(SensorId sensorId, SensorSegments sensor, List<Reading> readings) {
+        Set<ReadingSegment> written = new HashSet<>();
+        for (Reading reading : readings) {
+            ReadingSegment segment = sensor.segments.isEmpty() ? null : sensor.segments.get(sensor.segments.size() - 1);
+            if (segment == null || !segment.hasRoomFor(ReadingSegment.recordLength(reading))) {
+                if (segment != null) {
+                    segment.seal();
+                }
+                segment = new ReadingSegment(sensor.directory.resolve(
+                        String.format("%s%010d%s", SEGMENT_PREFIX, sensor.segments.size(), SEGMENT_SUFFIX)),
+                        segmentSize, sensorId, readingFactory);
+                sensor.segments.add(segment);
+            }
+            int offset = segment.append(reading);
+            written.add(segment);
+            locations.put(reading.getIdentity(), new Location(sensor, segment, offset));
+        }
+        written.forEach(ReadingSegment::force);
+    }
+
+    /**
+     * Retrieve all Reading entities from the repository.
+     *
+     * @return An Iterable of Reading entities.
+     */
+    @Override
+    public Iterable<Reading> findAll() {
+        List<Reading> readings = new ArrayList<>();
+        for (SensorSegments sensor : sensors.values()) {
+            sensor.forEachSegment(segment -> segment.forEachReading(Long.MIN_VALUE, Long.MAX_VALUE, readings::add));
+        }
+        return readings;
+    }
+
+    /**
+     * Retrieve a Reading entity by its identity, reading its record at its known location.
+     *
+     * @param id The Reading identity.
+     * @return An Optional with the Reading entity if found, empty otherwise.
+     * @throws IllegalArgumentException if the Reading identity is null
+     */
+    @Override
+    public Optional<Reading> findByIdentity(ReadingId id) {
+        if (id == null) {
+            throw new IllegalArgumentException();
+        }
+        Location location = locations.get(id);
+        if (location == null || location == RESERVED) {
+            return Optional.empty();
+        }
+        location.sensor.lock.readLock().lock();
+        try {
+            return Optional.of(location.segment.readingAt(location.offset));
+        } finally {
+            location.sensor.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Check if a Reading entity with a given identity exists in the repository.
+     *
+     * @param readingId The Reading identity.
+     * @return true if a Reading entity with the given identity exists, false otherwise.
+     * @throws IllegalArgumentException if the Reading identity is null
+     */
+    @Override
+    public boolean containsIdentity(ReadingId readingId) {
+        if (readingId == null) {
+            throw new IllegalArgumentException();
+        }
+        Location location = locations.get(readingId);
+        return location != null && location != RESERVED;
+    }
+
+    /**
+     * Find all Reading entities with a given Sensor identity in a given period, sorted by time.
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @return An Iterable of Reading entities.
+     */
+    @Override
+    public Iterable<Reading> findReadingsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        long from = ReadingSeries.toEpochNanos(start.getValue());
+        long to = ReadingSeries.toEpochNanos(end.getValue());
+        List<Reading> readings = new ArrayList<>();
+        SensorSegments sensor = sensors.get(sensorId);
+        if (sensor != null) {
+            sensor.forEachSegment(segment -> segment.forEachReading(from, to, readings::add));
+        }
+        readings.sort(TIME_ORDER);
+        return readings;
+    }
+
+    /**
+     * Find all Reading identities with a given Sensor identity in a given period, sorted by time.
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @return An Iterable of Reading identities.
+     */
+    @Override
+    public Iterable<ReadingId> findReadingIdsBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start,
+                                                                      TimeStamp end) {
+        List<ReadingId> readingIds = new ArrayList<>();
+        findReadingsBySensorIdInAGivenPeriod(sensorId, start, end)
+                .forEach(reading -> readingIds.add(reading.getIdentity()));
+        return readingIds;
+    }
+
+    /**
+     * Get the latest Reading entity for a given Sensor identity, from the latest readings kept in memory.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @return an Optional of the latest Reading entity.
+     * @throws IllegalArgumentException if the Sensor identity is null
+     */
+    @Override
+    public Optional<Reading> findLastReadingBySensorId(SensorId sensorId) {
+        if (sensorId == null) {
+            throw new IllegalArgumentException();
+        }
+        return latestReadings.findLatest(sensorId);
+    }
+
+    /**
+     * Get the numeric values of a given Sensor identity in a given period, as a compact series. The time and value of
+     * each record are read straight from the segment mappings, without creating a Reading.
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @return The series of the sensor values, sorted by time.
+     */
+    @Override
+    public ReadingSeries findReadingSeriesBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        long from = ReadingSeries.toEpochNanos(start.getValue());
+        long to = ReadingSeries.toEpochNanos(end.getValue());
+        ReadingSeries series = new ReadingSeries();
+        SensorSegments sensor = sensors.get(sensorId);
+        if (sensor != null) {
+            sensor.forEachSegment(segment -> segment.addToSeries(series, from, to));
+        }
+        return series.sortedByTime();
+    }
+
+    /**
+     * Tells which segments of a sensor have their file mapped, in the order they were started.
+     *
+     * @param sensorId the identity of the sensor.
+     * @return whether each segment of the sensor is mapped.
+     */
+    List<Boolean> mappedSegments(SensorId sensorId) {
+        List<Boolean> mapped = new ArrayList<>();
+        SensorSegments sensor = sensors.get(sensorId);
+        if (sensor != null) {
+            sensor.forEachSegment(segment -> mapped.add(segment.isMapped()));
+        }
+        return mapped;
+    }
+
+    /**
+     * Writes every segment to disk and closes it.
+     */
+    @Override
+    public void close() {
+        for (SensorSegments sensor : sensors.values()) {
+            sensor.lock.writeLock().lock();
+            try {
+                sensor.segments.forEach(ReadingSegment::close);
+            } finally {
+                sensor.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * The segments of a sensor, in the order they were started, with the lock that guards them: appends take the
+     * write lock, and reads the read lock.
+     */
+    private static final class SensorSegments {
+        private final Path directory;
+        private final List<ReadingSegment> segments = new ArrayList<>();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private SensorSegments(Path directory) {
+            this.directory = directory;
+        }
+
+        private void forEachSegment(Consumer<ReadingSegment> action) {
+            lock.readLock().lock();
+            try {
+                segments.forEach(action);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * The location of the record of a reading, or {@link #RESERVED} for a reading whose save has not appended it yet.
+     */
+    private record Location(SensorSegments sensor, ReadingSegment segment, int offset) {
+    }
+}
@@ -0,0 +1,498 @@
+package smarthome.persistence.segment;
+
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensor.vo.values.NumericValue;
+import smarthome.domain.sensor.vo.values.Value;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.zip.CRC32;
+
+/**
+ * A ReadingSegment is a file of readings of one sensor, appended to and read through a memory mapping of the whole
+ * file.
+ * <p>
+ * Each reading is a record of: the length of the record (int), the CRC-32 of the rest of the record (int), the time in
+ * nanoseconds since the epoch, taken as UTC (long), the kind of value (byte), the value (a double for numeric values,
+ * or a 2 byte length and the UTF-8 text for others), and a 2 byte length and the UTF-8 identity. Records are written
+ * one after another from the start of the file, and the rest of the file is zeros, so the first record with a zero
+ * length ends the segment. When a segment is opened, it is read up to the first record whose length or checksum does
+ * not match, which drops a record torn by a crash.
+ * </p>
+ * <p>
+ * A sparse time index keeps, for every block of {@link #INDEX_INTERVAL} records, the offset of the block and the
+ * earliest and latest time of its records, with the latest time of the segment up to the block. A query on a period
+ * finds the first block that may hold readings of the period by binary search, skips the blocks whose times do not
+ * overlap the period, and reads the records straight from the mapping. The index is kept in memory and built again
+ * when the segment is opened.
+ * </p>
+ * <p>
+ * Once a segment is full, it is sealed: its file is closed and its mapping dropped, and the file is mapped again, read
+ * only, for the time a read needs it. A query on a period that the time index shows the segment has no readings of
+ * does not map it at all. Java has no call that unmaps a file, so the memory of a dropped mapping is given back when
+ * the mapping is garbage collected; the file handle is given back at once.
+ * </p>
+ * Segments are not thread safe: the repository locks the segments of a sensor around their use. Reads that share a
+ * lock may map a sealed segment at the same time.
+ */
+public class ReadingSegment implements AutoCloseable {
+
+    /**
+     * The number of records of each block of the time index.
+     */
+    public static final int INDEX_INTERVAL = 64;
+
+    private static final int HEADER_BYTES = 4 + 4;
+    private static final int TIME_OFFSET = HEADER_BYTES;
+    private static final int KIND_OFFSET = TIME_OFFSET + 8;
+    private static final int VALUE_OFFSET = KIND_OFFSET + 1;
+    private static final byte TEXT = 0;
+    private static final byte NUMERIC = 1;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private final Path path;
+    private final SensorId sensorId;
+    private final ReadingFactory readingFactory;
+    private final int capacity;
+    private final CRC32 crc = new CRC32();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean sealed;
+    private int users;
+
+    private int position;
+    private int size;
+    private int blocks;
+    private int[] blockOffsets = new int[16];
+    private long[] blockMinTimes = new long[16];
+    private long[] blockMaxTimes = new long[16];
+    private long[] maxTimesUpToBlock = new long[16];
+    private long minEpochNanos = Long.MAX_VALUE;
+    private int latestOffset = -1;
+
+    /**
+     * Opens the segment file at a path, creating it with a given capacity if it does not exist, and reads its records
+     * to build the time index.
+     *
+     * @param path           the path of the segment file.
+     * @param capacity       the size of a new segment file, in bytes; an existing file keeps its size.
+     * @param sensorId       the sensor of the readings of the segment.
+     * @param readingFactory the factory of the readings read from the segment.
+     * @throws IllegalArgumentException if any argument is null, or the capacity is not positive.
+     * @throws UncheckedIOException     if the file cannot be opened or mapped.
+     */
+    public ReadingSegment(Path path, int capacity, SensorId sensorId, ReadingFactory readingFactory) {
+        if (path == null || sensorId == null || readingFactory == null || capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.path = path;
+        this.sensorId = sensorId;
+        this.readingFactory = readingFactory;
+        try {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            long fileSize = channel.size();
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    fileSize > 0 ? Math.min(fileSize, Integer.MAX_VALUE) : capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.capacity = buffer.capacity();
+        recover();
+    }
+
+    /**
+     * Marks the segment as full, writes its records to the file, and closes the file if no read is using it. Reads
+     * map the file again for as long as they need it.
+     */
+    public synchronized void seal() {
+        sealed = true;
+        if (users == 0) {
+            unmap();
+        }
+    }
+
+    /**
+     * Maps the file of a sealed segment, read only, if it is not mapped, for a read that is starting.
+     */
+    private synchronized void acquire() {
+        if (buffer == null) {
+            try {
+                channel = FileChannel.open(path, StandardOpenOption.READ);
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, capacity);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        users++;
+    }
+
+    /**
+     * Ends a read, and closes the file of a sealed segment once no read is using it.
+     */
+    private synchronized void release() {
+        users--;
+        if (sealed && users == 0) {
+            unmap();
+        }
+    }
+
+    /**
+     * Writes the records to the file, if it is mapped for writing, closes it, and drops the mapping.
+     */
+    private void unmap() {
+        if (buffer == null) {
+            return;
+        }
+        try {
+            if (!buffer.isReadOnly()) {
+                buffer.force();
+            }
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer = null;
+            channel = null;
+        }
+    }
+
+    /**
+     * Checks if the file of the segment is mapped.
+     *
+     * @return true if the file is mapped, false otherwise.
+     */
+    synchronized boolean isMapped() {
+        return buffer != null;
+    }
+
+    /**
+     * Reads the records from the start of the segment up to the first one that is missing or damaged, and indexes
+     * them.
+     */
+    private void recover() {
+        int offset = 0;
+        while (offset <= capacity - HEADER_BYTES) {
+            int length = buffer.getInt(offset);
+            if (length < VALUE_OFFSET || length > capacity - offset
+                    || buffer.getInt(offset + 4) != checksum(offset, length)) {
+                break;
+            }
+            index(offset, buffer.getLong(offset + TIME_OFFSET));
+            offset += length;
+        }
+        position = offset;
+    }
+
+    private int checksum(int offset, int length) {
+        crc.reset();
+        crc.update(buffer.slice(offset + HEADER_BYTES, length - HEADER_BYTES));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Adds a record to the time index.
+     */
+    private void index(int offset, long epochNanos) {
+        if (size % INDEX_INTERVAL == 0) {
+            if (blocks == blockOffsets.length) {
+                int length = blocks * 2;
+                blockOffsets = Arrays.copyOf(blockOffsets, length);
+                blockMinTimes = Arrays.copyOf(blockMinTimes, length);
+                blockMaxTimes = Arrays.copyOf(blockMaxTimes, length);
+                maxTimesUpToBlock = Arrays.copyOf(maxTimesUpToBlock, length);
+            }
+            blockOffsets[blocks] = offset;
+            blockMinTimes[blocks] = epochNanos;
+            blockMaxTimes[blocks] = epochNanos;
+            maxTimesUpToBlock[blocks] = blocks == 0 ? epochNanos : Math.max(maxTimesUpToBlock[blocks - 1], epochNanos);
+            blocks++;
+        } else {
+            int block = blocks - 1;
+            blockMinTimes[block] = Math.min(blockMinTimes[block], epochNanos);
+            blockMaxTimes[block] = Math.max(blockMaxTimes[block], epochNanos);
+            maxTimesUpToBlock[block] = Math.max(maxTimesUpToBlock[block], epochNanos);
+        }
+        minEpochNanos = Math.min(minEpochNanos, epochNanos);
+        if (latestOffset < 0 || epochNanos >= buffer.getLong(latestOffset + TIME_OFFSET)) {
+            latestOffset = offset;
+        }
+        size++;
+    }
+
+    /**
+     * Returns the number of bytes of the record of a reading.
+     *
+     * @param reading the reading.
+     * @return the number of bytes of the record.
+     * @throws IllegalArgumentException if the identity or the text value of the reading is longer than 65535 bytes.
+     */
+    static int recordLength(Reading reading) {
+        int idBytes = utf8Length(reading.getIdentity().getId());
+        Value value = reading.getValue();
+        int valueBytes = value instanceof NumericValue ? 8 : 2 + utf8Length(value.valueToString());
+        return VALUE_OFFSET + valueBytes + 2 + idBytes;
+    }
+
+    private static int utf8Length(String text) {
+        int length = text.getBytes(StandardCharsets.UTF_8).length;
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException();
+        }
+        return length;
+    }
+
+    /**
+     * Checks if a record of a given length fits in the rest of the segment.
+     *
+     * @param length the number of bytes of the record.
+     * @return true if the record fits, false otherwise.
+     */
+    public boolean hasRoomFor(int length) {
+        return !sealed && length <= capacity - position;
+    }
+
+    /**
+     * Appends a reading to the segment.
+     *
+     * @param reading the reading, of the sensor of the segment.
+     * @return the offset of the record of the reading.
+     * @throws IllegalArgumentException if the reading is null, of another sensor, or does not fit in the segment, or
+     *                                  the segment is sealed.
+     */
+    public int append(Reading reading) {
+        if (reading == null || !sensorId.equals(reading.getSensorId())) {
+            throw new IllegalArgumentException();
+        }
+        int length = recordLength(reading);
+        if (!hasRoomFor(length)) {
+            throw new IllegalArgumentException();
+        }
+        int offset = position;
+        long epochNanos = ReadingSeries.toEpochNanos(reading.getTime().getValue());
+        ByteBuffer record = buffer.slice(offset, length);
+        record.position(TIME_OFFSET);
+        record.putLong(epochNanos);
+        Value value = reading.getValue();
+        if (value instanceof NumericValue numeric) {
+            record.put(NUMERIC);
+            record.putDouble(numeric.toDouble());
+        } else {
+            record.put(TEXT);
+            putString(record, value.valueToString());
+        }
+        putString(record, reading.getIdentity().getId());
+        record.putInt(4, checksum(offset, length));
+        // The length is written last, so a record torn by a crash is not read as a whole one
+        record.putInt(0, length);
+        position += length;
+        index(offset, epochNanos);
+        return offset;
+    }
+
+    private static void putString(ByteBuffer record, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        record.putShort((short) bytes.length);
+        record.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer, int offset) {
+        int length = Short.toUnsignedInt(buffer.getShort(offset));
+        byte[] bytes = new byte[length];
+        buffer.get(offset + 2, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the records appended so far to the file. A sealed segment was written when it was sealed.
+     */
+    public synchronized void force() {
+        if (buffer != null && !buffer.isReadOnly()) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Reads the reading of the record at an offset.
+     *
+     * @param offset the offset of the record.
+     * @return the reading.
+     */
+    public Reading readingAt(int offset) {
+        acquire();
+        try {
+            return readingAtMapped(offset);
+        } finally {
+            release();
+        }
+    }
+
+    private Reading readingAtMapped(int offset) {
+        long epochNanos = buffer.getLong(offset + TIME_OFFSET);
+        int idOffset;
+        Value value;
+        if (buffer.get(offset + KIND_OFFSET) == NUMERIC) {
+            value = new NumericReadingValue(buffer.getDouble(offset + VALUE_OFFSET));
+            idOffset = offset + VALUE_OFFSET + 8;
+        } else {
+            String text = getString(buffer, offset + VALUE_OFFSET);
+            value = new ReadingValue(text);
+            idOffset = offset + VALUE_OFFSET + 2 + Short.toUnsignedInt(buffer.getShort(offset + VALUE_OFFSET));
+        }
+        return readingFactory.createReading(new ReadingId(getString(buffer, idOffset)), value, sensorId,
+                new TimeStamp(toLocalDateTime(epochNanos)));
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, ReadingSeries.NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, ReadingSeries.NANOS_PER_SECOND), ZoneOffset.UTC);
+    }
+
+    /**
+     * Performs an action for the identity and offset of each record, in the order they were appended.
+     *
+     * @param action the action to perform.
+     */
+    public void forEachIdentity(ObjIntConsumer<String> action) {
+        acquire();
+        try {
+            for (int offset = 0; offset < position; offset += buffer.getInt(offset)) {
+                int idOffset = offset + VALUE_OFFSET + (buffer.get(offset + KIND_OFFSET) == NUMERIC ? 8
+                        : 2 + Short.toUnsignedInt(buffer.getShort(offset + VALUE_OFFSET)));
+                action.accept(getString(buffer, idOffset), offset);
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Performs an action for each reading of the segment taken in a period, both ends included, in the order they
+     * were appended.
+     *
+     * @param fromEpochNanos the start of the period, in nanoseconds since the epoch.
+     * @param toEpochNanos   the end of the period, in nanoseconds since the epoch.
+     * @param action         the action to perform.
+     */
+    public void forEachReading(long fromEpochNanos, long toEpochNanos, Consumer<Reading> action) {
+        forEachOffset(fromEpochNanos, toEpochNanos, offset -> action.accept(readingAtMapped(offset)));
+    }
+
+    /**
+     * Appends the numeric values of the readings of the segment taken in a period, both ends included, to a series.
+     * The time and value of each record are read straight from the mapping, without creating a reading.
+     *
+     * @param series         the series to append to.
+     * @param fromEpochNanos the start of the period, in nanoseconds since the epoch.
+     * @param toEpochNanos   the end of the period, in nanoseconds since the epoch.
+     * @throws NumberFormatException if a value in the period is not numeric.
+     */
+    public void addToSeries(ReadingSeries series, long fromEpochNanos, long toEpochNanos) {
+        forEachOffset(fromEpochNanos, toEpochNanos, offset -> {
+            double value = buffer.get(offset + KIND_OFFSET) == NUMERIC ? buffer.getDouble(offset + VALUE_OFFSET)
+                    : Double.parseDouble(getString(buffer, offset + VALUE_OFFSET));
+            series.add(buffer.getLong(offset + TIME_OFFSET), value);
+        });
+    }
+
+    /**
+     * Performs an action for the offset of each record taken in a period, with the time index. The segment is only
+     * mapped if the index shows it may have records of the period.
+     */
+    private void forEachOffset(long fromEpochNanos, long toEpochNanos, IntConsumer action) {
+        int first = firstBlockEndingFrom(fromEpochNanos);
+        if (first == blocks || minEpochNanos > toEpochNanos) {
+            return;
+        }
+        acquire();
+        try {
+            for (int block = first; block < blocks; block++) {
+                if (blockMinTimes[block] > toEpochNanos || blockMaxTimes[block] < fromEpochNanos) {
+                    continue;
+                }
+                int end = block + 1 < blocks ? blockOffsets[block + 1] : position;
+                for (int offset = blockOffsets[block]; offset < end; offset += buffer.getInt(offset)) {
+                    long epochNanos = buffer.getLong(offset + TIME_OFFSET);
+                    if (epochNanos >= fromEpochNanos && epochNanos <= toEpochNanos) {
+                        action.accept(offset);
+                    }
+                }
+            }
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Returns the first block whose records, or those of a block before it, reach a given time: every record of the
+     * blocks before it is earlier.
+     */
+    private int firstBlockEndingFrom(long fromEpochNanos) {
+        int low = 0;
+        int high = blocks;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (maxTimesUpToBlock[middle] < fromEpochNanos) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the offset of the record of the latest reading of the segment.
+     *
+     * @return the offset of the record of the latest reading, or -1 if the segment is empty.
+     */
+    public int getLatestOffset() {
+        return latestOffset;
+    }
+
+    /**
+     * Returns the number of readings of the segment.
+     *
+     * @return the number of readings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the path of the segment file.
+     *
+     * @return the path of the segment file.
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Writes the records to the file and closes it. The mapping is released once the segment is no longer
+     * referenced.
+     */
+    @Override
+    public synchronized void close() {
+        unmap();
+    }
+}
@@ -0,0 +1,66 @@
+package smarthome.persistence.segment;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.stereotype.Component;
+import smarthome.domain.repository.IReadingRepository;
+import smarthome.persistence.datamodel.mapper.ReadingDataModelMapper;
+import smarthome.persistence.spring.IReadingRepositorySpringData;
+
+import javax.sql.DataSource;
+
+/**
+ * Inserts the sample data of import.sql on the first start of the "segment" profile, and moves its readings to the
+ * segment store.
+ * <p>
+ * The profile keeps the rest of the house in an H2 database file, which outlives the application, so the sample data
+ * is inserted only while the database has no house; later starts keep the data as it is. The sample readings are
+ * inserted in the reading table by the script, like in the other profiles, and then saved to the segments and
+ * deleted from the table, so the readings of the profile are all in the segments.
+ * </p>
+ */
+@Component
+@Profile("segment")
+public class SegmentSampleData {
+
+    private static final String SCRIPT = "import.sql";
+
+    private final DataSource dataSource;
+    private final IReadingRepositorySpringData readingSpringDataRepository;
+    private final ReadingDataModelMapper readingDataModelMapper;
+    private final IReadingRepository readingRepository;
+
+    /**
+     * Constructs the sample data of the segment profile.
+     *
+     * @param dataSource                  the H2 database of the rest of the house.
+     * @param readingSpringDataRepository the reading table the script inserts the sample readings in.
+     * @param readingDataModelMapper      the mapper of the rows of the reading table.
+     * @param readingRepository           the segment store of the readings.
+     */
+    public SegmentSampleData(DataSource dataSource, IReadingRepositorySpringData readingSpringDataRepository,
+                             ReadingDataModelMapper readingDataModelMapper, IReadingRepository readingRepository) {
+        this.dataSource = dataSource;
+        this.readingSpringDataRepository = readingSpringDataRepository;
+        this.readingDataModelMapper = readingDataModelMapper;
+        this.readingRepository = readingRepository;
+    }
+
+    /**
+     * Inserts the sample data if the database has no house yet, and moves the sample readings to the segments.
+     */
+    @PostConstruct
+    public void insertOnFirstStart() {
+        Integer houses = new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM house", Integer.class);
+        if (houses != null && houses > 0) {
+            return;
+        }
+        new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+        readingRepository.saveAll(
+                readingDataModelMapper.toReadingDomainModels(readingSpringDataRepository.findAll()));
+        readingSpringDataRepository.deleteAllInBatch();
+    }
+}
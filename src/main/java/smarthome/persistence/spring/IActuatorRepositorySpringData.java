@@ -31,4 +31,14 @@ public interface IActuatorRepositorySpringData extends JpaRepository<ActuatorDat
      */
     @Query("SELECT a.actuatorId FROM ActuatorDataModel a WHERE a.deviceId = :deviceId")
     List<String> findActuatorIdsByDeviceId(@Param("deviceId") String deviceId);
+
+    /**
+     * Finds all actuators by device id.
+     * <p>
+     * The query is derived from the method name.
+     * <p>
+     * @param deviceId the device id to search for
+     * @return the actuators associated with the device id
+     */
+    List<ActuatorDataModel> findByDeviceId(String deviceId);
 }
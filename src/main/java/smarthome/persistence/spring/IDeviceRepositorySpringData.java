@@ -1,5 +1,7 @@
 package smarthome.persistence.spring;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -48,4 +50,25 @@ public interface IDeviceRepositorySpringData extends JpaRepository<DeviceDataMod
      */
     @Query("SELECT d.deviceId FROM DeviceDataModel d")
     List<String> findDeviceIds();
+
+    /**
+     * Retrieves a slice of the device IDs that follow a given device ID, in order, seeking to it on the primary key.
+     *
+     * @param after    the device ID to start after; the empty string starts at the first one.
+     * @param pageable the size of the slice, which is read with one more row to tell if there is a next slice.
+     * @return the slice of device IDs.
+     */
+    @Query("SELECT d.deviceId FROM DeviceDataModel d WHERE d.deviceId > :after ORDER BY d.deviceId")
+    Slice<String> findDeviceIdsAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Retrieves every distinct pair of a sensor type name and a device that has a sensor of that type, joining
+     * sensors to their models, types and devices in a single query.
+     * <p>
+     * @return a list of pairs, each an array of the sensor type name and the device.
+     */
+    @Query("SELECT DISTINCT st.sensorTypeName, d FROM SensorDataModel s, SensorModelDataModel sm, "
+            + "SensorTypeDataModel st, DeviceDataModel d WHERE s.sensorModelName = sm.sensorModelName "
+            + "AND sm.sensorTypeId = st.sensorTypeId AND s.deviceId = d.deviceId")
+    List<Object[]> findSensorTypeNamesAndDevices();
 }
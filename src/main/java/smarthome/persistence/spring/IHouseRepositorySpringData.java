@@ -1,7 +1,10 @@
 package smarthome.persistence.spring;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import smarthome.persistence.datamodel.HouseDataModel;
 
 import java.util.List;
@@ -22,5 +25,15 @@ public interface IHouseRepositorySpringData extends JpaRepository<HouseDataModel
     @Query("SELECT h.houseName FROM HouseDataModel h")
     List<String> findHouseIds();
 
+    /**
+     * Get a slice of the house ids that follow a given house id, in order, seeking to it on the primary key.
+     *
+     * @param after    the house id to start after; the empty string starts at the first one.
+     * @param pageable the size of the slice, which is read with one more row to tell if there is a next slice.
+     * @return the slice of house ids
+     */
+    @Query("SELECT h.houseName FROM HouseDataModel h WHERE h.houseName > :after ORDER BY h.houseName")
+    Slice<String> findHouseIdsAfter(@Param("after") String after, Pageable pageable);
+
 
 }
@@ -0,0 +1,43 @@
+package smarthome.persistence.spring;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smarthome.persistence.datamodel.ReadingChunkDataModel;
+import smarthome.persistence.datamodel.ReadingChunkIdDataModel;
+
+import java.util.List;
+
+/**
+ * Reading chunk repository for Spring Data JPA.
+ * The ReadingChunkDataModel is the entity that this repository works with.
+ * The ReadingChunkIdDataModel is the type of its composite primary key.
+ */
+public interface IReadingChunkRepositorySpringData
+        extends JpaRepository<ReadingChunkDataModel, ReadingChunkIdDataModel> {
+
+    /**
+     * Find the chunk of a sensor with the highest number.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @return the last chunk of the sensor, or null if the sensor has no chunks.
+     */
+    ReadingChunkDataModel findFirstById_SensorIdOrderById_ChunkSequenceDesc(String sensorId);
+
+    /**
+     * Find the chunks of a sensor that start in a given range and end at or after a given time, sorted by number.
+     *
+     * @param sensorId  the sensor ID to search for.
+     * @param firstFrom the earliest start of the chunks, in nanoseconds since the epoch.
+     * @param from      the earliest end of the chunks, in nanoseconds since the epoch.
+     * @param to        the latest start of the chunks, in nanoseconds since the epoch.
+     * @return a list of the chunks that match the search criteria.
+     */
+    @Query("SELECT c FROM ReadingChunkDataModel c WHERE c.id.sensorId = :sensorId " +
+            "AND c.firstEpochNanos BETWEEN :firstFrom AND :to AND c.lastEpochNanos >= :from " +
+            "ORDER BY c.id.chunkSequence")
+    List<ReadingChunkDataModel> findBySensorIdInPeriod(@Param("sensorId") String sensorId,
+                                                       @Param("firstFrom") long firstFrom,
+                                                       @Param("from") long from,
+                                                       @Param("to") long to);
+}
@@ -1,12 +1,19 @@
 package smarthome.persistence.spring;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import smarthome.persistence.datamodel.ReadingDataModel;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Reading repository for Spring Data JPA.
@@ -48,5 +55,113 @@ public interface IReadingRepositorySpringData extends JpaRepository<ReadingDataM
      */
     ReadingDataModel findTopBySensorIdOrderByTimeStampDesc(String sensorId);
 
+    /**
+     * Find the latest reading of every sensor, with a single grouped query. A sensor with several readings at its
+     * latest timestamp has a row for each of them.
+     *
+     * @return the latest reading of every sensor that has readings.
+     */
+    @Query("SELECT new smarthome.persistence.datamodel.ReadingDataModel(r.readingId, r.sensorId, r.readingValue, " +
+            "r.numericValue, r.timeStamp) FROM ReadingDataModel r WHERE (r.sensorId, r.timeStamp) IN " +
+            "(SELECT l.sensorId, MAX(l.timeStamp) FROM ReadingDataModel l GROUP BY l.sensorId)")
+    List<ReadingDataModel> findLatestOfEachSensor();
+
+    /**
+     * Find the timestamp and values of all readings by sensor ID in a given period (inclusive), sorted by timestamp.
+     * Only the timestamp, numeric value and string value columns are fetched, no entity is created.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @param start    the start timestamp.
+     * @param end      the end timestamp.
+     * @return a list of rows with the timestamp, the numeric value and the string value of each reading.
+     */
+    @Query("SELECT r.timeStamp, r.numericValue, r.readingValue FROM ReadingDataModel r WHERE r.sensorId = :sensorId " +
+            "AND r.timeStamp BETWEEN :start AND :end ORDER BY r.timeStamp")
+    List<Object[]> findTimeStampsAndValuesBySensorIdAndTimeStampBetween(@Param("sensorId") String sensorId,
+                                                                       @Param("start") LocalDateTime start,
+                                                                       @Param("end") LocalDateTime end);
+
+    /**
+     * Find the timestamp and values of the first readings by sensor ID, sorted by timestamp and then by reading ID.
+     * Only the timestamp, numeric value, string value and reading ID columns are fetched, no entity is created.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @param pageable the number of rows to fetch.
+     * @return a list of rows with the timestamp, the numeric value, the string value and the ID of each reading.
+     */
+    @Query("SELECT r.timeStamp, r.numericValue, r.readingValue, r.readingId FROM ReadingDataModel r " +
+            "WHERE r.sensorId = :sensorId AND r.timeStamp IS NOT NULL ORDER BY r.timeStamp, r.readingId")
+    List<Object[]> findTimeStampsAndValuesBySensorId(@Param("sensorId") String sensorId, Pageable pageable);
+
+    /**
+     * Find the timestamp and values of the readings by sensor ID that follow a given position, sorted by timestamp
+     * and then by reading ID. The index on sensor ID and timestamp seeks to the position, so a page costs the same
+     * however many readings come before it.
+     *
+     * @param sensorId  the sensor ID to search for.
+     * @param afterTime the timestamp of the position.
+     * @param afterId   the reading ID of the position.
+     * @param pageable  the number of rows to fetch.
+     * @return a list of rows with the timestamp, the numeric value, the string value and the ID of each reading.
+     */
+    @Query("SELECT r.timeStamp, r.numericValue, r.readingValue, r.readingId FROM ReadingDataModel r " +
+            "WHERE r.sensorId = :sensorId " +
+            "AND (r.timeStamp > :afterTime OR (r.timeStamp = :afterTime AND r.readingId > :afterId)) " +
+            "ORDER BY r.timeStamp, r.readingId")
+    List<Object[]> findTimeStampsAndValuesBySensorIdAfter(@Param("sensorId") String sensorId,
+                                                          @Param("afterTime") LocalDateTime afterTime,
+                                                          @Param("afterId") String afterId,
+                                                          Pageable pageable);
+
+    /**
+     * Find the IDs of the sensors that have readings.
+     *
+     * @return a list of the sensor IDs, each once.
+     */
+    @Query("SELECT DISTINCT r.sensorId FROM ReadingDataModel r")
+    List<String> findDistinctSensorIds();
+
+    /**
+     * Stream all readings by sensor ID in a given period (inclusive), sorted by timestamp.
+     * The rows are fetched from a forward only cursor, a page at a time, and each one is built as a detached data
+     * model, so the persistence context does not grow with the period. The stream must be consumed inside a
+     * transaction and closed afterwards.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @param start    the start timestamp.
+     * @param end      the end timestamp.
+     * @return a stream of the readings that match the search criteria.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT new smarthome.persistence.datamodel.ReadingDataModel(r.readingId, r.sensorId, r.readingValue, " +
+            "r.numericValue, r.timeStamp) FROM ReadingDataModel r WHERE r.sensorId = :sensorId " +
+            "AND r.timeStamp BETWEEN :start AND :end ORDER BY r.timeStamp")
+    Stream<ReadingDataModel> streamBySensorIdAndTimeStampBetween(@Param("sensorId") String sensorId,
+                                                                  @Param("start") LocalDateTime start,
+                                                                  @Param("end") LocalDateTime end);
+
+    /**
+     * Find a slice of the readings of some sensors up to a given end (inclusive), sorted by timestamp and then by
+     * reading ID, that follow a given position. The index on sensor ID and timestamp seeks to the position, so a
+     * slice costs the same however deep in the period it is.
+     *
+     * @param sensorIds the sensor IDs to search for.
+     * @param end       the end timestamp.
+     * @param afterTime the timestamp of the position.
+     * @param afterId   the reading ID of the position; the empty string includes the readings at the timestamp.
+     * @param pageable  the size of the slice, which is read with one more row to tell if there is a next slice.
+     * @return the slice of the readings that match the search criteria.
+     */
+    @Query("SELECT r FROM ReadingDataModel r WHERE r.sensorId IN :sensorIds AND r.timeStamp <= :end " +
+            "AND (r.timeStamp > :afterTime OR (r.timeStamp = :afterTime AND r.readingId > :afterId)) " +
+            "ORDER BY r.timeStamp, r.readingId")
+    Slice<ReadingDataModel> findBySensorIdInAndTimeStampAfter(@Param("sensorIds") Collection<String> sensorIds,
+                                                              @Param("end") LocalDateTime end,
+                                                              @Param("afterTime") LocalDateTime afterTime,
+                                                              @Param("afterId") String afterId,
+                                                              Pageable pageable);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package smarthome.persistence.spring;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import smarthome.persistence.datamodel.ReadingRollupDataModel;
+import smarthome.persistence.datamodel.ReadingRollupIdDataModel;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Reading rollup repository for Spring Data JPA.
+ * The ReadingRollupDataModel is the entity that this repository works with.
+ * The ReadingRollupIdDataModel is the type of its composite primary key.
+ */
+public interface IReadingRollupRepositorySpringData
+        extends JpaRepository<ReadingRollupDataModel, ReadingRollupIdDataModel> {
+
+    /**
+     * Adds an aggregate to the row of its bucket, inserting the row if it does not exist yet.
+     * The update is a single atomic statement, so concurrent writers to the same bucket never lose readings.
+     *
+     * @param sensorId          the sensor ID.
+     * @param resolutionSeconds the length of the bucket, in seconds.
+     * @param bucketStart       the start of the bucket.
+     * @param count             the number of readings to add.
+     * @param sum               the sum of the readings to add.
+     * @param min               the smallest reading to add.
+     * @param max               the largest reading to add.
+     * @param startCount        the number of readings to add taken exactly at the start of the bucket.
+     * @param startSum          the sum of the readings to add taken exactly at the start of the bucket.
+     * @return the number of rows inserted or updated.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reading_rollup (sensor_id, resolution_seconds, bucket_start, reading_count, " +
+            "value_sum, min_value, max_value, start_count, start_sum) VALUES (:sensorId, :resolutionSeconds, " +
+            ":bucketStart, :count, :sum, :min, :max, :startCount, :startSum) ON DUPLICATE KEY UPDATE " +
+            "reading_count = reading_count + VALUES(reading_count), value_sum = value_sum + VALUES(value_sum), " +
+            "min_value = LEAST(min_value, VALUES(min_value)), max_value = GREATEST(max_value, VALUES(max_value)), " +
+            "start_count = start_count + VALUES(start_count), start_sum = start_sum + VALUES(start_sum)",
+            nativeQuery = true)
+    int upsert(@Param("sensorId") String sensorId, @Param("resolutionSeconds") long resolutionSeconds,
+               @Param("bucketStart") LocalDateTime bucketStart, @Param("count") long count, @Param("sum") double sum,
+               @Param("min") double min, @Param("max") double max, @Param("startCount") long startCount,
+               @Param("startSum") double startSum);
+
+    /**
+     * Find the rollups of a sensor at a given resolution whose buckets start in a given period, sorted by bucket.
+     *
+     * @param sensorId          the sensor ID to search for.
+     * @param resolutionSeconds the length of the buckets, in seconds.
+     * @param start             the start of the period, included.
+     * @param end               the end of the period, excluded.
+     * @return a list of the rollups that match the search criteria.
+     */
+    @Query("SELECT r FROM ReadingRollupDataModel r WHERE r.id.sensorId = :sensorId " +
+            "AND r.id.resolutionSeconds = :resolutionSeconds AND r.id.bucketStart >= :start " +
+            "AND r.id.bucketStart < :end ORDER BY r.id.bucketStart")
+    List<ReadingRollupDataModel> findBySensorIdAndResolutionInPeriod(@Param("sensorId") String sensorId,
+                                                                     @Param("resolutionSeconds") long resolutionSeconds,
+                                                                     @Param("start") LocalDateTime start,
+                                                                     @Param("end") LocalDateTime end);
+}
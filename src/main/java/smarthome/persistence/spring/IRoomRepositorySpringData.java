@@ -1,7 +1,10 @@
 package smarthome.persistence.spring;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import smarthome.persistence.datamodel.RoomDataModel;
 
 import java.util.List;
@@ -19,6 +22,16 @@ public interface IRoomRepositorySpringData extends JpaRepository<RoomDataModel,
     @Query("SELECT r.roomId FROM RoomDataModel r")
     List<String> findRoomIds();
 
+    /**
+     * Get a slice of the Room identities that follow a given identity, in order, seeking to it on the primary key.
+     *
+     * @param after    the Room identity to start after; the empty string starts at the first one.
+     * @param pageable the size of the slice, which is read with one more row to tell if there is a next slice.
+     * @return The slice of Room identities.
+     */
+    @Query("SELECT r.roomId FROM RoomDataModel r WHERE r.roomId > :after ORDER BY r.roomId")
+    Slice<String> findRoomIdsAfter(@Param("after") String after, Pageable pageable);
+
     /**
      * Retrieve all Room identities with a given house name.
      *
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import smarthome.persistence.datamodel.SensorDataModel;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -63,4 +64,12 @@ public interface ISensorRepositorySpringData extends JpaRepository<SensorDataMod
      */
     @Query("SELECT s.sensorId FROM SensorDataModel s WHERE s.deviceId = :deviceId")
     List<String> findSensorIdsByDeviceId(@Param("deviceId") String deviceId);
+
+    /**
+     * This method counts the sensors whose ids are in the given collection.
+     *
+     * @param sensorIds The sensor ids to count.
+     * @return The number of sensors found with the given ids.
+     */
+    long countBySensorIdIn(Collection<String> sensorIds);
 }
@@ -5,6 +5,8 @@ import smarthome.domain.actuatormodel.ActuatorModel;
 import smarthome.domain.actuatormodel.vo.ActuatorModelName;
 import smarthome.domain.actuatortype.vo.ActuatorTypeName;
 import smarthome.domain.repository.IActuatorModelRepository;
+import smarthome.persistence.cache.CachedCatalogRepository;
+import smarthome.persistence.cache.CatalogCache;
 import smarthome.persistence.datamodel.ActuatorModelDataModel;
 import smarthome.persistence.datamodel.mapper.ActuatorModelDataModelMapper;
 import smarthome.persistence.spring.IActuatorModelRepositorySpringData;
@@ -15,11 +17,13 @@ import java.util.Optional;
 /**
  * This class implements the IActuatorModelRepository interface.
  * It provides the functionality to interact with the database using Spring Data.
+ * The actuator models are cached in a {@link CatalogCache}.
  */
 @Repository
-public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepository {
+public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepository, CachedCatalogRepository {
     private final ActuatorModelDataModelMapper actuatorModelDataModelMapper;
     private final IActuatorModelRepositorySpringData actuatorModelSpringDataRepository;
+    private final CatalogCache<ActuatorModelName, ActuatorModel> catalogCache;
 
     /**
      * Constructor for the ActuatorModelRepositorySpringDataImpl class.
@@ -32,6 +36,7 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
                                                  IActuatorModelRepositorySpringData actuatorModelSpringDataRepository) {
         this.actuatorModelDataModelMapper = actuatorModelDataModelMapper;
         this.actuatorModelSpringDataRepository = actuatorModelSpringDataRepository;
+        this.catalogCache = new CatalogCache<>("actuatorModel", ActuatorModel::getIdentity, this::loadAll, this::load);
     }
 
     /**
@@ -49,6 +54,7 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
         }
         ActuatorModelDataModel actuatorModelDataModel = new ActuatorModelDataModel(actuatorModel);
         actuatorModelSpringDataRepository.save(actuatorModelDataModel);
+        catalogCache.put(actuatorModel);
         return actuatorModel;
     }
 
@@ -59,7 +65,7 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
      */
     @Override
     public Iterable<ActuatorModel> findAll() {
-        return actuatorModelDataModelMapper.toActuatorModelsDomain(actuatorModelSpringDataRepository.findAll());
+        return catalogCache.findAll();
     }
 
     /**
@@ -74,13 +80,7 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
         if (actuatorModelName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<ActuatorModelDataModel> actuatorModelDataModel =
-                actuatorModelSpringDataRepository.findById(actuatorModelName.getActuatorModelName());
-        if (actuatorModelDataModel.isPresent()) {
-            return Optional.of(actuatorModelDataModelMapper.toActuatorModelDomain(actuatorModelDataModel.get()));
-        } else {
-            return Optional.empty();
-        }
+        return catalogCache.findByIdentity(actuatorModelName);
     }
 
     /**
@@ -95,7 +95,7 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
         if (actuatorModelName == null) {
             throw new IllegalArgumentException();
         }
-        return actuatorModelSpringDataRepository.existsById(actuatorModelName.getActuatorModelName());
+        return catalogCache.containsIdentity(actuatorModelName);
     }
 
     /**
@@ -131,4 +131,34 @@ public class ActuatorModelRepositorySpringDataImpl implements IActuatorModelRepo
         List<String> actuatorModelNames = actuatorModelSpringDataRepository.findActuatorModelNamesByActuatorTypeName(actuatorTypeNameString);
         return actuatorModelNames.stream().map(ActuatorModelName::new).toList();
     }
+
+    /**
+     * Returns the cache of the ActuatorModel catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    @Override
+    public CatalogCache<ActuatorModelName, ActuatorModel> getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Loads all ActuatorModels from the database, to fill the catalog cache.
+     */
+    private Iterable<ActuatorModel> loadAll() {
+        return actuatorModelDataModelMapper.toActuatorModelsDomain(actuatorModelSpringDataRepository.findAll());
+    }
+
+    /**
+     * Loads an ActuatorModel from the database, for a lookup the catalog cache cannot answer.
+     */
+    private Optional<ActuatorModel> load(ActuatorModelName actuatorModelName) {
+        Optional<ActuatorModelDataModel> actuatorModelDataModel =
+                actuatorModelSpringDataRepository.findById(actuatorModelName.getActuatorModelName());
+        if (actuatorModelDataModel.isPresent()) {
+            return Optional.of(actuatorModelDataModelMapper.toActuatorModelDomain(actuatorModelDataModel.get()));
+        } else {
+            return Optional.empty();
+        }
+    }
 }
@@ -108,4 +108,19 @@ public class ActuatorRepositorySpringDataImpl implements IActuatorRepository {
 
         return actuatorIdsVO;
     }
+
+    /**
+     * method that returns all actuators of a device.
+     *
+     * @param deviceId the device id.
+     * @return the actuators of the device.
+     */
+    @Override
+    public Iterable<Actuator> findActuatorsByDeviceId(DeviceId deviceId) {
+        if (deviceId == null) {
+            throw new IllegalArgumentException();
+        }
+        List<ActuatorDataModel> actuators = actuatorRepositorySpringData.findByDeviceId(deviceId.getIdentity());
+        return actuatorDataModelMapper.toActuatorsDomain(actuators);
+    }
 }
@@ -4,6 +4,8 @@ import org.springframework.stereotype.Repository;
 import smarthome.domain.actuatortype.ActuatorType;
 import smarthome.domain.actuatortype.vo.ActuatorTypeName;
 import smarthome.domain.repository.IActuatorTypeRepository;
+import smarthome.persistence.cache.CachedCatalogRepository;
+import smarthome.persistence.cache.CatalogCache;
 import smarthome.persistence.datamodel.ActuatorTypeDataModel;
 import smarthome.persistence.datamodel.mapper.ActuatorTypeDataModelMapper;
 import smarthome.persistence.spring.IActuatorTypeRepositorySpringData;
@@ -13,12 +15,14 @@ import java.util.Optional;
 
 /**
  * This class implements the IActuatorTypeRepository interface and provides Spring Data-based persistence operations.
+ * Actuator types are kept in a {@link CatalogCache}, which saves write through.
  */
 @Repository
-public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeRepository {
+public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeRepository, CachedCatalogRepository {
 
     private final ActuatorTypeDataModelMapper actuatorTypeDataModelMapper;
     private final IActuatorTypeRepositorySpringData actuatorTypeSpringDataRepository;
+    private final CatalogCache<ActuatorTypeName, ActuatorType> catalogCache;
 
     /**
      * Constructor for the ActuatorTypeRepositorySpringDataImpl class.
@@ -31,6 +35,7 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
                                                 IActuatorTypeRepositorySpringData actuatorTypeSpringDataRepository) {
         this.actuatorTypeDataModelMapper = actuatorTypeDataModelMapper;
         this.actuatorTypeSpringDataRepository = actuatorTypeSpringDataRepository;
+        this.catalogCache = new CatalogCache<>("actuatorType", ActuatorType::getIdentity, this::loadAll, this::load);
     }
 
     /**
@@ -46,6 +51,7 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
         }
         ActuatorTypeDataModel actuatorTypeDataModel = new ActuatorTypeDataModel(actuatorType);
         actuatorTypeSpringDataRepository.save(actuatorTypeDataModel);
+        catalogCache.put(actuatorType);
         return actuatorType;
     }
 
@@ -56,8 +62,7 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
      */
     @Override
     public Iterable<ActuatorType> findAll() {
-        List<ActuatorTypeDataModel> actuatorTypeDataModels = actuatorTypeSpringDataRepository.findAll();
-        return actuatorTypeDataModelMapper.toDomain(actuatorTypeDataModels);
+        return catalogCache.findAll();
     }
 
     /**
@@ -71,9 +76,7 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<ActuatorTypeDataModel> actuatorTypeDataModel =
-                actuatorTypeSpringDataRepository.findById(actuatorTypeName.getActuatorTypeName());
-        return actuatorTypeDataModel.map(actuatorTypeDataModelMapper::toDomain);
+        return catalogCache.findByIdentity(actuatorTypeName);
     }
 
     /**
@@ -87,7 +90,7 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
         if (actuatorTypeName == null) {
             throw new IllegalArgumentException();
         }
-        return actuatorTypeSpringDataRepository.existsById(actuatorTypeName.getActuatorTypeName());
+        return catalogCache.containsIdentity(actuatorTypeName);
     }
 
     /**
@@ -100,4 +103,31 @@ public class ActuatorTypeRepositorySpringDataImpl implements IActuatorTypeReposi
         List<String> actuatorTypeIds = actuatorTypeSpringDataRepository.findActuatorTypeNames();
         return actuatorTypeIds.stream().map(ActuatorTypeName::new).toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the cache of the ActuatorType catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    @Override
+    public CatalogCache<ActuatorTypeName, ActuatorType> getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Loads all ActuatorTypes from the database, to fill the catalog cache.
+     */
+    private Iterable<ActuatorType> loadAll() {
+        List<ActuatorTypeDataModel> actuatorTypeDataModels = actuatorTypeSpringDataRepository.findAll();
+        return actuatorTypeDataModelMapper.toDomain(actuatorTypeDataModels);
+    }
+
+    /**
+     * Loads an ActuatorType from the database, for a lookup the catalog cache cannot answer.
+     */
+    private Optional<ActuatorType> load(ActuatorTypeName actuatorTypeName) {
+        Optional<ActuatorTypeDataModel> actuatorTypeDataModel =
+                actuatorTypeSpringDataRepository.findById(actuatorTypeName.getActuatorTypeName());
+        return actuatorTypeDataModel.map(actuatorTypeDataModelMapper::toDomain);
+    }
+}
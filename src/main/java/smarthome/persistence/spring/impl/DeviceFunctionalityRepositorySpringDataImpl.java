@@ -0,0 +1,54 @@
+package smarthome.persistence.spring.impl;
+
+import org.springframework.stereotype.Repository;
+import smarthome.domain.device.Device;
+import smarthome.domain.repository.IDeviceFunctionalityRepository;
+import smarthome.domain.sensortype.vo.SensorTypeName;
+import smarthome.persistence.datamodel.DeviceDataModel;
+import smarthome.persistence.datamodel.mapper.DeviceDataModelMapper;
+import smarthome.persistence.spring.IDeviceRepositorySpringData;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository that relates devices to the sensor types of their sensors.
+ * Implementation using Spring Data, with a single join of the sensor, sensor model, sensor type and device tables.
+ */
+@Repository
+public class DeviceFunctionalityRepositorySpringDataImpl implements IDeviceFunctionalityRepository {
+
+    private final DeviceDataModelMapper deviceDataModelMapper;
+    private final IDeviceRepositorySpringData deviceRepositorySpringData;
+
+    /**
+     * Constructor of the Device Functionality Repository Spring Data
+     *
+     * @param deviceDataModelMapper      the device data model mapper
+     * @param deviceRepositorySpringData the device spring data repository
+     */
+    public DeviceFunctionalityRepositorySpringDataImpl(DeviceDataModelMapper deviceDataModelMapper,
+                                                       IDeviceRepositorySpringData deviceRepositorySpringData) {
+        this.deviceDataModelMapper = deviceDataModelMapper;
+        this.deviceRepositorySpringData = deviceRepositorySpringData;
+    }
+
+    /**
+     * Finds every pair of a sensor type name and a device that has a sensor of that type, in a single query.
+     *
+     * @return the pairs of sensor type name and device.
+     */
+    @Override
+    public List<Map.Entry<SensorTypeName, Device>> findDevicesBySensorTypeName() {
+        List<Object[]> rows = deviceRepositorySpringData.findSensorTypeNamesAndDevices();
+        List<Map.Entry<SensorTypeName, Device>> pairs = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            SensorTypeName sensorTypeName = new SensorTypeName((String) row[0]);
+            Device device = deviceDataModelMapper.toDeviceDomain((DeviceDataModel) row[1]);
+            pairs.add(new AbstractMap.SimpleImmutableEntry<>(sensorTypeName, device));
+        }
+        return pairs;
+    }
+}
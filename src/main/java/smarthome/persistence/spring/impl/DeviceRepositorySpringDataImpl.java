@@ -1,6 +1,9 @@
 package smarthome.persistence.spring.impl;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
@@ -176,4 +179,19 @@ public class DeviceRepositorySpringDataImpl implements IDeviceRepository {
         List<String> deviceIds = deviceRepositorySpringData.findDeviceIds();
         return deviceIds.stream().map(DeviceId::new).toList();
     }
+
+    /**
+     * Retrieves a page of device IDs that follow a given device ID, with a keyset query on the primary key.
+     * @param after the device ID to start after, or null to start at the first one
+     * @param limit the largest number of device IDs of the page
+     * @return the page of device IDs
+     * @throws IllegalArgumentException if the limit is not between 1 and the largest page size
+     */
+    @Override
+    public KeysetPage<DeviceId> findDeviceIds(DeviceId after, int limit) {
+        KeysetPage.checkLimit(limit);
+        String afterId = after == null ? "" : after.getIdentity();
+        Slice<String> deviceIds = deviceRepositorySpringData.findDeviceIdsAfter(afterId, PageRequest.of(0, limit));
+        return new KeysetPage<>(deviceIds.stream().map(DeviceId::new).toList(), deviceIds.hasNext());
+    }
 }
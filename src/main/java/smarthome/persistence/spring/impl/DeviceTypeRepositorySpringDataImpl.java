@@ -4,6 +4,8 @@ import org.springframework.stereotype.Repository;
 import smarthome.domain.deviceType.DeviceType;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.repository.IDeviceTypeRepository;
+import smarthome.persistence.cache.CachedCatalogRepository;
+import smarthome.persistence.cache.CatalogCache;
 import smarthome.persistence.datamodel.DeviceTypeDataModel;
 import smarthome.persistence.datamodel.mapper.DeviceTypeDataModelMapper;
 import smarthome.persistence.spring.IDeviceTypeRepositorySpringData;
@@ -13,12 +15,14 @@ import java.util.Optional;
 
 /**
  * This class implements the IDeviceTypeRepository interface.
+ * Device types are read from a {@link CatalogCache} and written through it.
  */
 @Repository
-public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository {
+public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository, CachedCatalogRepository {
 
     private final DeviceTypeDataModelMapper deviceTypeDataModelMapper;
     private final IDeviceTypeRepositorySpringData deviceTypeSpringDataRepository;
+    private final CatalogCache<DeviceTypeName, DeviceType> catalogCache;
 
     /**
      * Constructor for the DeviceTypeRepositorySpringDataImpl class.
@@ -30,6 +34,7 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
                                               IDeviceTypeRepositorySpringData deviceTypeSpringDataRepository) {
         this.deviceTypeDataModelMapper = deviceTypeDataModelMapper;
         this.deviceTypeSpringDataRepository = deviceTypeSpringDataRepository;
+        this.catalogCache = new CatalogCache<>("deviceType", DeviceType::getIdentity, this::loadAll, this::load);
     }
 
     /**
@@ -45,6 +50,7 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
         }
         DeviceTypeDataModel deviceTypeDataModel = new DeviceTypeDataModel(deviceType);
         deviceTypeSpringDataRepository.save(deviceTypeDataModel);
+        catalogCache.put(deviceType);
         return deviceType;
     }
 
@@ -55,8 +61,7 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
      */
     @Override
     public Iterable<DeviceType> findAll() {
-        List<DeviceTypeDataModel> deviceTypeDataModels = deviceTypeSpringDataRepository.findAll();
-        return deviceTypeDataModelMapper.toDomain(deviceTypeDataModels);
+        return catalogCache.findAll();
     }
 
     /**
@@ -70,11 +75,7 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
         if (deviceTypeName == null) {
             throw new IllegalArgumentException();
         }
-
-        Optional<DeviceTypeDataModel> deviceTypeDataModel = deviceTypeSpringDataRepository.
-                findById(deviceTypeName.getDeviceTypeName());
-
-        return deviceTypeDataModel.map(deviceTypeDataModelMapper::toDomain);
+        return catalogCache.findByIdentity(deviceTypeName);
     }
 
     /**
@@ -88,8 +89,7 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
         if (deviceTypeName == null) {
             throw new IllegalArgumentException();
         }
-
-        return deviceTypeSpringDataRepository.existsById(deviceTypeName.getDeviceTypeName());
+        return catalogCache.containsIdentity(deviceTypeName);
     }
 
     /**
@@ -102,4 +102,32 @@ public class DeviceTypeRepositorySpringDataImpl implements IDeviceTypeRepository
         List<String> deviceTypeNames = deviceTypeSpringDataRepository.findDeviceTypeNames();
         return deviceTypeNames.stream().map(DeviceTypeName::new).toList();
     }
+
+    /**
+     * Returns the cache of the DeviceType catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    @Override
+    public CatalogCache<DeviceTypeName, DeviceType> getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Loads all DeviceTypes from the database, to fill the catalog cache.
+     */
+    private Iterable<DeviceType> loadAll() {
+        List<DeviceTypeDataModel> deviceTypeDataModels = deviceTypeSpringDataRepository.findAll();
+        return deviceTypeDataModelMapper.toDomain(deviceTypeDataModels);
+    }
+
+    /**
+     * Loads a DeviceType from the database, for a lookup the catalog cache cannot answer.
+     */
+    private Optional<DeviceType> load(DeviceTypeName deviceTypeName) {
+        Optional<DeviceTypeDataModel> deviceTypeDataModel = deviceTypeSpringDataRepository.
+                findById(deviceTypeName.getDeviceTypeName());
+
+        return deviceTypeDataModel.map(deviceTypeDataModelMapper::toDomain);
+    }
 }
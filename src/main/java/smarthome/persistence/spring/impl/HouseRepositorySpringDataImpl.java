@@ -1,6 +1,9 @@
 package smarthome.persistence.spring.impl;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IHouseRepository;
@@ -119,4 +122,20 @@ public class HouseRepositorySpringDataImpl implements IHouseRepository {
         List<String> houseIdsList = houseRepositorySpringData.findHouseIds();
         return houseIdsList.stream().map(HouseName::new).toList();
     }
+
+    /**
+     * Finds a page of House ids that follow a given House id, with a keyset query on the primary key.
+     *
+     * @param after The House id to start after, or null to start at the first one.
+     * @param limit The largest number of House ids of the page.
+     * @return The page of House ids.
+     * @throws IllegalArgumentException if the limit is not between 1 and the largest page size.
+     */
+    @Override
+    public KeysetPage<HouseName> findHouseIds(HouseName after, int limit) {
+        KeysetPage.checkLimit(limit);
+        String afterId = after == null ? "" : after.getName();
+        Slice<String> houseIds = houseRepositorySpringData.findHouseIdsAfter(afterId, PageRequest.of(0, limit));
+        return new KeysetPage<>(houseIds.stream().map(HouseName::new).toList(), houseIds.hasNext());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package smarthome.persistence.spring.impl;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingChunkRepository;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.datamodel.ReadingChunkDataModel;
+import smarthome.persistence.datamodel.mapper.ReadingChunkDataModelMapper;
+import smarthome.persistence.spring.IReadingChunkRepositorySpringData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The Reading chunk repository Spring Data implementation.
+ * This class is responsible for managing the compressed chunks of readings in the database using Spring Data, one
+ * BLOB per chunk.
+ */
+@Repository
+public class ReadingChunkRepositorySpringDataImpl implements IReadingChunkRepository {
+
+    private final ReadingChunkDataModelMapper chunkDataModelMapper;
+    private final IReadingChunkRepositorySpringData chunkSpringDataRepository;
+    private final ReadingChunkPolicy policy = ReadingChunkPolicy.DEFAULT;
+
+    /**
+     * Instantiates a new Reading chunk repository Spring Data implementation, with the default policy.
+     *
+     * @param chunkDataModelMapper      The reading chunk data model mapper.
+     * @param chunkSpringDataRepository The reading chunk Spring Data repository.
+     */
+    public ReadingChunkRepositorySpringDataImpl(ReadingChunkDataModelMapper chunkDataModelMapper,
+                                                IReadingChunkRepositorySpringData chunkSpringDataRepository) {
+        this.chunkDataModelMapper = chunkDataModelMapper;
+        this.chunkSpringDataRepository = chunkSpringDataRepository;
+    }
+
+    /**
+     * Get the policy that tells when a chunk is sealed.
+     *
+     * @return The policy of the chunks.
+     */
+    @Override
+    public ReadingChunkPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Save chunks, replacing the stored chunks of the same sensor and number, in a single transaction.
+     *
+     * @param chunks The chunks to save.
+     * @throws IllegalArgumentException if the chunks, or any of them, are null
+     */
+    @Override
+    @Transactional
+    public void saveAll(List<ReadingChunk> chunks) {
+        if (chunks == null) {
+            throw new IllegalArgumentException();
+        }
+        List<ReadingChunkDataModel> chunkDataModels = new ArrayList<>();
+        for (ReadingChunk chunk : chunks) {
+            chunkDataModels.add(new ReadingChunkDataModel(chunk));
+        }
+        chunkSpringDataRepository.saveAll(chunkDataModels);
+    }
+
+    /**
+     * Append samples of a sensor to its chunks, reading and writing its last chunk in a single transaction.
+     *
+     * @param sensorId The Sensor identity.
+     * @param samples  The samples to append.
+     * @throws IllegalArgumentException if the sensor or the samples are null
+     */
+    @Override
+    @Transactional
+    public void addReadingSeries(SensorId sensorId, ReadingSeries samples) {
+        IReadingChunkRepository.super.addReadingSeries(sensorId, samples);
+    }
+
+    /**
+     * Append readings to the chunks of their sensors, in a single transaction.
+     *
+     * @param readings The readings to add.
+     * @throws IllegalArgumentException if the readings are null
+     */
+    @Override
+    @Transactional
+    public void addReadings(Iterable<Reading> readings) {
+        IReadingChunkRepository.super.addReadings(readings);
+    }
+
+    /**
+     * Find the chunk of a sensor with the highest number.
+     *
+     * @param sensorId The Sensor identity.
+     * @return An Optional with the last chunk of the sensor, empty if the sensor has no chunks.
+     * @throws IllegalArgumentException if the Sensor identity is null
+     */
+    @Override
+    public Optional<ReadingChunk> findLastChunkBySensorId(SensorId sensorId) {
+        if (sensorId == null) {
+            throw new IllegalArgumentException();
+        }
+        return Optional.ofNullable(chunkSpringDataRepository
+                        .findFirstById_SensorIdOrderById_ChunkSequenceDesc(sensorId.getSensorId()))
+                .map(chunkDataModelMapper::toReadingChunk);
+    }
+
+    /**
+     * Find the chunks of a sensor that have samples in a given period, with a query on the sensor and first time
+     * index.
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @return The chunks of the sensor in the period, by number.
+     */
+    @Override
+    public List<ReadingChunk> findChunksBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        long from = ReadingSeries.toEpochNanos(start.getValue());
+        long to = ReadingSeries.toEpochNanos(end.getValue());
+        return chunkDataModelMapper.toReadingChunks(chunkSpringDataRepository.findBySensorIdInPeriod(
+                sensorId.getSensorId(), from - policy.getWindowNanos(), from, to));
+    }
+
+    /**
+     * Check if the repository has no chunks.
+     *
+     * @return true if the repository has no chunks, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return chunkSpringDataRepository.count() == 0;
+    }
+}
@@ -1,59 +1,221 @@
 package smarthome.persistence.spring.impl;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingSeries;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingChunkRepository;
 import smarthome.domain.repository.IReadingRepository;
 import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.cache.LatestReadings;
+import smarthome.persistence.cache.OpenReadingChunks;
 import smarthome.persistence.datamodel.ReadingDataModel;
 import smarthome.persistence.datamodel.mapper.ReadingDataModelMapper;
 import smarthome.persistence.spring.IReadingRepositorySpringData;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * The Reading repository Spring Data implementation.
  * This class is responsible for managing Reading entities in the database using Spring Data.
+ * It is the Reading repository of every Spring profile but "segment", which keeps the readings in segment files.
  */
 @Repository
+@Profile("!segment")
 public class ReadingRepositorySpringDataImpl implements IReadingRepository {
 
+    /**
+     * The number of readings read at a time when the chunks of a sensor are filled from its readings.
+     */
+    static final int BACKFILL_PAGE_SIZE = 10000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingRepositorySpringDataImpl.class);
 
     private final ReadingDataModelMapper readingDataModelMapper;
     private final IReadingRepositorySpringData readingSpringDataRepository;
+    private final LatestReadings latestReadings;
+    private final IReadingChunkRepository chunkRepository;
+    private final OpenReadingChunks openChunks;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * Instantiates a new Reading repository Spring Data implementation.
+     * The latest reading of each sensor is kept in memory once the application is ready, so the latest reading of a
+     * sensor is found without a query; a saved reading is only made the latest one once its transaction commits.
+     * The numeric values of each sensor are also appended to compressed chunks, in the transaction that saves them,
+     * which serve the series of a sensor in a period once the chunks of the sensor are loaded.
      *
      * @param readingModelMapper          The reading data model mapper.
      * @param readingSpringDataRepository The reading Spring Data repository.
+     * @param chunkRepository             The reading chunk repository.
+     * @param transactionManager          The transaction manager, for the transactions that fill the chunks.
      */
     public ReadingRepositorySpringDataImpl(
-            ReadingDataModelMapper readingModelMapper, IReadingRepositorySpringData readingSpringDataRepository) {
+            ReadingDataModelMapper readingModelMapper, IReadingRepositorySpringData readingSpringDataRepository,
+            IReadingChunkRepository chunkRepository, PlatformTransactionManager transactionManager) {
         this.readingSpringDataRepository = readingSpringDataRepository;
         this.readingDataModelMapper = readingModelMapper;
+        this.chunkRepository = chunkRepository;
+        this.openChunks = new OpenReadingChunks(chunkRepository, this::forEachPageOfSeries);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.latestReadings = new LatestReadings(
+                () -> readingDataModelMapper.toReadingDomainModels(readingSpringDataRepository.findLatestOfEachSensor()),
+                this::findLastReadingInDatabase);
     }
 
     /**
-     * Save a Reading entity to the repository.
+     * Load the latest reading of each sensor, with a single grouped query, once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadLatestReadings() {
+        latestReadings.load();
+    }
+
+    /**
+     * Load the chunks of every sensor with readings, one sensor per transaction, once the application is ready.
+     * A sensor without chunks has them filled from its readings. Until a sensor is loaded, its series are read from
+     * its readings; a sensor that gets a reading first is loaded by the save.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadChunks() {
+        for (String sensorId : readingSpringDataRepository.findDistinctSensorIds()) {
+            transactionTemplate.executeWithoutResult(status -> openChunks.load(new SensorId(sensorId)));
+        }
+    }
+
+    /**
+     * Hand the numeric values of a sensor to a consumer, sorted by time, one page of readings at a time, with
+     * keyset queries on the sensor and time index. The readings that are not numbers are left out, and their number
+     * is logged once the sensor is done.
+     *
+     * @param sensorId The Sensor identity.
+     * @param consumer The consumer of each page of values.
+     */
+    private void forEachPageOfSeries(SensorId sensorId, Consumer<ReadingSeries> consumer) {
+        PageRequest page = PageRequest.of(0, BACKFILL_PAGE_SIZE);
+        List<Object[]> rows = readingSpringDataRepository.findTimeStampsAndValuesBySensorId(sensorId.getSensorId(),
+                page);
+        int skipped = 0;
+        while (!rows.isEmpty()) {
+            ReadingSeries series = new ReadingSeries();
+            for (Object[] row : rows) {
+                if (!addNumericRow(series, row)) {
+                    skipped++;
+                }
+            }
+            if (!series.isEmpty()) {
+                consumer.accept(series);
+            }
+            if (rows.size() < BACKFILL_PAGE_SIZE) {
+                break;
+            }
+            Object[] last = rows.get(rows.size() - 1);
+            rows = readingSpringDataRepository.findTimeStampsAndValuesBySensorIdAfter(sensorId.getSensorId(),
+                    (LocalDateTime) last[0], (String) last[3], page);
+        }
+        logSkippedRows(sensorId, skipped);
+    }
+
+    /**
+     * Add a row of timestamp, numeric value and string value to a series, unless it has no timestamp or its value is
+     * not a number.
+     *
+     * @param series The series to add to.
+     * @param row    The row to add.
+     * @return true if the row was added, false if it was skipped.
+     */
+    private static boolean addNumericRow(ReadingSeries series, Object[] row) {
+        if (row[0] == null || (row[1] == null && row[2] == null)) {
+            return false;
+        }
+        try {
+            double value = row[1] != null ? (Double) row[1] : Double.parseDouble((String) row[2]);
+            series.add((LocalDateTime) row[0], value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Log the number of readings of a sensor left out of a series, if any.
+     *
+     * @param sensorId The Sensor identity.
+     * @param skipped  The number of readings left out.
+     */
+    private static void logSkippedRows(SensorId sensorId, int skipped) {
+        if (skipped > 0) {
+            LOGGER.warn("Left {} readings of sensor {} out of its series, as their value is not a number", skipped,
+                    sensorId.getSensorId());
+        }
+    }
+
+    /**
+     * Save a Reading entity to the repository, and append it to the chunks of its sensor, in a single transaction.
+     * The reading is appended before its row is written, so a sensor whose chunks are filled from its readings by
+     * this save does not get the reading twice.
      *
      * @param reading The Reading entity to be saved.
      * @return The saved Reading entity.
      * @throws IllegalArgumentException if the Reading is null
      */
     @Override
+    @Transactional
     public Reading save(Reading reading) {
         if (reading == null) {
             throw new IllegalArgumentException();
         }
         ReadingDataModel readingDataModel = new ReadingDataModel(reading);
+        openChunks.append(List.of(reading));
         readingSpringDataRepository.save(readingDataModel);
+        latestReadings.updateAllAfterCommit(List.of(reading));
         return reading;
     }
 
+    /**
+     * Save a batch of Reading entities to the repository, and append them to the chunks of their sensors, in a single
+     * transaction.
+     * The readings are new entities, so they are inserted without being looked up first, and Hibernate groups the
+     * inserts in JDBC batches.
+     *
+     * @param readings The Reading entities to be saved.
+     * @return The saved Reading entities.
+     * @throws IllegalArgumentException if the readings, or any of them, are null
+     */
+    @Override
+    @Transactional
+    public Iterable<Reading> saveAll(Iterable<Reading> readings) {
+        if (readings == null) {
+            throw new IllegalArgumentException();
+        }
+        List<ReadingDataModel> readingDataModels = new ArrayList<>();
+        for (Reading reading : readings) {
+            readingDataModels.add(new ReadingDataModel(reading));
+        }
+        openChunks.append(readings);
+        readingSpringDataRepository.saveAll(readingDataModels);
+        latestReadings.updateAllAfterCommit(readings);
+        return readings;
+    }
+
     /**
      * Retrieve all Reading entities from the repository.
      *
@@ -112,6 +274,68 @@ public class ReadingRepositorySpringDataImpl implements IReadingRepository {
         return readingDataModelMapper.toReadingDomainModels(readingDataModels);
     }
 
+    /**
+     * Perform an action for each Reading entity with a given Sensor identity in a given period, sorted by time.
+     * The readings are read from a database cursor inside a read only transaction, and each one is mapped and
+     * handed to the action as soon as it is read.
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @param action   The action to perform on each Reading entity.
+     * @throws IllegalArgumentException if the action is null
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachReadingBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end,
+                                                       Consumer<Reading> action) {
+        if (action == null) {
+            throw new IllegalArgumentException();
+        }
+        try (Stream<ReadingDataModel> readingDataModels = readingSpringDataRepository
+                .streamBySensorIdAndTimeStampBetween(sensorId.getSensorId(), start.getValue(), end.getValue())) {
+            readingDataModels.map(readingDataModelMapper::toReadingDomainModel).forEach(action);
+        }
+    }
+
+    /**
+     * Find a page of the Reading entities of some Sensor identities in a given period, sorted by time and then by
+     * identity, that follow a given position, with a keyset query on the sensor and time index.
+     *
+     * @param sensorIds The Sensor identities.
+     * @param start     The start of the period.
+     * @param end       The end of the period.
+     * @param afterTime The time of the reading to start after, or null to start at the first reading of the period.
+     * @param afterId   The identity of the reading to start after; ignored if the time is null.
+     * @param limit     The largest number of Reading entities of the page.
+     * @return The page of Reading entities.
+     * @throws IllegalArgumentException if the Sensor identities are null, or if the time to start after is given
+     *                                  without an identity, or if the limit is not between 1 and the largest page size
+     */
+    @Override
+    public KeysetPage<Reading> findReadingsBySensorIdsInAGivenPeriod(Collection<SensorId> sensorIds, TimeStamp start,
+                                                                     TimeStamp end, TimeStamp afterTime,
+                                                                     ReadingId afterId, int limit) {
+        if (sensorIds == null || (afterTime != null && afterId == null)) {
+            throw new IllegalArgumentException();
+        }
+        KeysetPage.checkLimit(limit);
+        if (sensorIds.isEmpty()) {
+            return new KeysetPage<>(List.of(), false);
+        }
+        LocalDateTime positionTime = start.getValue();
+        String positionId = "";
+        if (afterTime != null && !afterTime.getValue().isBefore(positionTime)) {
+            positionTime = afterTime.getValue();
+            positionId = afterId.getId();
+        }
+        List<String> ids = sensorIds.stream().map(SensorId::getSensorId).toList();
+        Slice<ReadingDataModel> readingDataModels = readingSpringDataRepository.findBySensorIdInAndTimeStampAfter(ids,
+                end.getValue(), positionTime, positionId, PageRequest.of(0, limit));
+        return new KeysetPage<>(readingDataModels.stream().map(readingDataModelMapper::toReadingDomainModel).toList(),
+                readingDataModels.hasNext());
+    }
+
     /**
      * Find all Reading identities with a given Sensor identity in a given period.
      *
@@ -135,7 +359,7 @@ public class ReadingRepositorySpringDataImpl implements IReadingRepository {
     }
 
     /**
-     * Get the latest Reading entity for a given Sensor identity.
+     * Get the latest Reading entity for a given Sensor identity, from the latest readings kept in memory.
      *
      * @param sensorId the sensor ID to search for.
      * @return an Optional of the latest Reading entity.
@@ -145,9 +369,55 @@ public class ReadingRepositorySpringDataImpl implements IReadingRepository {
         if (sensorId == null) {
             throw new IllegalArgumentException();
         }
+        return latestReadings.findLatest(sensorId);
+    }
+
+    /**
+     * Get the latest Reading entity for a given Sensor identity from the database, for the lookups made before the
+     * latest readings are loaded.
+     *
+     * @param sensorId the sensor ID to search for.
+     * @return an Optional of the latest Reading entity.
+     */
+    private Optional<Reading> findLastReadingInDatabase(SensorId sensorId) {
         ReadingDataModel readingDataModel = readingSpringDataRepository
                 .findTopBySensorIdOrderByTimeStampDesc(sensorId.getSensorId());
         return Optional.ofNullable(readingDataModelMapper.toReadingDomainModel(readingDataModel));
     }
 
-}
\ No newline at end of file
+    /**
+     * Get the numeric values of a given Sensor identity in a given period, as a compact series.
+     * Once the chunks of the sensor are loaded, only the chunks that overlap the period are fetched, and their samples
+     * are decoded straight into the series.
+     * Before that, only the timestamp and value columns are fetched, without mapping each row to a Reading.
+     * The numeric column is used as is; rows not yet migrated to it fall back to parsing the string column.
+     * <p>
+     * Unlike the default of IReadingRepository, readings whose value is not a number do not fail the query: they are
+     * left out of the series, as they are left out of the chunks, so the series is the same before and after the
+     * sensor is loaded. The readings left out by a query of the reading table are counted and logged as a warning.
+     * </p>
+     *
+     * @param sensorId The Sensor identity.
+     * @param start    The start of the period.
+     * @param end      The end of the period.
+     * @return The series of the numeric sensor values, sorted by time.
+     */
+    @Override
+    public ReadingSeries findReadingSeriesBySensorIdInAGivenPeriod(SensorId sensorId, TimeStamp start, TimeStamp end) {
+        if (openChunks.isLoaded(sensorId)) {
+            return chunkRepository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId, start, end);
+        }
+        List<Object[]> rows = readingSpringDataRepository.findTimeStampsAndValuesBySensorIdAndTimeStampBetween(
+                sensorId.getSensorId(), start.getValue(), end.getValue());
+        ReadingSeries series = new ReadingSeries();
+        int skipped = 0;
+        for (Object[] row : rows) {
+            if (!addNumericRow(series, row)) {
+                skipped++;
+            }
+        }
+        logSkippedRows(sensorId, skipped);
+        return series;
+    }
+
+}
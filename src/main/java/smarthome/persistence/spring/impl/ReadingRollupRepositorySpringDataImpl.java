@@ -0,0 +1,83 @@
+package smarthome.persistence.spring.impl;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRollupRepository;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.datamodel.mapper.ReadingRollupDataModelMapper;
+import smarthome.persistence.spring.IReadingRollupRepositorySpringData;
+
+import java.util.List;
+
+/**
+ * The Reading rollup repository Spring Data implementation.
+ * This class is responsible for managing the rollups of readings in the database using Spring Data.
+ */
+@Repository
+public class ReadingRollupRepositorySpringDataImpl implements IReadingRollupRepository {
+
+    private final ReadingRollupDataModelMapper rollupDataModelMapper;
+    private final IReadingRollupRepositorySpringData rollupSpringDataRepository;
+
+    /**
+     * Instantiates a new Reading rollup repository Spring Data implementation.
+     *
+     * @param rollupDataModelMapper      The reading rollup data model mapper.
+     * @param rollupSpringDataRepository The reading rollup Spring Data repository.
+     */
+    public ReadingRollupRepositorySpringDataImpl(ReadingRollupDataModelMapper rollupDataModelMapper,
+                                                 IReadingRollupRepositorySpringData rollupSpringDataRepository) {
+        this.rollupDataModelMapper = rollupDataModelMapper;
+        this.rollupSpringDataRepository = rollupSpringDataRepository;
+    }
+
+    /**
+     * Add a rollup to the stored rollup of the same bucket, with a single upsert statement.
+     *
+     * @param rollup The rollup to add.
+     * @throws IllegalArgumentException if the rollup is null
+     */
+    @Override
+    @Transactional
+    public void add(ReadingRollup rollup) {
+        if (rollup == null) {
+            throw new IllegalArgumentException();
+        }
+        rollupSpringDataRepository.upsert(rollup.getSensorId().getSensorId(), rollup.getResolution().getSeconds(),
+                rollup.getBucketStart(), rollup.getCount(), rollup.getSum(), rollup.getMin(), rollup.getMax(),
+                rollup.getStartCount(), rollup.getStartSum());
+    }
+
+    /**
+     * Add readings to the rollups of their sensors, in a single transaction.
+     *
+     * @param readings The readings to add.
+     * @throws IllegalArgumentException if the readings are null
+     */
+    @Override
+    @Transactional
+    public void addReadings(Iterable<Reading> readings) {
+        IReadingRollupRepository.super.addReadings(readings);
+    }
+
+    /**
+     * Find the rollups of a sensor at a given resolution whose buckets start in a given period.
+     *
+     * @param sensorId   The Sensor identity.
+     * @param resolution The resolution of the rollups.
+     * @param start      The start of the period, included.
+     * @param end        The end of the period, excluded.
+     * @return The rollups of the sensor, sorted by the start of their bucket.
+     */
+    @Override
+    public List<ReadingRollup> findRollupsBySensorIdInAGivenPeriod(SensorId sensorId,
+                                                                   ReadingRollupResolution resolution,
+                                                                   TimeStamp start, TimeStamp end) {
+        return rollupDataModelMapper.toReadingRollups(rollupSpringDataRepository.findBySensorIdAndResolutionInPeriod(
+                sensorId.getSensorId(), resolution.getSeconds(), start.getValue(), end.getValue()));
+    }
+}
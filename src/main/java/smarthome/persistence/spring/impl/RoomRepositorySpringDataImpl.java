@@ -1,6 +1,9 @@
 package smarthome.persistence.spring.impl;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IRoomRepository;
 import smarthome.domain.room.Room;
@@ -106,6 +109,22 @@ public class RoomRepositorySpringDataImpl implements IRoomRepository {
         return roomIds.stream().map(RoomId::new).toList();
     }
 
+    /**
+     * Retrieve a page of Room identities that follow a given identity, with a keyset query on the primary key.
+     *
+     * @param after The Room identity to start after, or null to start at the first one.
+     * @param limit The largest number of Room identities of the page.
+     * @return The page of Room identities.
+     * @throws IllegalArgumentException if the limit is not between 1 and the largest page size.
+     */
+    @Override
+    public KeysetPage<RoomId> findRoomIds(RoomId after, int limit) {
+        KeysetPage.checkLimit(limit);
+        String afterId = after == null ? "" : after.getRoomId();
+        Slice<String> roomIds = roomSpringDataRepository.findRoomIdsAfter(afterId, PageRequest.of(0, limit));
+        return new KeysetPage<>(roomIds.stream().map(RoomId::new).toList(), roomIds.hasNext());
+    }
+
     /**
      * Retrieve all Room identities with a given house name.
      *
@@ -5,6 +5,8 @@ import smarthome.domain.repository.ISensorModelRepository;
 import smarthome.domain.sensormodel.SensorModel;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 import smarthome.domain.sensortype.vo.SensorTypeId;
+import smarthome.persistence.cache.CachedCatalogRepository;
+import smarthome.persistence.cache.CatalogCache;
 import smarthome.persistence.datamodel.SensorModelDataModel;
 import smarthome.persistence.datamodel.mapper.SensorModelDataModelMapper;
 import smarthome.persistence.spring.ISensorModelRepositorySpringData;
@@ -16,13 +18,15 @@ import java.util.Optional;
  * This class provides a concrete implementation of the ISensorModelRepository interface using Spring Data JPA for
  * database operations. It uses a SensorModelDataModelMapper to map between SensorModel objects and
  * SensorModelDataModel entities.
+ * Lookups by identity and findAll are answered by a {@link CatalogCache} of the sensor models.
  */
 @Repository
-public class SensorModelRepositorySpringDataImpl implements ISensorModelRepository {
+public class SensorModelRepositorySpringDataImpl implements ISensorModelRepository, CachedCatalogRepository {
 
     private final SensorModelDataModelMapper sensorModelDataModelMapper;
 
     private final ISensorModelRepositorySpringData sensorModelSpringDataRepository;
+    private final CatalogCache<SensorModelName, SensorModel> catalogCache;
 
     /**
      * Constructor for the SensorModelRepositorySpringDataImpl class.
@@ -36,6 +40,7 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
                                                ISensorModelRepositorySpringData sensorModelSpringDataRepository) {
         this.sensorModelDataModelMapper = sensorModelDataModelMapper;
         this.sensorModelSpringDataRepository = sensorModelSpringDataRepository;
+        this.catalogCache = new CatalogCache<>("sensorModel", SensorModel::getIdentity, this::loadAll, this::load);
     }
 
     /**
@@ -52,6 +57,7 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
         }
         SensorModelDataModel sensorModelDataModel = new SensorModelDataModel(sensorModel);
         sensorModelSpringDataRepository.save(sensorModelDataModel);
+        catalogCache.put(sensorModel);
         return sensorModel;
     }
 
@@ -62,7 +68,7 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
      */
     @Override
     public Iterable<SensorModel> findAll() {
-        return sensorModelDataModelMapper.toSensorModelsDomain(sensorModelSpringDataRepository.findAll());
+        return catalogCache.findAll();
     }
 
     /**
@@ -77,9 +83,7 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
         if (sensorModelName == null) {
             throw new IllegalArgumentException();
         }
-        Optional<SensorModelDataModel> sensorModelDataModel =
-                sensorModelSpringDataRepository.findById(sensorModelName.getSensorModelName());
-        return sensorModelDataModel.map(sensorModelDataModelMapper::toSensorModelDomain);
+        return catalogCache.findByIdentity(sensorModelName);
     }
 
     /**
@@ -94,7 +98,7 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
         if (sensorModelName == null) {
             throw new IllegalArgumentException();
         }
-        return sensorModelSpringDataRepository.existsById(sensorModelName.getSensorModelName());
+        return catalogCache.containsIdentity(sensorModelName);
     }
 
     /**
@@ -133,4 +137,30 @@ public class SensorModelRepositorySpringDataImpl implements ISensorModelReposito
         List<String> sensorModelIds = sensorModelSpringDataRepository.findSensorModelNamesBySensorTypeId(sensorTypeIdString);
         return sensorModelIds.stream().map(SensorModelName::new).toList();
     }
+
+    /**
+     * Returns the cache of the SensorModel catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    @Override
+    public CatalogCache<SensorModelName, SensorModel> getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Loads all SensorModels from the database, to fill the catalog cache.
+     */
+    private Iterable<SensorModel> loadAll() {
+        return sensorModelDataModelMapper.toSensorModelsDomain(sensorModelSpringDataRepository.findAll());
+    }
+
+    /**
+     * Loads a SensorModel from the database, for a lookup the catalog cache cannot answer.
+     */
+    private Optional<SensorModel> load(SensorModelName sensorModelName) {
+        Optional<SensorModelDataModel> sensorModelDataModel =
+                sensorModelSpringDataRepository.findById(sensorModelName.getSensorModelName());
+        return sensorModelDataModel.map(sensorModelDataModelMapper::toSensorModelDomain);
+    }
 }
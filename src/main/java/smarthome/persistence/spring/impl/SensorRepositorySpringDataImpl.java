@@ -11,8 +11,11 @@ import smarthome.persistence.datamodel.mapper.SensorDataModelMapper;
 import smarthome.persistence.spring.ISensorRepositorySpringData;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -103,6 +106,29 @@ public class SensorRepositorySpringDataImpl implements ISensorRepository {
         return sensorRepoSpringData.existsById(id.getSensorId());
     }
 
+    /**
+     * This method checks if every Sensor object with the given identities exists in the database, with a single
+     * count query over the distinct identities.
+     *
+     * @param sensorIds The identities of the Sensor objects
+     * @return true if all the Sensor objects exist, false otherwise
+     * @throws IllegalArgumentException if the identities are null
+     */
+    @Override
+    public boolean containsAllIdentities(Collection<SensorId> sensorIds) {
+        if (sensorIds == null) {
+            throw new IllegalArgumentException();
+        }
+        Set<String> ids = new HashSet<>();
+        for (SensorId sensorId : sensorIds) {
+            ids.add(sensorId.getSensorId());
+        }
+        if (ids.isEmpty()) {
+            return true;
+        }
+        return sensorRepoSpringData.countBySensorIdIn(ids) == ids.size();
+    }
+
     /**
      * This method retrieves all Sensor objects associated with a specific DeviceId from the database.
      * It first calls the findByDeviceId() method of sensorRepositorySpringData, passing the identity of the provided
@@ -4,6 +4,8 @@ import org.springframework.stereotype.Repository;
 import smarthome.domain.repository.ISensorTypeRepository;
 import smarthome.domain.sensortype.SensorType;
 import smarthome.domain.sensortype.vo.SensorTypeId;
+import smarthome.persistence.cache.CachedCatalogRepository;
+import smarthome.persistence.cache.CatalogCache;
 import smarthome.persistence.datamodel.SensorTypeDataModel;
 import smarthome.persistence.datamodel.mapper.SensorTypeDataModelMapper;
 import smarthome.persistence.spring.ISensorTypeRepositorySpringData;
@@ -13,12 +15,14 @@ import java.util.Optional;
 
 /**
  * This class implements the ISensorTypeRepository interface and provides Spring Data-based persistence operations.
+ * Sensor types are served from a {@link CatalogCache}, written through on save.
  */
 @Repository
-public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository {
+public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository, CachedCatalogRepository {
 
     private final SensorTypeDataModelMapper sensorTypeDataModelMapper;
     private final ISensorTypeRepositorySpringData sensorTypeSpringDataRepository;
+    private final CatalogCache<SensorTypeId, SensorType> catalogCache;
 
     /**
      * Constructor for the SensorTypeRepositorySpringDataImpl class.
@@ -32,7 +36,7 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
                                               ISensorTypeRepositorySpringData sensorTypeSpringDataRepository) {
         this.sensorTypeDataModelMapper = sensorTypeDataModelMapper;
         this.sensorTypeSpringDataRepository = sensorTypeSpringDataRepository;
-
+        this.catalogCache = new CatalogCache<>("sensorType", SensorType::getIdentity, this::loadAll, this::load);
     }
 
     /**
@@ -49,6 +53,7 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
         }
         SensorTypeDataModel sensorTypeDataModel = new SensorTypeDataModel(sensorType);
         sensorTypeSpringDataRepository.save(sensorTypeDataModel);
+        catalogCache.put(sensorType);
         return sensorType;
     }
 
@@ -59,8 +64,7 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
      */
     @Override
     public Iterable<SensorType> findAll() {
-        List<SensorTypeDataModel> sensorTypeDataModels = sensorTypeSpringDataRepository.findAll();
-        return sensorTypeDataModelMapper.toSensorTypesDomain(sensorTypeDataModels);
+        return catalogCache.findAll();
     }
 
     /**
@@ -75,12 +79,7 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        Optional<SensorTypeDataModel> sensorTypeDataModel =
-                sensorTypeSpringDataRepository.findById(id.getSensorTypeId());
-        if (!sensorTypeDataModel.isPresent()) {
-            return Optional.empty();
-        }
-        return Optional.of(sensorTypeDataModelMapper.toSensorTypeDomain(sensorTypeDataModel.get()));
+        return catalogCache.findByIdentity(id);
     }
 
     /**
@@ -95,7 +94,7 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
         if (id == null) {
             throw new IllegalArgumentException();
         }
-        return sensorTypeSpringDataRepository.existsById(id.getSensorTypeId());
+        return catalogCache.containsIdentity(id);
     }
 
     /**
@@ -108,4 +107,34 @@ public class SensorTypeRepositorySpringDataImpl implements ISensorTypeRepository
         List<String> sensorTypeIds = sensorTypeSpringDataRepository.findSensorTypeIds();
         return sensorTypeIds.stream().map(SensorTypeId::new).toList();
     }
+
+    /**
+     * Returns the cache of the SensorType catalog.
+     *
+     * @return the cache of the catalog.
+     */
+    @Override
+    public CatalogCache<SensorTypeId, SensorType> getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Loads all SensorTypes from the database, to fill the catalog cache.
+     */
+    private Iterable<SensorType> loadAll() {
+        List<SensorTypeDataModel> sensorTypeDataModels = sensorTypeSpringDataRepository.findAll();
+        return sensorTypeDataModelMapper.toSensorTypesDomain(sensorTypeDataModels);
+    }
+
+    /**
+     * Loads a SensorType from the database, for a lookup the catalog cache cannot answer.
+     */
+    private Optional<SensorType> load(SensorTypeId id) {
+        Optional<SensorTypeDataModel> sensorTypeDataModel =
+                sensorTypeSpringDataRepository.findById(id.getSensorTypeId());
+        if (!sensorTypeDataModel.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(sensorTypeDataModelMapper.toSensorTypeDomain(sensorTypeDataModel.get()));
+    }
 }
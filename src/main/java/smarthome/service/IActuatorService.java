@@ -33,6 +33,13 @@ public interface IActuatorService {
      */
     Iterable<ActuatorId> getActuatorIdsByDeviceIdentity(DeviceId deviceId);
 
+    /**
+     * Gets all the actuators by device identity, with a single query.
+     *
+     * @return all the actuators of the device, or null if the device does not exist.
+     */
+    Iterable<Actuator> getActuatorsByDeviceIdentity(DeviceId deviceId);
+
     /**
      * Operate (open/close) the blind roller with the given id and value.
      *
@@ -1,5 +1,6 @@
 package smarthome.service;
 
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.device.vo.DeviceName;
@@ -71,4 +72,12 @@ public interface IDeviceService {
      * @return a list of all device IDs
      */
     List<DeviceId> findDeviceIds();
+
+    /**
+     * Retrieves a page of device IDs, in the order of the IDs, that follow a given device ID.
+     * @param after the device ID to start after, or null to start at the first one
+     * @param limit the largest number of device IDs of the page
+     * @return the page of device IDs, or null if the limit is not between 1 and the largest page size
+     */
+    KeysetPage<DeviceId> findDeviceIds(DeviceId after, int limit);
 }
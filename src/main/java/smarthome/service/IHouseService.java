@@ -1,5 +1,6 @@
 package smarthome.service;
 
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.house.vo.Location;
@@ -35,6 +36,15 @@ public interface IHouseService {
      */
     Iterable<HouseName> getHouseIds();
 
+    /**
+     * Retrieves a page of house ids, in the order of the ids, that follow a given house id.
+     *
+     * @param after The house id to start after, or null to start at the first one.
+     * @param limit The largest number of house ids of the page.
+     * @return The page of house ids, or null if the limit is not between 1 and the largest page size.
+     */
+    KeysetPage<HouseName> getHouseIds(HouseName after, int limit);
+
     /**
      * Retrieves the House entity.
      *
@@ -1,10 +1,14 @@
 package smarthome.service;
 
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.actuator.vo.DecimalValue;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 
 import java.util.List;
@@ -25,6 +29,21 @@ public interface IReadingService {
      */
     List<Reading> getReadingsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end);
 
+    /**
+     * Returns a page of the readings from a device in a given period, sorted by time and then by id, that follow a
+     * given position.
+     *
+     * @param deviceId  The id of the device.
+     * @param start     The start time of the period.
+     * @param end       The end time of the period.
+     * @param afterTime The time of the reading to start after, or null to start at the first reading of the period.
+     * @param afterId   The id of the reading to start after; required if the time is given.
+     * @param limit     The largest number of readings of the page.
+     * @return The page of readings from the device in the given period, or null if the parameters are invalid.
+     */
+    KeysetPage<Reading> getReadingsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end,
+                                                            TimeStamp afterTime, ReadingId afterId, int limit);
+
     /**
      * Returns a list of readings from a device in a given period.
      *
@@ -35,6 +54,17 @@ public interface IReadingService {
      */
     List<ReadingId> getReadingIdsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end);
 
+    /**
+     * Returns an export of the readings from a device in a given period.
+     * The readings are read when the export is written, sensor by sensor and sorted by time for each sensor.
+     *
+     * @param deviceId The id of the device.
+     * @param start    The start time of the period.
+     * @param end      The end time of the period.
+     * @return The export of the readings from the device in the given period, or null if the parameters are invalid.
+     */
+    ReadingExport exportReadingsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end);
+
     /**
      * Returns the maximum instant temperature difference between two devices.
      *
@@ -55,6 +85,15 @@ public interface IReadingService {
      */
     Optional<Reading> getReading(ReadingId id);
 
+    /**
+     * Returns the latest reading of each of the given sensors.
+     *
+     * @param sensorIds The ids of the sensors.
+     * @return The latest reading of each sensor that has readings, in the order of the sensors, or null if the ids
+     * are invalid.
+     */
+    List<Reading> getLatestReadings(List<SensorId> sensorIds);
+
     /**
      * Returns the peak power consumption in a given period.
      *
@@ -64,4 +103,30 @@ public interface IReadingService {
      */
     DecimalValue getPeakPowerConsumptionInAGivenPeriod(TimeStamp start, TimeStamp end);
 
+    /**
+     * Adds a batch of readings, given as parallel lists where the readings at the same position belong together.
+     *
+     * @param sensorIds  The ids of the sensors of the readings.
+     * @param values     The values of the readings.
+     * @param timeStamps The timestamps of the readings.
+     * @return The ids of the added readings, in the given order, or null if the batch is invalid or any of the
+     * sensors does not exist.
+     */
+    List<ReadingId> addReadings(List<SensorId> sensorIds, List<Value> values, List<TimeStamp> timeStamps);
+
+    /**
+     * Returns the statistics of the readings of a sensor in a given period, one per bucket of the given resolution,
+     * read from the reading rollups.
+     *
+     * @param sensorId   The id of the sensor.
+     * @param resolution The resolution of the buckets.
+     * @param start      The start time of the period, included.
+     * @param end        The end time of the period, excluded.
+     * @return The statistics of the buckets that start in the given period, sorted by bucket, or null if the
+     * parameters are invalid or the sensor does not exist.
+     */
+    List<ReadingRollup> getReadingStatisticsOfSensorInAGivenPeriod(SensorId sensorId,
+                                                                   ReadingRollupResolution resolution,
+                                                                   TimeStamp start, TimeStamp end);
+
 }
@@ -0,0 +1,60 @@
+package smarthome.service;
+
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.util.List;
+
+/**
+ * IReadingStreamService interface for the live stream of the readings as they are saved.
+ * <p>
+ * Each saved reading is published once, and handed to every subscriber of its sensor. A subscriber receives its
+ * readings on a thread of the service, through a buffer of bounded capacity, so a slow subscriber never holds up the
+ * saving of readings nor the other subscribers.
+ * </p>
+ */
+public interface IReadingStreamService {
+
+    /**
+     * What to do with a reading for a subscriber whose buffer is full.
+     */
+    enum OverflowPolicy {
+        /**
+         * Drop the oldest reading of the buffer to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Drop the new reading.
+         */
+        DROP_NEWEST,
+        /**
+         * End the subscription, which the subscriber can start again.
+         */
+        DISCONNECT
+    }
+
+    /**
+     * Subscribes to the readings of a device, of a sensor, or of every sensor.
+     * <p>
+     * A subscription to a device receives the readings of the sensors the device has when it subscribes.
+     * </p>
+     *
+     * @param deviceId The id of the device, or null for the readings of any device.
+     * @param sensorId The id of the sensor, which must be of the device if both are given, or null for the readings
+     *                 of any sensor.
+     * @param policy   What to do with the readings that overflow the buffer of the subscriber.
+     * @param listener The listener of the readings.
+     * @return The subscription, or null if the policy or the listener are null, or the device or the sensor do not
+     * exist, or the sensor is not of the device.
+     */
+    ReadingSubscription subscribe(DeviceId deviceId, SensorId sensorId, OverflowPolicy policy,
+                                  ReadingStreamListener listener);
+
+    /**
+     * Publishes saved readings to their subscribers, once the transaction that saved them commits.
+     *
+     * @param readings The saved readings.
+     */
+    void publish(List<Reading> readings);
+}
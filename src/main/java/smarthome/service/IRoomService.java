@@ -1,5 +1,6 @@
 package smarthome.service;
 
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.room.Room;
 import smarthome.domain.room.vo.Dimensions;
@@ -40,6 +41,15 @@ public interface IRoomService {
      */
     List<RoomId> getRoomIds();
 
+    /**
+     * Get a page of Room identities, in the order of the identities, that follow a given Room identity.
+     *
+     * @param after The Room identity to start after, or null to start at the first one.
+     * @param limit The largest number of Room identities of the page.
+     * @return The page of Room identities, or null if the limit is not between 1 and the largest page size.
+     */
+    KeysetPage<RoomId> getRoomIds(RoomId after, int limit);
+
     /**
      * Get a Room entity by its identity.
      *
@@ -36,4 +36,12 @@ public interface ISensorService {
      * @return
      */
     Iterable<SensorId> getSensorIdsByDeviceIdentity(DeviceId deviceId);
+
+    /**
+     * Retrieves all Sensor entities associated with a specific device from the repository, with a single query.
+     *
+     * @param deviceId The identity of the device.
+     * @return The sensors of the device, or null if the device does not exist.
+     */
+    Iterable<Sensor> getSensorsByDeviceIdentity(DeviceId deviceId);
 }
\ No newline at end of file
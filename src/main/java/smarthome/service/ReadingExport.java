@@ -0,0 +1,20 @@
+package smarthome.service;
+
+import smarthome.domain.reading.Reading;
+
+import java.util.function.Consumer;
+
+/**
+ * ReadingExport represents the readings selected for an export, read only when the export is written.
+ * Each reading is handed to the action as soon as it is read, so the readings are never all held in memory.
+ */
+@FunctionalInterface
+public interface ReadingExport {
+
+    /**
+     * Performs an action for each reading of the export.
+     *
+     * @param action The action to perform on each reading.
+     */
+    void forEach(Consumer<Reading> action);
+}
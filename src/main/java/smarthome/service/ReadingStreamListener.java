@@ -0,0 +1,27 @@
+package smarthome.service;
+
+import smarthome.domain.reading.Reading;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * ReadingStreamListener receives the readings of a subscription to the stream of readings.
+ * Its methods are called on a thread of the stream, one call at a time.
+ */
+public interface ReadingStreamListener {
+
+    /**
+     * Receives the readings published since the last call, in the order they were published.
+     *
+     * @param readings The readings.
+     * @throws IOException If the readings could not be delivered, which ends the subscription.
+     */
+    void onReadings(List<Reading> readings) throws IOException;
+
+    /**
+     * Tells that the stream ended the subscription, because its buffer overflowed or its readings could not be
+     * delivered. It is not called when the subscription is cancelled by its subscriber.
+     */
+    void onClose();
+}
@@ -0,0 +1,19 @@
+package smarthome.service;
+
+/**
+ * ReadingSubscription represents a subscription to the stream of readings.
+ */
+public interface ReadingSubscription {
+
+    /**
+     * Ends the subscription. The readings still in its buffer are not delivered.
+     */
+    void cancel();
+
+    /**
+     * Returns the number of readings of the subscription that were dropped because its buffer was full.
+     *
+     * @return The number of dropped readings.
+     */
+    long getDroppedCount();
+}
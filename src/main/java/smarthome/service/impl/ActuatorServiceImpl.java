@@ -6,6 +6,7 @@ import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import smarthome.domain.actuator.Actuator;
 import smarthome.domain.actuator.ActuatorFactory;
 import smarthome.domain.actuator.ActuatorOfBlindRoller;
@@ -19,14 +20,18 @@ import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.repository.IActuatorRepository;
 import smarthome.domain.repository.IDeviceRepository;
 import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.repository.IReadingRollupRepository;
 import smarthome.domain.repository.ISensorRepository;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 import smarthome.service.IActuatorService;
+import smarthome.service.IReadingStreamService;
 
 import java.io.File;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -40,20 +45,28 @@ public class ActuatorServiceImpl implements IActuatorService {
     private final IDeviceRepository deviceRepository;
     private final ISensorRepository sensorRepository;
     private final IReadingRepository readingRepository;
+    private final IReadingRollupRepository rollupRepository;
+    private final IReadingStreamService readingStreamService;
     private final ActuatorFactory actuatorFactory;
     private final SensorModelName sensorModelForCloseBlinds;
     private final ReadingFactory readingFactory;
+    private final Clock clock;
 
     /**
      * Constructs a new ActuatorServiceImpl with the given repositories and factories.
      *
      * @param actuatorRepository the repository for actuators
      * @param deviceRepository   the repository for devices
+     * @param rollupRepository   the repository for the rollups of readings
+     * @param readingStreamService the stream the readings taken when operating actuators are published to
+     * @param clock              the clock that tells the time of the readings taken when operating actuators
      */
     @Autowired
     public ActuatorServiceImpl(IActuatorRepository actuatorRepository, IDeviceRepository deviceRepository,
-                               ISensorRepository sensorRepository, IReadingRepository readingRepository, @Qualifier("actuatorFactoryImpl")
-                               ActuatorFactory actuatorFactory, ReadingFactory readingFactory, @Qualifier("filePathModels") String filePathName) throws ConfigurationException {
+                               ISensorRepository sensorRepository, IReadingRepository readingRepository,
+                               IReadingRollupRepository rollupRepository, IReadingStreamService readingStreamService,
+                               @Qualifier("actuatorFactoryImpl") ActuatorFactory actuatorFactory, ReadingFactory readingFactory, @Qualifier("filePathModels") String filePathName,
+                               Clock clock) throws ConfigurationException {
         Configurations config = new Configurations();
 
         this.sensorModelForCloseBlinds = createSensorModelNameForCloseBinds(config, filePathName);
@@ -61,8 +74,11 @@ public class ActuatorServiceImpl implements IActuatorService {
         this.deviceRepository = deviceRepository;
         this.sensorRepository = sensorRepository;
         this.readingRepository = readingRepository;
+        this.rollupRepository = rollupRepository;
+        this.readingStreamService = readingStreamService;
         this.actuatorFactory = actuatorFactory;
         this.readingFactory = readingFactory;
+        this.clock = clock;
     }
 
     /**
@@ -127,14 +143,36 @@ public class ActuatorServiceImpl implements IActuatorService {
         return actuatorRepository.findActuatorIdsByDeviceId(deviceId);
     }
 
+    /**
+     * Gets all the actuators by device identity, with a single repository query.
+     *
+     * @param deviceId the id of the device to get the actuators from.
+     * @return all the actuators of the device, or null if the device does not exist.
+     */
+    @Override
+    public Iterable<Actuator> getActuatorsByDeviceIdentity(DeviceId deviceId) {
+        if (!deviceRepository.containsIdentity(deviceId)) {
+            return null;
+        }
+        return actuatorRepository.findActuatorsByDeviceId(deviceId);
+    }
+
     /**
      * Operate (open/close) the blind roller with the given id and value.
+     * <p>
+     * The reading of the new position and its rollups are saved in one transaction, and the reading is published
+     * once it commits. A failure to save them is thrown rather than returned as null, so the transaction is rolled
+     * back as a whole.
+     * </p>
      *
      * @param id    the id of the actuator to operate
      * @param value the value to operate the actuator with
      */
     @Override
+    @Transactional
     public Value operateBlindRoller(ActuatorId id, Value value) {
+        Value currentValue;
+        Reading reading;
         try {
             Optional<Actuator> actuator = actuatorRepository.findByIdentity(id);
             if (actuator.isEmpty() || !(actuator.get() instanceof ActuatorOfBlindRoller blindRoller)) {
@@ -146,7 +184,7 @@ public class ActuatorServiceImpl implements IActuatorService {
                 return null;
             }
 
-            Value currentValue = blindRoller.operate(value);
+            currentValue = blindRoller.operate(value);
             if (currentValue == null) {
                 return null;
             }
@@ -155,12 +193,15 @@ public class ActuatorServiceImpl implements IActuatorService {
             if (!sensorIds.iterator().hasNext()) {
                 return null;
             }
-            Reading reading = readingFactory.createReading(currentValue, sensorIds.iterator().next(), new TimeStamp(LocalDateTime.now()));
-            readingRepository.save(reading);
-            return currentValue;
+            reading = readingFactory.createReading(currentValue, sensorIds.iterator().next(), new TimeStamp(LocalDateTime.now(clock)));
         } catch (Exception e) {
             return null;
         }
+        readingRepository.save(reading);
+        List<Reading> readings = List.of(reading);
+        rollupRepository.addReadings(readings);
+        readingStreamService.publish(readings);
+        return currentValue;
     }
 
     /**
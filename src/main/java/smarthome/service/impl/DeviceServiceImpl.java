@@ -2,30 +2,27 @@ package smarthome.service.impl;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.DeviceFactory;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.device.vo.DeviceName;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
+import smarthome.domain.repository.IDeviceFunctionalityRepository;
 import smarthome.domain.repository.IDeviceRepository;
 import smarthome.domain.repository.IDeviceTypeRepository;
 import smarthome.domain.repository.IRoomRepository;
-import smarthome.domain.repository.ISensorModelRepository;
-import smarthome.domain.repository.ISensorRepository;
-import smarthome.domain.repository.ISensorTypeRepository;
 import smarthome.domain.room.vo.RoomId;
-import smarthome.domain.sensor.Sensor;
-import smarthome.domain.sensormodel.SensorModel;
-import smarthome.domain.sensormodel.vo.SensorModelName;
-import smarthome.domain.sensortype.SensorType;
-import smarthome.domain.sensortype.vo.SensorTypeId;
+import smarthome.domain.sensortype.vo.SensorTypeName;
 import smarthome.service.IDeviceService;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class implements the {@link IDeviceService} interface and provides services related to devices in a
@@ -38,10 +35,8 @@ public class DeviceServiceImpl implements IDeviceService {
     IRoomRepository roomRepository;
     DeviceFactory deviceFactory;
     IDeviceRepository deviceRepository;
-    ISensorTypeRepository sensorTypeRepository;
-    ISensorModelRepository sensorModelRepository;
-    ISensorRepository sensorRepository;
     IDeviceTypeRepository deviceTypeRepository;
+    IDeviceFunctionalityRepository deviceFunctionalityRepository;
 
     /**
      * Constructs a new DeviceServiceImpl with the given dependencies.
@@ -49,21 +44,18 @@ public class DeviceServiceImpl implements IDeviceService {
      * @param roomRepository       The repository for room management.
      * @param deviceFactory        The factory for creating devices.
      * @param deviceRepository     The repository for device management.
-     * @param sensorTypeRepository The repository for sensor type management.
-     * @param sensorRepository     The repository for sensor management.
+     * @param deviceTypeRepository The repository for device type management.
+     * @param deviceFunctionalityRepository The repository relating devices to the sensor types of their sensors.
      */
     @Autowired
     public DeviceServiceImpl(IRoomRepository roomRepository, DeviceFactory deviceFactory,
-                             IDeviceRepository deviceRepository, ISensorTypeRepository sensorTypeRepository,
-                             ISensorModelRepository sensorModelRepository, ISensorRepository sensorRepository,
-                             IDeviceTypeRepository deviceTypeRepository) {
+                             IDeviceRepository deviceRepository, IDeviceTypeRepository deviceTypeRepository,
+                             IDeviceFunctionalityRepository deviceFunctionalityRepository) {
         this.roomRepository = roomRepository;
         this.deviceFactory = deviceFactory;
         this.deviceRepository = deviceRepository;
-        this.sensorTypeRepository = sensorTypeRepository;
-        this.sensorModelRepository = sensorModelRepository;
-        this.sensorRepository = sensorRepository;
         this.deviceTypeRepository = deviceTypeRepository;
+        this.deviceFunctionalityRepository = deviceFunctionalityRepository;
     }
 
     /**
@@ -148,67 +140,24 @@ public class DeviceServiceImpl implements IDeviceService {
 
     /**
      * Retrieves devices grouped by sensor type.
+     * The pairs of sensor type and device come from a single repository query, and devices are deduplicated by
+     * identity, so a device with several sensors of the same type is listed once.
      *
      * @return A map containing devices grouped by sensor type.
      * @throws IllegalAccessException If illegal access occurs.
      */
     @Override
     public HashMap<String, List<Device>> getDevicesBySensorType() throws IllegalAccessException {
-        Iterable<SensorType> sensorTypes = sensorTypeRepository.findAll();
-        HashMap<String, List<Device>> devicesBySensorType = new HashMap<>();
-        for (SensorType sensorType : sensorTypes) {
-            devicesBySensorType.put(sensorType.getSensorTypeName().getSensorTypeName(), new ArrayList<>());
-        }
-        Iterable<Sensor> sensors = sensorRepository.findAll();
-        return clearHashMap(fillMapWithDevices(devicesBySensorType, sensors));
-    }
-
-    /**
-     * Fills a map with devices grouped by sensor type.
-     *
-     * @param devicesBySensorType The map to fill.
-     * @param sensors             The sensors to process.
-     * @return A map containing devices grouped by sensor type.
-     */
-    private HashMap<String, List<Device>> fillMapWithDevices(HashMap<String, List<Device>> devicesBySensorType,
-                                                            Iterable<Sensor> sensors) {
-        for (Sensor sensor : sensors) {
-            SensorModelName sensorModelName = sensor.getSensorModelName();
-            Optional<SensorModel> sensorModelOptional = sensorModelRepository.findByIdentity(sensorModelName);
-            if (sensorModelOptional.isPresent()) {
-                SensorModel sensorModel = sensorModelOptional.get();
-                SensorTypeId sensorTypeId = sensorModel.getSensorTypeId();
-                Optional<SensorType> sensorType = sensorTypeRepository.findByIdentity(sensorTypeId);
-                if (sensorType.isPresent()) {
-                    String sensorTypeName = sensorType.get().getSensorTypeName().getSensorTypeName();
-                    List<Device> devices = devicesBySensorType.get(sensorTypeName);
-                    Optional<Device> deviceOptional = deviceRepository.findByIdentity(sensor.getDeviceId());
-                    if (deviceOptional.isPresent()&& devices.stream().noneMatch(d -> d.getIdentity().equals(deviceOptional.get().getIdentity()))) {
-                        devices.add(deviceOptional.get());
-                        devicesBySensorType.put(sensorTypeName, devices);
-                    }
-                }
-            }
+        Map<String, Set<Device>> devicesByName = new HashMap<>();
+        for (Map.Entry<SensorTypeName, Device> pair : deviceFunctionalityRepository.findDevicesBySensorTypeName()) {
+            devicesByName.computeIfAbsent(pair.getKey().getSensorTypeName(), name -> new LinkedHashSet<>())
+                    .add(pair.getValue());
         }
+        HashMap<String, List<Device>> devicesBySensorType = new HashMap<>();
+        devicesByName.forEach((name, devices) -> devicesBySensorType.put(name, new ArrayList<>(devices)));
         return devicesBySensorType;
     }
 
-    /**
-     * Removes empty entries from a map.
-     *
-     * @param devicesBySensorType The map to clear.
-     * @return A map with empty entries removed.
-     */
-    private HashMap<String, List<Device>> clearHashMap(HashMap<String, List<Device>> devicesBySensorType) {
-        HashMap<String, List<Device>> clearedMap = new HashMap<>();
-        for (Map.Entry<String, List<Device>> entry : devicesBySensorType.entrySet()) {
-            if (!entry.getValue().isEmpty()) {
-                clearedMap.put(entry.getKey(), entry.getValue());
-            }
-        }
-        return clearedMap;
-    }
-
     /**
      * Retrieves a device by its ID.
      * @param deviceId the ID of the device to retrieve
@@ -230,4 +179,18 @@ public class DeviceServiceImpl implements IDeviceService {
         deviceIds.forEach(deviceIdList::add);
         return deviceIdList;
     }
+
+    /**
+     * Retrieves a page of device IDs, in the order of the IDs, that follow a given device ID.
+     * @param after the device ID to start after, or null to start at the first one
+     * @param limit the largest number of device IDs of the page
+     * @return the page of device IDs, or null if the limit is not between 1 and the largest page size
+     */
+    @Override
+    public KeysetPage<DeviceId> findDeviceIds(DeviceId after, int limit) {
+        if (limit < 1 || limit > KeysetPage.MAX_LIMIT) {
+            return null;
+        }
+        return deviceRepository.findDeviceIds(after, limit);
+    }
 }
@@ -1,6 +1,7 @@
 package smarthome.service.impl;
 
 import org.springframework.stereotype.Service;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.HouseFactory;
 import smarthome.domain.house.vo.HouseName;
@@ -71,6 +72,21 @@ public class HouseServiceImpl implements IHouseService {
         return houseRepository.findHouseIds();
     }
 
+    /**
+     * Retrieves a page of house ids, in the order of the ids, that follow a given house id.
+     *
+     * @param after The house id to start after, or null to start at the first one.
+     * @param limit The largest number of house ids of the page.
+     * @return The page of house ids, or null if the limit is not between 1 and the largest page size.
+     */
+    @Override
+    public KeysetPage<HouseName> getHouseIds(HouseName after, int limit) {
+        if (limit < 1 || limit > KeysetPage.MAX_LIMIT) {
+            return null;
+        }
+        return houseRepository.findHouseIds(after, limit);
+    }
+
     /**
      * Retrieves the House entity.
      *
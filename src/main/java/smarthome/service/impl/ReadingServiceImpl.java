@@ -6,58 +6,96 @@ import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.actuator.vo.DecimalValue;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.ReadingSeries;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.repository.IDeviceRepository;
 import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.repository.IReadingRollupRepository;
 import smarthome.domain.repository.ISensorRepository;
 import smarthome.domain.sensor.Sensor;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 import smarthome.service.IReadingService;
+import smarthome.service.IReadingStreamService;
+import smarthome.service.ReadingExport;
 
 import java.io.File;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class represents a service for readings.
  */
 @Service
 public class ReadingServiceImpl implements IReadingService {
+    /**
+     * The shortest period for which the peak power consumption is computed from the reading rollups. Shorter
+     * periods hold few readings, which an indexed scan of the reading table reads faster than the rollups.
+     */
+    static final Duration ROLLUP_MINIMUM_PERIOD = Duration.ofDays(1);
+
     private final IReadingRepository readingRepository;
+    private final IReadingRollupRepository rollupRepository;
+    private final IReadingStreamService readingStreamService;
     private final ISensorRepository sensorRepository;
     private final IDeviceRepository deviceRepository;
+    private final ReadingFactory readingFactory;
     private final long delta;
     private final SensorModelName sensorOfPowerConsumption;
     private final SensorModelName sensorOfTemperature;
     private final DeviceTypeName deviceGridPowerMeter;
     private final DeviceTypeName devicePowerSourcePowerMeter;
+    private final Clock clock;
+    /**
+     * The latest time read from the clock. An end time that is not after it is not in the future either, so the
+     * clock is only read again for end times after it.
+     */
+    private volatile LocalDateTime lastNow = LocalDateTime.MIN;
     /**
      * Constructs a new ReadingServiceImpl with the specified repositories and mapper.
      *
      * @param readingRepository The repository for readings.
+     * @param rollupRepository  The repository for the rollups of readings.
+     * @param readingStreamService The stream the saved readings are published to.
      * @param sensorRepository  The repository for sensors.
+     * @param readingFactory    The factory for readings.
      * @param filePathName      The path to the configuration file.
+     * @param clock             The clock that tells the current time.
      */
     @Autowired
-    public ReadingServiceImpl(IReadingRepository readingRepository, ISensorRepository sensorRepository,
-                              IDeviceRepository deviceRepository, @Qualifier("filePathDelta") String filePathName, @Qualifier("filePathModels") String filePathModels) throws ConfigurationException {
+    public ReadingServiceImpl(IReadingRepository readingRepository, IReadingRollupRepository rollupRepository,
+                              IReadingStreamService readingStreamService, ISensorRepository sensorRepository,
+                              IDeviceRepository deviceRepository, ReadingFactory readingFactory, @Qualifier("filePathDelta") String filePathName, @Qualifier("filePathModels") String filePathModels,
+                              Clock clock) throws ConfigurationException {
         Configurations config = new Configurations();
         this.delta = createDelta(config, filePathName);
         this.readingRepository = readingRepository;
+        this.rollupRepository = rollupRepository;
+        this.readingStreamService = readingStreamService;
         this.sensorRepository = sensorRepository;
         this.deviceRepository = deviceRepository;
+        this.readingFactory = readingFactory;
+        this.clock = clock;
         this.sensorOfPowerConsumption = createSensorModelNameOfPowerConsumption(config,filePathModels);
         this.sensorOfTemperature = createSensorModelNameOfTemperature(config,filePathModels);
         this.deviceGridPowerMeter = createDeviceTypeGridPowerMeter(config,filePathModels);
@@ -164,6 +202,34 @@ public class ReadingServiceImpl implements IReadingService {
         return allReadings;
     }
 
+    /**
+     * Returns a page of the readings from a device in a given period, sorted by time and then by id, that follow a
+     * given position. The readings of all the sensors of the device are read with a single keyset query.
+     *
+     * @param deviceId  The id of the device.
+     * @param start     The start time of the period.
+     * @param end       The end time of the period.
+     * @param afterTime The time of the reading to start after, or null to start at the first reading of the period.
+     * @param afterId   The id of the reading to start after; required if the time is given.
+     * @param limit     The largest number of readings of the page.
+     * @return The page of readings from the device in the given period, or null if the parameters are invalid.
+     */
+    @Override
+    public KeysetPage<Reading> getReadingsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end,
+                                                                   TimeStamp afterTime, ReadingId afterId,
+                                                                   int limit) {
+        if (deviceId == null || !isValidPeriod(start, end) || (afterTime != null && afterId == null)
+                || limit < 1 || limit > KeysetPage.MAX_LIMIT) {
+            return null;
+        }
+        List<SensorId> sensorIds = new ArrayList<>();
+        for (Sensor sensor : sensorRepository.findSensorsByDeviceId(deviceId)) {
+            sensorIds.add(sensor.getIdentity());
+        }
+        return readingRepository.findReadingsBySensorIdsInAGivenPeriod(sensorIds, start, end, afterTime, afterId,
+                limit);
+    }
+
     /**
      * Return a list of reading IDs from a device in a given period.
      *
@@ -187,6 +253,33 @@ public class ReadingServiceImpl implements IReadingService {
         return allReadingIds;
     }
 
+    /**
+     * Returns an export of the readings from a device in a given period.
+     * The sensors of the device are looked up straight away, while their readings are read from the repository, one
+     * sensor at a time, only when the export is written.
+     *
+     * @param deviceId The id of the device.
+     * @param start    The start time of the period.
+     * @param end      The end time of the period.
+     * @return The export of the readings from the device in the given period, or null if the parameters are invalid.
+     */
+    @Override
+    public ReadingExport exportReadingsFromDeviceInAGivenPeriod(DeviceId deviceId, TimeStamp start, TimeStamp end) {
+        if (deviceId == null || !isValidPeriod(start, end)) {
+            return null;
+        }
+
+        List<SensorId> sensorIds = new ArrayList<>();
+        for (Sensor sensor : sensorRepository.findSensorsByDeviceId(deviceId)) {
+            sensorIds.add(sensor.getIdentity());
+        }
+        return action -> {
+            for (SensorId sensorId : sensorIds) {
+                readingRepository.forEachReadingBySensorIdInAGivenPeriod(sensorId, start, end, action);
+            }
+        };
+    }
+
     /**
      * Retrieves the Reading entity with the given id.
      *
@@ -198,6 +291,21 @@ public class ReadingServiceImpl implements IReadingService {
         return readingRepository.findByIdentity(id);
     }
 
+    /**
+     * Returns the latest reading of each of the given sensors, from the latest readings the repository keeps.
+     *
+     * @param sensorIds The ids of the sensors.
+     * @return The latest reading of each sensor that has readings, in the order of the sensors, or null if the ids
+     * are null or any of them is null.
+     */
+    @Override
+    public List<Reading> getLatestReadings(List<SensorId> sensorIds) {
+        if (sensorIds == null || sensorIds.stream().anyMatch(Objects::isNull)) {
+            return null;
+        }
+        return new ArrayList<>(readingRepository.findLastReadingsBySensorIds(sensorIds).values());
+    }
+
     /**
      * Returns the maximum temperature difference between two devices in a given period.
      *
@@ -222,9 +330,9 @@ public class ReadingServiceImpl implements IReadingService {
                 return null;
             }
             // Get readings for each device in the given period
-            Iterable<Reading> readingsFromDevice1 = findReadingIdsBySensorIdInAGivenPeriod(sensorsOnDevice1, startTime, endTime);
-            Iterable<Reading> readingsFromDevice2 = findReadingIdsBySensorIdInAGivenPeriod(sensorsOnDevice2, startTime, endTime);
-            if (isIterableEmpty(readingsFromDevice1) || isIterableEmpty(readingsFromDevice2)) {
+            ReadingSeries readingsFromDevice1 = findReadingSeriesBySensorsInAGivenPeriod(sensorsOnDevice1, startTime, endTime);
+            ReadingSeries readingsFromDevice2 = findReadingSeriesBySensorsInAGivenPeriod(sensorsOnDevice2, startTime, endTime);
+            if (readingsFromDevice1.isEmpty() || readingsFromDevice2.isEmpty()) {
                 return null;
             }
             // Calculate the maximum temperature difference between the two devices
@@ -268,24 +376,128 @@ public class ReadingServiceImpl implements IReadingService {
         catch (Exception e) {
             return null;}}
 
+    /**
+     * Adds a batch of readings.
+     * <p>
+     * The sensors of the whole batch are validated with a single lookup of their distinct ids, and the readings are
+     * saved all at once, so the repository can write them with batched inserts. The rollups of their sensors are
+     * then updated once per bucket. The readings and their rollups are written in one transaction, so either all of
+     * them are added or none is, and the readings are published to their subscribers once it commits.
+     * </p>
+     *
+     * @param sensorIds  The ids of the sensors of the readings.
+     * @param values     The values of the readings.
+     * @param timeStamps The timestamps of the readings.
+     * @return The ids of the added readings, in the given order, or null if the lists are null, empty, of different
+     * sizes or hold null elements, or if any of the sensors does not exist.
+     */
+    @Override
+    @Transactional
+    public List<ReadingId> addReadings(List<SensorId> sensorIds, List<Value> values, List<TimeStamp> timeStamps) {
+        if (sensorIds == null || values == null || timeStamps == null || sensorIds.isEmpty()
+                || sensorIds.size() != values.size() || sensorIds.size() != timeStamps.size()) {
+            return null;
+        }
+        Set<SensorId> distinctSensorIds = new HashSet<>();
+        for (int i = 0; i < sensorIds.size(); i++) {
+            if (sensorIds.get(i) == null || values.get(i) == null || timeStamps.get(i) == null) {
+                return null;
+            }
+            distinctSensorIds.add(sensorIds.get(i));
+        }
+        if (!sensorRepository.containsAllIdentities(distinctSensorIds)) {
+            return null;
+        }
+        List<Reading> readings = new ArrayList<>(sensorIds.size());
+        List<ReadingId> readingIds = new ArrayList<>(sensorIds.size());
+        for (int i = 0; i < sensorIds.size(); i++) {
+            Reading reading = readingFactory.createReading(values.get(i), sensorIds.get(i), timeStamps.get(i));
+            readings.add(reading);
+            readingIds.add(reading.getIdentity());
+        }
+        readingRepository.saveAll(readings);
+        rollupRepository.addReadings(readings);
+        readingStreamService.publish(readings);
+        return readingIds;
+    }
+
+    /**
+     * Returns the statistics of the readings of a sensor in a given period, one per bucket of the given resolution.
+     * They are read from the reading rollups, so the cost depends on the number of buckets and not on the number of
+     * readings.
+     *
+     * @param sensorId   The id of the sensor.
+     * @param resolution The resolution of the buckets.
+     * @param start      The start time of the period, included.
+     * @param end        The end time of the period, excluded.
+     * @return The statistics of the buckets that start in the given period, sorted by bucket, or null if the
+     * parameters are invalid or the sensor does not exist.
+     */
+    @Override
+    public List<ReadingRollup> getReadingStatisticsOfSensorInAGivenPeriod(SensorId sensorId,
+                                                                          ReadingRollupResolution resolution,
+                                                                          TimeStamp start, TimeStamp end) {
+        if (sensorId == null || resolution == null || !isValidPeriod(start, end)
+                || !sensorRepository.containsIdentity(sensorId)) {
+            return null;
+        }
+        return rollupRepository.findRollupsBySensorIdInAGivenPeriod(sensorId, resolution, start, end);
+    }
+
     /**
      * Method to calculate the maximum reading value difference between two devices in a given period
      * based on the delta value.
+     * <p>
+     * Both series are sorted by time and swept once: for each reading of the first device a window over the
+     * readings of the second device is kept, holding every reading whose time distance is within delta. The window
+     * minimum and maximum are maintained with monotonic deques, so the biggest difference against the current
+     * reading is found in constant time. Overall cost is O(n log n + m log m) instead of comparing every pair.
+     * </p>
      *
      * @param readings1 The readings from the first device.
      * @param readings2 The readings from the second device.
      * @return The maximum reading value difference between the two devices in the given period.
      */
-    private Double calculateMaxInstantReadingDifference(Iterable<Reading> readings1, Iterable<Reading> readings2) {
+    private Double calculateMaxInstantReadingDifference(ReadingSeries readings1, ReadingSeries readings2) {
+        ReadingSeries first = readings1.sortedByTime();
+        ReadingSeries second = readings2.sortedByTime();
+
         double maximumDifference = -1; // Initialize to -1 to indicate no difference found
-        for (Reading r1 : readings1) {
-            for (Reading r2 : readings2) {
-                long differenceInSeconds = differenceInSecondsBetweenTwoReadings(r1, r2);
+        int[] minDeque = new int[second.size()];
+        int[] maxDeque = new int[second.size()];
+        int minHead = 0;
+        int minTail = 0;
+        int maxHead = 0;
+        int maxTail = 0;
+        int windowEnd = 0;
 
-                if (differenceInSeconds <= delta) {
-                    double differenceInTemperature = differenceInValueBetweenTwoReadings(r1, r2);
-                    maximumDifference = Math.max(maximumDifference, differenceInTemperature);
+        for (int i = 0; i < first.size(); i++) {
+            long time = first.epochNanosAt(i);
+            // Grow the window with every reading that is not too far ahead of the current one
+            while (windowEnd < second.size() && secondsBetween(time, second.epochNanosAt(windowEnd)) <= delta) {
+                double value = second.valueAt(windowEnd);
+                while (minTail > minHead && second.valueAt(minDeque[minTail - 1]) >= value) {
+                    minTail--;
                 }
+                minDeque[minTail++] = windowEnd;
+                while (maxTail > maxHead && second.valueAt(maxDeque[maxTail - 1]) <= value) {
+                    maxTail--;
+                }
+                maxDeque[maxTail++] = windowEnd;
+                windowEnd++;
+            }
+            // Shrink the window from behind, dropping readings that are too far in the past
+            while (minTail > minHead && secondsBetween(time, second.epochNanosAt(minDeque[minHead])) < -delta) {
+                minHead++;
+            }
+            while (maxTail > maxHead && secondsBetween(time, second.epochNanosAt(maxDeque[maxHead])) < -delta) {
+                maxHead++;
+            }
+            if (minTail > minHead) {
+                double value = first.valueAt(i);
+                double differenceToMinimum = Math.abs(value - second.valueAt(minDeque[minHead]));
+                double differenceToMaximum = Math.abs(value - second.valueAt(maxDeque[maxHead]));
+                maximumDifference = Math.max(maximumDifference, Math.max(differenceToMinimum, differenceToMaximum));
             }
         }
         if (maximumDifference == -1) {
@@ -295,29 +507,15 @@ public class ReadingServiceImpl implements IReadingService {
     }
 
     /**
-     * Method to calculate the difference in seconds between two readings.
+     * Method to calculate the whole seconds between two instants, with the same semantics as
+     * {@link Duration#getSeconds()} of {@link Duration#between}, without allocating a Duration.
      *
-     * @param r1 The first reading to be compared.
-     * @param r2 The second reading to be compared.
-     * @return The difference in seconds between the two readings.
+     * @param epochNanos1 The first instant, in nanoseconds since the epoch.
+     * @param epochNanos2 The second instant, in nanoseconds since the epoch.
+     * @return The whole seconds from the first instant to the second one.
      */
-    private long differenceInSecondsBetweenTwoReadings(Reading r1, Reading r2) {
-        LocalDateTime value1 = r1.getTime().getValue();
-        LocalDateTime value2 = r2.getTime().getValue();
-        long difference = Duration.between(value1, value2).getSeconds();
-        return Math.abs(difference);
-    }
-
-    /**
-     * Method to calculate the difference in value between two readings.
-     *
-     * @param r1 The first reading to be compared.
-     * @param r2 The second reading to be compared.
-     * @return The difference in value between the two readings.
-     */
-    private double differenceInValueBetweenTwoReadings(Reading r1, Reading r2) {
-        return Math.abs(Double.parseDouble(r1.getValue().valueToString())
-                - Double.parseDouble(r2.getValue().valueToString()));
+    private static long secondsBetween(long epochNanos1, long epochNanos2) {
+        return Math.floorDiv(epochNanos2 - epochNanos1, ReadingSeries.NANOS_PER_SECOND);
     }
 
     /**
@@ -341,7 +539,23 @@ public class ReadingServiceImpl implements IReadingService {
         return startTime != null && endTime != null &&
                 !startTime.getValue().isAfter(endTime.getValue()) &&
                 !startTime.getValue().isEqual(endTime.getValue()) &&
-                !endTime.getValue().isAfter(LocalDateTime.now());
+                !isInFuture(endTime.getValue());
+    }
+
+    /**
+     * Method to check if the given time is in the future. The clock is only read when the time is after the latest
+     * time read from it.
+     *
+     * @param time The time to check.
+     * @return true if the time is after the current time, false otherwise.
+     */
+    private boolean isInFuture(LocalDateTime time) {
+        if (!time.isAfter(lastNow)) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        lastNow = now;
+        return time.isAfter(now);
     }
 
     /**
@@ -356,29 +570,40 @@ public class ReadingServiceImpl implements IReadingService {
     }
 
     /**
-     * Method to get the readings for a list of sensors in a given period.
+     * Method to get the readings for a list of sensors in a given period, as a single series.
      *
      * @param sensors   The sensors for which the readings are to be retrieved.
      * @param startTime The start time of the period.
      * @param endTime   The end time of the period.
-     * @return The readings for each sensor in the given period.
+     * @return The readings of all the sensors in the given period.
      */
-    private Iterable<Reading> findReadingIdsBySensorIdInAGivenPeriod(Iterable<Sensor> sensors, TimeStamp startTime,
-                                                                     TimeStamp endTime) {
-        List<Reading> readings = new ArrayList<>();
+    private ReadingSeries findReadingSeriesBySensorsInAGivenPeriod(Iterable<Sensor> sensors, TimeStamp startTime,
+                                                                   TimeStamp endTime) {
+        ReadingSeries readings = new ReadingSeries();
         for (Sensor sensor : sensors) {
-            Iterable<ReadingId> savedReadings = readingRepository.findReadingIdsBySensorIdInAGivenPeriod(
-                    sensor.getIdentity(), startTime, endTime);
-            for (ReadingId readingId : savedReadings) {
-                Optional<Reading> reading = readingRepository.findByIdentity(readingId);
-                reading.ifPresent(readings::add);
-            }
+            readings.addAll(readingRepository.findReadingSeriesBySensorIdInAGivenPeriod(
+                    sensor.getIdentity(), startTime, endTime));
         }
         return readings;
     }
 
     /**
      * Method to calculate the peak power consumption in a given period.
+     * <p>
+     * The period is split into sub-periods of delta seconds, each one including both of its ends, like a
+     * BETWEEN query. The power consumption of a sub-period is the sum, over all the sensors, of the average of
+     * their readings in it; a reading exactly on the border of two sub-periods counts for both.
+     * </p>
+     * <p>
+     * For periods of at least {@link #ROLLUP_MINIMUM_PERIOD} that start on a bucket of a rollup resolution dividing
+     * delta, the whole sub-periods are summed from the rollups of each sensor, and only the readings of a last,
+     * partial sub-period are read. When the period does not start on such a bucket, but a shorter resolution divides
+     * delta, the buckets inside the sub-periods are summed from the rollups, and only the readings of the buckets
+     * that straddle the border of two sub-periods are read: a leading edge from the start of the period to its first
+     * bucket, one bucket at each inner border, and a trailing edge up to the end of the period. Otherwise the
+     * readings of each sensor are fetched once for the whole period and assigned to their sub-periods in a single
+     * pass. Every way gives the same sums and counts.
+     * </p>
      * @param sensorIdsGrid The sensor IDs of the grid power meter.
      * @param sensorIdsPowerSource The sensor IDs of the power source power meter.
      * @param start The start time of the period.
@@ -386,14 +611,53 @@ public class ReadingServiceImpl implements IReadingService {
      * @return The peak power consumption in the given period.
      */
     private Double calculatePeakPowerConsumption(Iterable<SensorId> sensorIdsGrid, Iterable<SensorId>sensorIdsPowerSource, TimeStamp start, TimeStamp end){
-        List<TimeStamp[]> splitPeriods = splitTimePeriod(start,end);
-        Double peakPowerConsumption = 0.0;
-        for(TimeStamp[] timePeriod : splitPeriods){
-            TimeStamp startSubPeriod = Arrays.stream(timePeriod).toList().get(0);
-            TimeStamp endSubPeriod = Arrays.stream(timePeriod).toList().get(1);
-            HashMap<SensorId,Double> powerConsumptionReadingsBySensorId = getAveragePowerConsumptionInPeriodBySensorId(startSubPeriod,endSubPeriod,sensorIdsGrid,sensorIdsPowerSource);
-            Double subPeriodPowerConsumption = sumPowerConsumptionDoubles(powerConsumptionReadingsBySensorId);
-            peakPowerConsumption = Math.max(peakPowerConsumption,subPeriodPowerConsumption);
+        Set<SensorId> sensorIds = new LinkedHashSet<>();
+        sensorIdsGrid.forEach(sensorIds::add);
+        sensorIdsPowerSource.forEach(sensorIds::add);
+
+        long startNanos = ReadingSeries.toEpochNanos(start.getValue());
+        long periodNanos = ReadingSeries.toEpochNanos(end.getValue()) - startNanos;
+        long deltaNanos = delta * ReadingSeries.NANOS_PER_SECOND;
+        int subPeriods = Math.toIntExact((periodNanos + deltaNanos - 1) / deltaNanos);
+
+        ReadingRollupResolution resolution = null;
+        if (Duration.ofNanos(periodNanos).compareTo(ROLLUP_MINIMUM_PERIOD) >= 0) {
+            resolution = ReadingRollupResolution.coarsestFitting(start.getValue(), delta);
+            if (resolution == null) {
+                resolution = ReadingRollupResolution.coarsestDividing(delta);
+            }
+        }
+        TimeStamp wholeEnd = start;
+        if (resolution != null) {
+            wholeEnd = new TimeStamp(start.getValue().plusSeconds(periodNanos / deltaNanos * delta));
+        }
+
+        double[] subPeriodPowerConsumption = new double[subPeriods];
+        double[] sums = new double[subPeriods];
+        long[] counts = new long[subPeriods];
+        for (SensorId sensorId : sensorIds) {
+            Arrays.fill(sums, 0.0);
+            Arrays.fill(counts, 0);
+            if (resolution != null && !resolution.isBucketStart(start.getValue())) {
+                addRollupsAndEdgesToSubPeriods(sensorId, resolution, start, wholeEnd, end, sums, counts);
+            } else {
+                if (resolution != null) {
+                    addRollupsToSubPeriods(rollupRepository.findRollupsBySensorIdInAGivenPeriod(sensorId, resolution,
+                            start, wholeEnd), startNanos, deltaNanos, sums, counts);
+                }
+                addReadingsToSubPeriods(readingRepository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId,
+                        wholeEnd, end), startNanos, deltaNanos, Long.MAX_VALUE, sums, counts);
+            }
+            for (int subPeriod = 0; subPeriod < subPeriods; subPeriod++) {
+                if (counts[subPeriod] > 0) {
+                    subPeriodPowerConsumption[subPeriod] += sums[subPeriod] / counts[subPeriod];
+                }
+            }
+        }
+
+        double peakPowerConsumption = 0.0;
+        for (double powerConsumption : subPeriodPowerConsumption) {
+            peakPowerConsumption = Math.max(peakPowerConsumption, powerConsumption);
         }
         if(peakPowerConsumption == 0.0){
             throw new IllegalArgumentException();
@@ -402,67 +666,105 @@ public class ReadingServiceImpl implements IReadingService {
     }
 
     /**
-     * Method to split a given time period into sub-periods based on the delta value.
-     * @param start The start time of the period.
-     * @param end The end time of the period.
-     * @return A list of sub-periods.
+     * Method to add the readings of a sensor to the sums and counts of their sub-periods when the period does not start
+     * on a bucket of the resolution. The buckets of the resolution then straddle the borders of the sub-periods, one
+     * at each border, as the length of a sub-period is a whole number of buckets. The readings of the straddling
+     * buckets are read, from the start of the period in the first one and up to the end of the period from the one of
+     * the last whole sub-period on, and the other buckets are summed from the rollups.
+     *
+     * @param sensorId   The id of the sensor.
+     * @param resolution The resolution of the rollups, shorter than a sub-period and dividing it.
+     * @param start      The start time of the period.
+     * @param wholeEnd   The end of the last whole sub-period.
+     * @param end        The end time of the period.
+     * @param sums       The sums of the readings of each sub-period.
+     * @param counts     The number of readings of each sub-period.
      */
-    public List<TimeStamp[]> splitTimePeriod(TimeStamp start, TimeStamp end) {
-        List<TimeStamp[]> subPeriods = new ArrayList<>();
-        LocalDateTime currentStart = start.getValue();
-        Duration deltaNumber = Duration.ofSeconds(this.delta);
-        while (currentStart.isBefore(end.getValue())) {
-            LocalDateTime currentEnd = currentStart.plus(deltaNumber);
-            if (currentEnd.isAfter(end.getValue())) {
-                currentEnd = end.getValue();}
-            subPeriods.add(new TimeStamp[]{new TimeStamp(currentStart), new TimeStamp(currentEnd)});
-            currentStart = currentEnd;}
-        return subPeriods;}
+    private void addRollupsAndEdgesToSubPeriods(SensorId sensorId, ReadingRollupResolution resolution,
+                                                TimeStamp start, TimeStamp wholeEnd, TimeStamp end, double[] sums,
+                                                long[] counts) {
+        long startNanos = ReadingSeries.toEpochNanos(start.getValue());
+        long deltaNanos = delta * ReadingSeries.NANOS_PER_SECOND;
+        LocalDateTime firstEdge = resolution.bucketStart(start.getValue());
+        LocalDateTime lastEdge = resolution.bucketStart(wholeEnd.getValue());
+        long firstEdgeNanos = ReadingSeries.toEpochNanos(firstEdge);
 
-    /**
-     * Method to calculate the average power consumption in a given period by sensor ID.
-     * @param start The start time of the period.
-     * @param end The end time of the period.
-     * @param sensorIdsGrid The sensor IDs of the grid power meter.
-     * @param sensorIdsPowerSource The sensor IDs of the power source power meter.
-     * @return A map of sensor IDs and their average power consumption in the given period.
-     */
-    private HashMap<SensorId,Double> getAveragePowerConsumptionInPeriodBySensorId(TimeStamp start, TimeStamp end, Iterable<SensorId> sensorIdsGrid, Iterable<SensorId> sensorIdsPowerSource){
-        HashMap<SensorId,Double> powerConsumptionReadingsBySensorId = new HashMap<>();
-        for (SensorId sensorId : sensorIdsGrid){
-            Iterable<Reading> readings = readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start, end);
-            Double averagePowerConsumption = calculateAveragePowerConsumption(readings);
-            powerConsumptionReadingsBySensorId.put(sensorId,averagePowerConsumption);}
-        for (SensorId sensorId : sensorIdsPowerSource){
-            Iterable<Reading> readings = readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start, end);
-            Double averagePowerConsumption = calculateAveragePowerConsumption(readings);
-            powerConsumptionReadingsBySensorId.put(sensorId,averagePowerConsumption);}
-        return powerConsumptionReadingsBySensorId;}
+        if (lastEdge.isAfter(firstEdge)) {
+            List<ReadingRollup> innerRollups = new ArrayList<>();
+            for (ReadingRollup rollup : rollupRepository.findRollupsBySensorIdInAGivenPeriod(sensorId, resolution,
+                    new TimeStamp(firstEdge.plusSeconds(resolution.getSeconds())), new TimeStamp(lastEdge))) {
+                if ((ReadingSeries.toEpochNanos(rollup.getBucketStart()) - firstEdgeNanos) % deltaNanos != 0) {
+                    innerRollups.add(rollup);
+                }
+            }
+            addRollupsToSubPeriods(innerRollups, startNanos, deltaNanos, sums, counts);
+        }
+
+        for (LocalDateTime edge = firstEdge; edge.isBefore(lastEdge); edge = edge.plusSeconds(delta)) {
+            TimeStamp edgeStart = edge.equals(firstEdge) ? start : new TimeStamp(edge);
+            LocalDateTime edgeEnd = edge.plusSeconds(resolution.getSeconds());
+            addReadingsToSubPeriods(readingRepository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId, edgeStart,
+                    new TimeStamp(edgeEnd)), startNanos, deltaNanos, ReadingSeries.toEpochNanos(edgeEnd), sums,
+                    counts);
+        }
+        TimeStamp trailingStart = lastEdge.equals(firstEdge) ? start : new TimeStamp(lastEdge);
+        addReadingsToSubPeriods(readingRepository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId, trailingStart,
+                end), startNanos, deltaNanos, Long.MAX_VALUE, sums, counts);
+    }
 
     /**
-     * Method to sum the power consumption values in a given period.
-     * @param powerConsumptionReadingsBySensorId A map of sensor IDs and their power consumption values.
-     * @return The sum of the power consumption values.
+     * Method to add readings to the sums and counts of their sub-periods. A reading exactly on the border of two
+     * sub-periods is added to both.
+     *
+     * @param readings   The readings to add.
+     * @param startNanos The start of the first sub-period, in nanoseconds since the epoch.
+     * @param deltaNanos The length of a sub-period, in nanoseconds.
+     * @param endNanos   The time before which the readings are added, in nanoseconds since the epoch. The readings
+     *                   at it or after it are left out, as they are summed from a rollup.
+     * @param sums       The sums of the readings of each sub-period.
+     * @param counts     The number of readings of each sub-period.
      */
-    private Double sumPowerConsumptionDoubles(HashMap<SensorId,Double> powerConsumptionReadingsBySensorId){
-        Double sum = 0.0;
-        for (Double value : powerConsumptionReadingsBySensorId.values()){
-            sum += value;}
-        return sum;
+    private static void addReadingsToSubPeriods(ReadingSeries readings, long startNanos, long deltaNanos,
+                                                long endNanos, double[] sums, long[] counts) {
+        for (int i = 0; i < readings.size(); i++) {
+            if (readings.epochNanosAt(i) >= endNanos) {
+                continue;
+            }
+            long offset = readings.epochNanosAt(i) - startNanos;
+            int subPeriod = (int) (offset / deltaNanos);
+            if (subPeriod < sums.length) {
+                sums[subPeriod] += readings.valueAt(i);
+                counts[subPeriod]++;
+            }
+            if (offset % deltaNanos == 0 && subPeriod > 0) {
+                sums[subPeriod - 1] += readings.valueAt(i);
+                counts[subPeriod - 1]++;
+            }
+        }
     }
 
     /**
-     * Method to calculate the average power consumption in a given period.
-     * @param readings The readings in the given period.
-     * @return The average power consumption in the given period.
+     * Method to add rollups to the sums and counts of their sub-periods. The rollup buckets must tile the
+     * sub-periods. The readings at the start of a bucket that starts a sub-period are on the border with the
+     * previous sub-period, so they are added to it as well.
+     *
+     * @param rollups    The rollups to add.
+     * @param startNanos The start of the first sub-period, in nanoseconds since the epoch.
+     * @param deltaNanos The length of a sub-period, in nanoseconds.
+     * @param sums       The sums of the readings of each sub-period.
+     * @param counts     The number of readings of each sub-period.
      */
-    private Double calculateAveragePowerConsumption(Iterable<Reading> readings){
-        Double sum = 0.0;
-        int count = 0;
-        for (Reading reading : readings){
-            sum += Double.parseDouble(reading.getValue().valueToString());
-            count++;}
-        if(count == 0){return 0.0;}
-        return sum/count;
+    private static void addRollupsToSubPeriods(Iterable<ReadingRollup> rollups, long startNanos, long deltaNanos,
+                                               double[] sums, long[] counts) {
+        for (ReadingRollup rollup : rollups) {
+            long offset = ReadingSeries.toEpochNanos(rollup.getBucketStart()) - startNanos;
+            int subPeriod = (int) (offset / deltaNanos);
+            sums[subPeriod] += rollup.getSum();
+            counts[subPeriod] += rollup.getCount();
+            if (offset % deltaNanos == 0 && subPeriod > 0) {
+                sums[subPeriod - 1] += rollup.getStartSum();
+                counts[subPeriod - 1] += rollup.getStartCount();
+            }
+        }
     }
-}
\ No newline at end of file
+}
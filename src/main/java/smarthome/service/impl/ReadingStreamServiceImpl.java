@@ -0,0 +1,306 @@
+package smarthome.service.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.repository.IDeviceRepository;
+import smarthome.domain.repository.ISensorRepository;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.service.IReadingStreamService;
+import smarthome.service.ReadingStreamListener;
+import smarthome.service.ReadingSubscription;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class provides the implementation for the IReadingStreamService interface, as an in-process hub that fans the
+ * published readings out to their subscribers.
+ * <p>
+ * The subscribers are indexed by sensor, so publishing a reading touches only the subscribers of its sensor and the
+ * subscribers of every sensor. Each subscriber has a bounded buffer; publishing adds the reading to the buffer and,
+ * if the subscriber is not already being served, hands it to the executor, which delivers the whole buffer at once.
+ * No thread is held by a subscriber that has no readings, so idle subscribers cost only their buffers.
+ * </p>
+ */
+@Service
+public class ReadingStreamServiceImpl implements IReadingStreamService {
+
+    /**
+     * The default number of readings buffered for each subscriber.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 256;
+
+    private final ISensorRepository sensorRepository;
+    private final IDeviceRepository deviceRepository;
+    private final int bufferCapacity;
+    private final Executor executor;
+    private final Map<SensorId, Set<Subscriber>> subscribersBySensor = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribersOfAllSensors = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor for ReadingStreamServiceImpl, with buffers of the default capacity, delivered by a pool of daemon
+     * threads that are created as needed and end after a minute idle.
+     *
+     * @param sensorRepository the repository for Sensor entities.
+     * @param deviceRepository the repository for Device entities.
+     */
+    @Autowired
+    public ReadingStreamServiceImpl(ISensorRepository sensorRepository, IDeviceRepository deviceRepository) {
+        this(sensorRepository, deviceRepository, DEFAULT_BUFFER_CAPACITY,
+                Executors.newCachedThreadPool(daemonThreads()));
+    }
+
+    /**
+     * Constructor for ReadingStreamServiceImpl.
+     *
+     * @param sensorRepository the repository for Sensor entities.
+     * @param deviceRepository the repository for Device entities.
+     * @param bufferCapacity   the number of readings buffered for each subscriber.
+     * @param executor         the executor that delivers the readings to the subscribers.
+     * @throws IllegalArgumentException if a parameter is null or the capacity is not positive.
+     */
+    public ReadingStreamServiceImpl(ISensorRepository sensorRepository, IDeviceRepository deviceRepository,
+                                    int bufferCapacity, Executor executor) {
+        if (sensorRepository == null || deviceRepository == null || bufferCapacity < 1 || executor == null) {
+            throw new IllegalArgumentException();
+        }
+        this.sensorRepository = sensorRepository;
+        this.deviceRepository = deviceRepository;
+        this.bufferCapacity = bufferCapacity;
+        this.executor = executor;
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "reading-stream-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Subscribes to the readings of a device, of a sensor, or of every sensor.
+     *
+     * @param deviceId The id of the device, or null for the readings of any device.
+     * @param sensorId The id of the sensor, or null for the readings of any sensor.
+     * @param policy   What to do with the readings that overflow the buffer of the subscriber.
+     * @param listener The listener of the readings.
+     * @return The subscription, or null if the subscription is not valid.
+     */
+    @Override
+    public ReadingSubscription subscribe(DeviceId deviceId, SensorId sensorId, OverflowPolicy policy,
+                                         ReadingStreamListener listener) {
+        if (policy == null || listener == null) {
+            return null;
+        }
+        Set<SensorId> sensorIds;
+        if (sensorId != null) {
+            Optional<Sensor> sensor = sensorRepository.findByIdentity(sensorId);
+            if (sensor.isEmpty() || (deviceId != null && !deviceId.equals(sensor.get().getDeviceId()))) {
+                return null;
+            }
+            sensorIds = Set.of(sensorId);
+        } else if (deviceId != null) {
+            if (!deviceRepository.containsIdentity(deviceId)) {
+                return null;
+            }
+            sensorIds = new HashSet<>();
+            sensorRepository.findSensorIdsByDeviceId(deviceId).forEach(sensorIds::add);
+        } else {
+            sensorIds = null;
+        }
+
+        Subscriber subscriber = new Subscriber(sensorIds, policy, listener);
+        if (sensorIds == null) {
+            subscribersOfAllSensors.add(subscriber);
+        } else {
+            for (SensorId id : sensorIds) {
+                subscribersBySensor.compute(id, (key, subscribers) -> {
+                    Set<Subscriber> withSubscriber = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+                    withSubscriber.add(subscriber);
+                    return withSubscriber;
+                });
+            }
+        }
+        return subscriber;
+    }
+
+    /**
+     * Publishes saved readings to the subscribers of their sensors and to the subscribers of every sensor.
+     * <p>
+     * Within a transaction the readings are only handed to the subscribers once it commits, so readings that are
+     * rolled back are never published.
+     * </p>
+     *
+     * @param readings The saved readings.
+     */
+    @Override
+    public void publish(List<Reading> readings) {
+        if (readings == null || (subscribersBySensor.isEmpty() && subscribersOfAllSensors.isEmpty())) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(readings);
+                }
+            });
+        } else {
+            deliver(readings);
+        }
+    }
+
+    /**
+     * Hands readings to the subscribers of their sensors and to the subscribers of every sensor.
+     *
+     * @param readings The readings.
+     */
+    private void deliver(List<Reading> readings) {
+        for (Reading reading : readings) {
+            Set<Subscriber> subscribers = subscribersBySensor.get(reading.getSensorId());
+            if (subscribers != null) {
+                for (Subscriber subscriber : subscribers) {
+                    subscriber.offer(reading);
+                }
+            }
+            for (Subscriber subscriber : subscribersOfAllSensors) {
+                subscriber.offer(reading);
+            }
+        }
+    }
+
+    /**
+     * A subscriber, with its buffer of readings not yet delivered.
+     */
+    private final class Subscriber implements ReadingSubscription {
+        private final Set<SensorId> sensorIds;
+        private final OverflowPolicy policy;
+        private final ReadingStreamListener listener;
+        private final ArrayDeque<Reading> buffer = new ArrayDeque<>();
+        private final AtomicLong dropped = new AtomicLong();
+        private boolean scheduled;
+        private boolean overflowed;
+        private volatile boolean cancelled;
+
+        private Subscriber(Set<SensorId> sensorIds, OverflowPolicy policy, ReadingStreamListener listener) {
+            this.sensorIds = sensorIds;
+            this.policy = policy;
+            this.listener = listener;
+        }
+
+        /**
+         * Adds a reading to the buffer, applying the overflow policy if it is full, and schedules the delivery of the
+         * buffer unless it is already scheduled.
+         *
+         * @param reading the reading.
+         */
+        private void offer(Reading reading) {
+            synchronized (this) {
+                if (cancelled || overflowed) {
+                    return;
+                }
+                if (buffer.size() == bufferCapacity) {
+                    dropped.incrementAndGet();
+                    switch (policy) {
+                        case DROP_OLDEST -> buffer.pollFirst();
+                        case DROP_NEWEST -> {
+                            return;
+                        }
+                        case DISCONNECT -> {
+                            overflowed = true;
+                            buffer.clear();
+                        }
+                    }
+                }
+                if (!overflowed) {
+                    buffer.addLast(reading);
+                }
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                cancel();
+            }
+        }
+
+        /**
+         * Delivers the buffer to the listener until it is empty, or ends the subscription if the buffer overflowed
+         * or the readings could not be delivered.
+         */
+        private void deliver() {
+            while (true) {
+                List<Reading> readings;
+                synchronized (this) {
+                    if (cancelled || (!overflowed && buffer.isEmpty())) {
+                        scheduled = false;
+                        return;
+                    }
+                    readings = overflowed ? null : new ArrayList<>(buffer);
+                    buffer.clear();
+                }
+                if (readings == null) {
+                    close();
+                    return;
+                }
+                try {
+                    listener.onReadings(readings);
+                } catch (IOException | RuntimeException e) {
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private void close() {
+            cancel();
+            listener.onClose();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                buffer.clear();
+            }
+            if (sensorIds == null) {
+                subscribersOfAllSensors.remove(this);
+                return;
+            }
+            for (SensorId id : sensorIds) {
+                subscribersBySensor.computeIfPresent(id, (key, subscribers) -> {
+                    subscribers.remove(this);
+                    return subscribers.isEmpty() ? null : subscribers;
+                });
+            }
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+    }
+}
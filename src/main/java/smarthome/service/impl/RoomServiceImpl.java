@@ -1,6 +1,7 @@
 package smarthome.service.impl;
 
 import org.springframework.stereotype.Service;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IHouseRepository;
 import smarthome.domain.repository.IRoomRepository;
@@ -119,4 +120,19 @@ public class RoomServiceImpl implements IRoomService {
         return roomIdList;
     }
 
+    /**
+     * Get a page of Room identities, in the order of the identities, that follow a given Room identity.
+     *
+     * @param after The Room identity to start after, or null to start at the first one.
+     * @param limit The largest number of Room identities of the page.
+     * @return The page of Room identities, or null if the limit is not between 1 and the largest page size.
+     */
+    @Override
+    public KeysetPage<RoomId> getRoomIds(RoomId after, int limit) {
+        if (limit < 1 || limit > KeysetPage.MAX_LIMIT) {
+            return null;
+        }
+        return roomRepository.findRoomIds(after, limit);
+    }
+
 }
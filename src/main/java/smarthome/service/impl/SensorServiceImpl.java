@@ -89,4 +89,21 @@ public class SensorServiceImpl implements ISensorService {
         }
         return sensorRepository.findSensorIdsByDeviceId(deviceId);
     }
+
+    /**
+     * Retrieves all Sensor entities associated with a specific device from the repository.
+     * This method first checks if the device exists in the repository. If it does not, it returns null.
+     * If the device exists, it retrieves its sensors with a single repository query.
+     *
+     * @param deviceId The identity of the device whose sensors are to be retrieved.
+     * @return An Iterable collection containing the sensors of the specified device, or null if the device does not
+     * exist.
+     */
+    @Override
+    public Iterable<Sensor> getSensorsByDeviceIdentity(DeviceId deviceId) {
+        if (!deviceRepository.containsIdentity(deviceId)) {
+            return null;
+        }
+        return sensorRepository.findSensorsByDeviceId(deviceId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package smarthome.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque cursors of keyset pagination.
+ * <p>
+ * A cursor holds the sort keys of the last entry of a page, from which the next page starts. The keys are joined and
+ * encoded in URL safe Base64, so clients pass the cursor back as it is, without relying on its content.
+ * </p>
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '\0';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Encodes the sort keys of an entry into a cursor.
+     *
+     * @param keys the sort keys of the entry.
+     * @return the cursor.
+     * @throws IllegalArgumentException if there are no keys, or if a key is null or holds the separator of the keys.
+     */
+    public static String encode(String... keys) {
+        if (keys == null || keys.length == 0) {
+            throw new IllegalArgumentException();
+        }
+        StringBuilder joined = new StringBuilder();
+        for (String key : keys) {
+            if (key == null || key.indexOf(SEPARATOR) >= 0) {
+                throw new IllegalArgumentException();
+            }
+            if (!joined.isEmpty()) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into the sort keys of an entry.
+     *
+     * @param cursor the cursor.
+     * @param count  the number of keys the cursor must hold.
+     * @return the sort keys.
+     * @throws IllegalArgumentException if the cursor is null, is not valid Base64 or does not hold that many keys.
+     */
+    public static String[] decode(String cursor, int count) {
+        if (cursor == null) {
+            throw new IllegalArgumentException();
+        }
+        String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] keys = joined.split(String.valueOf(SEPARATOR), -1);
+        if (keys.length != count) {
+            throw new IllegalArgumentException();
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,20 @@
+-- Compressed chunk table of the reading table (MySQL).
+-- Run once on databases created before the reading_chunk table existed.
+-- Each row holds up to 1024 numeric readings of one sensor within one hour, encoded with delta-of-delta timestamps
+-- and XOR compressed values, with the time of its first and last reading in nanoseconds since 1970-01-01 00:00:00.
+-- The application fills the table per sensor: once it is ready, each sensor with readings but no chunks has its chunks
+-- filled from its readings, one sensor per transaction, and a sensor that gets a reading before that is filled by
+-- the save. New readings are then appended to the last chunk of their sensor.
+
+CREATE TABLE IF NOT EXISTS reading_chunk
+(
+    sensor_id         VARCHAR(255) NOT NULL,
+    chunk_sequence    BIGINT       NOT NULL,
+    point_count       INT          NOT NULL,
+    first_epoch_nanos BIGINT       NOT NULL,
+    last_epoch_nanos  BIGINT       NOT NULL,
+    data              BLOB         NOT NULL,
+    PRIMARY KEY (sensor_id, chunk_sequence),
+    INDEX idx_reading_chunk_sensor_first (sensor_id, first_epoch_nanos),
+    FOREIGN KEY (sensor_id) REFERENCES sensor(sensor_id)
+);
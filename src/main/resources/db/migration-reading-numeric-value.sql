@@ -0,0 +1,11 @@
+-- Migration of the reading table to typed numeric values (MySQL 8.0.17 or later).
+-- Run once on databases created before the numeric_value column existed.
+-- Numeric readings move from the reading_value text column to the numeric_value DOUBLE column.
+-- Composite values, such as wind readings ("direction::speed"), stay in reading_value.
+
+ALTER TABLE reading ADD COLUMN numeric_value DOUBLE;
+
+UPDATE reading
+SET numeric_value = CAST(reading_value AS DOUBLE),
+    reading_value = NULL
+WHERE reading_value REGEXP '^[-+]?([0-9]+[.]?[0-9]*|[.][0-9]+)([eE][-+]?[0-9]+)?$';
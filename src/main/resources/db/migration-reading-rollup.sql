@@ -0,0 +1,45 @@
+-- Rollup table of the reading table at minute, hour and day resolution (MySQL).
+-- Run once on databases created before the reading_rollup table existed.
+-- Each row holds the count, sum, minimum and maximum of the numeric readings of one sensor in one bucket, and the
+-- count and sum of the readings taken exactly at the start of the bucket. Buckets start at whole multiples of the
+-- resolution since 1970-01-01 00:00:00. The backfill recomputes every bucket from the reading table, so it can be
+-- run again to repair the rollups. New readings are added to the rollups by the application.
+
+CREATE TABLE IF NOT EXISTS reading_rollup
+(
+    sensor_id          VARCHAR(255) NOT NULL,
+    resolution_seconds BIGINT       NOT NULL,
+    bucket_start       TIMESTAMP    NOT NULL,
+    reading_count      BIGINT       NOT NULL,
+    value_sum          DOUBLE       NOT NULL,
+    min_value          DOUBLE       NOT NULL,
+    max_value          DOUBLE       NOT NULL,
+    start_count        BIGINT       NOT NULL,
+    start_sum          DOUBLE       NOT NULL,
+    PRIMARY KEY (sensor_id, resolution_seconds, bucket_start),
+    FOREIGN KEY (sensor_id) REFERENCES sensor(sensor_id)
+);
+
+REPLACE INTO reading_rollup (sensor_id, resolution_seconds, bucket_start, reading_count, value_sum, min_value,
+                            max_value, start_count, start_sum)
+SELECT sensor_id,
+       resolution_seconds,
+       bucket_start,
+       COUNT(*),
+       SUM(numeric_value),
+       MIN(numeric_value),
+       MAX(numeric_value),
+       SUM(CASE WHEN time_stamp = bucket_start THEN 1 ELSE 0 END),
+       SUM(CASE WHEN time_stamp = bucket_start THEN numeric_value ELSE 0 END)
+FROM (SELECT r.sensor_id,
+             r.numeric_value,
+             r.time_stamp,
+             res.resolution_seconds,
+             TIMESTAMPADD(SECOND, FLOOR(TIMESTAMPDIFF(SECOND, '1970-01-01 00:00:00', r.time_stamp)
+                 / res.resolution_seconds) * res.resolution_seconds, '1970-01-01 00:00:00') AS bucket_start
+      FROM reading r
+               CROSS JOIN (SELECT 60 AS resolution_seconds UNION ALL SELECT 3600 UNION ALL SELECT 86400) res
+      WHERE r.numeric_value IS NOT NULL
+        AND r.sensor_id IS NOT NULL
+        AND r.time_stamp IS NOT NULL) bucketed
+GROUP BY sensor_id, resolution_seconds, bucket_start;
@@ -0,0 +1,7 @@
+-- Composite index of the reading table on (sensor_id, time_stamp) (MySQL).
+-- Run once on databases created before the index existed.
+-- Period and latest value queries seek to the rows of one sensor, already sorted by time, instead of scanning
+-- the rows of every sensor. The index also serves the sensor_id foreign key, so MySQL drops the single column
+-- index it had created implicitly for it.
+
+ALTER TABLE reading ADD INDEX idx_reading_sensor_time (sensor_id, time_stamp);
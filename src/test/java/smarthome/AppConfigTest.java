@@ -2,6 +2,8 @@ package smarthome;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -42,4 +44,20 @@ class AppConfigTest {
         assertEquals(expected, result,
                 "filePathDelta should return 'configDelta.properties'");
     }
+
+    /**
+     * Test if the method clock returns the system clock
+     */
+    @Test
+    void testClockReturnsSystemClock() {
+        //Arrange
+        AppConfig appConfig = new AppConfig();
+
+        //Act
+        Clock result = appConfig.clock();
+
+        //Assert
+        assertEquals(Clock.systemDefaultZone(), result,
+                "clock should return the system clock of the default time zone");
+    }
 }
\ No newline at end of file
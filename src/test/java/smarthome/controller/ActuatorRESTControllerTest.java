@@ -3,6 +3,7 @@ package smarthome.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -53,9 +54,12 @@ import smarthome.mapper.ActuatorIdDTO;
 import smarthome.mapper.ValueDTO;
 import smarthome.mapper.mapper.ActuatorMapper;
 import smarthome.mapper.mapper.ValueMapper;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IActuatorService;
+import smarthome.service.IReadingStreamService;
 import smarthome.service.impl.ActuatorServiceImpl;
 
+import java.time.Clock;
 import javax.naming.ConfigurationException;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -68,6 +72,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -132,7 +138,7 @@ class ActuatorRESTControllerTest {
         device = deviceFactory.createDevice(new DeviceName("device"), new DeviceTypeName("device"), new RoomId("room"));
 
         actuatorService = new ActuatorServiceImpl(mockActuatorRepository, mockDeviceRepository, mockSensorRepository,
-                mockReadingRepository, actuatorFactory, readingFactory, filePathName);
+                mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), actuatorFactory, readingFactory, filePathName, Clock.systemDefaultZone());
 
         actuatorRESTController = new ActuatorRESTController(actuatorService, actuatorMapper, valueMapper);
 
@@ -572,6 +578,47 @@ class ActuatorRESTControllerTest {
                 "NOT_FOUND");
     }
 
+    /**
+     * Test for the getEmbeddedByDeviceIdentity method.
+     * This test asserts that the method returns the full actuators of the device, each with its self link, read with
+     * a single repository query. The test passes if the HTTP status is OK and the body holds the actuator.
+     */
+    @Test
+    void testGetEmbeddedByDeviceIdentityReturnsActuatorsWhenDeviceIdIsValid() {
+        // Arrange
+        Actuator actuator = actuatorFactory.createActuator(new ActuatorMap(new ActuatorId(actuatorId1), deviceId1,
+                new ActuatorModelName("ActuatorOfBlindRoller"), null, null, null, null, null));
+        when(mockActuatorRepository.findActuatorsByDeviceId(deviceId1)).thenReturn(List.of(actuator));
+        // Act
+        ResponseEntity<CollectionModel<ActuatorDTO>> response =
+                actuatorRESTController.getEmbeddedByDeviceIdentity(deviceId);
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode(), "The HTTP status for a valid deviceId should be OK");
+        List<ActuatorDTO> actuators = List.copyOf(Objects.requireNonNull(response.getBody()).getContent());
+        assertEquals(1, actuators.size());
+        assertEquals(actuatorId1, actuators.get(0).getActuatorId());
+        assertTrue(actuators.get(0).getLink("self").isPresent(), "The actuator should have a self link");
+        verify(mockActuatorRepository, never()).findActuatorIdsByDeviceId(deviceId1);
+    }
+
+    /**
+     * Test for the getEmbeddedByDeviceIdentity method.
+     * This test asserts that the method returns NOT_FOUND when the device has no actuators and BAD_REQUEST when the
+     * device does not exist.
+     */
+    @Test
+    void testGetEmbeddedByDeviceIdentityReturnsNotFoundOrBadRequest() {
+        // Arrange
+        when(mockActuatorRepository.findActuatorsByDeviceId(deviceId1)).thenReturn(List.of());
+        // Act
+        ResponseEntity<CollectionModel<ActuatorDTO>> empty = actuatorRESTController.getEmbeddedByDeviceIdentity(deviceId);
+        ResponseEntity<CollectionModel<ActuatorDTO>> unknown =
+                actuatorRESTController.getEmbeddedByDeviceIdentity("unknownDevice");
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, empty.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatusCode());
+    }
+
     /**
      * Test for the getByDeviceIdentity method with JSON.
      * This test asserts that the getByDeviceIdentity method returns the correct HTTP status when the DeviceId is
@@ -42,13 +42,16 @@ import smarthome.mapper.mapper.ActuatorMapper;
 import smarthome.mapper.mapper.ActuatorModelMapper;
 import smarthome.mapper.mapper.ActuatorTypeMapper;
 import smarthome.persistence.mem.ActuatorModelRepositoryMemImpl;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IActuatorModelService;
 import smarthome.service.IActuatorService;
 import smarthome.service.IActuatorTypeService;
+import smarthome.service.IReadingStreamService;
 import smarthome.service.impl.ActuatorModelServiceImpl;
 import smarthome.service.impl.ActuatorServiceImpl;
 import smarthome.service.impl.ActuatorTypeServiceImpl;
 
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -131,7 +134,7 @@ class AddActuatorToDeviceControllerTest {
 
         //Initialize the Actuator Service
         actuatorService = new ActuatorServiceImpl(mockActuatorRepository, mockDeviceRepository, mockSensorRepository,
-                mockReadingRepository, actuatorFactory, readingFactory, filePathName);
+                mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), actuatorFactory, readingFactory, filePathName, Clock.systemDefaultZone());
 
         actuatorTypeService = new ActuatorTypeServiceImpl(mockActuatorTypeRepository);
         actuatorModelService = new ActuatorModelServiceImpl(mockActuatorModelRepository);
@@ -249,7 +252,7 @@ class AddActuatorToDeviceControllerTest {
         IActuatorModelRepository emptyActuatorModelRepository = new ActuatorModelRepositoryMemImpl();
         ActuatorModelMapper actuatorModelMapper = new ActuatorModelMapper();
         IActuatorService emptyActuatorService = new ActuatorServiceImpl(mockActuatorRepository, mockDeviceRepository,
-                mockSensorRepository, mockReadingRepository, actuatorFactory, readingFactory, filePathName);
+                mockSensorRepository, mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), actuatorFactory, readingFactory, filePathName, Clock.systemDefaultZone());
         AddActuatorToDeviceController controller = new AddActuatorToDeviceController(emptyActuatorService,
                 actuatorTypeService, new ActuatorModelServiceImpl(emptyActuatorModelRepository), actuatorTypeMapper,
                 actuatorModelMapper, actuatorMapper);
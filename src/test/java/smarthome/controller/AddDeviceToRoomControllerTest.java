@@ -19,6 +19,7 @@ import smarthome.domain.room.vo.RoomId;
 import smarthome.mapper.DeviceDTO;
 import smarthome.mapper.mapper.DeviceMapper;
 import smarthome.mapper.mapper.DeviceTypeMapper;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.service.IDeviceService;
 import smarthome.service.impl.DeviceServiceImpl;
 
@@ -66,7 +67,9 @@ class AddDeviceToRoomControllerTest {
         DeviceFactory deviceFactory = new DeviceFactoryImpl();
         IRoomRepository mockRoomRepository = mock(IRoomRepository.class);
         deviceService = new DeviceServiceImpl(mockRoomRepository, deviceFactory, mockDeviceRepository,
-                mockSensorTypeRepository, mockSensorModelRepository, mockSensorRepository, mockDeviceTypeRepository);
+                mockDeviceTypeRepository,
+                new DeviceFunctionalityRepositoryMemImpl(mockSensorRepository, mockSensorModelRepository,
+                        mockSensorTypeRepository, mockDeviceRepository));
         addDeviceToRoomController = new AddDeviceToRoomController(deviceService, deviceMapper, deviceTypeMapper);
 
         // Create a new DeviceDTO and Device
@@ -18,6 +18,7 @@ import smarthome.domain.repository.ISensorTypeRepository;
 import smarthome.domain.room.vo.RoomId;
 import smarthome.mapper.DeviceDTO;
 import smarthome.mapper.mapper.DeviceMapper;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.service.IDeviceService;
 import smarthome.service.impl.DeviceServiceImpl;
 
@@ -79,8 +80,9 @@ class DeactivateDeviceControllerTest {
 
 
         // Initialize device service
-        deviceService = new DeviceServiceImpl(mockRoomRepo, deviceFactory, mockDeviceRepo, mockSensorTypeRepo,
-                mockSensorModelRepo, mockSensorRepo, mockDeviceTypeRepo);
+        deviceService = new DeviceServiceImpl(mockRoomRepo, deviceFactory, mockDeviceRepo, mockDeviceTypeRepo,
+                new DeviceFunctionalityRepositoryMemImpl(mockSensorRepo, mockSensorModelRepo,
+                        mockSensorTypeRepo, mockDeviceRepo));
 
         // Initialize test data for device DTO
         deviceDTOName = "testDeviceName";
@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -15,6 +17,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.DeviceFactory;
 import smarthome.domain.device.DeviceFactoryImpl;
@@ -54,8 +57,10 @@ import smarthome.mapper.DeviceDTO;
 import smarthome.mapper.DeviceIdDTO;
 import smarthome.mapper.mapper.DeviceMapper;
 import smarthome.mapper.mapper.DeviceTypeMapper;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.service.IDeviceService;
 import smarthome.service.impl.DeviceServiceImpl;
+import smarthome.utils.KeysetCursor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -238,12 +243,14 @@ class DeviceRESTControllerTest {
         sensorModel2 = sensorModelFactory.createSensorModel(sensorModelName2, sensorTypeId2);
         when(mockSensorModelRepo.findByIdentity(sensorModel1.getIdentity())).thenReturn(Optional.of(sensorModel1));
         when(mockSensorModelRepo.findByIdentity(sensorModel2.getIdentity())).thenReturn(Optional.of(sensorModel2));
+        when(mockSensorModelRepo.findAll()).thenReturn(List.of(sensorModel1, sensorModel2));
 
         // Initialize Device Controller's dependencies
         deviceMapper = new DeviceMapper();
         deviceTypeMapper = new DeviceTypeMapper();
-        deviceService = new DeviceServiceImpl(mockRoomRepo, deviceFactory, mockDeviceRepo,
-                mockSensorTypeRepo, mockSensorModelRepo, mockSensorRepo, mockDeviceTypeRepo);
+        deviceService = new DeviceServiceImpl(mockRoomRepo, deviceFactory, mockDeviceRepo, mockDeviceTypeRepo,
+                new DeviceFunctionalityRepositoryMemImpl(mockSensorRepo, mockSensorModelRepo,
+                        mockSensorTypeRepo, mockDeviceRepo));
 
         // Initialize Device Controller
         deviceRESTController = new DeviceRESTController(deviceService, deviceMapper, deviceTypeMapper);
@@ -1544,4 +1551,44 @@ class DeviceRESTControllerTest {
         assertEquals(expected, resultStatusCode, "The status code should be 400");
     }
 
+    /**
+     * This test case verifies that getDevices with a limit returns a page of devices with a next link holding the
+     * cursor of the last device of the page, and that the last page has no next link.
+     */
+    @Test
+    void testGetDevicesWithLimitReturnsPagesLinkedByNextCursor() {
+        // Arrange
+        DeviceId deviceId1 = device1.getIdentity();
+        DeviceId deviceId2 = device2.getIdentity();
+        when(mockDeviceRepo.findDeviceIds(null, 1)).thenReturn(new KeysetPage<>(List.of(deviceId1), true));
+        when(mockDeviceRepo.findDeviceIds(deviceId1, 1)).thenReturn(new KeysetPage<>(List.of(deviceId2), false));
+        String cursor = KeysetCursor.encode(deviceId1.getIdentity());
+
+        // Act
+        ResponseEntity<CollectionModel<DeviceIdDTO>> firstPage = deviceRESTController.getDevices(1, null);
+        ResponseEntity<CollectionModel<DeviceIdDTO>> lastPage = deviceRESTController.getDevices(1, cursor);
+
+        // Assert
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(deviceId1.getIdentity(), firstPage.getBody().getContent().iterator().next().getDeviceId());
+        assertTrue(firstPage.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref().endsWith("after=" + cursor));
+        assertEquals(deviceId2.getIdentity(), lastPage.getBody().getContent().iterator().next().getDeviceId());
+        assertFalse(lastPage.getBody().getLink(IanaLinkRelations.NEXT).isPresent());
+    }
+
+    /**
+     * This test case verifies that getDevices with a limit returns a bad request for a limit out of range or a
+     * cursor that cannot be decoded.
+     */
+    @Test
+    void testGetDevicesWithInvalidLimitOrCursorReturnsBadRequest() {
+        // Act
+        ResponseEntity<CollectionModel<DeviceIdDTO>> invalidLimit =
+                deviceRESTController.getDevices(KeysetPage.MAX_LIMIT + 1, null);
+        ResponseEntity<CollectionModel<DeviceIdDTO>> invalidCursor = deviceRESTController.getDevices(1, "%");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, invalidLimit.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalidCursor.getStatusCode());
+    }
 }
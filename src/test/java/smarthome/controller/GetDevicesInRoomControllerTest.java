@@ -30,6 +30,7 @@ import smarthome.mapper.DeviceDTO;
 import smarthome.mapper.RoomDTO;
 import smarthome.mapper.mapper.DeviceMapper;
 import smarthome.mapper.mapper.RoomMapper;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.service.IDeviceService;
 import smarthome.service.impl.DeviceServiceImpl;
 
@@ -127,7 +128,9 @@ class GetDevicesInRoomControllerTest {
 
         // Initialize GetDevicesInRoomController and DeviceServiceImpl
         deviceService = new DeviceServiceImpl(mockRoomRepository, deviceFactory, mockDeviceRepository,
-                mockSensorTypeRepository, mockSensorModelRepository, mockSensorRepository, mockDeviceTypeRepository);
+                mockDeviceTypeRepository,
+                new DeviceFunctionalityRepositoryMemImpl(mockSensorRepository, mockSensorModelRepository,
+                        mockSensorTypeRepository, mockDeviceRepository));
         getDevicesInRoomController = new GetDevicesInRoomController(deviceService, deviceMapper, roomMapper);
     }
 
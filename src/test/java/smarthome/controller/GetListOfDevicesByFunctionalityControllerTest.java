@@ -28,6 +28,7 @@ import smarthome.domain.sensortype.vo.SensorTypeName;
 import smarthome.domain.sensortype.vo.SensorTypeUnit;
 import smarthome.mapper.DeviceDTO;
 import smarthome.mapper.mapper.DeviceMapper;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.persistence.mem.DeviceRepositoryMemImpl;
 import smarthome.persistence.mem.RoomRepositoryMemImpl;
 import smarthome.persistence.mem.SensorModelRepositoryMemImpl;
@@ -133,8 +134,9 @@ class GetListOfDevicesByFunctionalityControllerTest {
         deviceMapper = new DeviceMapper();
 
         //Initializing the service
-        deviceService = new DeviceServiceImpl(roomRepository, deviceFactory, deviceRepository, sensorTypeRepository,
-                sensorModelRepository, sensorRepository, deviceTypeRepository);
+        deviceService = new DeviceServiceImpl(roomRepository, deviceFactory, deviceRepository, deviceTypeRepository,
+                new DeviceFunctionalityRepositoryMemImpl(sensorRepository, sensorModelRepository,
+                        sensorTypeRepository, deviceRepository));
 
         //Initializing the devices
         roomId = new RoomId("room1");
@@ -147,6 +149,7 @@ class GetListOfDevicesByFunctionalityControllerTest {
         device2 = deviceFactory.createDevice(deviceName2, deviceType2, roomId2);
         when(deviceRepository.findByIdentity(device.getIdentity())).thenReturn(Optional.of(device));
         when(deviceRepository.findByIdentity(device2.getIdentity())).thenReturn(Optional.of(device2));
+        when(deviceRepository.findAll()).thenReturn(List.of(device, device2));
     }
 
     /**
@@ -376,6 +379,7 @@ class GetListOfDevicesByFunctionalityControllerTest {
         // Arrange
         Device device2 = deviceFactory.createDevice(deviceName2, deviceType, roomId);
         when(deviceRepository.findByIdentity(device2.getIdentity())).thenReturn(Optional.of(device2));
+        when(deviceRepository.findAll()).thenReturn(List.of(device, device2));
         DeviceId deviceId = device.getIdentity();
         DeviceId deviceId3 = device2.getIdentity();
         SensorModel sensorModelTemperature = sensorModelRepository.findByIdentity(new SensorModelName(
@@ -25,14 +25,16 @@ import smarthome.mapper.PeriodDTO;
 import smarthome.mapper.ValueDTO;
 import smarthome.mapper.mapper.PeriodMapper;
 import smarthome.mapper.mapper.ValueMapper;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IReadingService;
+import smarthome.service.IReadingStreamService;
 import smarthome.service.impl.ReadingServiceImpl;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -73,13 +75,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         // Create a valid reading service, repository and factory
         readingFactory = new ReadingFactoryImpl();
         readingRepository = mock(IReadingRepository.class);
+        when(readingRepository.findReadingSeriesBySensorIdInAGivenPeriod(any(), any(), any())).thenCallRealMethod();
         sensorRepository = mock(ISensorRepository.class);
         deviceRepository = mock(IDeviceRepository.class);
         periodMapper = new PeriodMapper();
         valueMapper = new ValueMapper();
         String pathToDelta = "configTest.properties";
         String pathToModels = "configModels.properties";
-        readingService = new ReadingServiceImpl(readingRepository, sensorRepository, deviceRepository,pathToDelta,pathToModels);
+        readingService = new ReadingServiceImpl(readingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), sensorRepository, deviceRepository,new ReadingFactoryImpl(), pathToDelta,pathToModels, Clock.systemDefaultZone());
 
         // Create a valid controller
         controller = new GetMaxInstantaneousTempDifferenceController(
@@ -210,16 +213,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading reading2 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 20, 54)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(reading1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(readingRepository.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(readingRepository.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+                .thenReturn(Collections.singletonList(reading2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -248,16 +249,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         when(sensorRepository.findSensorsByDeviceIdAndSensorModelName(device2.getIdentity(), sensorModelName))
                 .thenReturn(Collections.singletonList(sensorTempDevice2));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(reading1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(readingRepository.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(readingRepository.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+                .thenReturn(Collections.singletonList(reading2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -282,16 +281,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading reading2 = readingFactory.createReading(new ReadingValue("20.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 20, 54)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(reading1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 0))))
-                .thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(readingRepository.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(readingRepository.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+                .thenReturn(Collections.singletonList(reading2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -321,18 +318,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB2 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 20, 4)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Arrays.asList(readingA1.getIdentity(), readingA2.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Arrays.asList(readingA1, readingA2));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Arrays.asList(readingB1.getIdentity(), readingB2.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingA2.getIdentity())).thenReturn(Optional.of(readingA2));
-        when(readingRepository.findByIdentity(readingB1.getIdentity())).thenReturn(Optional.of(readingB1));
-        when(readingRepository.findByIdentity(readingB2.getIdentity())).thenReturn(Optional.of(readingB2));
+                .thenReturn(Arrays.asList(readingB1, readingB2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -361,17 +354,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB2 = readingFactory.createReading(new ReadingValue("20.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 20, 4)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Arrays.asList(readingB1.getIdentity(), readingB2.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB1.getIdentity())).thenReturn(Optional.of(readingB1));
-        when(readingRepository.findByIdentity(readingB2.getIdentity())).thenReturn(Optional.of(readingB2));
+                .thenReturn(Arrays.asList(readingB1, readingB2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -397,16 +387,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB1 = readingFactory.createReading(new ReadingValue("15.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 20, 50)));
 
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Collections.singletonList(readingB1.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB1.getIdentity())).thenReturn(Optional.of(readingB1));
+                .thenReturn(Collections.singletonList(readingB1));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -431,16 +419,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB2 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 10)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 30))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 30))))
-                .thenReturn(Collections.singletonList(readingB2.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB2.getIdentity())).thenReturn(Optional.of(readingB2));
+                .thenReturn(Collections.singletonList(readingB2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -464,16 +450,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB2 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 59)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 30))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 0, 30))))
-                .thenReturn(Collections.singletonList(readingB2.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB2.getIdentity())).thenReturn(Optional.of(readingB2));
+                .thenReturn(Collections.singletonList(readingB2));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -497,16 +481,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB1 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 1, 0)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 6, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 1, 0))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 6, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 1, 0))))
-                .thenReturn(Collections.singletonList(readingB1.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB1.getIdentity())).thenReturn(Optional.of(readingB1));
+                .thenReturn(Collections.singletonList(readingB1));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -530,14 +512,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB1 = readingFactory.createReading(new ReadingValue("10.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 1, 1)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 1, 0))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 1, 0))))
-                .thenReturn(Collections.singletonList(readingB1.getIdentity()));
+                .thenReturn(Collections.singletonList(readingB1));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -628,15 +610,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingA1 = readingFactory.createReading(new ReadingValue("20.0"), sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 5)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 30))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 30))))
                 .thenReturn(List.of());
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -656,11 +637,11 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         // Arrange
         validPeriodDTO = new PeriodDTO("2023-02-10T07:00:00", "2023-02-10T09:00:00");
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 2, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 2, 10, 9, 0, 0))))
                 .thenReturn(List.of());
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 2, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 2, 10, 9, 0, 0))))
                 .thenReturn(List.of());
@@ -688,16 +669,14 @@ class GetMaxInstantaneousTempDifferenceControllerTest {
         Reading readingB1 = readingFactory.createReading(new ReadingValue("15.0"), sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 8, 20, 50)));
         // Mock the readingRepository
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice1.getIdentity(),
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice1.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Collections.singletonList(readingA1.getIdentity()));
-        when(readingRepository.findReadingIdsBySensorIdInAGivenPeriod (sensorTempDevice2.getIdentity(),
+                .thenReturn(Collections.singletonList(readingA1));
+        when(readingRepository.findReadingsBySensorIdInAGivenPeriod(sensorTempDevice2.getIdentity(),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0, 0)),
                 new TimeStamp(LocalDateTime.of(2023, 1, 10, 9, 0, 0))))
-                .thenReturn(Collections.singletonList(readingB1.getIdentity()));
-        when(readingRepository.findByIdentity(readingA1.getIdentity())).thenReturn(Optional.of(readingA1));
-        when(readingRepository.findByIdentity(readingB1.getIdentity())).thenReturn(Optional.of(readingB1));
+                .thenReturn(Collections.singletonList(readingB1));
 
         // Act
         ValueDTO result = controller.getMaxTemperatureDifference(deviceId1, deviceID2, validPeriodDTO);
@@ -30,9 +30,12 @@ import smarthome.mapper.ReadingDTO;
 import smarthome.mapper.mapper.DeviceMapper;
 import smarthome.mapper.mapper.PeriodMapper;
 import smarthome.mapper.mapper.ReadingMapper;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IReadingService;
+import smarthome.service.IReadingStreamService;
 import smarthome.service.impl.ReadingServiceImpl;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
@@ -81,7 +84,7 @@ class GetReadingsFromDeviceControllerTest {
         ReadingMapper readingMapper = new ReadingMapper();
         String filePathName = "configDelta.properties";
         String filePathModels = "configModels.properties";
-        readingService = new ReadingServiceImpl(readingRepository, sensorRepository, deviceRepository,filePathName,filePathModels);
+        readingService = new ReadingServiceImpl(readingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), sensorRepository, deviceRepository,new ReadingFactoryImpl(), filePathName,filePathModels, Clock.systemDefaultZone());
         getReadingsFromDeviceController = new GetReadingsFromDeviceController(readingService, readingMapper,
                 periodMapper, deviceMapper);
 
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -13,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.House;
 import smarthome.domain.house.HouseFactory;
 import smarthome.domain.house.HouseFactoryImpl;
@@ -34,6 +37,7 @@ import smarthome.mapper.mapper.HouseMapper;
 import smarthome.service.IHouseService;
 import smarthome.service.impl.HouseServiceImpl;
 import smarthome.utils.AvailableCountries;
+import smarthome.utils.KeysetCursor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +45,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -1172,6 +1177,31 @@ class HouseRESTControllerTest {
         assertEquals(expectedSize, resultSize);
     }
 
+    /**
+     * Test if the controller returns a page of house ids with a next link that holds the cursor of the last house id
+     * of the page, and a page with no next link after it.
+     */
+    @Test
+    void testGetHousesWithLimitReturnsPagesLinkedByNextCursor() {
+        // Arrange
+        HouseName houseId2 = new HouseName("House2");
+        when(houseRepositoryDouble.findHouseIds(null, 1)).thenReturn(new KeysetPage<>(List.of(houseId), true));
+        when(houseRepositoryDouble.findHouseIds(houseId, 1)).thenReturn(new KeysetPage<>(List.of(houseId2), false));
+        String cursor = KeysetCursor.encode(houseId.getName());
+
+        // Act
+        ResponseEntity<CollectionModel<HouseIdDTO>> firstPage = houseRESTController.getHouses(1, null);
+        ResponseEntity<CollectionModel<HouseIdDTO>> lastPage = houseRESTController.getHouses(1, cursor);
+
+        // Assert
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertTrue(Objects.requireNonNull(firstPage.getBody()).getRequiredLink(IanaLinkRelations.NEXT).getHref()
+                .endsWith("after=" + cursor));
+        assertEquals(houseId2.getName(),
+                Objects.requireNonNull(lastPage.getBody()).getContent().iterator().next().getHouseId());
+        assertFalse(lastPage.getBody().getLink(IanaLinkRelations.NEXT).isPresent());
+    }
+
     /**
      * Test if the controller correctly handles a GET request when there is more than one house
      * and returns HTTP status OK.
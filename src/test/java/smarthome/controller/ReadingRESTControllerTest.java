@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -15,6 +17,8 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
 import smarthome.domain.device.DeviceFactory;
 import smarthome.domain.device.DeviceFactoryImpl;
@@ -38,10 +42,18 @@ import smarthome.domain.sensormodel.vo.SensorModelName;
 import smarthome.mapper.*;
 import smarthome.mapper.mapper.ReadingMapper;
 import smarthome.mapper.mapper.ValueMapper;
+import smarthome.persistence.mem.ReadingRepositoryMemImpl;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IReadingService;
+import smarthome.service.IReadingStreamService;
 import smarthome.service.impl.ReadingServiceImpl;
+import smarthome.utils.KeysetCursor;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -54,7 +66,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -106,6 +122,8 @@ class ReadingRESTControllerTest {
         mockSensorRepository1 = mock(ISensorRepository.class);
         mockReadingRepository1 = mock(IReadingRepository.class);
         this.mockReadingRepository = mock(IReadingRepository.class);
+        when(mockReadingRepository1.findReadingSeriesBySensorIdInAGivenPeriod(any(), any(), any())).thenCallRealMethod();
+        when(mockReadingRepository.findReadingSeriesBySensorIdInAGivenPeriod(any(), any(), any())).thenCallRealMethod();
         mockDeviceRepository = mock(IDeviceRepository.class);
         // Initialize the mappers
         readingMapper = new ReadingMapper();
@@ -115,10 +133,10 @@ class ReadingRESTControllerTest {
         filePathName = "configDelta.properties";
         filePathModels = "configModels.properties";
         // Initialize the service
-        IReadingService readingService = new ReadingServiceImpl(mockReadingRepository, mockSensorRepository,
-                mockDeviceRepository, filePathName,filePathModels);
-        IReadingService readingService1 = new ReadingServiceImpl(mockReadingRepository1, mockSensorRepository1,
-                mockDeviceRepository, filePathName,filePathModels);
+        IReadingService readingService = new ReadingServiceImpl(mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository,
+                mockDeviceRepository, new ReadingFactoryImpl(), filePathName,filePathModels, Clock.systemDefaultZone());
+        IReadingService readingService1 = new ReadingServiceImpl(mockReadingRepository1, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository1,
+                mockDeviceRepository, new ReadingFactoryImpl(), filePathName,filePathModels, Clock.systemDefaultZone());
         // Initialize the controller
         valueMapper = new ValueMapper();
         readingRESTController = new ReadingRESTController(readingService, readingMapper, valueMapper);
@@ -525,6 +543,130 @@ class ReadingRESTControllerTest {
         assertEquals(expectedStatusCode, actualStatusCode, "The actual status code should be 422 UNPROCESSABLE_ENTITY");
     }
 
+    /**
+     * Test the getReadingsFromDeviceInAGivenPeriod endpoint with embed=true.
+     * This test asserts that the readings of the device are returned in full, each with its self link, instead of
+     * their ids, as the first page of at most KeysetPage.MAX_LIMIT readings read with the query over the sensors of
+     * the device.
+     */
+    @Test
+    void testGetEmbeddedReadingsFromDeviceInAGivenPeriodWithJsonRequestShouldReturnReadings() throws Exception {
+        // Arrange
+        String uri = uriReadingController + "/device/" + deviceIDValue;
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(List.of(sensor.getIdentity()), start, end,
+                null, null, KeysetPage.MAX_LIMIT)).thenReturn(new KeysetPage<>(List.of(reading), false));
+        ReadingDTO readingDTO = readingMapper.toReadingDTO(reading);
+        readingDTO.add(Link.of("http://localhost/readings/" + readingDTO.getId()));
+        String expectedReadings = objectMapper.writeValueAsString(CollectionModel.of(List.of(readingDTO)).getContent());
+        // Act
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(uri)
+                .param("startPeriod", startPeriod)
+                .param("endPeriod", endPeriod)
+                .param("embed", "true")).andReturn();
+        // Assert
+        assertEquals(200, result.getResponse().getStatus(), "The status code should be 200 OK");
+        assertTrue(result.getResponse().getContentAsString().contains(expectedReadings),
+                "The response body should hold the readings of the device");
+        verify(mockReadingRepository, never()).findReadingsBySensorIdInAGivenPeriod(any(), any(), any());
+    }
+
+    /**
+     * Test the getEmbeddedReadingsFromDeviceInAGivenPeriod method without a limit.
+     * This test asserts that, when the device has more readings than a page, the response has a next link that holds
+     * the cursor of its last reading.
+     */
+    @Test
+    void testGetEmbeddedReadingsFromDeviceInAGivenPeriodWithMoreReadingsThanAPageShouldReturnNextLink() {
+        // Arrange
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(List.of(sensor.getIdentity()), start, end,
+                null, null, KeysetPage.MAX_LIMIT)).thenReturn(new KeysetPage<>(List.of(reading), true));
+        String cursor = KeysetCursor.encode(reading.getTime().getValue().toString(), readingId.getId());
+        // Act
+        ResponseEntity<CollectionModel<ReadingDTO>> response =
+                readingRESTController.getEmbeddedReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod,
+                        endPeriod);
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        String next = response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref();
+        assertTrue(next.contains("limit=" + KeysetPage.MAX_LIMIT + "&after=" + cursor));
+        assertTrue(next.endsWith("embed=true"));
+    }
+
+    /**
+     * Test the getEmbeddedReadingsFromDeviceInAGivenPeriod method.
+     * This test asserts that the status is NOT_FOUND when the device has no readings in the period, and BAD_REQUEST
+     * when the period is invalid.
+     */
+    @Test
+    void testGetEmbeddedReadingsFromDeviceInAGivenPeriodShouldReturnNotFoundOrBadRequest() {
+        // Arrange
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(any(), any(), any(), any(), any(),
+                eq(KeysetPage.MAX_LIMIT))).thenReturn(new KeysetPage<>(List.of(), false));
+        // Act
+        ResponseEntity<CollectionModel<ReadingDTO>> noReadings =
+                readingRESTController.getEmbeddedReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod,
+                        endPeriod);
+        ResponseEntity<CollectionModel<ReadingDTO>> invalidPeriod =
+                readingRESTController.getEmbeddedReadingsFromDeviceInAGivenPeriod(deviceIDValue, endPeriod,
+                        startPeriod);
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, noReadings.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalidPeriod.getStatusCode());
+    }
+
+    /**
+     * Test the getReadingsFromDeviceInAGivenPeriod endpoint with a limit.
+     * This test asserts that a page of reading ids is returned with a next link that holds the cursor of its last
+     * reading, and that the next page is read after that reading.
+     */
+    @Test
+    void testGetReadingsFromDeviceInAGivenPeriodWithLimitShouldReturnPageWithNextLink() {
+        // Arrange
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(List.of(sensor.getIdentity()), start, end,
+                null, null, 1)).thenReturn(new KeysetPage<>(List.of(reading), true));
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(List.of(sensor.getIdentity()), start, end,
+                reading.getTime(), readingId, 1)).thenReturn(new KeysetPage<>(List.of(), false));
+        String cursor = KeysetCursor.encode(reading.getTime().getValue().toString(), readingId.getId());
+        // Act
+        ResponseEntity<CollectionModel<ReadingIdDTO>> firstPage =
+                readingRESTController.getReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, 1,
+                        null);
+        ResponseEntity<CollectionModel<ReadingIdDTO>> nextPage =
+                readingRESTController.getReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, 1,
+                        cursor);
+        // Assert
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(readingId.getId(), firstPage.getBody().getContent().iterator().next().getReadingId());
+        assertTrue(firstPage.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref()
+                .endsWith("after=" + cursor));
+        assertEquals(HttpStatus.NOT_FOUND, nextPage.getStatusCode());
+    }
+
+    /**
+     * Test the getReadingsFromDeviceInAGivenPeriod endpoint with a limit.
+     * This test asserts that the status is BAD_REQUEST when the limit is out of range, and UNPROCESSABLE_ENTITY when
+     * the cursor cannot be decoded.
+     */
+    @Test
+    void testGetReadingsFromDeviceInAGivenPeriodWithInvalidLimitOrCursorShouldReturnError() {
+        // Act
+        ResponseEntity<CollectionModel<ReadingIdDTO>> invalidLimit =
+                readingRESTController.getReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, 0,
+                        null);
+        ResponseEntity<CollectionModel<ReadingDTO>> invalidCursor =
+                readingRESTController.getEmbeddedReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod,
+                        endPeriod, 1, KeysetCursor.encode(readingId.getId()));
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, invalidLimit.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, invalidCursor.getStatusCode());
+    }
+
 
     // Test MVC
 
@@ -548,12 +690,10 @@ class ReadingRESTControllerTest {
                 eq(deviceId), any(SensorModelName.class))).thenReturn(List.of(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 eq(deviceId2), any(SensorModelName.class))).thenReturn((List.of(sensor2)));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         int expectedStatusCode = HttpStatus.OK.value();
         String uri = "/readings/device/" + deviceId.getIdentity() + "/max-temperature-difference/" + deviceId2.getIdentity();
@@ -589,12 +729,10 @@ class ReadingRESTControllerTest {
                 eq(deviceId), any(SensorModelName.class))).thenReturn(List.of(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 eq(deviceId2), any(SensorModelName.class))).thenReturn((List.of(sensor2)));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         ValueDTO expectedDTO = new ValueDTO("10.0");
         String jsonExpected = objectMapper.writeValueAsString(expectedDTO);
@@ -959,12 +1097,10 @@ class ReadingRESTControllerTest {
                 Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(
                 Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         ValueDTO differenceExpected = new ValueDTO("10.0");
 
@@ -998,12 +1134,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1036,12 +1170,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         ValueDTO differenceExpected = new ValueDTO("10.0");
 
@@ -1075,12 +1207,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1113,12 +1243,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         ValueDTO differenceExpected = new ValueDTO("0.0");
 
@@ -1152,12 +1280,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(
-                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(
+                sensor2.getIdentity(), startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1195,16 +1321,12 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1.getIdentity(),
-                reading2.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading3.getIdentity(),
-                reading4.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
-        when(mockReadingRepository1.findByIdentity(reading3.getIdentity())).thenReturn(Optional.of(reading3));
-        when(mockReadingRepository1.findByIdentity(reading4.getIdentity())).thenReturn(Optional.of(reading4));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1,
+                reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading3,
+                reading4));
 
         ValueDTO differenceExpected = new ValueDTO("20.0");
 
@@ -1242,16 +1364,12 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1.getIdentity(),
-                reading2.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading3.getIdentity(),
-                reading4.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
-        when(mockReadingRepository1.findByIdentity(reading3.getIdentity())).thenReturn(Optional.of(reading3));
-        when(mockReadingRepository1.findByIdentity(reading4.getIdentity())).thenReturn(Optional.of(reading4));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1,
+                reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading3,
+                reading4));
         int expectedStatusCode = 200;
 
         // Act
@@ -1284,14 +1402,11 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1.getIdentity(),
-                reading2.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading3.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
-        when(mockReadingRepository1.findByIdentity(reading3.getIdentity())).thenReturn(Optional.of(reading3));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1,
+                reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading3));
 
         ValueDTO differenceExpected = new ValueDTO("20.0");
 
@@ -1325,14 +1440,11 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1.getIdentity(),
-                reading2.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading3.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
-        when(mockReadingRepository1.findByIdentity(reading3.getIdentity())).thenReturn(Optional.of(reading3));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Arrays.asList(reading1,
+                reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading3));
         int expectedStatusCode = 200;
 
         // Act
@@ -1364,12 +1476,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         ValueDTO differenceExpected = new ValueDTO("10.0");
 
         // Act
@@ -1399,12 +1509,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1435,12 +1543,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         ValueDTO differenceExpected = new ValueDTO("10.0");
 
         // Act
@@ -1472,12 +1578,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1510,12 +1614,10 @@ class ReadingRESTControllerTest {
                 deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(
                 deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         ValueDTO differenceExpected = new ValueDTO("10.0");
 
         // Act
@@ -1545,12 +1647,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 200;
 
         // Act
@@ -1580,12 +1680,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
 
         // Act
         ResponseEntity<ValueDTO> result = readingRESTController1.getMaxTemperatureDifference(deviceIDValue,
@@ -1613,12 +1711,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
-        when(mockReadingRepository1.findByIdentity(reading2.getIdentity())).thenReturn(Optional.of(reading2));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading2));
         int expectedStatusCode = 400;
 
         // Act
@@ -1644,9 +1740,9 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
 
         // Act
@@ -1671,9 +1767,9 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
         int expectedStatusCode = 400;
 
@@ -1704,11 +1800,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
 
         // Act
         ResponseEntity<ValueDTO> result = readingRESTController1.getMaxTemperatureDifference(deviceIDValue,
@@ -1736,11 +1831,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
 
         // Act
         ResponseEntity<ValueDTO> result = readingRESTController1.getMaxTemperatureDifference(deviceIDValue,
@@ -1769,11 +1863,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
 
         // Act
         ResponseEntity<ValueDTO> result = readingRESTController1.getMaxTemperatureDifference(deviceIDValue,
@@ -1801,11 +1894,10 @@ class ReadingRESTControllerTest {
         // Repositories
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor2));
         when(mockSensorRepository1.findSensorsByDeviceIdAndSensorModelName(deviceId2, sensorModelNameTemp)).thenReturn(Collections.singletonList(sensor));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
-                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1.getIdentity()));
-        when(mockReadingRepository1.findReadingIdsBySensorIdInAGivenPeriod(sensor.getIdentity(),
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor2.getIdentity(),
+                startTimeS, endTimeS)).thenReturn(Collections.singletonList(reading1));
+        when(mockReadingRepository1.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(),
                 startTimeS, endTimeS)).thenReturn(Collections.emptyList());
-        when(mockReadingRepository1.findByIdentity(reading1.getIdentity())).thenReturn(Optional.of(reading1));
 
         // Act
         ResponseEntity<ValueDTO> result = readingRESTController1.getMaxTemperatureDifference(deviceIDValue,
@@ -2119,13 +2211,14 @@ class ReadingRESTControllerTest {
                 powerSourceSensorModelName)).thenReturn(List.of(powerSourceSensorId));
 
         IReadingRepository mockReadingRepository = mock(IReadingRepository.class);
+        when(mockReadingRepository.findReadingSeriesBySensorIdInAGivenPeriod(any(), any(), any())).thenCallRealMethod();
         LocalDateTime startTime = LocalDateTime.of(2024, 1, 1, 0, 0, 0);
         LocalDateTime time1 = LocalDateTime.of(2024, 1, 1, 0, 0, 59);
         LocalDateTime time2 = LocalDateTime.of(2024, 1, 1, 0, 1, 20);
         LocalDateTime endTime = LocalDateTime.of(2024, 1, 1, 0, 2, 0);
 
-        //TimeStamps for the interval
-        LocalDateTime midTime = LocalDateTime.of(2024, 1, 1, 0, 1, 0);
+        //TimeStamps for the requested period
+        LocalDateTime periodEnd = LocalDateTime.of(2024, 1, 1, 1, 0, 0);
 
         ReadingFactory readingFactory = new ReadingFactoryImpl();
         Reading powerConsReading1 = readingFactory.createReading(new ReadingId("reading1"), new ReadingValue("0"),
@@ -2136,9 +2229,7 @@ class ReadingRESTControllerTest {
                 powerConsumptionSensorId, new TimeStamp(time2));
 
         when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(powerConsumptionSensorId, new TimeStamp(startTime),
-                new TimeStamp(midTime))).thenReturn(List.of(powerConsReading1,powerConsReading2));
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(powerConsumptionSensorId, new TimeStamp(midTime),
-                new TimeStamp(endTime))).thenReturn(List.of(powerConsReading3));
+                new TimeStamp(periodEnd))).thenReturn(List.of(powerConsReading1,powerConsReading2,powerConsReading3));
 
         Reading powerSourceReading1 = readingFactory.createReading(new ReadingId("reading1"), new ReadingValue("100"),
                 powerSourceSensorId, new TimeStamp(time1));
@@ -2148,12 +2239,10 @@ class ReadingRESTControllerTest {
                 powerSourceSensorId, new TimeStamp(endTime));
 
         when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(powerSourceSensorId, new TimeStamp(startTime),
-                new TimeStamp(midTime))).thenReturn(List.of(powerSourceReading1));
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(powerSourceSensorId, new TimeStamp(midTime),
-                new TimeStamp(endTime))).thenReturn(List.of(powerSourceReading2,powerSourceReading3));
+                new TimeStamp(periodEnd))).thenReturn(List.of(powerSourceReading1,powerSourceReading2,powerSourceReading3));
 
-        IReadingService readingService = new ReadingServiceImpl(mockReadingRepository, mockSensorRepositoryPeakPower,
-                mockDeviceRepositoryPeakPower, filePathName,filePathModels );
+        IReadingService readingService = new ReadingServiceImpl(mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepositoryPeakPower,
+                mockDeviceRepositoryPeakPower, new ReadingFactoryImpl(), filePathName,filePathModels, Clock.systemDefaultZone() );
 
         ReadingRESTController controller = new ReadingRESTController(readingService, readingMapper, valueMapper);
         MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
@@ -2169,4 +2258,267 @@ class ReadingRESTControllerTest {
     }
 
 
-}
\ No newline at end of file
+
+    /**
+     * This test verifies that adding a batch of readings of existing sensors returns 201 (CREATED) with the ids of
+     * the added readings, validating the sensors and saving the readings in a single call each.
+     */
+    @Test
+    void testAddReadingsShouldReturnCreatedWithReadingIds() throws Exception {
+        // Arrange
+        MockMvc batchMockMvc = MockMvcBuilders.standaloneSetup(readingRESTController1).build();
+        String body = "[{\"sensorId\":\"sensorId\",\"readingValue\":\"21.5\",\"timestamp\":\"2024-04-24T09:00:00\"},"
+                + "{\"sensorId\":\"sensorId2\",\"readingValue\":\"on\",\"timestamp\":\"2024-04-24T09:01:00\"}]";
+        when(mockSensorRepository1.containsAllIdentities(any())).thenReturn(true);
+
+        // Act + Assert
+        batchMockMvc.perform(MockMvcRequestBuilders.post(uriReadingController + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2));
+        verify(mockSensorRepository1, times(1)).containsAllIdentities(any());
+        verify(mockReadingRepository1, times(1)).saveAll(any());
+    }
+
+    /**
+     * This test verifies that adding a batch with a reading of an unknown sensor returns 422 (UNPROCESSABLE_ENTITY)
+     * and saves nothing.
+     */
+    @Test
+    void testAddReadingsWithUnknownSensorShouldReturnUnprocessableEntity() throws Exception {
+        // Arrange
+        MockMvc batchMockMvc = MockMvcBuilders.standaloneSetup(readingRESTController1).build();
+        String body = "[{\"sensorId\":\"unknown\",\"readingValue\":\"21.5\",\"timestamp\":\"2024-04-24T09:00:00\"}]";
+        when(mockSensorRepository1.containsAllIdentities(any())).thenReturn(false);
+
+        // Act + Assert
+        batchMockMvc.perform(MockMvcRequestBuilders.post(uriReadingController + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isUnprocessableEntity());
+        verify(mockReadingRepository1, times(0)).saveAll(any());
+    }
+
+    /**
+     * This test verifies that adding a batch with a malformed timestamp returns 400 (BAD_REQUEST).
+     */
+    @Test
+    void testAddReadingsWithMalformedTimestampShouldReturnBadRequest() throws Exception {
+        // Arrange
+        MockMvc batchMockMvc = MockMvcBuilders.standaloneSetup(readingRESTController1).build();
+        String body = "[{\"sensorId\":\"sensorId\",\"readingValue\":\"21.5\",\"timestamp\":\"yesterday\"}]";
+
+        // Act + Assert
+        batchMockMvc.perform(MockMvcRequestBuilders.post(uriReadingController + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+        verify(mockSensorRepository1, times(0)).containsAllIdentities(any());
+    }
+
+    /**
+     * This test verifies that adding a batch of more than the largest number of readings returns 413
+     * (PAYLOAD_TOO_LARGE) and saves nothing.
+     */
+    @Test
+    void testAddReadingsWithTooManyReadingsShouldReturnPayloadTooLarge() {
+        // Arrange
+        List<ReadingDTO> tooMany = new ArrayList<>();
+        for (int i = 0; i <= ReadingRESTController.MAX_BATCH_READINGS; i++) {
+            tooMany.add(new ReadingDTO(null, "sensorId", "21.5", "2024-04-24T09:00:00"));
+        }
+
+        // Act
+        ResponseEntity<List<ReadingIdDTO>> result = readingRESTController1.addReadings(tooMany);
+
+        // Assert
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, result.getStatusCode());
+        verify(mockSensorRepository1, times(0)).containsAllIdentities(any());
+        verify(mockReadingRepository1, times(0)).saveAll(any());
+    }
+
+    /**
+     * This test verifies that exporting the readings of a device as NDJSON writes one JSON object per reading,
+     * each on its own line.
+     */
+    @Test
+    void testExportReadingsFromDeviceAsNdjsonShouldWriteOneLinePerReading() throws Exception {
+        // Arrange
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        doCallRealMethod().when(mockReadingRepository)
+                .forEachReadingBySensorIdInAGivenPeriod(any(), any(), any(), any());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(), start, end))
+                .thenReturn(List.of(reading));
+        String expected = "{\"id\":\"readingId\",\"sensorId\":\"sensorId\",\"readingValue\":\"value\","
+                + "\"timestamp\":\"2024-04-24T09:37\"}\n";
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = readingRESTController
+                .exportReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, "ndjson");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Objects.requireNonNull(response.getBody()).writeTo(outputStream);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This test verifies that exporting the readings of a device as CSV writes a header line and one line per
+     * reading, quoting the values that hold a separator.
+     */
+    @Test
+    void testExportReadingsFromDeviceAsCsvShouldWriteHeaderAndQuotedValues() throws Exception {
+        // Arrange
+        TimeStamp start = new TimeStamp(LocalDateTime.parse(startPeriod));
+        TimeStamp end = new TimeStamp(LocalDateTime.parse(endPeriod));
+        Reading windReading = readingFactory.createReading(new ReadingId("wind"), new ReadingValue("10,N"),
+                sensor.getIdentity(), new TimeStamp(LocalDateTime.of(2024, 4, 24, 10, 0, 0)));
+        doCallRealMethod().when(mockReadingRepository)
+                .forEachReadingBySensorIdInAGivenPeriod(any(), any(), any(), any());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensor.getIdentity(), start, end))
+                .thenReturn(List.of(reading, windReading));
+        String expected = "id,sensorId,readingValue,timestamp\n"
+                + "readingId,sensorId,value,2024-04-24T09:37\n"
+                + "wind,sensorId,\"10,N\",2024-04-24T10:00\n";
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = readingRESTController
+                .exportReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, "csv");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Objects.requireNonNull(response.getBody()).writeTo(outputStream);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expected, outputStream.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * This test verifies that exporting with an unknown format, an invalid date or an invalid period returns
+     * 400 (BAD_REQUEST).
+     */
+    @Test
+    void testExportReadingsFromDeviceWithInvalidParametersShouldReturnBadRequest() {
+        // Act
+        ResponseEntity<StreamingResponseBody> unknownFormat = readingRESTController
+                .exportReadingsFromDeviceInAGivenPeriod(deviceIDValue, startPeriod, endPeriod, "xml");
+        ResponseEntity<StreamingResponseBody> invalidDate = readingRESTController
+                .exportReadingsFromDeviceInAGivenPeriod(deviceIDValue, "invalid", endPeriod, "csv");
+        ResponseEntity<StreamingResponseBody> invertedPeriod = readingRESTController
+                .exportReadingsFromDeviceInAGivenPeriod(deviceIDValue, endPeriod, startPeriod, "ndjson");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, unknownFormat.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalidDate.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invertedPeriod.getStatusCode());
+    }
+
+    /**
+     * This test verifies that the statistics of a sensor are read from the rollups kept up to date by the batch
+     * endpoint, one per bucket of the requested resolution.
+     */
+    @Test
+    void testGetReadingStatisticsOfSensorShouldReturnOneEntryPerBucket() throws Exception {
+        // Arrange
+        MockMvc statisticsMockMvc = MockMvcBuilders.standaloneSetup(readingRESTController1).build();
+        String body = "[{\"sensorId\":\"sensorId\",\"readingValue\":\"20\",\"timestamp\":\"2024-04-24T09:00:00\"},"
+                + "{\"sensorId\":\"sensorId\",\"readingValue\":\"24\",\"timestamp\":\"2024-04-24T09:30:00\"},"
+                + "{\"sensorId\":\"sensorId\",\"readingValue\":\"18\",\"timestamp\":\"2024-04-24T10:15:00\"}]";
+        when(mockSensorRepository1.containsAllIdentities(any())).thenReturn(true);
+        when(mockSensorRepository1.containsIdentity(any())).thenReturn(true);
+        statisticsMockMvc.perform(MockMvcRequestBuilders.post(uriReadingController + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        // Act + Assert
+        statisticsMockMvc.perform(MockMvcRequestBuilders.get(uriReadingController + "/sensor/sensorId/statistics")
+                        .param("startPeriod", "2024-04-24T00:00:00")
+                        .param("endPeriod", "2024-04-25T00:00:00")
+                        .param("resolution", "hour"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].bucketStart").value("2024-04-24T09:00"))
+                .andExpect(jsonPath("$[0].count").value(2))
+                .andExpect(jsonPath("$[0].min").value(20.0))
+                .andExpect(jsonPath("$[0].max").value(24.0))
+                .andExpect(jsonPath("$[0].average").value(22.0))
+                .andExpect(jsonPath("$[1].bucketStart").value("2024-04-24T10:00"));
+    }
+
+    /**
+     * This test verifies that the latest readings of some sensors are the newest readings saved by the batch
+     * endpoint, whatever their order, and that the sensors without readings are left out.
+     */
+    @Test
+    void testGetLatestReadingsShouldReturnTheNewestReadingOfEachSensor() throws Exception {
+        // Arrange
+        IReadingService readingService = new ReadingServiceImpl(new ReadingRepositoryMemImpl(),
+                new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository1,
+                mockDeviceRepository, new ReadingFactoryImpl(), filePathName, filePathModels,
+                Clock.systemDefaultZone());
+        MockMvc latestMockMvc = MockMvcBuilders.standaloneSetup(
+                new ReadingRESTController(readingService, readingMapper, valueMapper)).build();
+        String body = "[{\"sensorId\":\"thermometer\",\"readingValue\":\"21\",\"timestamp\":\"2024-04-24T10:00:00\"},"
+                + "{\"sensorId\":\"hygrometer\",\"readingValue\":\"60\",\"timestamp\":\"2024-04-24T09:00:00\"},"
+                + "{\"sensorId\":\"thermometer\",\"readingValue\":\"19\",\"timestamp\":\"2024-04-24T09:30:00\"}]";
+        when(mockSensorRepository1.containsAllIdentities(any())).thenReturn(true);
+        latestMockMvc.perform(MockMvcRequestBuilders.post(uriReadingController + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isCreated());
+
+        // Act + Assert
+        latestMockMvc.perform(MockMvcRequestBuilders.get(uriReadingController + "/latest")
+                        .param("sensorIds", "thermometer,silent,hygrometer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].sensorId").value("thermometer"))
+                .andExpect(jsonPath("$[0].readingValue").value("21.0"))
+                .andExpect(jsonPath("$[1].sensorId").value("hygrometer"));
+    }
+
+    /**
+     * This test verifies that asking for the latest readings of a blank sensor id or of too many sensors returns
+     * 400 (BAD_REQUEST).
+     */
+    @Test
+    void testGetLatestReadingsWithInvalidSensorIdsShouldReturnBadRequest() {
+        // Arrange
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= ReadingRESTController.MAX_LATEST_SENSORS; i++) {
+            tooMany.add("sensor" + i);
+        }
+
+        // Act
+        ResponseEntity<List<ReadingDTO>> blank = readingRESTController1.getLatestReadings(List.of("thermometer", " "));
+        ResponseEntity<List<ReadingDTO>> tooManySensors = readingRESTController1.getLatestReadings(tooMany);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, blank.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, tooManySensors.getStatusCode());
+    }
+
+    /**
+     * This test verifies that asking for the statistics of an unknown sensor returns 400 (BAD_REQUEST), and with an
+     * unknown resolution returns 422 (UNPROCESSABLE_ENTITY).
+     */
+    @Test
+    void testGetReadingStatisticsOfSensorWithInvalidParametersShouldReturnError() {
+        // Arrange
+        when(mockSensorRepository1.containsIdentity(any())).thenReturn(false);
+
+        // Act
+        ResponseEntity<List<ReadingStatisticsDTO>> unknownSensor = readingRESTController1
+                .getReadingStatisticsOfSensorInAGivenPeriod("unknown", startPeriod, endPeriod, "day");
+        ResponseEntity<List<ReadingStatisticsDTO>> unknownResolution = readingRESTController1
+                .getReadingStatisticsOfSensorInAGivenPeriod("sensorId", startPeriod, endPeriod, "week");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, unknownSensor.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, unknownResolution.getStatusCode());
+    }
+}
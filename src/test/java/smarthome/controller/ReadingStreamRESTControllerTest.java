@@ -0,0 +1,124 @@
+package smarthome.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.mapper.mapper.ReadingMapper;
+import smarthome.service.IReadingStreamService;
+import smarthome.service.IReadingStreamService.OverflowPolicy;
+import smarthome.service.ReadingStreamListener;
+import smarthome.service.ReadingSubscription;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * This class contains tests for the ReadingStreamRESTController class.
+ * It uses the mockito framework to mock the stream of readings.
+ */
+class ReadingStreamRESTControllerTest {
+
+    private IReadingStreamService readingStreamService;
+    private MockMvc mockMvc;
+
+    /**
+     * Sets up the controller over a mock stream of readings.
+     */
+    @BeforeEach
+    void setUp() {
+        readingStreamService = mock(IReadingStreamService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new ReadingStreamRESTController(readingStreamService, new ReadingMapper())).build();
+    }
+
+    /**
+     * Tests that the readings of a device are streamed as Server-Sent Events, and that the subscription is cancelled
+     * when the stream ends.
+     */
+    @Test
+    void testStreamReadingsOfDeviceSendsEachReadingAsAnEvent() throws Exception {
+        //Arrange
+        ReadingSubscription subscription = mock(ReadingSubscription.class);
+        ArgumentCaptor<ReadingStreamListener> listener = ArgumentCaptor.forClass(ReadingStreamListener.class);
+        when(readingStreamService.subscribe(eq(new DeviceId("device")), isNull(), eq(OverflowPolicy.DROP_OLDEST),
+                listener.capture())).thenReturn(subscription);
+        Reading reading = new ReadingFactoryImpl().createReading(new ReadingId("reading1"),
+                new NumericReadingValue(21.5), new SensorId("thermometer"),
+                new TimeStamp(LocalDateTime.of(2024, 1, 1, 12, 0)));
+
+        //Act
+        MvcResult result = mockMvc.perform(get("/readings/stream").param("deviceId", "device"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        listener.getValue().onReadings(List.of(reading));
+        listener.getValue().onClose();
+
+        //Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(startsWith("retry:3000\n\n")))
+                .andExpect(content().string(containsString("event:reading\nid:reading1\ndata:")))
+                .andExpect(content().string(containsString("\"sensorId\":\"thermometer\"")));
+        verify(subscription).cancel();
+    }
+
+    /**
+     * Tests that the overflow policy is read from the request.
+     */
+    @Test
+    void testStreamReadingsOfSensorWithOverflowPolicy() throws Exception {
+        //Arrange
+        when(readingStreamService.subscribe(isNull(), eq(new SensorId("thermometer")), eq(OverflowPolicy.DISCONNECT),
+                any())).thenReturn(mock(ReadingSubscription.class));
+
+        //Act + Assert
+        mockMvc.perform(get("/readings/stream").param("sensorId", "thermometer").param("overflow", "disconnect"))
+                .andExpect(request().asyncStarted());
+    }
+
+    /**
+     * Tests that an unknown overflow policy is a bad request.
+     */
+    @Test
+    void testStreamReadingsWithUnknownOverflowPolicyIsBadRequest() throws Exception {
+        //Act + Assert
+        mockMvc.perform(get("/readings/stream").param("deviceId", "device").param("overflow", "block"))
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Tests that a stream of readings the service does not subscribe to is not found.
+     */
+    @Test
+    void testStreamReadingsOfUnknownDeviceIsNotFound() throws Exception {
+        //Act + Assert
+        mockMvc.perform(get("/readings/stream").param("deviceId", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+}
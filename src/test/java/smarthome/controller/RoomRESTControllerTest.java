@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.house.vo.HouseName;
 import smarthome.domain.repository.IHouseRepository;
 import smarthome.domain.repository.IRoomRepository;
@@ -32,6 +33,7 @@ import smarthome.mapper.RoomDTO;
 import smarthome.mapper.mapper.RoomMapper;
 import smarthome.service.IRoomService;
 import smarthome.service.impl.RoomServiceImpl;
+import smarthome.utils.KeysetCursor;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -690,6 +692,36 @@ class RoomRESTControllerTest {
 
     }
 
+    /**
+     * Test to check when a valid http get request with a limit is sent to the /rooms uri, the response content is
+     * a page of rooms with a next link that holds the cursor of the last room of the page.
+     */
+    @Test
+    void testGetRoomsWithLimitReturnsPageWithNextLink() throws Exception {
+        //Arrange
+        RoomId roomId = new RoomId("room1");
+        when(mockRoomRepository.findRoomIds(null, 1)).thenReturn(new KeysetPage<>(List.of(roomId), true));
+        String cursor = KeysetCursor.encode(roomId.getRoomId());
+
+        //Act + Assert
+        mvc.perform(MockMvcRequestBuilders.get(uri).param("limit", "1").accept("application/hal+json"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.content[0].roomId").value(roomId.getRoomId()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.links[?(@.rel == 'next')].href")
+                        .value("http://localhost/rooms?limit=1&after=" + cursor));
+    }
+
+    /**
+     * Test to check when an http get request with a limit out of range is sent to the /rooms uri, the response
+     * http status code is 400.
+     */
+    @Test
+    void testGetRoomsWithInvalidLimitHttpStatusCode400() throws Exception {
+        //Act + Assert
+        mvc.perform(MockMvcRequestBuilders.get(uri).param("limit", "0").accept("application/hal+json"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     /**
      * Test to check when a valid http get request is sent to the /rooms/house/{houseId} uri,
      * the response http status code is 200.
@@ -3,6 +3,7 @@ package smarthome.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -33,6 +34,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -614,4 +617,48 @@ class SensorRESTControllerTest {
         String actual = result.getResponse().getContentAsString();
         assertEquals(expected, actual, "The response body should match the expected SensorIdDTO list");
     }
-}
\ No newline at end of file
+
+    /**
+     * This test verifies that the getSensorByDeviceIdentity endpoint with embed=true returns an OK (200) status and
+     * the full sensors of the device, each with its self link, read with a single repository query.
+     */
+    @Test
+    void testGetEmbeddedSensorsByDeviceIdentityWithMockMvcReturnsSensorsWhenDeviceIdIsValid() throws Exception {
+        //Arrange
+        String deviceId = "deviceId";
+        DeviceId deviceIdentity = new DeviceId(deviceId);
+        uri += "/device/" + deviceId + "?embed=true";
+        when(deviceRepository.containsIdentity(deviceIdentity)).thenReturn(true);
+        when(sensorRepository.findSensorsByDeviceId(deviceIdentity)).thenReturn(List.of(sensor));
+        SensorDTO sensorDTO = sensorMapper.toSensorDTO(sensor);
+        sensorDTO.add(Link.of("http://localhost/sensors/" + sensorDTO.getSensorId()).withSelfRel());
+        //Act
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get(uri)).andReturn();
+        //Assert
+        assertEquals(HttpStatus.OK.value(), result.getResponse().getStatus(), "The status code should be 200");
+        String expected = objectMapper.writeValueAsString(CollectionModel.of(List.of(sensorDTO)));
+        assertEquals(expected, result.getResponse().getContentAsString(),
+                "The response body should hold the SensorDTO of the sensor");
+        verify(sensorRepository, never()).findSensorIdsByDeviceId(deviceIdentity);
+    }
+
+    /**
+     * This test verifies that the getSensorByDeviceIdentity endpoint with embed=true returns a NOT_FOUND (404)
+     * status when the device has no sensors, and a BAD_REQUEST (400) status when the device does not exist.
+     */
+    @Test
+    void testGetEmbeddedSensorsByDeviceIdentityReturnsNotFoundOrBadRequest() {
+        //Arrange
+        DeviceId emptyDevice = new DeviceId("emptyDevice");
+        when(deviceRepository.containsIdentity(emptyDevice)).thenReturn(true);
+        when(sensorRepository.findSensorsByDeviceId(emptyDevice)).thenReturn(List.of());
+        //Act
+        ResponseEntity<CollectionModel<SensorDTO>> empty =
+                sensorRESTController.getEmbeddedSensorsByDeviceIdentity("emptyDevice");
+        ResponseEntity<CollectionModel<SensorDTO>> unknown =
+                sensorRESTController.getEmbeddedSensorsByDeviceIdentity("unknownDevice");
+        //Assert
+        assertEquals(HttpStatus.NOT_FOUND, empty.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, unknown.getStatusCode());
+    }
+}
@@ -0,0 +1,128 @@
+package smarthome.domain.reading;
+
+import org.junit.jupiter.api.Test;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains tests for the ReadingChunkPolicy class.
+ */
+class ReadingChunkPolicyTest {
+
+    private static final long SECOND = ReadingSeries.NANOS_PER_SECOND;
+
+    private final SensorId sensorId = new SensorId("sensor1");
+    private final ReadingChunkPolicy policy = new ReadingChunkPolicy(3, Duration.ofMinutes(1));
+
+    /**
+     * Builds a series with a sample at each of the given seconds, valued as the second.
+     */
+    private static ReadingSeries seriesAt(long... seconds) {
+        ReadingSeries series = new ReadingSeries();
+        for (long second : seconds) {
+            series.add(second * SECOND, second);
+        }
+        return series;
+    }
+
+    /**
+     * Tests that a chunk is sealed once it holds the largest number of samples.
+     */
+    @Test
+    void testAppendSealsChunkAtMaxPoints() {
+        //Act
+        List<ReadingChunk> result = policy.append(null, sensorId, seriesAt(0, 1, 2, 3));
+
+        //Assert
+        assertEquals(2, result.size());
+        assertEquals(0, result.get(0).getSequence());
+        assertEquals(3, result.get(0).getSize());
+        assertEquals(1, result.get(1).getSequence());
+        assertEquals(3 * SECOND, result.get(1).getFirstEpochNanos());
+    }
+
+    /**
+     * Tests that a chunk is sealed at the end of its window.
+     */
+    @Test
+    void testAppendSealsChunkAtEndOfWindow() {
+        //Act
+        List<ReadingChunk> result = policy.append(null, sensorId, seriesAt(58, 59, 60));
+
+        //Assert
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(0).getSize());
+        assertEquals(60 * SECOND, result.get(1).getFirstEpochNanos());
+    }
+
+    /**
+     * Tests that samples are appended to the last chunk, which is returned with its number and every sample.
+     */
+    @Test
+    void testAppendAddsToLastChunk() {
+        //Arrange
+        ReadingChunk last = policy.append(null, sensorId, seriesAt(10)).get(0);
+
+        //Act
+        List<ReadingChunk> result = policy.append(last, sensorId, seriesAt(12, 11));
+
+        //Assert
+        assertEquals(1, result.size());
+        assertEquals(0, result.get(0).getSequence());
+        ReadingSeries samples = result.get(0).decode();
+        assertEquals(3, samples.size());
+        assertEquals(11.0, samples.valueAt(1));
+    }
+
+    /**
+     * Tests that a reading older than the last chunk starts a new chunk, and that the sealed last chunk is not
+     * returned again.
+     */
+    @Test
+    void testAppendLateReadingStartsNewChunk() {
+        //Arrange
+        ReadingChunk last = policy.append(null, sensorId, seriesAt(10, 20)).get(0);
+
+        //Act
+        List<ReadingChunk> result = policy.append(last, sensorId, seriesAt(15));
+
+        //Assert
+        assertEquals(1, result.size());
+        assertEquals(1, result.get(0).getSequence());
+        assertEquals(15 * SECOND, result.get(0).getFirstEpochNanos());
+    }
+
+    /**
+     * Tests that appending no samples changes no chunk.
+     */
+    @Test
+    void testAppendNoSamplesReturnsNoChunks() {
+        //Arrange
+        ReadingChunk last = policy.append(null, sensorId, seriesAt(10)).get(0);
+
+        //Act + Assert
+        assertTrue(policy.append(last, sensorId, new ReadingSeries()).isEmpty());
+    }
+
+    /**
+     * Tests that invalid arguments throw an exception.
+     */
+    @Test
+    void testInvalidArgumentsThrowException() {
+        //Arrange
+        ReadingChunk other = policy.append(null, new SensorId("sensor2"), seriesAt(10)).get(0);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunkPolicy(0, Duration.ofHours(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunkPolicy(10, Duration.ofMillis(10)));
+        assertThrows(IllegalArgumentException.class, () -> policy.append(null, null, seriesAt(10)));
+        assertThrows(IllegalArgumentException.class, () -> policy.append(null, sensorId, null));
+        assertThrows(IllegalArgumentException.class, () -> policy.append(other, sensorId, seriesAt(10)));
+    }
+}
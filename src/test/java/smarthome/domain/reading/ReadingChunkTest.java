@@ -0,0 +1,268 @@
+package smarthome.domain.reading;
+
+import org.junit.jupiter.api.Test;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains tests for the ReadingChunk class.
+ */
+class ReadingChunkTest {
+
+    private final SensorId sensorId = new SensorId("sensor1");
+    private final long start = ReadingSeries.toEpochNanos(LocalDateTime.of(2024, 4, 27, 10, 0, 0));
+
+    /**
+     * Asserts that two series hold the same samples, comparing the values bit for bit.
+     */
+    private static void assertSameSamples(ReadingSeries expected, ReadingSeries actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.epochNanosAt(i), actual.epochNanosAt(i));
+            assertEquals(Double.doubleToRawLongBits(expected.valueAt(i)), Double.doubleToRawLongBits(actual.valueAt(i)));
+        }
+    }
+
+    /**
+     * Tests that readings taken every minute with slowly changing values decode to the same samples, in a few bytes
+     * per sample.
+     */
+    @Test
+    void testRegularSeriesRoundTripsCompactly() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        for (int i = 0; i < 60; i++) {
+            samples.add(start + i * 60 * ReadingSeries.NANOS_PER_SECOND, 20.0 + (i / 10) * 0.5);
+        }
+
+        //Act
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 0, samples);
+
+        //Assert
+        assertSameSamples(samples, chunk.decode());
+        assertEquals(60, chunk.getSize());
+        assertEquals(start, chunk.getFirstEpochNanos());
+        assertEquals(start + 59 * 60 * ReadingSeries.NANOS_PER_SECOND, chunk.getLastEpochNanos());
+        assertTrue(chunk.getDataLength() < 60 * 2);
+    }
+
+    /**
+     * Tests that irregular timestamps, at nanosecond precision, and arbitrary values decode to the same samples.
+     */
+    @Test
+    void testIrregularSeriesRoundTrips() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        long time = start + 123_456_789L;
+        double value = Math.PI;
+        for (int i = 0; i < 200; i++) {
+            time += (i % 7) * 1_000_003L + (i % 3 == 0 ? 5_000_000_000L : 1L);
+            value = -value * 1.5 + i;
+            samples.add(time, value);
+        }
+        samples.add(time, Double.NaN);
+        samples.add(time + 1, Double.NEGATIVE_INFINITY);
+        samples.add(time + Long.MAX_VALUE / 4, 0.0);
+
+        //Act
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 3, samples);
+
+        //Assert
+        assertSameSamples(samples, chunk.decode());
+        assertEquals(3, chunk.getSequence());
+    }
+
+    /**
+     * Tests that a single sample decodes to itself.
+     */
+    @Test
+    void testSingleSampleRoundTrips() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        samples.add(start, 1.5);
+
+        //Act
+        ReadingSeries result = ReadingChunk.encode(sensorId, 0, samples).decode();
+
+        //Assert
+        assertSameSamples(samples, result);
+    }
+
+    /**
+     * Tests that decoding into a series appends only the samples in the period, both ends included.
+     */
+    @Test
+    void testDecodeIntoAppendsOnlySamplesInPeriod() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        for (int i = 0; i < 10; i++) {
+            samples.add(start + i * ReadingSeries.NANOS_PER_SECOND, i);
+        }
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 0, samples);
+        ReadingSeries series = new ReadingSeries();
+        series.add(0L, -1.0);
+
+        //Act
+        chunk.decodeInto(series, start + 3 * ReadingSeries.NANOS_PER_SECOND, start + 5 * ReadingSeries.NANOS_PER_SECOND);
+
+        //Assert
+        assertEquals(4, series.size());
+        assertEquals(-1.0, series.valueAt(0));
+        assertEquals(3.0, series.valueAt(1));
+        assertEquals(5.0, series.valueAt(3));
+    }
+
+    /**
+     * Tests that a chunk overlaps only the periods that share a time with its span.
+     */
+    @Test
+    void testOverlaps() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        samples.add(start, 1.0);
+        samples.add(start + 10, 2.0);
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 0, samples);
+
+        //Act + Assert
+        assertTrue(chunk.overlaps(start + 10, start + 20));
+        assertTrue(chunk.overlaps(start - 10, start));
+        assertFalse(chunk.overlaps(start + 11, start + 20));
+        assertFalse(chunk.overlaps(start - 10, start - 1));
+    }
+
+    /**
+     * Tests that a chunk built from its encoded samples equals the encoded chunk, and does not share its data.
+     */
+    @Test
+    void testConstructorCopiesData() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        samples.add(start, 1.0);
+        samples.add(start + 10, 2.0);
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 0, samples);
+        byte[] data = chunk.getData();
+
+        //Act
+        ReadingChunk copy = new ReadingChunk(sensorId, 0, 2, start, start + 10, data);
+        data[0] = (byte) ~data[0];
+
+        //Assert
+        assertEquals(chunk, copy);
+        assertEquals(chunk.hashCode(), copy.hashCode());
+        assertArrayEquals(chunk.getData(), copy.getData());
+    }
+
+    /**
+     * Tests that encoding empty or unsorted samples throws an exception.
+     */
+    @Test
+    void testEncodeInvalidSamplesThrowsException() {
+        //Arrange
+        ReadingSeries unsorted = new ReadingSeries();
+        unsorted.add(start + 10, 1.0);
+        unsorted.add(start, 2.0);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> ReadingChunk.encode(sensorId, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> ReadingChunk.encode(sensorId, 0, new ReadingSeries()));
+        assertThrows(IllegalArgumentException.class, () -> ReadingChunk.encode(sensorId, 0, unsorted));
+    }
+
+    /**
+     * Tests that constructing a chunk with invalid arguments throws an exception.
+     */
+    @Test
+    void testConstructorInvalidArgumentsThrowsException() {
+        //Arrange
+        byte[] data = new byte[1];
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk(null, 0, 1, start, start, data));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk(sensorId, 0, 1, start, start, null));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk(sensorId, -1, 1, start, start, data));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk(sensorId, 0, 0, start, start, data));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk(sensorId, 0, 1, start, start - 1, data));
+    }
+
+    /**
+     * Tests that samples added to an encoder one at a time, including one that needs a finer unit of time, give the
+     * same chunk as encoding them all at once.
+     */
+    @Test
+    void testEncoderAddsSamplesLikeEncode() {
+        //Arrange
+        ReadingSeries samples = new ReadingSeries();
+        for (int i = 0; i < 30; i++) {
+            samples.add(start + i * 60 * ReadingSeries.NANOS_PER_SECOND, 20.0 + i * 0.25);
+        }
+        samples.add(start + 30 * 60 * ReadingSeries.NANOS_PER_SECOND + 1_000, 21.0);
+        samples.add(start + 31 * 60 * ReadingSeries.NANOS_PER_SECOND, 21.5);
+        ReadingChunk.Encoder encoder = new ReadingChunk.Encoder(sensorId, 2);
+
+        //Act
+        for (int i = 0; i < samples.size(); i++) {
+            encoder.add(samples.epochNanosAt(i), samples.valueAt(i));
+        }
+
+        //Assert
+        assertEquals(ReadingChunk.encode(sensorId, 2, samples), encoder.toChunk());
+        assertEquals(samples.size(), encoder.getSize());
+        assertEquals(samples.epochNanosAt(0), encoder.getFirstEpochNanos());
+        assertEquals(samples.epochNanosAt(samples.size() - 1), encoder.getLastEpochNanos());
+    }
+
+    /**
+     * Tests that an encoder resumed from a chunk holds its samples, and appends to them as if it had never stopped.
+     */
+    @Test
+    void testResumedEncoderAppendsToTheChunk() {
+        //Arrange
+        ReadingSeries first = new ReadingSeries();
+        ReadingSeries all = new ReadingSeries();
+        for (int i = 0; i < 20; i++) {
+            long time = start + i * ReadingSeries.NANOS_PER_SECOND;
+            if (i < 10) {
+                first.add(time, i * 1.5);
+            }
+            all.add(time, i * 1.5);
+        }
+        ReadingChunk chunk = ReadingChunk.encode(sensorId, 1, first);
+
+        //Act
+        ReadingChunk.Encoder encoder = ReadingChunk.Encoder.resume(chunk);
+        ReadingChunk resumed = encoder.toChunk();
+        for (int i = 10; i < all.size(); i++) {
+            encoder.add(all.epochNanosAt(i), all.valueAt(i));
+        }
+
+        //Assert
+        assertEquals(chunk, resumed);
+        assertEquals(sensorId, encoder.getSensorId());
+        assertEquals(1, encoder.getSequence());
+        assertEquals(ReadingChunk.encode(sensorId, 1, all), encoder.toChunk());
+    }
+
+    /**
+     * Tests that an encoder rejects invalid arguments, samples older than its last one, and an empty chunk.
+     */
+    @Test
+    void testEncoderInvalidUseThrowsException() {
+        //Arrange
+        ReadingChunk.Encoder encoder = new ReadingChunk.Encoder(sensorId, 0);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk.Encoder(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunk.Encoder(sensorId, -1));
+        assertThrows(IllegalArgumentException.class, () -> ReadingChunk.Encoder.resume(null));
+        assertThrows(IllegalStateException.class, encoder::toChunk);
+        encoder.add(start + 10, 1.0);
+        assertThrows(IllegalArgumentException.class, () -> encoder.add(start, 2.0));
+    }
+}
@@ -0,0 +1,96 @@
+package smarthome.domain.reading;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains tests for the ReadingRollupResolution enum.
+ */
+class ReadingRollupResolutionTest {
+
+    /**
+     * Tests that the start of a bucket is the moment truncated to the resolution.
+     */
+    @Test
+    void testBucketStartTruncatesToResolution() {
+        //Arrange
+        LocalDateTime time = LocalDateTime.of(2023, 1, 10, 7, 42, 13, 500);
+
+        //Act + Assert
+        assertEquals(LocalDateTime.of(2023, 1, 10, 7, 42), ReadingRollupResolution.MINUTE.bucketStart(time));
+        assertEquals(LocalDateTime.of(2023, 1, 10, 7, 0), ReadingRollupResolution.HOUR.bucketStart(time));
+        assertEquals(LocalDateTime.of(2023, 1, 10, 0, 0), ReadingRollupResolution.DAY.bucketStart(time));
+    }
+
+    /**
+     * Tests that moments before the epoch are rounded down to the start of their bucket.
+     */
+    @Test
+    void testBucketStartBeforeEpochRoundsDown() {
+        //Arrange
+        LocalDateTime time = LocalDateTime.of(1969, 12, 31, 23, 59, 30);
+
+        //Act + Assert
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59), ReadingRollupResolution.MINUTE.bucketStart(time));
+    }
+
+    /**
+     * Tests that only whole multiples of the resolution are the start of a bucket.
+     */
+    @Test
+    void testIsBucketStart() {
+        //Act + Assert
+        assertTrue(ReadingRollupResolution.HOUR.isBucketStart(LocalDateTime.of(2023, 1, 10, 7, 0)));
+        assertFalse(ReadingRollupResolution.HOUR.isBucketStart(LocalDateTime.of(2023, 1, 10, 7, 1)));
+        assertFalse(ReadingRollupResolution.MINUTE.isBucketStart(LocalDateTime.of(2023, 1, 10, 7, 1, 0, 1)));
+    }
+
+    /**
+     * Tests that the coarsest resolution that tiles the sub-periods is chosen.
+     */
+    @Test
+    void testCoarsestFittingChoosesCoarsestResolution() {
+        //Arrange
+        LocalDateTime midnight = LocalDateTime.of(2023, 1, 10, 0, 0);
+
+        //Act + Assert
+        assertEquals(ReadingRollupResolution.DAY, ReadingRollupResolution.coarsestFitting(midnight, 172800));
+        assertEquals(ReadingRollupResolution.HOUR, ReadingRollupResolution.coarsestFitting(midnight, 7200));
+        assertEquals(ReadingRollupResolution.MINUTE, ReadingRollupResolution.coarsestFitting(midnight, 60));
+        assertEquals(ReadingRollupResolution.MINUTE,
+                ReadingRollupResolution.coarsestFitting(midnight.plusMinutes(5), 3600));
+    }
+
+    /**
+     * Tests that no resolution fits when the sub-periods are not whole minutes or do not start on a minute.
+     */
+    @Test
+    void testCoarsestFittingReturnsNullWhenNoResolutionFits() {
+        //Arrange
+        LocalDateTime midnight = LocalDateTime.of(2023, 1, 10, 0, 0);
+
+        //Act + Assert
+        assertNull(ReadingRollupResolution.coarsestFitting(midnight, 90));
+        assertNull(ReadingRollupResolution.coarsestFitting(midnight.plusSeconds(30), 60));
+    }
+
+    /**
+     * Tests that the coarsest resolution shorter than the sub-periods and dividing them is chosen, and that none is
+     * when the sub-periods are a minute long or not whole minutes.
+     */
+    @Test
+    void testCoarsestDividingChoosesCoarsestShorterResolution() {
+        //Act + Assert
+        assertEquals(ReadingRollupResolution.HOUR, ReadingRollupResolution.coarsestDividing(86400));
+        assertEquals(ReadingRollupResolution.MINUTE, ReadingRollupResolution.coarsestDividing(3600));
+        assertEquals(ReadingRollupResolution.MINUTE, ReadingRollupResolution.coarsestDividing(900));
+        assertNull(ReadingRollupResolution.coarsestDividing(60));
+        assertNull(ReadingRollupResolution.coarsestDividing(90));
+    }
+}
@@ -0,0 +1,128 @@
+package smarthome.domain.reading;
+
+import org.junit.jupiter.api.Test;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains tests for the ReadingRollup class.
+ */
+class ReadingRollupTest {
+
+    private final SensorId sensorId = new SensorId("sensor1");
+    private final LocalDateTime minute = LocalDateTime.of(2023, 1, 10, 7, 42);
+
+    /**
+     * Tests that the constructor rejects invalid arguments.
+     */
+    @Test
+    void testConstructorWithInvalidArgumentsThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRollup(null, ReadingRollupResolution.MINUTE,
+                minute, 1, 1, 1, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRollup(sensorId, null, minute, 1, 1, 1, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRollup(sensorId, ReadingRollupResolution.HOUR,
+                minute, 1, 1, 1, 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE,
+                minute, 0, 0, 0, 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE,
+                minute, 1, 1, 1, 1, 2, 2));
+    }
+
+    /**
+     * Tests that a reading at the start of its bucket is also counted as a start reading.
+     */
+    @Test
+    void testOfReadingAtBucketStartCountsAsStartReading() {
+        //Act
+        ReadingRollup atStart = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute, 5.0);
+        ReadingRollup inside = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute.plusSeconds(1), 5.0);
+
+        //Assert
+        assertEquals(1, atStart.getStartCount());
+        assertEquals(5.0, atStart.getStartSum());
+        assertEquals(0, inside.getStartCount());
+        assertEquals(0.0, inside.getStartSum());
+        assertEquals(minute, inside.getBucketStart());
+    }
+
+    /**
+     * Tests that combining two rollups of the same bucket adds their counts and sums and keeps their extremes.
+     */
+    @Test
+    void testPlusCombinesAggregates() {
+        //Arrange
+        ReadingRollup first = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute, 10.0);
+        ReadingRollup second = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute.plusSeconds(30), 4.0);
+
+        //Act
+        ReadingRollup result = first.plus(second);
+
+        //Assert
+        assertEquals(new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE, minute, 2, 14.0, 4.0, 10.0, 1, 10.0),
+                result);
+        assertEquals(7.0, result.getAverage());
+    }
+
+    /**
+     * Tests that rollups of different buckets cannot be combined.
+     */
+    @Test
+    void testPlusWithRollupOfOtherBucketThrowsException() {
+        //Arrange
+        ReadingRollup first = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute, 10.0);
+        ReadingRollup other = ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, minute.plusMinutes(1), 4.0);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> first.plus(other));
+        assertThrows(IllegalArgumentException.class, () -> first.plus(null));
+    }
+
+    /**
+     * Tests that readings are rolled up once per bucket at every resolution, ignoring non numeric values.
+     */
+    @Test
+    void testAggregateRollsUpNumericReadingsAtEveryResolution() {
+        //Arrange
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        List<Reading> readings = List.of(
+                readingFactory.createReading(new NumericReadingValue(10.0), sensorId, new TimeStamp(minute)),
+                readingFactory.createReading(new NumericReadingValue(20.0), sensorId,
+                        new TimeStamp(minute.plusSeconds(30))),
+                readingFactory.createReading(new NumericReadingValue(30.0), sensorId,
+                        new TimeStamp(minute.plusMinutes(1))),
+                readingFactory.createReading(new ReadingValue("90::20"), sensorId, new TimeStamp(minute)));
+
+        //Act
+        List<ReadingRollup> rollups = ReadingRollup.aggregate(readings);
+
+        //Assert
+        assertEquals(4, rollups.size());
+        assertTrue(rollups.contains(new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE, minute, 2, 30.0,
+                10.0, 20.0, 1, 10.0)));
+        assertTrue(rollups.contains(new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE,
+                minute.plusMinutes(1), 1, 30.0, 30.0, 30.0, 1, 30.0)));
+        assertTrue(rollups.contains(new ReadingRollup(sensorId, ReadingRollupResolution.HOUR,
+                LocalDateTime.of(2023, 1, 10, 7, 0), 3, 60.0, 10.0, 30.0, 0, 0.0)));
+        assertTrue(rollups.contains(new ReadingRollup(sensorId, ReadingRollupResolution.DAY,
+                LocalDateTime.of(2023, 1, 10, 0, 0), 3, 60.0, 10.0, 30.0, 0, 0.0)));
+    }
+
+    /**
+     * Tests that aggregating null readings throws an exception.
+     */
+    @Test
+    void testAggregateNullReadingsThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> ReadingRollup.aggregate(null));
+    }
+}
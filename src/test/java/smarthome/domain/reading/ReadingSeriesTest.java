@@ -0,0 +1,166 @@
+package smarthome.domain.reading;
+
+import org.junit.jupiter.api.Test;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains tests for the ReadingSeries class.
+ */
+class ReadingSeriesTest {
+
+    /**
+     * Tests that a new series is empty and sorted.
+     */
+    @Test
+    void testNewSeriesIsEmptyAndSorted() {
+        //Act
+        ReadingSeries series = new ReadingSeries();
+
+        //Assert
+        assertTrue(series.isEmpty());
+        assertEquals(0, series.size());
+        assertTrue(series.isSortedByTime());
+    }
+
+    /**
+     * Tests that samples added over several chunks are kept in order.
+     */
+    @Test
+    void testAddOverSeveralChunksKeepsEverySample() {
+        //Arrange
+        ReadingSeries series = new ReadingSeries();
+
+        //Act
+        for (int i = 0; i < 5000; i++) {
+            series.add(i * 10L, i / 2.0);
+        }
+
+        //Assert
+        assertEquals(5000, series.size());
+        assertEquals(49990L, series.epochNanosAt(4999));
+        assertEquals(2499.5, series.valueAt(4999));
+        assertEquals(10240L, series.epochNanosAt(1024));
+        assertTrue(series.isSortedByTime());
+    }
+
+    /**
+     * Tests that accessing a sample outside the series throws an exception.
+     */
+    @Test
+    void testAccessOutsideTheSeriesThrowsException() {
+        //Arrange
+        ReadingSeries series = new ReadingSeries();
+        series.add(1L, 1.0);
+
+        //Act + Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> series.valueAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> series.epochNanosAt(-1));
+    }
+
+    /**
+     * Tests that a series created from readings has their times and parsed values.
+     */
+    @Test
+    void testOfReadingsConvertsTimesAndValues() {
+        //Arrange
+        ReadingFactory factory = new ReadingFactoryImpl();
+        SensorId sensorId = new SensorId("sensor");
+        LocalDateTime time = LocalDateTime.of(2023, 1, 10, 7, 0, 0, 500);
+        List<Reading> readings = List.of(
+                factory.createReading(new ReadingValue("21.5"), sensorId, new TimeStamp(time)),
+                factory.createReading(new ReadingValue("-3"), sensorId, new TimeStamp(time.plusSeconds(1))));
+
+        //Act
+        ReadingSeries series = ReadingSeries.of(readings);
+
+        //Assert
+        assertEquals(2, series.size());
+        assertEquals(ReadingSeries.toEpochNanos(time), series.epochNanosAt(0));
+        assertEquals(ReadingSeries.NANOS_PER_SECOND, series.epochNanosAt(1) - series.epochNanosAt(0));
+        assertEquals(21.5, series.valueAt(0));
+        assertEquals(-3.0, series.valueAt(1));
+    }
+
+    /**
+     * Tests that a series created from a reading with a non numeric value throws an exception.
+     */
+    @Test
+    void testOfReadingsWithNonNumericValueThrowsException() {
+        //Arrange
+        Reading reading = new ReadingFactoryImpl().createReading(new ReadingValue("on"), new SensorId("sensor"),
+                new TimeStamp(LocalDateTime.of(2023, 1, 10, 7, 0)));
+
+        //Act + Assert
+        assertThrows(NumberFormatException.class, () -> ReadingSeries.of(List.of(reading)));
+    }
+
+    /**
+     * Tests that sorting an already sorted series returns the same series.
+     */
+    @Test
+    void testSortedByTimeOfSortedSeriesReturnsSameSeries() {
+        //Arrange
+        ReadingSeries series = new ReadingSeries();
+        series.add(1L, 1.0);
+        series.add(1L, 2.0);
+
+        //Act + Assert
+        assertSame(series, series.sortedByTime());
+    }
+
+    /**
+     * Tests that sorting an unsorted series returns a sorted copy, keeping the order of equal times.
+     */
+    @Test
+    void testSortedByTimeOfUnsortedSeriesIsStable() {
+        //Arrange
+        ReadingSeries series = new ReadingSeries();
+        for (int i = 3000; i > 0; i--) {
+            series.add(i / 2, i);
+        }
+
+        //Act
+        ReadingSeries sorted = series.sortedByTime();
+
+        //Assert
+        assertFalse(series.isSortedByTime());
+        assertTrue(sorted.isSortedByTime());
+        assertEquals(3000, sorted.size());
+        assertEquals(0L, sorted.epochNanosAt(0));
+        assertEquals(1.0, sorted.valueAt(0));
+        assertEquals(3.0, sorted.valueAt(1));
+        assertEquals(2.0, sorted.valueAt(2));
+    }
+
+    /**
+     * Tests that appending a series adds all of its samples.
+     */
+    @Test
+    void testAddAllAppendsEverySample() {
+        //Arrange
+        ReadingSeries first = new ReadingSeries();
+        first.add(5L, 1.0);
+        ReadingSeries second = new ReadingSeries();
+        second.add(2L, 2.0);
+        second.add(7L, 3.0);
+
+        //Act
+        first.addAll(second);
+
+        //Assert
+        assertEquals(3, first.size());
+        assertEquals(7L, first.epochNanosAt(2));
+        assertFalse(first.isSortedByTime());
+    }
+}
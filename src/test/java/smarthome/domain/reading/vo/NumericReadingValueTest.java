@@ -0,0 +1,70 @@
+package smarthome.domain.reading.vo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * This class contains unit tests for the NumericReadingValue class.
+ */
+class NumericReadingValueTest {
+
+    /**
+     * Tests that the value is returned as a primitive double.
+     */
+    @Test
+    void toDoubleReturnsTheValue() {
+        // Arrange
+        NumericReadingValue readingValue = new NumericReadingValue(21.5);
+        // Act
+        double actual = readingValue.toDouble();
+        // Assert
+        assertEquals(21.5, actual);
+    }
+
+    /**
+     * Tests that the string representation is the one of the double value.
+     */
+    @Test
+    void valueToStringReturnsTheStringOfTheDouble() {
+        // Arrange
+        NumericReadingValue readingValue = new NumericReadingValue(25);
+        // Act
+        String actual = readingValue.valueToString();
+        // Assert
+        assertEquals("25.0", actual);
+    }
+
+    /**
+     * Tests that two values with the same number are equal and have the same hash code.
+     */
+    @Test
+    void equalsReturnsTrueWhenValuesAreEqual() {
+        // Arrange
+        NumericReadingValue readingValue = new NumericReadingValue(-3.25);
+        NumericReadingValue other = new NumericReadingValue(-3.25);
+        // Act
+        boolean actual = readingValue.equals(other);
+        // Assert
+        assertTrue(actual);
+        assertEquals(readingValue.hashCode(), other.hashCode());
+    }
+
+    /**
+     * Tests that two values with different numbers are not equal.
+     */
+    @Test
+    void equalsReturnsFalseWhenValuesAreDifferent() {
+        // Arrange
+        NumericReadingValue readingValue = new NumericReadingValue(1.0);
+        // Act
+        boolean actual = readingValue.equals(new NumericReadingValue(2.0));
+        // Assert
+        assertFalse(actual);
+        assertNotEquals(readingValue, new ReadingValue("1.0"));
+        assertNotEquals(readingValue, null);
+    }
+}
@@ -0,0 +1,145 @@
+package smarthome.domain.sensor;
+
+import org.apache.commons.configuration2.ex.ConfigurationException;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the SensorFactoryImpl class.
+ */
+class SensorFactoryImplTest {
+
+    private final DeviceId deviceId = new DeviceId("device1");
+
+    /**
+     * Tests that a sensor of a valid model is created with a new identity.
+     */
+    @Test
+    void testCreateSensorOfValidModel() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+        SensorModelName sensorModelName = new SensorModelName("SensorOfTemperature");
+
+        //Act
+        Sensor sensor = sensorFactory.createSensor(sensorModelName, deviceId);
+
+        //Assert
+        assertInstanceOf(SensorOfTemperature.class, sensor);
+        assertEquals(deviceId, sensor.getDeviceId());
+        assertEquals(sensorModelName, sensor.getSensorModelName());
+    }
+
+    /**
+     * Tests that a sensor created with an identity keeps it.
+     */
+    @Test
+    void testCreateSensorWithIdentity() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+        SensorId sensorId = new SensorId("sensor1");
+
+        //Act
+        Sensor sensor = sensorFactory.createSensor(sensorId, new SensorModelName("SensorOfHumidity"), deviceId);
+
+        //Assert
+        assertInstanceOf(SensorOfHumidity.class, sensor);
+        assertEquals(sensorId, sensor.getIdentity());
+    }
+
+    /**
+     * Tests that the constructors of a model are looked up on first use and reused for the next sensors.
+     */
+    @Test
+    void testConstructorsAreLookedUpOnceOnFirstUse() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+        SensorModelName sensorModelName = new SensorModelName("SensorOfWind");
+        assertFalse(sensorFactory.isResolved(sensorModelName));
+
+        //Act
+        Sensor first = sensorFactory.createSensor(sensorModelName, deviceId);
+        Sensor second = sensorFactory.createSensor(sensorModelName, deviceId);
+
+        //Assert
+        assertTrue(sensorFactory.isResolved(sensorModelName));
+        assertInstanceOf(SensorOfWind.class, first);
+        assertInstanceOf(SensorOfWind.class, second);
+        assertFalse(first.getIdentity().equals(second.getIdentity()));
+    }
+
+    /**
+     * Tests that the constructors of the sensor models of the configuration file are looked up at construction.
+     */
+    @Test
+    void testConstructorWithConfigurationLooksUpConfiguredModels() throws ConfigurationException {
+        //Act
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl("configModels.properties");
+
+        //Assert
+        assertTrue(sensorFactory.isResolved(new SensorModelName("SensorOfTemperature")));
+        assertTrue(sensorFactory.isResolved(new SensorModelName("SensorOfPowerConsumption")));
+    }
+
+    /**
+     * Tests that the constructor throws an exception when the configuration file does not exist.
+     */
+    @Test
+    void testConstructorWithMissingConfigurationThrowsException() {
+        //Act + Assert
+        assertThrows(ConfigurationException.class, () -> new SensorFactoryImpl("missing.properties"));
+    }
+
+    /**
+     * Tests that no sensor is created, and nothing is kept, for a model without a sensor class.
+     */
+    @Test
+    void testCreateSensorOfUnknownModelReturnsNull() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+        SensorModelName sensorModelName = new SensorModelName("SensorOfNothing");
+
+        //Act
+        Sensor sensor = sensorFactory.createSensor(sensorModelName, deviceId);
+
+        //Assert
+        assertNull(sensor);
+        assertFalse(sensorFactory.isResolved(sensorModelName));
+    }
+
+    /**
+     * Tests that no sensor is created for a class of the sensor package that is not a concrete sensor.
+     */
+    @Test
+    void testCreateSensorOfClassThatIsNotASensorReturnsNull() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+
+        //Act + Assert
+        assertNull(sensorFactory.createSensor(new SensorModelName("SensorFactoryImpl"), deviceId));
+        assertNull(sensorFactory.createSensor(new SensorModelName("Sensor"), deviceId));
+    }
+
+    /**
+     * Tests that no sensor is created when the sensor constructor rejects its arguments.
+     */
+    @Test
+    void testCreateSensorWithNullDeviceIdReturnsNull() {
+        //Arrange
+        SensorFactoryImpl sensorFactory = new SensorFactoryImpl();
+
+        //Act
+        Sensor sensor = sensorFactory.createSensor(new SensorModelName("SensorOfTemperature"), null);
+
+        //Assert
+        assertNull(sensor);
+    }
+}
@@ -8,9 +8,12 @@ import smarthome.domain.sensor.vo.values.SunriseValue;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -194,6 +197,23 @@ class SensorOfSunriseTest {
         assertEquals(expected, result, "Should return the correct value");
     }
 
+    /**
+     * Test to verify that the getValueOfToday method returns the value of the sensor of sunrise for the date told by
+     * the clock.
+     */
+    @Test
+    void getValueOfTodayReturnsValueForDateOfClock() {
+        //Arrange
+        Clock clock = Clock.fixed(Instant.parse("2024-12-27T12:00:00Z"), ZoneOffset.UTC);
+        Value expected = new SunriseValue(LocalDateTime.of(LocalDate.of(2024, 12, 27), LocalTime.of(7, 0)));
+        //Act
+        Value result = sensorOfSunrisePrepare.getValueOfToday(clock);
+        //Assert
+        assertEquals(expected, result, "Should return the value for the date of the clock");
+        assertThrows(IllegalArgumentException.class, () -> sensorOfSunrisePrepare.getValueOfToday(null),
+                "Should throw an exception for a null clock");
+    }
+
     /**
      * Test to verify that the getValue method returns the correct value of the sensor of sunrise for a specified date.
      */
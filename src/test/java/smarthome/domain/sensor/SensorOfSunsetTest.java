@@ -8,9 +8,12 @@ import smarthome.domain.sensor.vo.values.SunsetValue;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -202,6 +205,23 @@ class SensorOfSunsetTest {
                 "retrieved for a null date.");
     }
 
+    /**
+     * Tests the getValueOfToday method of the SensorOfSunset class.
+     * Verifies that the method returns the value for the date told by the clock.
+     */
+    @Test
+    void getValueOfTodayReturnsValueForDateOfClock() {
+        //Arrange
+        Clock clock = Clock.fixed(Instant.parse("2025-03-05T12:00:00Z"), ZoneOffset.UTC);
+        Value expected = new SunsetValue(LocalDateTime.of(LocalDate.of(2025, 3, 5), LocalTime.of(18, 0)));
+        //Act
+        Value result = sensorOfSunset.getValueOfToday(clock);
+        //Assert
+        assertEquals(expected, result, "Value should be the default sunset time for the date of the clock.");
+        assertThrows(IllegalArgumentException.class, () -> sensorOfSunset.getValueOfToday(null),
+                "Value should not be retrieved for a null clock.");
+    }
+
     /**
      * Tests the equals method of the SensorOfSunset class.
      * Verifies that the method returns true when the same object is passed as a parameter.
@@ -3,13 +3,19 @@ package smarthome.mapper.mapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.NumericReadingValue;
 import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.ReadingValue;
 import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.mapper.ReadingDTO;
 import smarthome.mapper.ReadingIdDTO;
+import smarthome.mapper.ReadingStatisticsDTO;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -120,4 +126,56 @@ class ReadingMapperTest {
         //Assert
         assertEquals(expectedSize, result.size(), "The list of reading ID DTOs should have one element");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests that the reading data of a request is converted to value objects, keeping a numeric value as a number.
+     */
+    @Test
+    void toValueObjectsFromReadingDTO() {
+        //Arrange
+        ReadingDTO readingDTO = new ReadingDTO(null, "sensor1", "21.5", "2021-05-05T12:00:00");
+        //Act
+        SensorId sensorId = readingMapper.toSensorId(readingDTO);
+        Value value = readingMapper.toReadingValue(readingDTO);
+        TimeStamp timeStamp = readingMapper.toTimeStamp(readingDTO);
+        //Assert
+        assertEquals(new SensorId("sensor1"), sensorId, "The sensor id should be correct");
+        assertEquals(new NumericReadingValue(21.5), value, "The value should be numeric");
+        assertEquals(new TimeStamp(LocalDateTime.of(2021, 5, 5, 12, 0)), timeStamp,
+                "The timestamp should be correct");
+    }
+
+    /**
+     * Tests that a non numeric reading value is kept as text and that a missing value throws an exception.
+     */
+    @Test
+    void toReadingValueNonNumericOrMissing() {
+        //Arrange
+        ReadingDTO textReading = new ReadingDTO(null, "sensor1", "on", "2021-05-05T12:00:00");
+        ReadingDTO missingValue = new ReadingDTO(null, "sensor1", null, "2021-05-05T12:00:00");
+        //Act
+        Value value = readingMapper.toReadingValue(textReading);
+        //Assert
+        assertEquals(new ReadingValue("on"), value, "The value should be kept as text");
+        assertThrows(IllegalArgumentException.class, () -> readingMapper.toReadingValue(missingValue));
+    }
+
+    /**
+     * Tests that a rollup is converted to the statistics of its bucket.
+     */
+    @Test
+    void toReadingStatisticsDTO() {
+        //Arrange
+        ReadingRollup rollup = new ReadingRollup(new SensorId("sensor1"), ReadingRollupResolution.DAY,
+                LocalDateTime.of(2021, 5, 5, 0, 0), 4, 80.0, 15.0, 25.0, 0, 0.0);
+        //Act
+        List<ReadingStatisticsDTO> result = readingMapper.toReadingStatisticsDTO(List.of(rollup));
+        //Assert
+        assertEquals(1, result.size());
+        assertEquals("2021-05-05T00:00", result.get(0).getBucketStart());
+        assertEquals(4, result.get(0).getCount());
+        assertEquals(15.0, result.get(0).getMin());
+        assertEquals(25.0, result.get(0).getMax());
+        assertEquals(20.0, result.get(0).getAverage());
+    }
+}
@@ -0,0 +1,105 @@
+package smarthome.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.mem.ReadingRepositoryMemImpl;
+import smarthome.service.IRoomService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the CallMetricsAspect class.
+ */
+class CallMetricsAspectTest {
+
+    private MeterRegistry registry;
+    private CallMetricsAspect aspect;
+
+    /**
+     * Set up a registry and the aspect over it.
+     */
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        aspect = new CallMetricsAspect(registry);
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    /**
+     * Tests that the constructor throws an exception when the registry is null.
+     */
+    @Test
+    void testConstructorWithNullRegistryThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new CallMetricsAspect(null));
+    }
+
+    /**
+     * Tests that the calls to a service are timed by class, method and outcome.
+     */
+    @Test
+    void testServiceCallsAreTimed() {
+        //Arrange
+        IRoomService roomService = mock(IRoomService.class);
+        when(roomService.getRoomIds()).thenReturn(List.of()).thenThrow(new IllegalStateException());
+        IRoomService proxy = proxy(roomService);
+
+        //Act
+        proxy.getRoomIds();
+        assertThrows(IllegalStateException.class, proxy::getRoomIds);
+
+        //Assert
+        assertEquals(1, registry.get(CallMetricsAspect.SERVICE_CALLS)
+                .tags("method", "getRoomIds", "outcome", "success").timer().count());
+        assertEquals(1, registry.get(CallMetricsAspect.SERVICE_CALLS)
+                .tags("method", "getRoomIds", "outcome", "error", "exception", "IllegalStateException").timer()
+                .count());
+    }
+
+    /**
+     * Tests that the calls to a repository are timed, including the methods it inherits, and that the rows returned
+     * by a range query of readings are recorded.
+     */
+    @Test
+    void testRepositoryCallsAreTimedAndRowsAreRecorded() {
+        //Arrange
+        IReadingRepository repository = proxy(new ReadingRepositoryMemImpl());
+        SensorId sensorId = new SensorId("sensor");
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Reading reading = new ReadingFactoryImpl().createReading(new NumericReadingValue(20), sensorId,
+                new TimeStamp(time));
+
+        //Act
+        repository.save(reading);
+        repository.findReadingsBySensorIdInAGivenPeriod(sensorId, new TimeStamp(time.minusDays(1)),
+                new TimeStamp(time.plusDays(1)));
+
+        //Assert
+        assertEquals(1, registry.get(CallMetricsAspect.REPOSITORY_CALLS)
+                .tags("class", "ReadingRepositoryMemImpl", "method", "save", "outcome", "success").timer().count());
+        assertEquals(1, registry.get(CallMetricsAspect.REPOSITORY_CALLS)
+                .tags("method", "findReadingsBySensorIdInAGivenPeriod").timer().count());
+        assertEquals(1, registry.get(CallMetricsAspect.REPOSITORY_ROWS)
+                .tags("method", "findReadingsBySensorIdInAGivenPeriod").summary().totalAmount());
+    }
+}
@@ -0,0 +1,65 @@
+package smarthome.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import smarthome.persistence.cache.CatalogCache;
+import smarthome.persistence.cache.CatalogCaches;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the CatalogCacheMetrics class.
+ */
+class CatalogCacheMetricsTest {
+
+    private final CatalogCache<String, String> colours = new CatalogCache<>("colour", value -> value,
+            () -> List.of("red", "blue"), Optional::of);
+
+    /**
+     * Tests that the constructor throws an exception when the caches are null.
+     */
+    @Test
+    void testConstructorWithNullCachesThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new CatalogCacheMetrics(null));
+    }
+
+    /**
+     * Tests that the meters of a cache read its hits, misses and hit ratio.
+     */
+    @Test
+    void testBindToRegistersHitsMissesAndHitRatio() {
+        //Arrange
+        MeterRegistry registry = new SimpleMeterRegistry();
+        new CatalogCacheMetrics(new CatalogCaches(List.of(() -> colours))).bindTo(registry);
+
+        //Act
+        colours.findByIdentity("red");
+        colours.findByIdentity("blue");
+        colours.findByIdentity("green");
+
+        //Assert
+        assertEquals(2, registry.get("cache.gets").tags("cache", "colour", "result", "hit").functionCounter()
+                .count());
+        assertEquals(1, registry.get("cache.gets").tags("cache", "colour", "result", "miss").functionCounter()
+                .count());
+        assertEquals(2.0 / 3, registry.get("cache.hit.ratio").tag("cache", "colour").gauge().value(), 1e-9);
+    }
+
+    /**
+     * Tests that the hit ratio of a cache with no lookups is zero.
+     */
+    @Test
+    void testHitRatioWithNoLookupsIsZero() {
+        //Act
+        double result = CatalogCacheMetrics.hitRatio(colours);
+
+        //Assert
+        assertEquals(0, result);
+    }
+}
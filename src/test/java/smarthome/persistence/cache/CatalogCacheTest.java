@@ -0,0 +1,185 @@
+package smarthome.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.deviceType.DeviceType;
+import smarthome.domain.deviceType.vo.DeviceTypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the CatalogCache class, over a list that stands for the database.
+ */
+class CatalogCacheTest {
+
+    private List<DeviceType> database;
+    private int loadAllCalls;
+    private int loadOneCalls;
+    private CatalogCache<DeviceTypeName, DeviceType> cache;
+    private DeviceType heater;
+    private DeviceType fridge;
+
+    /**
+     * Set up a database with two device types and a cache in front of it.
+     */
+    @BeforeEach
+    void setUp() {
+        heater = new DeviceType(new DeviceTypeName("Heater"));
+        fridge = new DeviceType(new DeviceTypeName("Fridge"));
+        database = new ArrayList<>(List.of(heater, fridge));
+        loadAllCalls = 0;
+        loadOneCalls = 0;
+        cache = new CatalogCache<>("deviceType", DeviceType::getIdentity,
+                () -> {
+                    loadAllCalls++;
+                    return new ArrayList<>(database);
+                },
+                name -> {
+                    loadOneCalls++;
+                    return database.stream().filter(deviceType -> deviceType.getIdentity().equals(name)).findFirst();
+                });
+    }
+
+    /**
+     * Tests that the constructor throws an exception when a parameter is null.
+     */
+    @Test
+    void testConstructorWithNullParameterThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new CatalogCache<DeviceTypeName, DeviceType>(null,
+                DeviceType::getIdentity, List::of, name -> Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new CatalogCache<DeviceTypeName, DeviceType>("deviceType",
+                DeviceType::getIdentity, null, name -> Optional.empty()));
+    }
+
+    /**
+     * Tests that the catalog is loaded once, on first use, and lookups are then hits that return the same Optional.
+     */
+    @Test
+    void testFindByIdentityLoadsCatalogOnceAndThenHits() {
+        //Act
+        Optional<DeviceType> first = cache.findByIdentity(heater.getIdentity());
+        Optional<DeviceType> second = cache.findByIdentity(new DeviceTypeName("Heater"));
+
+        //Assert
+        assertEquals(Optional.of(heater), first);
+        assertSame(first, second);
+        assertEquals(1, loadAllCalls);
+        assertEquals(0, loadOneCalls);
+        assertEquals(2, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    /**
+     * Tests that an identity that is not cached is looked up in the database, and counted as a miss.
+     */
+    @Test
+    void testFindByIdentityOfUnknownEntryIsMiss() {
+        //Act
+        Optional<DeviceType> result = cache.findByIdentity(new DeviceTypeName("Oven"));
+
+        //Assert
+        assertTrue(result.isEmpty());
+        assertEquals(1, loadOneCalls);
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    /**
+     * Tests that an entry written to the database behind the cache is found on a miss and cached.
+     */
+    @Test
+    void testFindByIdentityCachesEntryFoundInDatabase() {
+        //Arrange
+        cache.warm();
+        DeviceType oven = new DeviceType(new DeviceTypeName("Oven"));
+        database.add(oven);
+
+        //Act
+        Optional<DeviceType> first = cache.findByIdentity(oven.getIdentity());
+        Optional<DeviceType> second = cache.findByIdentity(oven.getIdentity());
+
+        //Assert
+        assertEquals(Optional.of(oven), first);
+        assertEquals(Optional.of(oven), second);
+        assertEquals(1, loadOneCalls);
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Tests that a written entry is cached at once, without reading the database.
+     */
+    @Test
+    void testPutWritesThrough() {
+        //Arrange
+        cache.warm();
+        DeviceType oven = new DeviceType(new DeviceTypeName("Oven"));
+
+        //Act
+        cache.put(oven);
+
+        //Assert
+        assertTrue(cache.containsIdentity(oven.getIdentity()));
+        assertEquals(List.of(heater, fridge, oven), cache.findAll());
+        assertEquals(1, loadAllCalls);
+        assertEquals(0, loadOneCalls);
+    }
+
+    /**
+     * Tests that an entry written before the cache is loaded is read with the rest of the catalog.
+     */
+    @Test
+    void testPutBeforeLoadIsReadWithCatalog() {
+        //Arrange
+        DeviceType oven = new DeviceType(new DeviceTypeName("Oven"));
+        database.add(oven);
+
+        //Act
+        cache.put(oven);
+
+        //Assert
+        assertFalse(cache.isWarm());
+        assertEquals(List.of(heater, fridge, oven), cache.findAll());
+    }
+
+    /**
+     * Tests that findAll returns the catalog in load order and cannot be modified.
+     */
+    @Test
+    void testFindAllReturnsUnmodifiableCatalog() {
+        //Act
+        List<DeviceType> result = cache.findAll();
+
+        //Assert
+        assertEquals(List.of(heater, fridge), result);
+        assertThrows(UnsupportedOperationException.class, () -> result.add(heater));
+    }
+
+    /**
+     * Tests that the catalog is loaded again after the cache is invalidated.
+     */
+    @Test
+    void testInvalidateReloadsCatalogOnNextUse() {
+        //Arrange
+        cache.warm();
+        database.remove(fridge);
+
+        //Act
+        cache.invalidate();
+
+        //Assert
+        assertFalse(cache.isWarm());
+        assertEquals(List.of(heater), cache.findAll());
+        assertTrue(cache.isWarm());
+        assertEquals(2, loadAllCalls);
+    }
+}
@@ -0,0 +1,64 @@
+package smarthome.persistence.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the CatalogCaches class.
+ */
+class CatalogCachesTest {
+
+    private final CatalogCache<String, String> colours = new CatalogCache<>("colour", value -> value,
+            () -> List.of("red", "blue"), Optional::of);
+    private final CatalogCache<String, String> shapes = new CatalogCache<>("shape", value -> value,
+            () -> List.of("circle"), Optional::of);
+    private final CatalogCaches catalogCaches = new CatalogCaches(List.of(() -> colours, () -> shapes));
+
+    /**
+     * Tests that the constructor throws an exception when the repositories are null.
+     */
+    @Test
+    void testConstructorWithNullRepositoriesThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new CatalogCaches(null));
+    }
+
+    /**
+     * Tests that every cache is loaded by warmAll and emptied by invalidateAll.
+     */
+    @Test
+    void testWarmAllAndInvalidateAll() {
+        //Act
+        catalogCaches.warmAll();
+
+        //Assert
+        assertTrue(colours.isWarm());
+        assertTrue(shapes.isWarm());
+
+        //Act
+        catalogCaches.invalidateAll();
+
+        //Assert
+        assertFalse(colours.isWarm());
+        assertFalse(shapes.isWarm());
+    }
+
+    /**
+     * Tests that the caches are returned in the order of the repositories.
+     */
+    @Test
+    void testGetCaches() {
+        //Act
+        List<CatalogCache<?, ?>> result = catalogCaches.getCaches();
+
+        //Assert
+        assertEquals(List.of(colours, shapes), result);
+    }
+}
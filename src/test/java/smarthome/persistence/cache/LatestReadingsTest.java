@@ -0,0 +1,204 @@
+package smarthome.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the LatestReadings class, over a list that stands for the database.
+ */
+class LatestReadingsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private List<Reading> database;
+    private int loadOneCalls;
+    private LatestReadings latestReadings;
+    private SensorId thermometer;
+    private SensorId hygrometer;
+
+    /**
+     * Set up a database with a reading of the thermometer and a table in front of it.
+     */
+    @BeforeEach
+    void setUp() {
+        thermometer = new SensorId("thermometer");
+        hygrometer = new SensorId("hygrometer");
+        database = new ArrayList<>(List.of(reading(thermometer, 10)));
+        loadOneCalls = 0;
+        latestReadings = new LatestReadings(() -> new ArrayList<>(database),
+                sensorId -> {
+                    loadOneCalls++;
+                    return database.stream().filter(reading -> reading.getSensorId().equals(sensorId)).findFirst();
+                });
+    }
+
+    private static Reading reading(SensorId sensorId, int minute) {
+        return new ReadingFactoryImpl().createReading(new NumericReadingValue(minute), sensorId,
+                new TimeStamp(START.plusMinutes(minute)));
+    }
+
+    /**
+     * Tests that the constructor throws an exception when a parameter is null.
+     */
+    @Test
+    void testConstructorWithNullParameterThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new LatestReadings(null, sensorId -> Optional.empty()));
+        assertThrows(IllegalArgumentException.class, () -> new LatestReadings(List::of, null));
+    }
+
+    /**
+     * Tests that a lookup falls back to the database until the table is loaded, and never after.
+     */
+    @Test
+    void testFindLatestFallsBackToTheDatabaseUntilLoaded() {
+        //Act
+        Optional<Reading> beforeLoad = latestReadings.findLatest(hygrometer);
+        latestReadings.load();
+        Optional<Reading> afterLoad = latestReadings.findLatest(hygrometer);
+
+        //Assert
+        assertFalse(beforeLoad.isPresent());
+        assertFalse(afterLoad.isPresent());
+        assertEquals(1, loadOneCalls);
+        assertTrue(latestReadings.isLoaded());
+        assertSame(database.get(0), latestReadings.findLatest(thermometer).orElseThrow());
+    }
+
+    /**
+     * Tests that a newer reading replaces the latest reading of its sensor and an older one does not.
+     */
+    @Test
+    void testUpdateKeepsTheNewestReading() {
+        //Arrange
+        latestReadings.load();
+        Reading newer = reading(thermometer, 20);
+        Reading older = reading(thermometer, 15);
+        Reading sameTime = reading(thermometer, 20);
+
+        //Act + Assert
+        latestReadings.update(newer);
+        assertSame(newer, latestReadings.findLatest(thermometer).orElseThrow());
+        latestReadings.updateAll(List.of(older));
+        assertSame(newer, latestReadings.findLatest(thermometer).orElseThrow());
+        latestReadings.update(sameTime);
+        assertSame(sameTime, latestReadings.findLatest(thermometer).orElseThrow());
+    }
+
+    /**
+     * Tests that a reading saved before the table is loaded is kept if it is newer than the loaded one.
+     */
+    @Test
+    void testLoadKeepsNewerReadingsSavedBefore() {
+        //Arrange
+        Reading newer = reading(thermometer, 30);
+        latestReadings.update(newer);
+
+        //Act
+        latestReadings.load();
+
+        //Assert
+        assertSame(newer, latestReadings.findLatest(thermometer).orElseThrow());
+    }
+
+    /**
+     * Tests that concurrent updates of the same sensor, in any order, leave the newest reading in the table.
+     */
+    @Test
+    void testConcurrentUpdatesKeepTheNewestReading() throws Exception {
+        //Arrange
+        LatestReadings table = LatestReadings.empty();
+        int threads = 4;
+        int readingsPerThread = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = readingsPerThread - 1; i >= 0; i--) {
+                    table.update(reading(thermometer, i * threads + offset));
+                }
+                return null;
+            }));
+        }
+
+        //Act
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        //Assert
+        assertEquals(START.plusMinutes((long) readingsPerThread * threads - 1),
+                table.findLatest(thermometer).orElseThrow().getTime().getValue());
+    }
+
+    /**
+     * Tests that readings saved in a transaction become the latest ones when it commits, and that a transaction that
+     * rolls back, as when a later write of the same transaction fails, leaves the latest reading unchanged.
+     */
+    @Test
+    void testUpdateAfterCommitIgnoresRolledBackReadings() {
+        //Arrange
+        latestReadings.load();
+        Reading committed = reading(thermometer, 20);
+        Reading rolledBack = reading(thermometer, 30);
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:latest-readings", "sa", "")));
+
+        //Act
+        transactions.executeWithoutResult(status -> {
+            latestReadings.updateAllAfterCommit(List.of(committed));
+            assertSame(database.get(0), latestReadings.findLatest(thermometer).orElseThrow());
+        });
+        assertThrows(IllegalStateException.class, () -> transactions.executeWithoutResult(status -> {
+            latestReadings.updateAllAfterCommit(List.of(rolledBack));
+            throw new IllegalStateException("rollup write failed");
+        }));
+
+        //Assert
+        assertSame(committed, latestReadings.findLatest(thermometer).orElseThrow());
+    }
+
+    /**
+     * Tests that readings saved without a transaction update the table at once.
+     */
+    @Test
+    void testUpdateAfterCommitWithoutTransactionUpdatesAtOnce() {
+        //Arrange
+        latestReadings.load();
+        Reading newer = reading(thermometer, 20);
+
+        //Act
+        latestReadings.updateAllAfterCommit(List.of(newer));
+
+        //Assert
+        assertSame(newer, latestReadings.findLatest(thermometer).orElseThrow());
+    }
+}
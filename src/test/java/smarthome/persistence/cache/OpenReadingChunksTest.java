@@ -0,0 +1,196 @@
+package smarthome.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingChunk;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.persistence.mem.ReadingChunkRepositoryMemImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the OpenReadingChunks class, over an in-memory chunk repository and a list that stands for the
+ * stored readings.
+ */
+class OpenReadingChunksTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private ReadingChunkRepositoryMemImpl chunkRepository;
+    private List<Reading> database;
+    private int backfillCalls;
+    private OpenReadingChunks openChunks;
+    private SensorId thermometer;
+
+    /**
+     * Set up a database with two readings of the thermometer and no chunks.
+     */
+    @BeforeEach
+    void setUp() {
+        chunkRepository = new ReadingChunkRepositoryMemImpl(new ReadingChunkPolicy(4, Duration.ofHours(1)));
+        thermometer = new SensorId("thermometer");
+        database = new ArrayList<>(List.of(reading(thermometer, 0), reading(thermometer, 1)));
+        backfillCalls = 0;
+        openChunks = new OpenReadingChunks(chunkRepository, (sensorId, consumer) -> {
+            backfillCalls++;
+            for (Reading reading : database) {
+                if (reading.getSensorId().equals(sensorId)) {
+                    ReadingSeries page = new ReadingSeries();
+                    page.add(reading.getTime().getValue(), ReadingSeries.toDouble(reading.getValue()));
+                    consumer.accept(page);
+                }
+            }
+        });
+    }
+
+    private static Reading reading(SensorId sensorId, int minute) {
+        return new ReadingFactoryImpl().createReading(new NumericReadingValue(minute), sensorId,
+                new TimeStamp(START.plusMinutes(minute)));
+    }
+
+    private ReadingSeries series(SensorId sensorId) {
+        return chunkRepository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId, new TimeStamp(START),
+                new TimeStamp(START.plusHours(1)));
+    }
+
+    /**
+     * Runs an action in a transaction that completes with the given status.
+     */
+    private static void inTransaction(int status, Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            for (TransactionSynchronization synchronization :
+                    TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Tests that the constructor throws an exception when a parameter is null.
+     */
+    @Test
+    void testConstructorWithNullParameterThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new OpenReadingChunks(null, (sensorId, consumer) -> {
+        }));
+        assertThrows(IllegalArgumentException.class, () -> new OpenReadingChunks(chunkRepository, null));
+        assertThrows(IllegalArgumentException.class, () -> openChunks.load(null));
+        assertThrows(IllegalArgumentException.class, () -> openChunks.append(null));
+    }
+
+    /**
+     * Tests that the first append to a sensor without chunks fills them from its stored readings first, once, and
+     * that the appended readings follow them across chunks.
+     */
+    @Test
+    void testAppendFillsTheChunksOfANewSensorFirst() {
+        //Act
+        openChunks.append(List.of(reading(thermometer, 2), reading(thermometer, 3)));
+        openChunks.append(List.of(reading(thermometer, 4)));
+
+        //Assert
+        ReadingSeries series = series(thermometer);
+        assertEquals(5, series.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, series.valueAt(i));
+        }
+        assertEquals(1, backfillCalls);
+        assertEquals(1, chunkRepository.findLastChunkBySensorId(thermometer).orElseThrow().getSequence());
+        assertTrue(openChunks.isLoaded(thermometer));
+    }
+
+    /**
+     * Tests that a sensor with chunks resumes its last chunk instead of filling them from its readings.
+     */
+    @Test
+    void testLoadResumesTheLastChunk() {
+        //Arrange
+        ReadingSeries stored = new ReadingSeries();
+        stored.add(START, 0);
+        chunkRepository.saveAll(List.of(ReadingChunk.encode(thermometer, 0, stored)));
+
+        //Act
+        openChunks.load(thermometer);
+        openChunks.append(List.of(reading(thermometer, 5)));
+
+        //Assert
+        assertEquals(0, backfillCalls);
+        assertEquals(2, series(thermometer).size());
+        assertEquals(0, chunkRepository.findLastChunkBySensorId(thermometer).orElseThrow().getSequence());
+    }
+
+    /**
+     * Tests that readings with a value that is not a number are left out of the chunks.
+     */
+    @Test
+    void testAppendIgnoresNonNumericReadings() {
+        //Arrange
+        Reading text = new ReadingFactoryImpl().createReading(new ReadingValue("open"), thermometer,
+                new TimeStamp(START.plusMinutes(2)));
+
+        //Act
+        openChunks.append(List.of(text, reading(thermometer, 3)));
+
+        //Assert
+        assertEquals(3, series(thermometer).size());
+    }
+
+    /**
+     * Tests that a sensor loaded in a transaction counts as loaded only once the transaction commits.
+     */
+    @Test
+    void testSensorIsLoadedWhenTheTransactionCommits() {
+        //Act
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> {
+            openChunks.append(List.of(reading(thermometer, 2)));
+            assertFalse(openChunks.isLoaded(thermometer));
+        });
+
+        //Assert
+        assertTrue(openChunks.isLoaded(thermometer));
+    }
+
+    /**
+     * Tests that a transaction that rolls back drops the open chunk of the sensor, which is read again from the
+     * repository by the next append.
+     */
+    @Test
+    void testRollbackDropsTheOpenChunk() {
+        //Arrange
+        openChunks.load(thermometer);
+        ReadingChunk committed = chunkRepository.findLastChunkBySensorId(thermometer).orElseThrow();
+
+        //Act
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> openChunks.append(List.of(reading(thermometer, 2))));
+        chunkRepository.saveAll(List.of(committed));
+        openChunks.append(List.of(reading(thermometer, 3)));
+
+        //Assert
+        ReadingSeries series = series(thermometer);
+        assertEquals(3, series.size());
+        assertEquals(3.0, series.valueAt(2));
+        assertTrue(openChunks.isLoaded(thermometer));
+    }
+}
@@ -271,8 +271,8 @@ class ActuatorRepositoryMemImplTest {
         // Arrange
         DeviceId deviceId = mock(DeviceId.class);
         when(deviceId.getIdentity()).thenReturn("ValidId");
-        actuatorRepositoryMemImpl.save(actuator);
         when(actuator.getDeviceId()).thenReturn(deviceId);
+        actuatorRepositoryMemImpl.save(actuator);
 
         // Act
         Iterable<ActuatorId> actuators = actuatorRepositoryMemImpl.findActuatorIdsByDeviceId(deviceId);
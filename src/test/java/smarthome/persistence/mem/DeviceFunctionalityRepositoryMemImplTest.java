@@ -0,0 +1,148 @@
+package smarthome.persistence.mem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactoryImpl;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.device.vo.DeviceName;
+import smarthome.domain.deviceType.vo.DeviceTypeName;
+import smarthome.domain.room.vo.RoomId;
+import smarthome.domain.sensor.SensorFactoryImpl;
+import smarthome.domain.sensormodel.SensorModel;
+import smarthome.domain.sensormodel.SensorModelFactoryImpl;
+import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.domain.sensortype.SensorType;
+import smarthome.domain.sensortype.SensorTypeFactoryImpl;
+import smarthome.domain.sensortype.vo.SensorTypeName;
+import smarthome.domain.sensortype.vo.SensorTypeUnit;
+
+import java.util.AbstractMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the DeviceFunctionalityRepositoryMemImpl class.
+ */
+class DeviceFunctionalityRepositoryMemImplTest {
+
+    private SensorRepositoryMemImpl sensorRepository;
+    private SensorModelRepositoryMemImpl sensorModelRepository;
+    private SensorTypeRepositoryMemImpl sensorTypeRepository;
+    private DeviceRepositoryMemImpl deviceRepository;
+    private DeviceFunctionalityRepositoryMemImpl repository;
+    private SensorFactoryImpl sensorFactory;
+    private SensorTypeName temperature;
+    private SensorTypeName humidity;
+    private SensorModel temperatureModel;
+    private SensorModel humidityModel;
+    private Device heater;
+    private Device dehumidifier;
+
+    /**
+     * Set up the test environment with a temperature and a humidity sensor model and two devices.
+     */
+    @BeforeEach
+    void setUp() {
+        sensorRepository = new SensorRepositoryMemImpl();
+        sensorModelRepository = new SensorModelRepositoryMemImpl();
+        sensorTypeRepository = new SensorTypeRepositoryMemImpl();
+        deviceRepository = new DeviceRepositoryMemImpl();
+        repository = new DeviceFunctionalityRepositoryMemImpl(sensorRepository, sensorModelRepository,
+                sensorTypeRepository, deviceRepository);
+        sensorFactory = new SensorFactoryImpl();
+
+        SensorTypeFactoryImpl sensorTypeFactory = new SensorTypeFactoryImpl();
+        temperature = new SensorTypeName("Temperature");
+        humidity = new SensorTypeName("Humidity");
+        SensorType temperatureType = sensorTypeFactory.createSensorType(temperature, new SensorTypeUnit("Celsius"));
+        SensorType humidityType = sensorTypeFactory.createSensorType(humidity, new SensorTypeUnit("Percentage"));
+        sensorTypeRepository.save(temperatureType);
+        sensorTypeRepository.save(humidityType);
+
+        SensorModelFactoryImpl sensorModelFactory = new SensorModelFactoryImpl();
+        temperatureModel = sensorModelFactory.createSensorModel(new SensorModelName("SensorOfTemperature"),
+                temperatureType.getIdentity());
+        humidityModel = sensorModelFactory.createSensorModel(new SensorModelName("SensorOfHumidity"),
+                humidityType.getIdentity());
+        sensorModelRepository.save(temperatureModel);
+        sensorModelRepository.save(humidityModel);
+
+        DeviceFactoryImpl deviceFactory = new DeviceFactoryImpl();
+        heater = deviceFactory.createDevice(new DeviceName("Heater"), new DeviceTypeName("Heater"),
+                new RoomId("room1"));
+        dehumidifier = deviceFactory.createDevice(new DeviceName("Dehumidifier"), new DeviceTypeName("Dehumidifier"),
+                new RoomId("room2"));
+        deviceRepository.save(heater);
+        deviceRepository.save(dehumidifier);
+    }
+
+    /**
+     * Tests that the constructor throws an exception when a repository is null.
+     */
+    @Test
+    void testConstructorWithNullRepositoryThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new DeviceFunctionalityRepositoryMemImpl(null,
+                sensorModelRepository, sensorTypeRepository, deviceRepository));
+        assertThrows(IllegalArgumentException.class, () -> new DeviceFunctionalityRepositoryMemImpl(sensorRepository,
+                sensorModelRepository, sensorTypeRepository, null));
+    }
+
+    /**
+     * Tests that no pairs are found when there are no sensors.
+     */
+    @Test
+    void testFindDevicesBySensorTypeNameWithNoSensorsReturnsEmptyList() {
+        //Act
+        List<Map.Entry<SensorTypeName, Device>> result = repository.findDevicesBySensorTypeName();
+
+        //Assert
+        assertTrue(result.isEmpty());
+    }
+
+    /**
+     * Tests that each device is paired with the sensor type of each of its sensors, once per sensor type.
+     */
+    @Test
+    void testFindDevicesBySensorTypeNameReturnsEachPairOnce() {
+        //Arrange
+        sensorRepository.save(sensorFactory.createSensor(temperatureModel.getIdentity(), heater.getIdentity()));
+        sensorRepository.save(sensorFactory.createSensor(temperatureModel.getIdentity(), heater.getIdentity()));
+        sensorRepository.save(sensorFactory.createSensor(humidityModel.getIdentity(), heater.getIdentity()));
+        sensorRepository.save(sensorFactory.createSensor(humidityModel.getIdentity(), dehumidifier.getIdentity()));
+
+        //Act
+        List<Map.Entry<SensorTypeName, Device>> result = repository.findDevicesBySensorTypeName();
+
+        //Assert
+        Set<Map.Entry<SensorTypeName, Device>> expected = Set.of(
+                new AbstractMap.SimpleImmutableEntry<>(temperature, heater),
+                new AbstractMap.SimpleImmutableEntry<>(humidity, heater),
+                new AbstractMap.SimpleImmutableEntry<>(humidity, dehumidifier));
+        assertEquals(3, result.size());
+        assertEquals(expected, new HashSet<>(result));
+    }
+
+    /**
+     * Tests that sensors of a model or device that is not in the repositories are ignored.
+     */
+    @Test
+    void testFindDevicesBySensorTypeNameIgnoresSensorsWithUnknownModelOrDevice() {
+        //Arrange
+        sensorRepository.save(sensorFactory.createSensor(new SensorModelName("SensorOfWind"), heater.getIdentity()));
+        sensorRepository.save(sensorFactory.createSensor(temperatureModel.getIdentity(), new DeviceId("unknown")));
+
+        //Act
+        List<Map.Entry<SensorTypeName, Device>> result = repository.findDevicesBySensorTypeName();
+
+        //Assert
+        assertTrue(result.isEmpty());
+    }
+}
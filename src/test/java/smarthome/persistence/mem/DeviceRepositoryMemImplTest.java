@@ -2,14 +2,24 @@ package smarthome.persistence.mem;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.device.Device;
+import smarthome.domain.device.DeviceFactoryImpl;
 import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.device.vo.DeviceName;
+import smarthome.domain.device.vo.DeviceStatus;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.room.vo.RoomId;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -606,4 +616,123 @@ class DeviceRepositoryMemImplTest {
         int actualSize = result.size();
         assertEquals(expectedSize, actualSize, "The list of device ids should contain two device ids.");
     }
+
+    /**
+     * Test that the pages of device ids follow each other in the order of the ids, with a next page while there are
+     * more ids.
+     */
+    @Test
+    void testFindDeviceIdsPagesInOrderOfIds() {
+        //Arrange
+        for (String id : List.of("c", "a", "d", "b")) {
+            Device device = mock(Device.class);
+            when(device.getIdentity()).thenReturn(new DeviceId(id));
+            deviceRepositoryMemImpl.save(device);
+        }
+
+        //Act
+        KeysetPage<DeviceId> firstPage = deviceRepositoryMemImpl.findDeviceIds(null, 3);
+        KeysetPage<DeviceId> lastPage = deviceRepositoryMemImpl.findDeviceIds(new DeviceId("c"), 3);
+
+        //Assert
+        assertEquals(List.of(new DeviceId("a"), new DeviceId("b"), new DeviceId("c")), firstPage.getContent());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(new DeviceId("d")), lastPage.getContent());
+        assertFalse(lastPage.hasNext());
+    }
+
+    /**
+     * Test that a page of device ids with a limit out of range throws an IllegalArgumentException.
+     */
+    @Test
+    void testFindDeviceIdsWithInvalidLimitThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> deviceRepositoryMemImpl.findDeviceIds(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> deviceRepositoryMemImpl.findDeviceIds(null, KeysetPage.MAX_LIMIT + 1));
+    }
+
+    /**
+     * Test that the indexes of devices by room and by device type stay consistent with the devices while threads save,
+     * move and query devices at once.
+     * Each writer saves its own devices and then moves them between rooms, while readers check that every device found
+     * in a room is in that room.
+     */
+    @Test
+    void testConcurrentSavesUpdatesAndQueriesKeepTheIndexesConsistent() throws Exception {
+        //Arrange
+        int writers = 4;
+        int devicesPerWriter = 500;
+        int rooms = 8;
+        DeviceFactoryImpl deviceFactory = new DeviceFactoryImpl();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        //Act
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < 5; round++) {
+                    for (int i = 0; i < devicesPerWriter; i++) {
+                        DeviceId deviceId = new DeviceId(writer + "-" + i);
+                        Device device = deviceFactory.createDevice(deviceId, new DeviceName("Device"),
+                                new DeviceTypeName("Type" + i % 3), new RoomId("room" + (i + round) % rooms),
+                                new DeviceStatus(true));
+                        if (round == 0) {
+                            deviceRepositoryMemImpl.save(device);
+                        } else {
+                            deviceRepositoryMemImpl.update(device);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int r = 0; r < 2; r++) {
+            tasks.add(executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    for (int room = 0; room < rooms; room++) {
+                        RoomId roomId = new RoomId("room" + room);
+                        for (Device device : deviceRepositoryMemImpl.findDevicesByRoomId(roomId)) {
+                            assertEquals(roomId, device.getRoomId());
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (int i = 0; i < writers; i++) {
+            tasks.get(i).get(60, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> task : tasks) {
+            task.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //Assert
+        int devicesInRooms = 0;
+        for (int room = 0; room < rooms; room++) {
+            RoomId roomId = new RoomId("room" + room);
+            for (Device device : deviceRepositoryMemImpl.findDevicesByRoomId(roomId)) {
+                assertEquals(roomId, device.getRoomId());
+                assertEquals(Optional.of(device), deviceRepositoryMemImpl.findByIdentity(device.getIdentity()));
+                devicesInRooms++;
+            }
+        }
+        int devicesOfTypes = 0;
+        for (int type = 0; type < 3; type++) {
+            for (DeviceId ignored : deviceRepositoryMemImpl.findDeviceIdsByDeviceTypeName(
+                    new DeviceTypeName("Type" + type))) {
+                devicesOfTypes++;
+            }
+        }
+        assertEquals(writers * devicesPerWriter, devicesInRooms);
+        assertEquals(writers * devicesPerWriter, devicesOfTypes);
+    }
 }
@@ -0,0 +1,99 @@
+package smarthome.persistence.mem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the IndexedEntities class.
+ */
+class IndexedEntitiesTest {
+
+    private record Item(String id, String colour) {
+    }
+
+    private IndexedEntities<String, Item> entities;
+    private IndexedEntities<String, Item>.Index<String> byColour;
+
+    /**
+     * Sets up entities indexed by colour.
+     */
+    @BeforeEach
+    void setUp() {
+        entities = new IndexedEntities<>(Item::id);
+        byColour = entities.index(Item::colour);
+    }
+
+    /**
+     * Tests that an entity is inserted once, and found by identity and by key.
+     */
+    @Test
+    void testInsertAddsAnEntityOnce() {
+        //Arrange
+        Item item = new Item("1", "red");
+
+        //Act
+        boolean first = entities.insert(item);
+        boolean second = entities.insert(new Item("1", "blue"));
+
+        //Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(Optional.of(item), entities.get("1"));
+        assertEquals(List.of(item), byColour.find("red"));
+        assertEquals(List.of(), byColour.find("blue"));
+    }
+
+    /**
+     * Tests that replacing an entity moves it to its new key.
+     */
+    @Test
+    void testReplaceMovesAnEntityToItsNewKey() {
+        //Arrange
+        entities.insert(new Item("1", "red"));
+        entities.insert(new Item("2", "red"));
+
+        //Act
+        boolean replaced = entities.replace(new Item("1", "blue"));
+
+        //Assert
+        assertTrue(replaced);
+        assertEquals(List.of("2"), byColour.findIds("red"));
+        assertEquals(List.of("1"), byColour.findIds("blue"));
+    }
+
+    /**
+     * Tests that an entity that is not there is not replaced.
+     */
+    @Test
+    void testReplaceOfAnAbsentEntityDoesNothing() {
+        //Act
+        boolean replaced = entities.replace(new Item("1", "red"));
+
+        //Assert
+        assertFalse(replaced);
+        assertFalse(entities.contains("1"));
+        assertEquals(List.of(), byColour.find("red"));
+    }
+
+    /**
+     * Tests that entities are indexed by a null key.
+     */
+    @Test
+    void testPutIndexesANullKey() {
+        //Act
+        entities.put(new Item("1", null));
+        entities.put(new Item("1", "red"));
+        entities.put(new Item("2", null));
+
+        //Assert
+        assertEquals(List.of("2"), byColour.findIds(null));
+        assertEquals(List.of("1"), byColour.findIds("red"));
+    }
+}
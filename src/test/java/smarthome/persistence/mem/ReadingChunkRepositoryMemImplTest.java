@@ -0,0 +1,133 @@
+package smarthome.persistence.mem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.reading.ReadingChunkPolicy;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ReadingChunkRepositoryMemImpl class.
+ */
+class ReadingChunkRepositoryMemImplTest {
+
+    private ReadingChunkRepositoryMemImpl repository;
+    private ReadingFactory readingFactory;
+    private SensorId sensorId;
+    private LocalDateTime baseTime;
+
+    /**
+     * Set up the test environment.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ReadingChunkRepositoryMemImpl(new ReadingChunkPolicy(10, Duration.ofHours(1)));
+        readingFactory = new ReadingFactoryImpl();
+        sensorId = new SensorId("sensor1");
+        baseTime = LocalDateTime.of(2023, 1, 10, 7, 0, 0);
+    }
+
+    /**
+     * Tests that the series of a period holds the added numeric readings of the sensor in the period, sorted by time,
+     * across chunks that overlap in time.
+     */
+    @Test
+    void testFindReadingSeriesReturnsReadingsInPeriodSorted() {
+        //Arrange
+        repository.addReadings(List.of(
+                readingFactory.createReading(new NumericReadingValue(1.0), sensorId, new TimeStamp(baseTime)),
+                readingFactory.createReading(new NumericReadingValue(3.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(2))),
+                readingFactory.createReading(new NumericReadingValue(9.0), new SensorId("sensor2"),
+                        new TimeStamp(baseTime.plusMinutes(1)))));
+        repository.addReadings(List.of(
+                readingFactory.createReading(new NumericReadingValue(2.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(1)))));
+
+        //Act
+        ReadingSeries result = repository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(baseTime), new TimeStamp(baseTime.plusMinutes(1)));
+
+        //Assert
+        assertEquals(2, result.size());
+        assertEquals(1.0, result.valueAt(0));
+        assertEquals(2.0, result.valueAt(1));
+        assertEquals(2, repository.findChunksBySensorIdInAGivenPeriod(sensorId, new TimeStamp(baseTime),
+                new TimeStamp(baseTime.plusMinutes(2))).size());
+    }
+
+    /**
+     * Tests that the chunks of a period include a chunk that started before it, but not one that ended before it.
+     */
+    @Test
+    void testFindChunksReturnsChunksOverlappingPeriod() {
+        //Arrange
+        repository.addReadings(List.of(
+                readingFactory.createReading(new NumericReadingValue(1.0), sensorId, new TimeStamp(baseTime)),
+                readingFactory.createReading(new NumericReadingValue(2.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(30))),
+                readingFactory.createReading(new NumericReadingValue(3.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(70)))));
+
+        //Act
+        ReadingSeries result = repository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(baseTime.plusMinutes(20)), new TimeStamp(baseTime.plusMinutes(80)));
+
+        //Assert
+        assertEquals(2, result.size());
+        assertEquals(2.0, result.valueAt(0));
+        assertEquals(3.0, result.valueAt(1));
+        assertTrue(repository.findChunksBySensorIdInAGivenPeriod(sensorId, new TimeStamp(baseTime.plusMinutes(61)),
+                new TimeStamp(baseTime.plusMinutes(69))).isEmpty());
+    }
+
+    /**
+     * Tests that the last chunk of a sensor is the one with the highest number, and that readings with a non numeric
+     * value are ignored.
+     */
+    @Test
+    void testFindLastChunkAndNonNumericReadings() {
+        //Arrange
+        ReadingValue text = new ReadingValue("open");
+        repository.addReadings(List.of(
+                readingFactory.createReading(text, sensorId, new TimeStamp(baseTime)),
+                readingFactory.createReading(new NumericReadingValue(1.0), sensorId, new TimeStamp(baseTime))));
+        repository.addReadings(List.of(
+                readingFactory.createReading(new NumericReadingValue(2.0), sensorId,
+                        new TimeStamp(baseTime.minusMinutes(1)))));
+
+        //Act + Assert
+        assertEquals(1, repository.findLastChunkBySensorId(sensorId).orElseThrow().getSequence());
+        assertFalse(repository.isEmpty());
+        assertTrue(repository.findLastChunkBySensorId(new SensorId("sensor2")).isEmpty());
+        assertEquals(1, repository.findChunksBySensorIdInAGivenPeriod(sensorId, new TimeStamp(baseTime),
+                new TimeStamp(baseTime)).get(0).getSize());
+    }
+
+    /**
+     * Tests that invalid arguments throw an exception.
+     */
+    @Test
+    void testInvalidArgumentsThrowException() {
+        //Act + Assert
+        assertTrue(new ReadingChunkRepositoryMemImpl().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new ReadingChunkRepositoryMemImpl(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.addReadings(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.findLastChunkBySensorId(null));
+    }
+}
@@ -2,6 +2,7 @@ package smarthome.persistence.mem;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.reading.Reading;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.TimeStamp;
@@ -728,16 +729,16 @@ class ReadingRepositoryMemImplTest {
         String id = "sensorId";
         SensorId sensorId = mock(SensorId.class);
         when(sensorId.getSensorId()).thenReturn(id);
-        readingRepositoryMemImpl.save(readingDouble1);
         when(readingDouble1.getSensorId()).thenReturn(sensorId);
         TimeStamp timeStamp1 = mock(TimeStamp.class);
         when(timeStamp1.getValue()).thenReturn(LocalDateTime.of(2022, 2, 14, 23, 15));
         when(readingDouble1.getTime()).thenReturn(timeStamp1);
-        readingRepositoryMemImpl.save(readingDouble2);
+        readingRepositoryMemImpl.save(readingDouble1);
         when(readingDouble2.getSensorId()).thenReturn(sensorId);
         TimeStamp timeStamp2 = mock(TimeStamp.class);
         when(timeStamp2.getValue()).thenReturn(LocalDateTime.of(2022, 2, 14, 23, 16));
         when(readingDouble2.getTime()).thenReturn(timeStamp2);
+        readingRepositoryMemImpl.save(readingDouble2);
 
         //Act
         Optional<Reading> result = readingRepositoryMemImpl.findLastReadingBySensorId(sensorId);
@@ -758,11 +759,11 @@ class ReadingRepositoryMemImplTest {
         String id = "sensorId";
         SensorId sensorId = mock(SensorId.class);
         when(sensorId.getSensorId()).thenReturn(id);
-        readingRepositoryMemImpl.save(readingDouble1);
         when(readingDouble1.getSensorId()).thenReturn(sensorId);
         TimeStamp timeStamp1 = mock(TimeStamp.class);
         when(timeStamp1.getValue()).thenReturn(LocalDateTime.of(2022, 2, 14, 23, 15));
         when(readingDouble1.getTime()).thenReturn(timeStamp1);
+        readingRepositoryMemImpl.save(readingDouble1);
 
         //Act
         Optional<Reading> result = readingRepositoryMemImpl.findLastReadingBySensorId(sensorId);
@@ -789,4 +790,49 @@ class ReadingRepositoryMemImplTest {
         assertTrue(result.isEmpty(), "The method should return an empty optional when the repository is empty.");
     }
 
-}
\ No newline at end of file
+
+    /**
+     * Test that the pages of the readings of several sensors are in order of time and then of identity, and that
+     * each page starts after the reading of the position given.
+     */
+    @Test
+    void testFindReadingsBySensorIdsInAGivenPeriodPagesInOrderOfTime() {
+        //Arrange
+        SensorId sensor1 = new SensorId("sensor1");
+        SensorId sensor2 = new SensorId("sensor2");
+        LocalDateTime time = LocalDateTime.of(2022, 2, 7, 0, 0);
+        Reading r1 = reading("r1", sensor1, time.plusHours(2));
+        Reading r2 = reading("r2", sensor2, time);
+        Reading r3 = reading("r3", sensor1, time);
+        Reading r4 = reading("r4", new SensorId("sensor3"), time.plusHours(1));
+        for (Reading reading : List.of(r1, r2, r3, r4)) {
+            readingRepositoryMemImpl.save(reading);
+        }
+        TimeStamp start = new TimeStamp(time.minusDays(1));
+        TimeStamp end = new TimeStamp(time.plusDays(1));
+        List<SensorId> sensorIds = List.of(sensor1, sensor2);
+
+        //Act
+        KeysetPage<Reading> firstPage =
+                readingRepositoryMemImpl.findReadingsBySensorIdsInAGivenPeriod(sensorIds, start, end, null, null, 1);
+        KeysetPage<Reading> lastPage = readingRepositoryMemImpl.findReadingsBySensorIdsInAGivenPeriod(sensorIds,
+                start, end, new TimeStamp(time), new ReadingId("r2"), 2);
+
+        //Assert
+        assertEquals(List.of(r2), firstPage.getContent());
+        assertTrue(firstPage.hasNext());
+        assertEquals(List.of(r3, r1), lastPage.getContent());
+        assertFalse(lastPage.hasNext());
+    }
+
+    /**
+     * Creates a double of a reading.
+     */
+    private static Reading reading(String id, SensorId sensorId, LocalDateTime time) {
+        Reading reading = mock(Reading.class);
+        when(reading.getIdentity()).thenReturn(new ReadingId(id));
+        when(reading.getSensorId()).thenReturn(sensorId);
+        when(reading.getTime()).thenReturn(new TimeStamp(time));
+        return reading;
+    }
+}
@@ -0,0 +1,280 @@
+package smarthome.persistence.mem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ReadingRepositoryTimeIndexedMemImpl class.
+ */
+class ReadingRepositoryTimeIndexedMemImplTest {
+
+    private ReadingRepositoryTimeIndexedMemImpl repository;
+    private ReadingFactory readingFactory;
+    private SensorId sensorId;
+    private SensorId otherSensorId;
+    private LocalDateTime baseTime;
+
+    /**
+     * Set up the test environment.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ReadingRepositoryTimeIndexedMemImpl(Duration.ofHours(1));
+        readingFactory = new ReadingFactoryImpl();
+        sensorId = new SensorId("sensor1");
+        otherSensorId = new SensorId("sensor2");
+        baseTime = LocalDateTime.of(2023, 1, 10, 7, 0, 0);
+    }
+
+    /**
+     * Creates a reading for a sensor at a given time.
+     *
+     * @param sensor the sensor of the reading.
+     * @param time   the time of the reading.
+     * @param value  the value of the reading.
+     * @return the reading.
+     */
+    private Reading readingAt(SensorId sensor, LocalDateTime time, String value) {
+        return readingFactory.createReading(new ReadingValue(value), sensor, new TimeStamp(time));
+    }
+
+    /**
+     * Test that the constructor throws an exception when the partition duration is shorter than one second.
+     */
+    @Test
+    void testConstructorWithInvalidPartitionDurationShouldThrowException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingRepositoryTimeIndexedMemImpl(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingRepositoryTimeIndexedMemImpl(Duration.ofMillis(500)));
+    }
+
+    /**
+     * Test that saving a null reading throws an exception.
+     */
+    @Test
+    void testSaveNullReadingShouldThrowException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+    }
+
+    /**
+     * Test that saving a reading twice throws an exception.
+     */
+    @Test
+    void testSaveDuplicatedReadingShouldThrowException() {
+        //Arrange
+        Reading reading = readingAt(sensorId, baseTime, "20");
+        repository.save(reading);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.save(reading));
+    }
+
+    /**
+     * Test that a saved reading is found by its identity.
+     */
+    @Test
+    void testFindByIdentityShouldReturnSavedReading() {
+        //Arrange
+        Reading reading = readingAt(sensorId, baseTime, "20");
+        repository.save(reading);
+
+        //Act
+        Optional<Reading> result = repository.findByIdentity(reading.getIdentity());
+
+        //Assert
+        assertEquals(Optional.of(reading), result);
+        assertTrue(repository.containsIdentity(reading.getIdentity()));
+        assertFalse(repository.containsIdentity(new ReadingId("unknown")));
+    }
+
+    /**
+     * Test that findAll returns a copy that callers cannot change, so the series of the sensor stays consistent
+     * with the readings by identity.
+     */
+    @Test
+    void testFindAllShouldReturnUnmodifiableCopy() {
+        //Arrange
+        Reading reading = readingAt(sensorId, baseTime, "20");
+        repository.save(reading);
+        List<Reading> result = (List<Reading>) repository.findAll();
+
+        //Act + Assert
+        assertThrows(UnsupportedOperationException.class, result::clear);
+        repository.save(readingAt(sensorId, baseTime.plusMinutes(1), "21"));
+        assertEquals(List.of(reading), result);
+        assertTrue(repository.containsIdentity(reading.getIdentity()));
+    }
+
+    /**
+     * Test that concurrent saves of the same reading store it only once.
+     */
+    @Test
+    void testConcurrentSavesOfSameReadingShouldStoreItOnce() throws InterruptedException {
+        //Arrange
+        Reading reading = readingAt(sensorId, baseTime, "20");
+        AtomicInteger saved = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    repository.save(reading);
+                    saved.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // another thread saved it first
+                }
+            }));
+        }
+
+        //Act
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        //Assert
+        assertEquals(1, saved.get());
+        assertEquals(List.of(reading),
+                repository.findReadingsBySensorIdInAGivenPeriod(sensorId, new TimeStamp(baseTime),
+                        new TimeStamp(baseTime)));
+    }
+
+    /**
+     * Test that readings saved out of order, across several partitions, are returned sorted by time and
+     * that both ends of the period are included.
+     */
+    @Test
+    void testFindReadingsInPeriodShouldReturnReadingsSortedByTimeWithBothEndsIncluded() {
+        //Arrange
+        Reading beforePeriod = readingAt(sensorId, baseTime.minusSeconds(1), "1");
+        Reading atStart = readingAt(sensorId, baseTime, "2");
+        Reading nextPartition = readingAt(sensorId, baseTime.plusHours(1).plusMinutes(30), "3");
+        Reading lastPartition = readingAt(sensorId, baseTime.plusHours(3), "4");
+        Reading afterPeriod = readingAt(sensorId, baseTime.plusHours(3).plusSeconds(1), "5");
+        Reading otherSensor = readingAt(otherSensorId, baseTime.plusMinutes(10), "6");
+        repository.save(lastPartition);
+        repository.save(afterPeriod);
+        repository.save(atStart);
+        repository.save(otherSensor);
+        repository.save(nextPartition);
+        repository.save(beforePeriod);
+
+        //Act
+        Iterable<Reading> result = repository.findReadingsBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(baseTime), new TimeStamp(baseTime.plusHours(3)));
+
+        //Assert
+        assertEquals(List.of(atStart, nextPartition, lastPartition), result);
+    }
+
+    /**
+     * Test that reading ids in a period follow the order of the readings.
+     */
+    @Test
+    void testFindReadingIdsInPeriodShouldReturnIdsSortedByTime() {
+        //Arrange
+        Reading second = readingAt(sensorId, baseTime.plusMinutes(2), "2");
+        Reading first = readingAt(sensorId, baseTime.plusMinutes(1), "1");
+        repository.save(second);
+        repository.save(first);
+
+        //Act
+        Iterable<ReadingId> result = repository.findReadingIdsBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(baseTime), new TimeStamp(baseTime.plusHours(1)));
+
+        //Assert
+        assertEquals(List.of(first.getIdentity(), second.getIdentity()), result);
+    }
+
+    /**
+     * Test that an unknown sensor, or a period with the start after the end, has no readings.
+     */
+    @Test
+    void testFindReadingsInPeriodOfUnknownSensorOrInvertedPeriodShouldReturnEmpty() {
+        //Arrange
+        repository.save(readingAt(sensorId, baseTime, "1"));
+
+        //Act
+        Iterable<Reading> unknownSensor = repository.findReadingsBySensorIdInAGivenPeriod(otherSensorId,
+                new TimeStamp(baseTime), new TimeStamp(baseTime.plusHours(1)));
+        Iterable<Reading> invertedPeriod = repository.findReadingsBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(baseTime.plusHours(1)), new TimeStamp(baseTime));
+
+        //Assert
+        assertFalse(unknownSensor.iterator().hasNext());
+        assertFalse(invertedPeriod.iterator().hasNext());
+    }
+
+    /**
+     * Test that the last reading of a sensor is the newest one, even if older readings arrive later.
+     */
+    @Test
+    void testFindLastReadingShouldIgnoreLateReadings() {
+        //Arrange
+        Reading newest = readingAt(sensorId, baseTime.plusHours(5), "2");
+        repository.save(readingAt(sensorId, baseTime, "1"));
+        repository.save(newest);
+        repository.save(readingAt(sensorId, baseTime.plusHours(2), "3"));
+
+        //Act
+        Optional<Reading> result = repository.findLastReadingBySensorId(sensorId);
+
+        //Assert
+        assertEquals(Optional.of(newest), result);
+        assertTrue(repository.findLastReadingBySensorId(otherSensorId).isEmpty());
+    }
+
+    /**
+     * Test that the range query returns the same readings as a full scan on a larger, shuffled data set.
+     */
+    @Test
+    void testFindReadingsInPeriodShouldMatchFullScan() {
+        //Arrange
+        List<Reading> readings = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            LocalDateTime time = baseTime.plusSeconds((i * 7919L) % 50000);
+            readings.add(readingAt(i % 2 == 0 ? sensorId : otherSensorId, time, String.valueOf(i)));
+        }
+        readings.forEach(repository::save);
+        LocalDateTime start = baseTime.plusHours(2).plusSeconds(17);
+        LocalDateTime end = baseTime.plusHours(9).plusSeconds(3);
+
+        //Act
+        List<Reading> result = new ArrayList<>();
+        repository.findReadingsBySensorIdInAGivenPeriod(sensorId, new TimeStamp(start), new TimeStamp(end))
+                .forEach(result::add);
+
+        //Assert
+        long expected = readings.stream()
+                .filter(reading -> reading.getSensorId().equals(sensorId))
+                .filter(reading -> !reading.getTime().getValue().isBefore(start)
+                        && !reading.getTime().getValue().isAfter(end))
+                .count();
+        assertEquals(expected, result.size());
+        for (int i = 1; i < result.size(); i++) {
+            assertFalse(result.get(i - 1).getTime().getValue().isAfter(result.get(i).getTime().getValue()));
+        }
+    }
+}
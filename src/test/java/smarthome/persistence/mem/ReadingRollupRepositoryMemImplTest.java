@@ -0,0 +1,105 @@
+package smarthome.persistence.mem;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ReadingRollupRepositoryMemImpl class.
+ */
+class ReadingRollupRepositoryMemImplTest {
+
+    private ReadingRollupRepositoryMemImpl repository;
+    private SensorId sensorId;
+    private LocalDateTime baseTime;
+
+    /**
+     * Set up the test environment.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ReadingRollupRepositoryMemImpl();
+        sensorId = new SensorId("sensor1");
+        baseTime = LocalDateTime.of(2023, 1, 10, 7, 0, 0);
+    }
+
+    /**
+     * Tests that rollups of the same bucket are combined.
+     */
+    @Test
+    void testAddCombinesRollupsOfSameBucket() {
+        //Arrange
+        repository.add(ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, baseTime, 10.0));
+
+        //Act
+        repository.add(ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, baseTime.plusSeconds(20), 30.0));
+
+        //Assert
+        List<ReadingRollup> result = repository.findRollupsBySensorIdInAGivenPeriod(sensorId,
+                ReadingRollupResolution.MINUTE, new TimeStamp(baseTime), new TimeStamp(baseTime.plusMinutes(1)));
+        assertEquals(List.of(new ReadingRollup(sensorId, ReadingRollupResolution.MINUTE, baseTime, 2, 40.0, 10.0, 30.0,
+                1, 10.0)), result);
+    }
+
+    /**
+     * Tests that adding a null rollup throws an exception.
+     */
+    @Test
+    void testAddNullRollupThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.add(null));
+    }
+
+    /**
+     * Tests that only the buckets starting in the period, end excluded, are found, sorted by bucket.
+     */
+    @Test
+    void testFindRollupsReturnsBucketsStartingInPeriodSorted() {
+        //Arrange
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        repository.addReadings(List.of(
+                readingFactory.createReading(new NumericReadingValue(3.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(2))),
+                readingFactory.createReading(new NumericReadingValue(1.0), sensorId, new TimeStamp(baseTime)),
+                readingFactory.createReading(new NumericReadingValue(2.0), sensorId,
+                        new TimeStamp(baseTime.plusMinutes(1)))));
+
+        //Act
+        List<ReadingRollup> result = repository.findRollupsBySensorIdInAGivenPeriod(sensorId,
+                ReadingRollupResolution.MINUTE, new TimeStamp(baseTime), new TimeStamp(baseTime.plusMinutes(2)));
+
+        //Assert
+        assertEquals(2, result.size());
+        assertEquals(baseTime, result.get(0).getBucketStart());
+        assertEquals(baseTime.plusMinutes(1), result.get(1).getBucketStart());
+    }
+
+    /**
+     * Tests that nothing is found for an unknown sensor or an empty period.
+     */
+    @Test
+    void testFindRollupsOfUnknownSensorOrEmptyPeriodReturnsEmptyList() {
+        //Arrange
+        repository.add(ReadingRollup.of(sensorId, ReadingRollupResolution.MINUTE, baseTime, 10.0));
+
+        //Act + Assert
+        assertTrue(repository.findRollupsBySensorIdInAGivenPeriod(new SensorId("sensor2"),
+                ReadingRollupResolution.MINUTE, new TimeStamp(baseTime), new TimeStamp(baseTime.plusHours(1)))
+                .isEmpty());
+        assertTrue(repository.findRollupsBySensorIdInAGivenPeriod(sensorId, ReadingRollupResolution.MINUTE,
+                new TimeStamp(baseTime), new TimeStamp(baseTime)).isEmpty());
+    }
+}
@@ -773,8 +773,8 @@ class SensorRepositoryMemImplTest {
         //Arrange
         DeviceId deviceId = mock(DeviceId.class);
         when(deviceId.getIdentity()).thenReturn("deviceId1");
-        sensorRepositoryMemImpl.save(sensorMock);
         when(sensorMock.getDeviceId()).thenReturn(deviceId);
+        sensorRepositoryMemImpl.save(sensorMock);
 
         //Act
         Iterable<SensorId> sensors = sensorRepositoryMemImpl.findSensorIdsByDeviceId(deviceId);
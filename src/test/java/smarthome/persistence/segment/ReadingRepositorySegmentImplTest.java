@@ -0,0 +1,265 @@
+package smarthome.persistence.segment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ReadingRepositorySegmentImpl class.
+ */
+class ReadingRepositorySegmentImplTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 4, 27, 10, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private final ReadingFactory readingFactory = new ReadingFactoryImpl();
+    private final SensorId sensorId = new SensorId("sensor1");
+    private ReadingRepositorySegmentImpl repository;
+
+    /**
+     * Set up the test environment, with segments of 1 KiB.
+     */
+    @BeforeEach
+    void setUp() {
+        repository = new ReadingRepositorySegmentImpl(directory.toString(), 1024, readingFactory);
+    }
+
+    /**
+     * Close the repository.
+     */
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private Reading reading(int number, SensorId sensor, double value, LocalDateTime time) {
+        return readingFactory.createReading(new ReadingId("reading" + number), new NumericReadingValue(value),
+                sensor, new TimeStamp(time));
+    }
+
+    /**
+     * Tests that saved readings are found by identity, by period sorted by time, as a series, and as the latest
+     * reading of their sensor.
+     */
+    @Test
+    void testSaveAndFind() {
+        //Arrange
+        Reading first = reading(1, sensorId, 1.0, BASE_TIME);
+        Reading second = reading(2, sensorId, 2.0, BASE_TIME.plusMinutes(1));
+        Reading other = reading(3, new SensorId("sensor2"), 9.0, BASE_TIME);
+
+        //Act
+        repository.saveAll(List.of(second, other));
+        repository.save(first);
+
+        //Assert
+        assertEquals(first, repository.findByIdentity(first.getIdentity()).orElseThrow());
+        assertTrue(repository.containsIdentity(other.getIdentity()));
+        assertFalse(repository.containsIdentity(new ReadingId("reading4")));
+        assertTrue(repository.findByIdentity(new ReadingId("reading4")).isEmpty());
+        assertEquals(List.of(first, second), repository.findReadingsBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(BASE_TIME), new TimeStamp(BASE_TIME.plusMinutes(1))));
+        assertEquals(List.of(first.getIdentity()), repository.findReadingIdsBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(BASE_TIME), new TimeStamp(BASE_TIME.plusSeconds(59))));
+        ReadingSeries series = repository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId,
+                new TimeStamp(BASE_TIME), new TimeStamp(BASE_TIME.plusMinutes(1)));
+        assertEquals(2, series.size());
+        assertEquals(1.0, series.valueAt(0));
+        assertEquals(second, repository.findLastReadingBySensorId(sensorId).orElseThrow());
+        assertEquals(3, ((List<Reading>) repository.findAll()).size());
+    }
+
+    /**
+     * Tests that a sensor starts a new segment when its last one is full, and that a repository opened again on the
+     * same directory holds every reading and latest reading.
+     */
+    @Test
+    void testReopenAfterSeveralSegments() throws IOException {
+        //Arrange
+        List<Reading> readings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            readings.add(reading(i, sensorId, i, BASE_TIME.plusSeconds(i)));
+        }
+        repository.saveAll(readings);
+        repository.close();
+
+        //Act
+        repository = new ReadingRepositorySegmentImpl(directory.toString(), 1024, readingFactory);
+
+        //Assert
+        try (Stream<Path> files = Files.walk(directory)) {
+            assertTrue(files.filter(Files::isRegularFile).count() > 1);
+        }
+        assertEquals(readings, repository.findReadingsBySensorIdInAGivenPeriod(sensorId, new TimeStamp(BASE_TIME),
+                new TimeStamp(BASE_TIME.plusSeconds(99))));
+        assertEquals(readings.get(99), repository.findLastReadingBySensorId(sensorId).orElseThrow());
+        assertEquals(readings.get(42), repository.findByIdentity(new ReadingId("reading42")).orElseThrow());
+        repository.save(reading(100, sensorId, 100.0, BASE_TIME.plusSeconds(100)));
+        assertEquals(101, ((List<Reading>) repository.findAll()).size());
+    }
+
+    /**
+     * Tests that a batch with a repeated or already saved identity is refused as a whole.
+     */
+    @Test
+    void testSaveAllRefusesRepeatedIdentities() {
+        //Arrange
+        Reading saved = reading(1, sensorId, 1.0, BASE_TIME);
+        repository.save(saved);
+        Reading fresh = reading(2, sensorId, 2.0, BASE_TIME);
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.save(saved));
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(List.of(fresh, saved)));
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(List.of(fresh, fresh)));
+        assertFalse(repository.containsIdentity(fresh.getIdentity()));
+    }
+
+    /**
+     * Tests that of several saves of the same identity at the same time, exactly one appends the reading.
+     */
+    @Test
+    void testConcurrentSavesOfTheSameIdentityAppendItOnce() throws Exception {
+        //Arrange
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    repository.save(reading(1, sensorId, 1.0, BASE_TIME));
+                    return true;
+                } catch (IllegalArgumentException e) {
+                    return false;
+                }
+            }));
+        }
+
+        //Act
+        start.countDown();
+        int saved = 0;
+        for (Future<Boolean> future : futures) {
+            saved += future.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        //Assert
+        assertEquals(1, saved);
+        assertEquals(1, ((List<Reading>) repository.findAll()).size());
+    }
+
+    /**
+     * Tests that only the last segment of a sensor stays mapped, and that a repository opened again keeps only the
+     * last segment of each sensor mapped too.
+     */
+    @Test
+    void testOnlyTheLastSegmentStaysMapped() {
+        //Arrange
+        List<Reading> readings = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            readings.add(reading(i, sensorId, i, BASE_TIME.plusSeconds(i)));
+        }
+
+        //Act
+        repository.saveAll(readings);
+        List<Boolean> mappedAfterSave = repository.mappedSegments(sensorId);
+        repository.close();
+        repository = new ReadingRepositorySegmentImpl(directory.toString(), 1024, readingFactory);
+        List<Boolean> mappedAfterOpen = repository.mappedSegments(sensorId);
+
+        //Assert
+        assertTrue(mappedAfterSave.size() > 1);
+        assertEquals(mappedAfterSave, mappedAfterOpen);
+        assertEquals(List.of(true), mappedAfterSave.subList(mappedAfterSave.size() - 1, mappedAfterSave.size()));
+        assertFalse(mappedAfterSave.subList(0, mappedAfterSave.size() - 1).contains(true));
+        assertEquals(readings.get(3), repository.findByIdentity(readings.get(3).getIdentity()).orElseThrow());
+        assertEquals(mappedAfterSave, repository.mappedSegments(sensorId));
+    }
+
+    /**
+     * Tests that readings saved inside a transaction are appended once it commits, and that a transaction that rolls
+     * back writes nothing, gives back the identities, and leaves the latest reading unchanged.
+     */
+    @Test
+    void testSaveInATransactionAppendsOnCommitOnly() {
+        //Arrange
+        TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(
+                new DriverManagerDataSource("jdbc:h2:mem:segment-transactions", "sa", "")));
+        Reading committed = reading(1, sensorId, 1.0, BASE_TIME);
+        Reading rolledBack = reading(2, sensorId, 2.0, BASE_TIME.plusMinutes(1));
+
+        //Act
+        transactions.executeWithoutResult(status -> {
+            repository.save(committed);
+            assertFalse(repository.containsIdentity(committed.getIdentity()));
+            assertThrows(IllegalArgumentException.class, () -> repository.save(committed));
+        });
+        assertThrows(IllegalStateException.class, () -> transactions.executeWithoutResult(status -> {
+            repository.save(rolledBack);
+            throw new IllegalStateException("rollup write failed");
+        }));
+
+        //Assert
+        assertTrue(repository.containsIdentity(committed.getIdentity()));
+        assertFalse(repository.containsIdentity(rolledBack.getIdentity()));
+        assertEquals(committed, repository.findLastReadingBySensorId(sensorId).orElseThrow());
+        repository.close();
+        repository = new ReadingRepositorySegmentImpl(directory.toString(), 1024, readingFactory);
+        assertEquals(List.of(committed), repository.findAll());
+        repository.save(rolledBack);
+        assertEquals(rolledBack, repository.findLastReadingBySensorId(sensorId).orElseThrow());
+    }
+
+    /**
+     * Tests that a sensor without readings has none, and that invalid arguments throw an exception.
+     */
+    @Test
+    void testEmptySensorAndInvalidArguments() {
+        //Act + Assert
+        assertFalse(repository.findReadingsBySensorIdInAGivenPeriod(sensorId, new TimeStamp(BASE_TIME),
+                new TimeStamp(BASE_TIME)).iterator().hasNext());
+        assertTrue(repository.findReadingSeriesBySensorIdInAGivenPeriod(sensorId, new TimeStamp(BASE_TIME),
+                new TimeStamp(BASE_TIME)).isEmpty());
+        assertTrue(repository.findLastReadingBySensorId(sensorId).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.findByIdentity(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.containsIdentity(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.findLastReadingBySensorId(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingRepositorySegmentImpl(directory.toString(), 0, readingFactory));
+    }
+}
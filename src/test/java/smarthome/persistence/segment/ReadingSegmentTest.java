@@ -0,0 +1,228 @@
+package smarthome.persistence.segment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingSeries;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.ReadingId;
+import smarthome.domain.reading.vo.ReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.sensor.vo.SensorId;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the ReadingSegment class.
+ */
+class ReadingSegmentTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 4, 27, 10, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    private final ReadingFactory readingFactory = new ReadingFactoryImpl();
+    private final SensorId sensorId = new SensorId("sensor1");
+
+    private Reading reading(int number, double value, LocalDateTime time) {
+        return readingFactory.createReading(new ReadingId("reading" + number), new NumericReadingValue(value),
+                sensorId, new TimeStamp(time));
+    }
+
+    private static long nanos(LocalDateTime time) {
+        return ReadingSeries.toEpochNanos(time);
+    }
+
+    /**
+     * Tests that numeric and text readings are read back as they were appended.
+     */
+    @Test
+    void testAppendAndReadBack() {
+        //Arrange
+        Reading numeric = reading(1, 21.5, BASE_TIME.plusNanos(123));
+        Reading text = readingFactory.createReading(new ReadingId("reading2"), new ReadingValue("open ✓"), sensorId,
+                new TimeStamp(BASE_TIME.minusYears(60)));
+        try (ReadingSegment segment = new ReadingSegment(directory.resolve("s.dat"), 4096, sensorId, readingFactory)) {
+
+            //Act
+            int numericOffset = segment.append(numeric);
+            int textOffset = segment.append(text);
+
+            //Assert
+            assertEquals(numeric, segment.readingAt(numericOffset));
+            assertEquals(numeric.getValue().valueToString(), segment.readingAt(numericOffset).getValue().valueToString());
+            assertEquals(numeric.getTime().getValue(), segment.readingAt(numericOffset).getTime().getValue());
+            assertEquals("open ✓", segment.readingAt(textOffset).getValue().valueToString());
+            assertEquals(text.getTime().getValue(), segment.readingAt(textOffset).getTime().getValue());
+            assertEquals(2, segment.size());
+            assertEquals(numericOffset, segment.getLatestOffset());
+        }
+    }
+
+    /**
+     * Tests that a period query over many index blocks, with readings appended out of order, finds exactly the
+     * readings of the period, both ends included.
+     */
+    @Test
+    void testPeriodQueryFindsReadingsInPeriod() {
+        //Arrange
+        try (ReadingSegment segment = new ReadingSegment(directory.resolve("s.dat"), 1 << 20, sensorId,
+                readingFactory)) {
+            for (int i = 0; i < 1000; i++) {
+                segment.append(reading(i, i, BASE_TIME.plusSeconds(i)));
+            }
+            segment.append(reading(1000, -1, BASE_TIME.plusSeconds(500)));
+            List<Reading> readings = new ArrayList<>();
+            ReadingSeries series = new ReadingSeries();
+
+            //Act
+            segment.forEachReading(nanos(BASE_TIME.plusSeconds(499)), nanos(BASE_TIME.plusSeconds(501)), readings::add);
+            segment.addToSeries(series, nanos(BASE_TIME.plusSeconds(990)), Long.MAX_VALUE);
+
+            //Assert
+            assertEquals(List.of("reading499", "reading500", "reading501", "reading1000"),
+                    readings.stream().map(reading -> reading.getIdentity().getId()).toList());
+            assertEquals(10, series.size());
+            assertEquals(990.0, series.valueAt(0));
+            assertEquals(nanos(BASE_TIME.plusSeconds(999)), series.epochNanosAt(9));
+        }
+    }
+
+    /**
+     * Tests that a segment opened again holds the readings appended before, and takes more after them.
+     */
+    @Test
+    void testReopenKeepsReadings() {
+        //Arrange
+        Path path = directory.resolve("s.dat");
+        try (ReadingSegment segment = new ReadingSegment(path, 4096, sensorId, readingFactory)) {
+            segment.append(reading(1, 1.0, BASE_TIME));
+            segment.append(reading(2, 2.0, BASE_TIME.plusSeconds(1)));
+        }
+
+        //Act
+        try (ReadingSegment segment = new ReadingSegment(path, 64, sensorId, readingFactory)) {
+            segment.append(reading(3, 3.0, BASE_TIME.plusSeconds(2)));
+            List<String> ids = new ArrayList<>();
+            segment.forEachIdentity((id, offset) -> ids.add(id));
+
+            //Assert
+            assertEquals(List.of("reading1", "reading2", "reading3"), ids);
+            assertEquals(3.0, Double.parseDouble(segment.readingAt(segment.getLatestOffset()).getValue()
+                    .valueToString()));
+        }
+    }
+
+    /**
+     * Tests that a record damaged by a crash, and the records after it, are dropped when the segment is opened.
+     */
+    @Test
+    void testReopenDropsDamagedRecord() throws IOException {
+        //Arrange
+        Path path = directory.resolve("s.dat");
+        int damagedOffset;
+        try (ReadingSegment segment = new ReadingSegment(path, 4096, sensorId, readingFactory)) {
+            segment.append(reading(1, 1.0, BASE_TIME));
+            damagedOffset = segment.append(reading(2, 2.0, BASE_TIME.plusSeconds(1)));
+            segment.append(reading(3, 3.0, BASE_TIME.plusSeconds(2)));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(damagedOffset + 20);
+            file.writeByte(0x55);
+        }
+
+        //Act
+        try (ReadingSegment segment = new ReadingSegment(path, 4096, sensorId, readingFactory)) {
+
+            //Assert
+            assertEquals(1, segment.size());
+            assertEquals(damagedOffset, segment.append(reading(4, 4.0, BASE_TIME.plusSeconds(3))));
+        }
+    }
+
+    /**
+     * Tests that a full segment has no room for a record, and refuses it.
+     */
+    @Test
+    void testFullSegmentRefusesReading() {
+        //Arrange
+        Reading reading = reading(1, 1.0, BASE_TIME);
+        int length = ReadingSegment.recordLength(reading);
+        try (ReadingSegment segment = new ReadingSegment(directory.resolve("s.dat"), length + 1, sensorId,
+                readingFactory)) {
+            assertTrue(segment.hasRoomFor(length));
+            segment.append(reading);
+
+            //Act + Assert
+            assertFalse(segment.hasRoomFor(length));
+            assertThrows(IllegalArgumentException.class, () -> segment.append(reading(2, 2.0, BASE_TIME)));
+        }
+    }
+
+    /**
+     * Tests that invalid arguments throw an exception.
+     */
+    @Test
+    void testInvalidArgumentsThrowException() {
+        //Arrange
+        Path path = directory.resolve("s.dat");
+        Reading other = readingFactory.createReading(new ReadingId("reading1"), new NumericReadingValue(1.0),
+                new SensorId("sensor2"), new TimeStamp(BASE_TIME));
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> new ReadingSegment(null, 64, sensorId, readingFactory));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingSegment(path, 0, sensorId, readingFactory));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingSegment(path, 64, null, readingFactory));
+        assertThrows(IllegalArgumentException.class, () -> new ReadingSegment(path, 64, sensorId, null));
+        try (ReadingSegment segment = new ReadingSegment(path, 4096, sensorId, readingFactory)) {
+            assertThrows(IllegalArgumentException.class, () -> segment.append(null));
+            assertThrows(IllegalArgumentException.class, () -> segment.append(other));
+        }
+    }
+
+    /**
+     * Tests that a sealed segment closes its file, takes no more readings, and maps the file again only for the reads
+     * of a period it has readings of.
+     */
+    @Test
+    void testSealedSegmentIsMappedOnlyWhileRead() {
+        //Arrange
+        try (ReadingSegment segment = new ReadingSegment(directory.resolve("s.dat"), 4096, sensorId, readingFactory)) {
+            Reading first = reading(1, 1.0, BASE_TIME);
+            int offset = segment.append(first);
+            segment.append(reading(2, 2.0, BASE_TIME.plusMinutes(1)));
+
+            //Act
+            segment.seal();
+
+            //Assert
+            assertFalse(segment.isMapped());
+            assertFalse(segment.hasRoomFor(1));
+            assertThrows(IllegalArgumentException.class, () -> segment.append(reading(3, 3.0, BASE_TIME)));
+            assertEquals(first, segment.readingAt(offset));
+            ReadingSeries series = new ReadingSeries();
+            segment.addToSeries(series, nanos(BASE_TIME), nanos(BASE_TIME.plusMinutes(1)));
+            assertEquals(2, series.size());
+            List<String> ids = new ArrayList<>();
+            segment.forEachIdentity((id, recordOffset) -> ids.add(id));
+            assertEquals(List.of("reading1", "reading2"), ids);
+            segment.forEachReading(nanos(BASE_TIME.plusHours(1)), nanos(BASE_TIME.plusHours(2)), reading -> {
+                throw new AssertionError();
+            });
+            assertFalse(segment.isMapped());
+        }
+    }
+}
@@ -21,6 +21,7 @@ import smarthome.domain.reading.vo.TimeStamp;
 import smarthome.domain.repository.IActuatorRepository;
 import smarthome.domain.repository.IDeviceRepository;
 import smarthome.domain.repository.IReadingRepository;
+import smarthome.domain.repository.IReadingRollupRepository;
 import smarthome.domain.repository.ISensorRepository;
 import smarthome.domain.sensor.Sensor;
 import smarthome.domain.sensor.vo.SensorId;
@@ -28,7 +29,9 @@ import smarthome.domain.sensor.vo.values.ScalePercentageValue;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
 import smarthome.service.IActuatorService;
+import smarthome.service.IReadingStreamService;
 
+import java.time.Clock;
 import javax.naming.ConfigurationException;
 import java.util.List;
 import java.util.Optional;
@@ -37,10 +40,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -55,6 +62,8 @@ class ActuatorServiceImplTest {
     IDeviceRepository mockDeviceRepository;
     ISensorRepository mockSensorRepository;
     IReadingRepository mockReadingRepository;
+    IReadingRollupRepository mockRollupRepository;
+    IReadingStreamService mockReadingStreamService;
 
     // Mock object for the ActuatorFactory
     ActuatorFactory mockActuatorFactory;
@@ -95,6 +104,8 @@ class ActuatorServiceImplTest {
         mockDeviceRepository = mock(IDeviceRepository.class);
         mockSensorRepository = mock(ISensorRepository.class);
         mockReadingRepository = mock(IReadingRepository.class);
+        mockRollupRepository = mock(IReadingRollupRepository.class);
+        mockReadingStreamService = mock(IReadingStreamService.class);
         mockScalePercentageValue = mock(ScalePercentageValue.class);
         mockValue = mock(Value.class);
         mockReading = mock(Reading.class);
@@ -109,7 +120,7 @@ class ActuatorServiceImplTest {
 
         // Initialize the class under test
         actuatorRESTService = new ActuatorServiceImpl(mockActuatorRepository, mockDeviceRepository,
-                mockSensorRepository, mockReadingRepository, mockActuatorFactory, mockReadingFactory, filePathName);
+                mockSensorRepository, mockReadingRepository, mockRollupRepository, mockReadingStreamService, mockActuatorFactory, mockReadingFactory, filePathName, Clock.systemDefaultZone());
 
         // Create mock objects for the ActuatorMap
         mockActuatorMap = mock(ActuatorMap.class);
@@ -144,8 +155,8 @@ class ActuatorServiceImplTest {
             org.apache.commons.configuration2.ex.ConfigurationException {
         //Act and Assert
         ActuatorServiceImpl actuatorRESTService = new ActuatorServiceImpl(mockActuatorRepository,
-                mockDeviceRepository, mockSensorRepository, mockReadingRepository, mockActuatorFactory,
-                mockReadingFactory, filePathName);
+                mockDeviceRepository, mockSensorRepository, mockReadingRepository, mockRollupRepository, mockReadingStreamService, mockActuatorFactory,
+                mockReadingFactory, filePathName, Clock.systemDefaultZone());
         assertNotNull(actuatorRESTService, "The constructor should initialize the ActuatorServiceImpl object " +
                 "when" + " the parameters are valid.");
 
@@ -397,13 +408,16 @@ class ActuatorServiceImplTest {
         when(mockActuatorOfBlindRoller.operate(mockScalePercentageValue)).thenReturn(mockScalePercentageValue);
         when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(eq(mockDeviceID), any(SensorModelName.class)))
                 .thenReturn(List.of(mockSensorId));
-        when(mockReadingFactory.createReading(mockScalePercentageValue, mockSensorId, mockTimeStamp)).thenReturn(mockReading);
+        when(mockReadingFactory.createReading(eq(mockScalePercentageValue), eq(mockSensorId),
+                any(TimeStamp.class))).thenReturn(mockReading);
         when(mockReadingRepository.save(mockReading)).thenReturn(mockReading);
         // Act
         Value result = actuatorRESTService.operateBlindRoller(mockActuatorId, mockScalePercentageValue);
         // Assert
         assertEquals(mockScalePercentageValue, result, "The operateBlindRoller method should return the value when " +
                 "the operation is successful.");
+        verify(mockRollupRepository, times(1)).addReadings(List.of(mockReading));
+        verify(mockReadingStreamService, times(1)).publish(List.of(mockReading));
     }
 
     /**
@@ -429,6 +443,32 @@ class ActuatorServiceImplTest {
         assertNull(result, "The operateBlindRoller method should return null when the reading is invalid.");
     }
 
+    /**
+     * Test for the operateBlindRoller method.
+     * This test checks that a failure to save the rollups of the reading is thrown, so the transaction that saved
+     * the reading rolls back, and that the reading is not published.
+     * The test passes if the exception is thrown and nothing is published.
+     */
+    @Test
+    void testOperateBlindRollerThrowsWhenRollupsAreNotSaved() {
+        // Arrange
+        when(mockActuatorRepository.findByIdentity(mockActuatorId)).thenReturn(Optional.of(mockActuatorOfBlindRoller));
+        when(mockActuatorOfBlindRoller.getDeviceId()).thenReturn(mockDeviceID);
+        when(mockDeviceRepository.findByIdentity(mockDeviceID)).thenReturn(Optional.of(mockDevice));
+        when(mockDevice.getDeviceStatus()).thenReturn(mockDeviceStatus);
+        when(mockDeviceStatus.getStatus()).thenReturn(true);
+        when(mockActuatorOfBlindRoller.operate(mockScalePercentageValue)).thenReturn(mockScalePercentageValue);
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(eq(mockDeviceID), any(SensorModelName.class)))
+                .thenReturn(List.of(mockSensorId));
+        when(mockReadingFactory.createReading(eq(mockScalePercentageValue), eq(mockSensorId),
+                any(TimeStamp.class))).thenReturn(mockReading);
+        doThrow(new IllegalStateException()).when(mockRollupRepository).addReadings(List.of(mockReading));
+        // Act + Assert
+        assertThrows(IllegalStateException.class,
+                () -> actuatorRESTService.operateBlindRoller(mockActuatorId, mockScalePercentageValue));
+        verify(mockReadingStreamService, times(0)).publish(any());
+    }
+
     /**
      * Test for the getLastPercentageReading method.
      * This test checks if the method returns the last reading when all the data is valid.
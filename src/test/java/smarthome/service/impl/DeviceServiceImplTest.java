@@ -21,6 +21,7 @@ import smarthome.domain.sensortype.SensorType;
 import smarthome.domain.sensortype.vo.SensorTypeId;
 import smarthome.domain.sensortype.vo.SensorTypeName;
 import smarthome.domain.sensortype.vo.SensorTypeUnit;
+import smarthome.persistence.mem.DeviceFunctionalityRepositoryMemImpl;
 import smarthome.service.IDeviceService;
 
 import java.util.ArrayList;
@@ -130,7 +131,9 @@ class DeviceServiceImplTest {
 
         // Initialize the DeviceServiceImpl
         deviceService = new DeviceServiceImpl(mockRoomRepository, mockDeviceFactory, mockDeviceRepository,
-                mockSensorTypeRepository, mockSensorModelRepository, mockSensorRepository, mockDeviceTypeRepository);
+                mockDeviceTypeRepository,
+                new DeviceFunctionalityRepositoryMemImpl(mockSensorRepository, mockSensorModelRepository,
+                        mockSensorTypeRepository, mockDeviceRepository));
 
         //Mock SensorType to fill the Repositories
         temperature = "Temperature";
@@ -658,8 +661,7 @@ class DeviceServiceImplTest {
         when(sensor2.getSensorModelName()).thenReturn(sensorModelNameTemperature);
         when(sensor2.getDeviceId()).thenReturn(deviceId2);
         when(mockSensorRepository.findAll()).thenReturn(List.of(sensor, sensor2));
-        when(mockDeviceRepository.findByIdentity(deviceId)).thenReturn(Optional.of(device));
-        when(mockDeviceRepository.findByIdentity(deviceId2)).thenReturn(Optional.of(device2));
+        when(mockDeviceRepository.findAll()).thenReturn(List.of(device, device2));
         // Act
         HashMap<String, List<Device>> result = deviceService.getDevicesBySensorType();
         // Assert
@@ -686,8 +688,7 @@ class DeviceServiceImplTest {
         when(sensor2.getSensorModelName()).thenReturn(sensorModelNameHumidity);
         when(sensor2.getDeviceId()).thenReturn(deviceId2);
         when(mockSensorRepository.findAll()).thenReturn(List.of(sensor, sensor2));
-        when(mockDeviceRepository.findByIdentity(deviceId)).thenReturn(Optional.of(device));
-        when(mockDeviceRepository.findByIdentity(deviceId2)).thenReturn(Optional.of(device2));
+        when(mockDeviceRepository.findAll()).thenReturn(List.of(device, device2));
         // Act
         HashMap<String, List<Device>> result = deviceService.getDevicesBySensorType();
         // Assert
@@ -716,8 +717,7 @@ class DeviceServiceImplTest {
         when(sensor2.getSensorModelName()).thenReturn(sensorModelNameHumidity);
         when(sensor2.getDeviceId()).thenReturn(deviceId);
         when(mockSensorRepository.findAll()).thenReturn(List.of(sensor, sensor2));
-        when(mockDeviceRepository.findByIdentity(deviceId)).thenReturn(Optional.of(device));
-        when(mockDeviceRepository.findByIdentity(deviceId2)).thenReturn(Optional.of(device2));
+        when(mockDeviceRepository.findAll()).thenReturn(List.of(device, device2));
         // Act
         HashMap<String, List<Device>> result = deviceService.getDevicesBySensorType();
         // Assert
@@ -744,8 +744,7 @@ class DeviceServiceImplTest {
         when(sensor2.getSensorModelName()).thenReturn(sensorModelNameHumidity);
         when(sensor2.getDeviceId()).thenReturn(deviceId);
         when(mockSensorRepository.findAll()).thenReturn(List.of(sensor, sensor2));
-        when(mockDeviceRepository.findByIdentity(deviceId)).thenReturn(Optional.of(device));
-        when(mockDeviceRepository.findByIdentity(deviceId2)).thenReturn(Optional.of(device2));
+        when(mockDeviceRepository.findAll()).thenReturn(List.of(device, device2));
         // Act
         HashMap<String, List<Device>> result = deviceService.getDevicesBySensorType();
         // Assert
@@ -766,8 +765,7 @@ class DeviceServiceImplTest {
         when(sensor2.getSensorModelName()).thenReturn(sensorModelNameHumidity);
         when(sensor2.getDeviceId()).thenReturn(deviceId2);
         when(mockSensorRepository.findAll()).thenReturn(List.of(sensor, sensor2));
-        when(mockDeviceRepository.findByIdentity(deviceId)).thenReturn(Optional.of(device));
-        when(mockDeviceRepository.findByIdentity(deviceId2)).thenReturn(Optional.of(device2));
+        when(mockDeviceRepository.findAll()).thenReturn(List.of(device, device2));
         // Act
         HashMap<String, List<Device>> result = deviceService.getDevicesBySensorType();
         // Assert
@@ -3,10 +3,18 @@ package smarthome.service.impl;
 import org.apache.commons.configuration2.ex.ConfigurationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import smarthome.ddd.KeysetPage;
 import smarthome.domain.actuator.vo.DecimalValue;
 import smarthome.domain.device.vo.DeviceId;
 import smarthome.domain.deviceType.vo.DeviceTypeName;
 import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactory;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.ReadingRollup;
+import smarthome.domain.reading.ReadingRollupResolution;
+import smarthome.domain.reading.vo.NumericReadingValue;
 import smarthome.domain.reading.vo.ReadingId;
 import smarthome.domain.reading.vo.ReadingValue;
 import smarthome.domain.reading.vo.TimeStamp;
@@ -17,14 +25,27 @@ import smarthome.domain.sensor.Sensor;
 import smarthome.domain.sensor.vo.SensorId;
 import smarthome.domain.sensor.vo.values.Value;
 import smarthome.domain.sensormodel.vo.SensorModelName;
+import smarthome.persistence.mem.ReadingRepositoryMemImpl;
+import smarthome.persistence.mem.ReadingRollupRepositoryMemImpl;
 import smarthome.service.IReadingService;
-
+import smarthome.service.IReadingStreamService;
+import smarthome.service.ReadingExport;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -32,8 +53,14 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -47,6 +74,7 @@ class ReadingServiceImplTest {
     IReadingService service;
     String pathToDelta;
     String pathToModels;
+    Clock clock;
     DeviceId deviceId;
     DeviceId deviceId2;
     DeviceTypeName gridPowerMeter;
@@ -75,6 +103,7 @@ class ReadingServiceImplTest {
     TimeStamp timeReading2;
     TimeStamp timeReading3;
     TimeStamp timeReading4;
+    IReadingStreamService mockReadingStreamService;
 
     /**
      * Set up the mock objects and the service before each test.
@@ -84,11 +113,13 @@ class ReadingServiceImplTest {
     @BeforeEach
     void setUp() throws ConfigurationException {
         mockReadingRepository = mock(IReadingRepository.class);
+        mockReadingStreamService = mock(IReadingStreamService.class);
         mockSensorRepository = mock(ISensorRepository.class);
         mockDeviceRepository = mock(IDeviceRepository.class);
         pathToDelta = "configDelta.properties"; // Path contains a valid delta value
         pathToModels ="configModels.properties";
-        service = new ReadingServiceImpl(mockReadingRepository, mockSensorRepository, mockDeviceRepository,pathToDelta,pathToModels);
+        clock = Clock.fixed(Instant.parse("2024-06-01T00:00:00Z"), ZoneOffset.UTC);
+        service = new ReadingServiceImpl(mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mockReadingStreamService, mockSensorRepository, mockDeviceRepository,new ReadingFactoryImpl(), pathToDelta,pathToModels, clock);
         deviceId = mock(DeviceId.class);
         deviceId2 = mock(DeviceId.class);
         gridPowerMeter = new DeviceTypeName("GridPowerMeter");
@@ -119,6 +150,8 @@ class ReadingServiceImplTest {
         timeReading4 = mock(TimeStamp.class);
 
         // Mock reading repository
+        when(mockReadingRepository.findReadingSeriesBySensorIdInAGivenPeriod(any(), any(), any()))
+                .thenCallRealMethod();
         when(mockReadingRepository.findByIdentity(readingId)).thenReturn(Optional.of(reading));
         when(mockReadingRepository.findByIdentity(readingId2)).thenReturn(Optional.of(reading2));
         when(mockReadingRepository.findByIdentity(readingId3)).thenReturn(Optional.of(reading3));
@@ -161,7 +194,7 @@ class ReadingServiceImplTest {
 
         // Act & Assert
         assertThrows(ConfigurationException.class, () -> new ReadingServiceImpl(
-                        mockReadingRepository, mockSensorRepository, mockDeviceRepository,pathToDelta,pathToModels),
+                        mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository, mockDeviceRepository,new ReadingFactoryImpl(), pathToDelta,pathToModels, clock),
                 "Constructor should throw an IllegalArgumentException when the pathToDelta does not exist");
     }
 
@@ -176,7 +209,7 @@ class ReadingServiceImplTest {
 
         // Act & Assert
         assertThrows(NullPointerException.class, () -> new ReadingServiceImpl(
-                        mockReadingRepository, mockSensorRepository, mockDeviceRepository,invalidPathToDelta,pathToModels),
+                        mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository, mockDeviceRepository,new ReadingFactoryImpl(), invalidPathToDelta,pathToModels, clock),
                 "Constructor should throw an NullPointerException" +
                         "when the pathToDelta does not contain a valid delta value");
     }
@@ -191,7 +224,7 @@ class ReadingServiceImplTest {
 
         // Act & Assert
         assertThrows(ConfigurationException.class, () -> new ReadingServiceImpl(
-                        mockReadingRepository, mockSensorRepository, mockDeviceRepository,pathToDelta,invalidPathToModels),
+                        mockReadingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository, mockDeviceRepository,new ReadingFactoryImpl(), pathToDelta,invalidPathToModels, clock),
                 "Constructor should throw an NullPointerException" +
                         "when the pathToDelta does not contain a valid delta value");
     }
@@ -419,10 +452,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 20, 54));
         when(readingValue2.valueToString()).thenReturn("10.0");
         // Mock reading repository
-        List<ReadingId> readingIds1 = List.of(readingId);
-        List<ReadingId> readingIds2 = List.of(readingId2);
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start, end)).thenReturn(readingIds1);
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start, end)).thenReturn(readingIds2);
+        List<Reading> readings1 = List.of(reading);
+        List<Reading> readings2 = List.of(reading2);
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start, end)).thenReturn(readings1);
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start, end)).thenReturn(readings2);
 
         String differenceExpected = "10.0";
 
@@ -458,10 +491,10 @@ class ReadingServiceImplTest {
         when(readingValue2.valueToString()).thenReturn("-20.0");
 
         // Mock reading repository
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         String differenceExpected = "10.0"; // - 10.0 - (-20.0) from the 1st reading of each sensor
 
@@ -502,10 +535,10 @@ class ReadingServiceImplTest {
         when(timeReading4.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 8, 20, 4));
         when(readingValue4.valueToString()).thenReturn("9.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Arrays.asList(readingId, readingId2));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Arrays.asList(readingId3, readingId4));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Arrays.asList(reading, reading2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Arrays.asList(reading3, reading4));
 
         String differenceExpected = "20.0"; // 30.0 - 10.0
 
@@ -543,10 +576,10 @@ class ReadingServiceImplTest {
         when(timeReading3.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 20, 4));
         when(readingValue3.valueToString()).thenReturn("20.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Arrays.asList(readingId2, readingId3));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Arrays.asList(reading2, reading3));
 
         String differenceExpected = "10.0"; // 10-20 from the 1st reading of Device 1 against the 2nd reading of Device 2
 
@@ -583,10 +616,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 20, 54));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         String differenceExpected = "0.0"; // 10.0 - 10.0 from the 1st reading of each sensor
 
@@ -622,10 +655,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 0, 10));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         String differenceExpected = "10.0"; // 20.0 - 10.0
 
@@ -660,10 +693,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 1, 59));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         String differenceExpected = "10.0"; // 20.0 - 10.0
 
@@ -698,10 +731,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 2, 0));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         String differenceExpected = "10.0"; // 20.0 - 10.0
 
@@ -737,10 +770,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 2, 1));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         // Act
         Value result = service.getMaxInstantTemperatureDifferenceInAGivenPeriod(
@@ -767,9 +800,9 @@ class ReadingServiceImplTest {
                 .thenReturn(Collections.singletonList(sensor2));
 
         // Mock reading repository, no readings in the period
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
                 end)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
                 end)).thenReturn(List.of());
 
         // Act
@@ -797,10 +830,10 @@ class ReadingServiceImplTest {
                 .thenReturn(Collections.singletonList(sensor2));
 
         // Mock reading repository, device 1 has no readings but device 2 has
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
                 end)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         // Act
         Value result = service.getMaxInstantTemperatureDifferenceInAGivenPeriod(
@@ -827,9 +860,9 @@ class ReadingServiceImplTest {
                 .thenReturn(Collections.singletonList(sensor2));
 
         // Mock reading repository, device 2 has no readings but device 1 has
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(List.of(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(List.of(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
                 end)).thenReturn(List.of());
 
         // Act
@@ -864,10 +897,10 @@ class ReadingServiceImplTest {
         when(timeReading2.getValue()).thenReturn(LocalDateTime.of(2023, 1, 10, 7, 10, 0));
         when(readingValue2.valueToString()).thenReturn("10.0");
 
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId, start,
-                end)).thenReturn(Collections.singletonList(readingId));
-        when(mockReadingRepository.findReadingIdsBySensorIdInAGivenPeriod(sensorId2, start,
-                end)).thenReturn(Collections.singletonList(readingId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, start,
+                end)).thenReturn(Collections.singletonList(reading));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, start,
+                end)).thenReturn(Collections.singletonList(reading2));
 
         // Act
         Value result = service.getMaxInstantTemperatureDifferenceInAGivenPeriod(
@@ -892,6 +925,76 @@ class ReadingServiceImplTest {
         assertNull(result);
     }
 
+    /**
+     * Regression test for the getMaxInstantTemperatureDifferenceInAGivenPeriod method on a large data set.
+     * Two thermometers report roughly every 10 seconds, with jitter and sub-second timestamps, during several hours.
+     * The result must be the same as comparing every reading of the first device with every reading of the second.
+     */
+    @Test
+    void testGetMaxInstantaneousTempDifferenceOnLargeDataSetMatchesPairwiseComparison() throws ConfigurationException {
+        // Arrange
+        IReadingRepository readingRepository = new ReadingRepositoryMemImpl();
+        IReadingService largeDataService = new ReadingServiceImpl(readingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository,
+                mockDeviceRepository, new ReadingFactoryImpl(), pathToDelta, pathToModels, clock);
+        SensorId thermometer1 = new SensorId("thermometer1");
+        SensorId thermometer2 = new SensorId("thermometer2");
+        when(sensor.getIdentity()).thenReturn(thermometer1);
+        when(sensor2.getIdentity()).thenReturn(thermometer2);
+
+        LocalDateTime periodStart = LocalDateTime.of(2023, 1, 10, 0, 0, 0);
+        TimeStamp startPeriod = new TimeStamp(periodStart);
+        TimeStamp endPeriod = new TimeStamp(periodStart.plusDays(2));
+        Random random = new Random(42);
+        List<Reading> readings1 = generateTemperatureReadings(random, thermometer1, periodStart, 2000);
+        List<Reading> readings2 = generateTemperatureReadings(random, thermometer2, periodStart, 2000);
+        readings1.forEach(readingRepository::save);
+        readings2.forEach(readingRepository::save);
+
+        double expected = -1;
+        for (Reading r1 : readings1) {
+            for (Reading r2 : readings2) {
+                long seconds = Math.abs(Duration.between(r1.getTime().getValue(), r2.getTime().getValue()).getSeconds());
+                if (seconds <= 60) {
+                    expected = Math.max(expected, Math.abs(Double.parseDouble(r1.getValue().valueToString())
+                            - Double.parseDouble(r2.getValue().valueToString())));
+                }
+            }
+        }
+
+        // Act
+        Value result = largeDataService.getMaxInstantTemperatureDifferenceInAGivenPeriod(deviceId, deviceId2,
+                startPeriod, endPeriod);
+
+        // Assert
+        assertEquals(String.valueOf(expected), result.valueToString(),
+                "The result should be the same as the one obtained by comparing every pair of readings");
+    }
+
+    /**
+     * Generates synthetic temperature readings for a sensor, roughly every 10 seconds, in shuffled order.
+     *
+     * @param random   the random generator, seeded for reproducibility.
+     * @param sensorId the sensor that produced the readings.
+     * @param start    the time of the first reading.
+     * @param count    the number of readings to generate.
+     * @return the generated readings.
+     */
+    private List<Reading> generateTemperatureReadings(Random random, SensorId sensorId, LocalDateTime start,
+                                                      int count) {
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        List<Reading> readings = new ArrayList<>();
+        LocalDateTime time = start;
+        double temperature = 20.0;
+        for (int i = 0; i < count; i++) {
+            time = time.plusSeconds(5 + random.nextInt(10)).withNano(random.nextBoolean() ? 0 : random.nextInt(1_000_000_000));
+            temperature += random.nextGaussian() * 0.5;
+            readings.add(readingFactory.createReading(new ReadingValue(String.valueOf(temperature)), sensorId,
+                    new TimeStamp(time)));
+        }
+        Collections.shuffle(readings, random);
+        return readings;
+    }
+
     // getReadingsFromDeviceInAGivenPeriod method
 
     /**
@@ -917,6 +1020,45 @@ class ReadingServiceImplTest {
                 " readings in the given period associated with the given device.");
     }
 
+    /**
+     * Test for the getReadingsFromDeviceInAGivenPeriod method with a page.
+     * This test asserts that the readings of all the sensors of the device are read with a single repository query,
+     * from the position given.
+     */
+    @Test
+    void testGetPageOfReadingsFromDeviceShouldQueryAllSensorsOfTheDeviceAtOnce() {
+        // Arrange
+        when(start.getValue()).thenReturn(LocalDateTime.of(2022, 1, 1, 0, 0));
+        when(end.getValue()).thenReturn(LocalDateTime.of(2022, 12, 31, 23, 59));
+        when(mockSensorRepository.findSensorsByDeviceId(deviceId)).thenReturn(List.of(sensor, sensor2));
+        KeysetPage<Reading> page = new KeysetPage<>(List.of(reading), true);
+        when(mockReadingRepository.findReadingsBySensorIdsInAGivenPeriod(List.of(sensorId, sensorId2), start, end,
+                timeReading1, readingId2, 1)).thenReturn(page);
+
+        // Act
+        KeysetPage<Reading> result =
+                service.getReadingsFromDeviceInAGivenPeriod(deviceId, start, end, timeReading1, readingId2, 1);
+
+        // Assert
+        assertEquals(page, result);
+    }
+
+    /**
+     * Test for the getReadingsFromDeviceInAGivenPeriod method with a page.
+     * This test asserts that the method returns null when the limit is out of range, or the position has a time but
+     * no id.
+     */
+    @Test
+    void testGetPageOfReadingsFromDeviceShouldReturnNullWhenLimitOrPositionIsInvalid() {
+        // Arrange
+        when(start.getValue()).thenReturn(LocalDateTime.of(2022, 1, 1, 0, 0));
+        when(end.getValue()).thenReturn(LocalDateTime.of(2022, 12, 31, 23, 59));
+
+        // Act + Assert
+        assertNull(service.getReadingsFromDeviceInAGivenPeriod(deviceId, start, end, null, null, 0));
+        assertNull(service.getReadingsFromDeviceInAGivenPeriod(deviceId, start, end, timeReading1, null, 1));
+    }
+
     /**
      * Test for the getReadingsFromDeviceInAGivenPeriod method.
      * This test asserts that the method returns an empty list when the device has no readings in the given period.
@@ -1430,18 +1572,13 @@ class ReadingServiceImplTest {
         when(start.getValue()).thenReturn(LocalDateTime.parse(startString));
         TimeStamp end = mock(TimeStamp.class);
         String endString = "2023-01-10T07:02:00";
-        String middleString = "2023-01-10T07:01:00";
         when(end.getValue()).thenReturn(LocalDateTime.parse(endString));
-        TimeStamp middlePeriod = mock(TimeStamp.class);
-        when(middlePeriod.getValue()).thenReturn(LocalDateTime.parse(middleString));
         when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter)).thenReturn(List.of(deviceId1));
         when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(powerSourcePowerMeter)).thenReturn(List.of(deviceId2));
         when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId1,sensorOfPowerConsumption)).thenReturn((List.of(sensorId1)));
         when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId2,sensorOfPowerConsumption)).thenReturn(List.of(sensorId3));
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId1, start, middlePeriod)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId3, start, middlePeriod)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId1, middlePeriod, end)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId3, middlePeriod, end)).thenReturn(List.of());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId1, start, end)).thenReturn(List.of());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId3, start, end)).thenReturn(List.of());
         //Act
         DecimalValue peakPowerConsumption = service.getPeakPowerConsumptionInAGivenPeriod(start,end);
         //Assert
@@ -1459,7 +1596,6 @@ class ReadingServiceImplTest {
         Double expectedValue = 123.45;
         TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
         TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:02:00"));
-        TimeStamp middleTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:00"));
         // Mocking device and sensor IDs
         when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter))
                 .thenReturn(Collections.singletonList(deviceId)); // One grid power meter device
@@ -1472,12 +1608,11 @@ class ReadingServiceImplTest {
                 .thenReturn(Collections.singletonList(sensorId2)); // No sensor for power source power meter
         // Mocking readings
         Iterable<Reading> gridPowerMeterReadings = Collections.singletonList(reading);
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, middleTime)).thenReturn(gridPowerMeterReadings);
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, middleTime)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, middleTime, endTime)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, middleTime, endTime)).thenReturn(List.of());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime)).thenReturn(gridPowerMeterReadings);
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, endTime)).thenReturn(List.of());
         // One reading for grid power meter
         when(reading.getValue().valueToString()).thenReturn("123.45"); // Value of the reading
+        when(timeReading1.getValue()).thenReturn(LocalDateTime.parse("2023-01-01T07:00:30")); // Time of the reading
         // Test
         DecimalValue peakPower = service.getPeakPowerConsumptionInAGivenPeriod(startTime, endTime);
         Double result = Double.parseDouble(peakPower.valueToString());
@@ -1544,7 +1679,6 @@ class ReadingServiceImplTest {
         Double expectedValue = 123.45;
         TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
         TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:30"));
-        TimeStamp middleTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:00"));
         // Mocking device and sensor IDs
         when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter))
                 .thenReturn(Collections.singletonList(deviceId)); // One grid power meter device
@@ -1557,12 +1691,11 @@ class ReadingServiceImplTest {
                 .thenReturn(Collections.singletonList(sensorId2)); // No sensor for power source power meter
         // Mocking readings
         Iterable<Reading> gridPowerMeterReadings = Collections.singletonList(reading);
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, middleTime)).thenReturn(gridPowerMeterReadings);
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, middleTime)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, middleTime, endTime)).thenReturn(List.of());
-        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, middleTime, endTime)).thenReturn(List.of());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime)).thenReturn(gridPowerMeterReadings);
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, endTime)).thenReturn(List.of());
         // One reading for grid power meter
         when(reading.getValue().valueToString()).thenReturn("123.45"); // Value of the reading
+        when(timeReading1.getValue()).thenReturn(LocalDateTime.parse("2023-01-01T07:00:30")); // Time of the reading
         // Test
         DecimalValue peakPower = service.getPeakPowerConsumptionInAGivenPeriod(startTime, endTime);
         Double result = Double.parseDouble(peakPower.valueToString());
@@ -1571,4 +1704,391 @@ class ReadingServiceImplTest {
 
 
     }
-}
\ No newline at end of file
+
+    /**
+     * Test to method getPeakPowerConsumptionInAGivenPeriod() with readings spread over three sub-periods.
+     * Each sensor should be queried once for the whole period and the peak should be the highest sum of
+     * averages of a sub-period.
+     */
+    @Test
+    void getPeakPowerConsumptionThreeSubPeriodsShouldQueryEachSensorOnceAndReturnHighestSubPeriod() {
+        // Arrange
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:03:00"));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter)).thenReturn(List.of(deviceId));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(powerSourcePowerMeter)).thenReturn(List.of(deviceId2));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId, sensorOfPowerConsumption))
+                .thenReturn(List.of(sensorId));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId2, sensorOfPowerConsumption))
+                .thenReturn(List.of(sensorId2));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime)).thenReturn(List.of(
+                readingFactory.createReading(new ReadingValue("100"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:10"))),
+                readingFactory.createReading(new ReadingValue("200"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:50"))),
+                readingFactory.createReading(new ReadingValue("400"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:30"))),
+                readingFactory.createReading(new ReadingValue("50"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:02:30")))));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, endTime)).thenReturn(List.of(
+                readingFactory.createReading(new ReadingValue("100"), sensorId2, new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:10")))));
+
+        // Act
+        DecimalValue peakPower = service.getPeakPowerConsumptionInAGivenPeriod(startTime, endTime);
+
+        // Assert
+        assertEquals(new DecimalValue(500.0), peakPower);
+        verify(mockReadingRepository, times(1)).findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime);
+        verify(mockReadingRepository, times(1)).findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, endTime);
+    }
+
+    /**
+     * Test to method getPeakPowerConsumptionInAGivenPeriod() with a reading exactly on the border of two
+     * sub-periods. Like the inclusive period queries, the reading should count for both sub-periods.
+     */
+    @Test
+    void getPeakPowerConsumptionReadingOnSubPeriodBorderShouldCountForBothSubPeriods() {
+        // Arrange
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:02:00"));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter)).thenReturn(List.of(deviceId));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(powerSourcePowerMeter)).thenReturn(List.of());
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId, sensorOfPowerConsumption))
+                .thenReturn(List.of(sensorId));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime)).thenReturn(List.of(
+                readingFactory.createReading(new ReadingValue("500"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:30"))),
+                readingFactory.createReading(new ReadingValue("300"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:00"))),
+                readingFactory.createReading(new ReadingValue("100"), sensorId, new TimeStamp(LocalDateTime.parse("2023-01-01T07:01:30")))));
+
+        // Act
+        DecimalValue peakPower = service.getPeakPowerConsumptionInAGivenPeriod(startTime, endTime);
+
+        // Assert
+        assertEquals(new DecimalValue(400.0), peakPower);
+    }
+
+    /**
+     * Test to method getPeakPowerConsumptionInAGivenPeriod() over two days and a half sub-period, long enough to be
+     * summed from the reading rollups. The readings are added through addReadings(), which keeps the rollups up to
+     * date, and some of them sit on the borders of sub-periods. The peak should be the same as the one computed from
+     * every reading of every sub-period.
+     */
+    @Test
+    void getPeakPowerConsumptionOverLongPeriodShouldMatchPeakComputedFromEveryReading() throws ConfigurationException {
+        // Arrange
+        IReadingRepository readingRepository = new ReadingRepositoryMemImpl();
+        IReadingService rollupService = new ReadingServiceImpl(readingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class),
+                mockSensorRepository, mockDeviceRepository, new ReadingFactoryImpl(), pathToDelta, pathToModels, clock);
+        SensorId gridSensor = new SensorId("grid");
+        SensorId sourceSensor = new SensorId("source");
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter)).thenReturn(List.of(deviceId));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(powerSourcePowerMeter)).thenReturn(List.of(deviceId2));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId, sensorOfPowerConsumption))
+                .thenReturn(List.of(gridSensor));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId2, sensorOfPowerConsumption))
+                .thenReturn(List.of(sourceSensor));
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(true);
+
+        LocalDateTime periodStart = LocalDateTime.of(2023, 1, 10, 0, 0, 0);
+        LocalDateTime periodEnd = periodStart.plusDays(2).plusSeconds(30);
+        List<SensorId> sensorIds = new ArrayList<>();
+        List<Value> values = new ArrayList<>();
+        List<TimeStamp> timeStamps = new ArrayList<>();
+        addRandomPowerReadings(List.of(gridSensor, sourceSensor), periodStart, periodEnd, sensorIds, values,
+                timeStamps);
+        rollupService.addReadings(sensorIds, values, timeStamps);
+        double expected = peakOfEverySubPeriod(sensorIds, values, timeStamps, periodStart, periodEnd, 60);
+
+        // Act
+        DecimalValue peakPower = rollupService.getPeakPowerConsumptionInAGivenPeriod(new TimeStamp(periodStart),
+                new TimeStamp(periodEnd));
+
+        // Assert
+        assertEquals(expected, Double.parseDouble(peakPower.valueToString()), 1e-6);
+    }
+
+    /**
+     * Test to method getPeakPowerConsumptionInAGivenPeriod() over two days, with sub-periods of a quarter of an hour
+     * and a period that starts in the middle of a minute, so no rollup bucket starts a sub-period. The minutes inside
+     * the sub-periods should be summed from the rollups, the readings should be read only for the minutes that
+     * straddle the borders of the sub-periods and at the ends of the period, and the peak should be the same as the
+     * one computed from every reading of every sub-period.
+     */
+    @Test
+    void getPeakPowerConsumptionOverLongPeriodStartingInsideABucketShouldMatchPeakComputedFromEveryReading(
+            @TempDir Path configDirectory) throws ConfigurationException, IOException {
+        // Arrange
+        Path quarterDelta = configDirectory.resolve("configDelta.properties");
+        Files.writeString(quarterDelta, "delta=900\n");
+        IReadingRepository readingRepository = spy(new ReadingRepositoryMemImpl());
+        IReadingService rollupService = new ReadingServiceImpl(readingRepository, new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class),
+                mockSensorRepository, mockDeviceRepository, new ReadingFactoryImpl(), quarterDelta.toString(),
+                pathToModels, clock);
+        SensorId gridSensor = new SensorId("grid");
+        SensorId sourceSensor = new SensorId("source");
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(gridPowerMeter)).thenReturn(List.of(deviceId));
+        when(mockDeviceRepository.findDeviceIdsByDeviceTypeName(powerSourcePowerMeter)).thenReturn(List.of(deviceId2));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId, sensorOfPowerConsumption))
+                .thenReturn(List.of(gridSensor));
+        when(mockSensorRepository.findSensorIdsByDeviceIdAndSensorModelName(deviceId2, sensorOfPowerConsumption))
+                .thenReturn(List.of(sourceSensor));
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(true);
+
+        LocalDateTime periodStart = LocalDateTime.of(2023, 1, 10, 0, 0, 30);
+        LocalDateTime periodEnd = periodStart.plusDays(2).plusMinutes(7);
+        List<SensorId> sensorIds = new ArrayList<>();
+        List<Value> values = new ArrayList<>();
+        List<TimeStamp> timeStamps = new ArrayList<>();
+        addRandomPowerReadings(List.of(gridSensor, sourceSensor), periodStart.minusMinutes(2),
+                periodEnd.plusMinutes(2), sensorIds, values, timeStamps);
+        // The peak, at the end of the minute that straddles the start of the fifth sub-period
+        sensorIds.add(gridSensor);
+        values.add(new NumericReadingValue(100000));
+        timeStamps.add(new TimeStamp(LocalDateTime.of(2023, 1, 10, 1, 1, 0)));
+        rollupService.addReadings(sensorIds, values, timeStamps);
+        double expected = peakOfEverySubPeriod(sensorIds, values, timeStamps, periodStart, periodEnd, 900);
+
+        // Act
+        DecimalValue peakPower = rollupService.getPeakPowerConsumptionInAGivenPeriod(new TimeStamp(periodStart),
+                new TimeStamp(periodEnd));
+
+        // Assert
+        assertEquals(expected, Double.parseDouble(peakPower.valueToString()), 1e-6);
+        ArgumentCaptor<TimeStamp> from = ArgumentCaptor.forClass(TimeStamp.class);
+        ArgumentCaptor<TimeStamp> to = ArgumentCaptor.forClass(TimeStamp.class);
+        verify(readingRepository, atLeastOnce()).findReadingSeriesBySensorIdInAGivenPeriod(any(), from.capture(),
+                to.capture());
+        for (int i = 0; i < from.getAllValues().size(); i++) {
+            assertTrue(Duration.between(from.getAllValues().get(i).getValue(), to.getAllValues().get(i).getValue())
+                    .compareTo(Duration.ofMinutes(8)) <= 0);
+        }
+    }
+
+    /**
+     * Adds readings of random power values for each of the given sensors, from a start time to an end time, a minute
+     * or a random number of seconds apart, so some of them fall on the start of minutes and some do not.
+     */
+    private static void addRandomPowerReadings(List<SensorId> sensors, LocalDateTime from, LocalDateTime to,
+                                               List<SensorId> sensorIds, List<Value> values,
+                                               List<TimeStamp> timeStamps) {
+        Random random = new Random(42);
+        for (SensorId sensorId : sensors) {
+            LocalDateTime time = from;
+            while (!time.isAfter(to)) {
+                sensorIds.add(sensorId);
+                values.add(new NumericReadingValue(random.nextInt(5000)));
+                timeStamps.add(new TimeStamp(time));
+                time = time.plusSeconds(random.nextBoolean() ? 60 : 1 + random.nextInt(90));
+            }
+        }
+    }
+
+    /**
+     * Computes the peak power consumption of a period from every reading of every sub-period, each sub-period
+     * including both of its ends.
+     */
+    private static double peakOfEverySubPeriod(List<SensorId> sensorIds, List<Value> values,
+                                               List<TimeStamp> timeStamps, LocalDateTime periodStart,
+                                               LocalDateTime periodEnd, long deltaSeconds) {
+        double peak = 0.0;
+        for (LocalDateTime subPeriodStart = periodStart; subPeriodStart.isBefore(periodEnd);
+             subPeriodStart = subPeriodStart.plusSeconds(deltaSeconds)) {
+            LocalDateTime subPeriodEnd = subPeriodStart.plusSeconds(deltaSeconds).isAfter(periodEnd) ? periodEnd
+                    : subPeriodStart.plusSeconds(deltaSeconds);
+            double powerConsumption = 0.0;
+            for (SensorId sensorId : Set.copyOf(sensorIds)) {
+                double sum = 0.0;
+                int count = 0;
+                for (int i = 0; i < sensorIds.size(); i++) {
+                    LocalDateTime time = timeStamps.get(i).getValue();
+                    if (sensorIds.get(i).equals(sensorId) && !time.isBefore(subPeriodStart)
+                            && !time.isAfter(subPeriodEnd)) {
+                        sum += Double.parseDouble(values.get(i).valueToString());
+                        count++;
+                    }
+                }
+                if (count > 0) {
+                    powerConsumption += sum / count;
+                }
+            }
+            peak = Math.max(peak, powerConsumption);
+        }
+        return peak;
+    }
+
+    /**
+     * Test to method getReadingStatisticsOfSensorInAGivenPeriod() with readings added through addReadings(). The
+     * statistics should hold one entry per day with readings, and the result should be null for an unknown sensor.
+     */
+    @Test
+    void getReadingStatisticsOfSensorShouldReturnDailyRollupsOrNullForUnknownSensor() {
+        // Arrange
+        SensorId thermometer = new SensorId("thermometer");
+        SensorId unknown = new SensorId("unknown");
+        LocalDateTime day = LocalDateTime.of(2023, 1, 10, 0, 0);
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(true);
+        when(mockSensorRepository.containsIdentity(thermometer)).thenReturn(true);
+        service.addReadings(List.of(thermometer, thermometer, thermometer),
+                List.of(new NumericReadingValue(18.0), new NumericReadingValue(22.0), new NumericReadingValue(15.0)),
+                List.of(new TimeStamp(day.plusHours(8)), new TimeStamp(day.plusHours(14)),
+                        new TimeStamp(day.plusDays(1).plusHours(6))));
+        TimeStamp startPeriod = new TimeStamp(day);
+        TimeStamp endPeriod = new TimeStamp(day.plusDays(2));
+
+        // Act
+        List<ReadingRollup> result = service.getReadingStatisticsOfSensorInAGivenPeriod(thermometer,
+                ReadingRollupResolution.DAY, startPeriod, endPeriod);
+
+        // Assert
+        assertEquals(List.of(new ReadingRollup(thermometer, ReadingRollupResolution.DAY, day, 2, 40.0, 18.0, 22.0, 0,
+                0.0), new ReadingRollup(thermometer, ReadingRollupResolution.DAY, day.plusDays(1), 1, 15.0, 15.0, 15.0,
+                0, 0.0)), result);
+        assertNull(service.getReadingStatisticsOfSensorInAGivenPeriod(unknown, ReadingRollupResolution.DAY,
+                startPeriod, endPeriod));
+        assertNull(service.getReadingStatisticsOfSensorInAGivenPeriod(thermometer, null, startPeriod, endPeriod));
+    }
+
+    /**
+     * Test to method getLatestReadings() with readings added through addReadings(), one of them late. The result
+     * should hold the newest reading of each sensor with readings, in the order of the sensors, and should be null for
+     * invalid ids.
+     */
+    @Test
+    void getLatestReadingsShouldReturnTheNewestReadingOfEachSensorWithReadings() throws ConfigurationException {
+        // Arrange
+        IReadingService latestService = new ReadingServiceImpl(new ReadingRepositoryMemImpl(),
+                new ReadingRollupRepositoryMemImpl(), mock(IReadingStreamService.class), mockSensorRepository,
+                mockDeviceRepository, new ReadingFactoryImpl(), pathToDelta, pathToModels, clock);
+        SensorId thermometer = new SensorId("thermometer");
+        SensorId hygrometer = new SensorId("hygrometer");
+        SensorId silent = new SensorId("silent");
+        LocalDateTime time = LocalDateTime.of(2023, 1, 10, 8, 0);
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(true);
+        latestService.addReadings(List.of(thermometer, hygrometer, thermometer),
+                List.of(new NumericReadingValue(21.0), new NumericReadingValue(60.0), new NumericReadingValue(19.0)),
+                List.of(new TimeStamp(time.plusHours(1)), new TimeStamp(time), new TimeStamp(time)));
+        List<SensorId> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        // Act
+        List<Reading> result = latestService.getLatestReadings(List.of(silent, thermometer, hygrometer));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(thermometer, result.get(0).getSensorId());
+        assertEquals(new TimeStamp(time.plusHours(1)), result.get(0).getTime());
+        assertEquals(hygrometer, result.get(1).getSensorId());
+        assertNull(latestService.getLatestReadings(null));
+        assertNull(latestService.getLatestReadings(withNull));
+    }
+
+    /**
+     * Test to method addReadings() with valid readings of two sensors. The sensors should be validated once, as a
+     * set, and the readings saved in a single batch.
+     */
+    @Test
+    void addReadingsWithValidReadingsShouldValidateSensorsOnceAndSaveInOneBatch() {
+        // Arrange
+        SensorId firstSensor = new SensorId("sensor1");
+        SensorId secondSensor = new SensorId("sensor2");
+        TimeStamp time = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        List<SensorId> sensorIds = List.of(firstSensor, secondSensor, firstSensor);
+        List<Value> values = List.of(new ReadingValue("20"), new ReadingValue("on"), new ReadingValue("21"));
+        List<TimeStamp> timeStamps = List.of(time, time, time);
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(true);
+
+        // Act
+        List<ReadingId> result = service.addReadings(sensorIds, values, timeStamps);
+
+        // Assert
+        assertEquals(3, result.size());
+        verify(mockSensorRepository, times(1)).containsAllIdentities(Set.of(firstSensor, secondSensor));
+        verify(mockReadingRepository, times(1)).saveAll(any());
+        verify(mockReadingRepository, times(0)).save(any());
+        verify(mockReadingStreamService, times(1)).publish(argThat(readings -> readings.size() == 3));
+    }
+
+    /**
+     * Test to method addReadings() when one of the sensors does not exist. Nothing should be saved.
+     */
+    @Test
+    void addReadingsWithUnknownSensorShouldReturnNull() {
+        // Arrange
+        TimeStamp time = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        when(mockSensorRepository.containsAllIdentities(any())).thenReturn(false);
+
+        // Act
+        List<ReadingId> result = service.addReadings(List.of(new SensorId("unknown")),
+                List.of(new ReadingValue("20")), List.of(time));
+
+        // Assert
+        assertNull(result);
+        verify(mockReadingRepository, times(0)).saveAll(any());
+        verify(mockReadingStreamService, times(0)).publish(any());
+    }
+
+    /**
+     * Test to method addReadings() with invalid lists. The result should be null.
+     */
+    @Test
+    void addReadingsWithInvalidListsShouldReturnNull() {
+        // Arrange
+        SensorId validSensor = new SensorId("sensor1");
+        TimeStamp time = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        List<Value> values = List.of(new ReadingValue("20"));
+        List<TimeStamp> timeStamps = List.of(time);
+
+        // Act + Assert
+        assertNull(service.addReadings(null, values, timeStamps));
+        assertNull(service.addReadings(List.of(), List.of(), List.of()));
+        assertNull(service.addReadings(List.of(validSensor, validSensor), values, timeStamps));
+        assertNull(service.addReadings(Collections.singletonList(null), values, timeStamps));
+        verify(mockSensorRepository, times(0)).containsAllIdentities(any());
+    }
+
+    /**
+     * Test to method exportReadingsFromDeviceInAGivenPeriod() with a valid device and period. The readings should
+     * only be read when the export is written, sensor by sensor.
+     */
+    @Test
+    void exportReadingsFromDeviceShouldReadTheReadingsOfEachSensorWhenWritten() {
+        // Arrange
+        ReadingFactory readingFactory = new ReadingFactoryImpl();
+        TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T08:00:00"));
+        Reading first = readingFactory.createReading(new ReadingValue("20"), sensorId,
+                new TimeStamp(LocalDateTime.parse("2023-01-01T07:10:00")));
+        Reading second = readingFactory.createReading(new ReadingValue("21"), sensorId2,
+                new TimeStamp(LocalDateTime.parse("2023-01-01T07:05:00")));
+        when(sensor.getIdentity()).thenReturn(sensorId);
+        when(sensor2.getIdentity()).thenReturn(sensorId2);
+        when(mockSensorRepository.findSensorsByDeviceId(deviceId)).thenReturn(List.of(sensor, sensor2));
+        doCallRealMethod().when(mockReadingRepository)
+                .forEachReadingBySensorIdInAGivenPeriod(any(), any(), any(), any());
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId, startTime, endTime))
+                .thenReturn(List.of(first));
+        when(mockReadingRepository.findReadingsBySensorIdInAGivenPeriod(sensorId2, startTime, endTime))
+                .thenReturn(List.of(second));
+
+        // Act
+        ReadingExport export = service.exportReadingsFromDeviceInAGivenPeriod(deviceId, startTime, endTime);
+        List<Reading> written = new ArrayList<>();
+        export.forEach(written::add);
+
+        // Assert
+        assertEquals(List.of(first, second), written);
+    }
+
+    /**
+     * Test to method exportReadingsFromDeviceInAGivenPeriod() with invalid parameters. The result should be null.
+     */
+    @Test
+    void exportReadingsFromDeviceWithInvalidParametersShouldReturnNull() {
+        // Arrange
+        TimeStamp startTime = new TimeStamp(LocalDateTime.parse("2023-01-01T07:00:00"));
+        TimeStamp endTime = new TimeStamp(LocalDateTime.parse("2023-01-01T08:00:00"));
+
+        // Act + Assert
+        assertNull(service.exportReadingsFromDeviceInAGivenPeriod(null, startTime, endTime));
+        assertNull(service.exportReadingsFromDeviceInAGivenPeriod(deviceId, endTime, startTime));
+        assertNull(service.exportReadingsFromDeviceInAGivenPeriod(deviceId, startTime, null));
+    }
+}
@@ -0,0 +1,334 @@
+package smarthome.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import smarthome.domain.device.vo.DeviceId;
+import smarthome.domain.reading.Reading;
+import smarthome.domain.reading.ReadingFactoryImpl;
+import smarthome.domain.reading.vo.NumericReadingValue;
+import smarthome.domain.reading.vo.TimeStamp;
+import smarthome.domain.repository.IDeviceRepository;
+import smarthome.domain.repository.ISensorRepository;
+import smarthome.domain.sensor.Sensor;
+import smarthome.domain.sensor.vo.SensorId;
+import smarthome.service.IReadingStreamService.OverflowPolicy;
+import smarthome.service.ReadingStreamListener;
+import smarthome.service.ReadingSubscription;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the ReadingStreamServiceImpl class.
+ */
+class ReadingStreamServiceImplTest {
+
+    private ISensorRepository sensorRepository;
+    private IDeviceRepository deviceRepository;
+    private ReadingStreamServiceImpl service;
+    private List<Runnable> tasks;
+    private DeviceId deviceId;
+    private SensorId thermometer;
+    private SensorId hygrometer;
+    private SensorId otherSensor;
+    private int time;
+
+    /**
+     * A listener that records what it receives.
+     */
+    private static class RecordingListener implements ReadingStreamListener {
+        private final List<Reading> readings = new ArrayList<>();
+        private int deliveries;
+        private int closes;
+
+        @Override
+        public void onReadings(List<Reading> delivered) throws IOException {
+            readings.addAll(delivered);
+            deliveries++;
+        }
+
+        @Override
+        public void onClose() {
+            closes++;
+        }
+    }
+
+    /**
+     * Set up a device with two sensors, a sensor of another device, and a service with buffers of two readings whose
+     * deliveries run only when the test runs them.
+     */
+    @BeforeEach
+    void setUp() {
+        sensorRepository = mock(ISensorRepository.class);
+        deviceRepository = mock(IDeviceRepository.class);
+        tasks = new ArrayList<>();
+        Executor executor = tasks::add;
+        service = new ReadingStreamServiceImpl(sensorRepository, deviceRepository, 2, executor);
+
+        deviceId = new DeviceId("device");
+        thermometer = new SensorId("thermometer");
+        hygrometer = new SensorId("hygrometer");
+        otherSensor = new SensorId("other");
+        when(deviceRepository.containsIdentity(deviceId)).thenReturn(true);
+        when(sensorRepository.findSensorIdsByDeviceId(deviceId)).thenReturn(List.of(thermometer, hygrometer));
+        Sensor sensor = mock(Sensor.class);
+        when(sensor.getDeviceId()).thenReturn(deviceId);
+        when(sensorRepository.findByIdentity(thermometer)).thenReturn(Optional.of(sensor));
+        Sensor sensorOfOtherDevice = mock(Sensor.class);
+        when(sensorOfOtherDevice.getDeviceId()).thenReturn(new DeviceId("other device"));
+        when(sensorRepository.findByIdentity(otherSensor)).thenReturn(Optional.of(sensorOfOtherDevice));
+    }
+
+    private Reading reading(SensorId sensorId) {
+        return new ReadingFactoryImpl().createReading(new NumericReadingValue(time), sensorId,
+                new TimeStamp(LocalDateTime.of(2024, 1, 1, 0, 0).plusMinutes(time++)));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    /**
+     * Tests that the constructor throws an exception when a parameter is null or the capacity is not positive.
+     */
+    @Test
+    void testConstructorWithInvalidParametersThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingStreamServiceImpl(null, deviceRepository, 1, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingStreamServiceImpl(sensorRepository, null, 1, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingStreamServiceImpl(sensorRepository, deviceRepository, 0, Runnable::run));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ReadingStreamServiceImpl(sensorRepository, deviceRepository, 1, null));
+    }
+
+    /**
+     * Tests that a subscription is not made with a null policy or listener, an unknown device or sensor, or a sensor
+     * of another device.
+     */
+    @Test
+    void testSubscribeWithInvalidParametersReturnsNull() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+
+        //Act + Assert
+        assertNull(service.subscribe(deviceId, null, null, listener));
+        assertNull(service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, null));
+        assertNull(service.subscribe(new DeviceId("unknown"), null, OverflowPolicy.DROP_OLDEST, listener));
+        assertNull(service.subscribe(null, new SensorId("unknown"), OverflowPolicy.DROP_OLDEST, listener));
+        assertNull(service.subscribe(deviceId, otherSensor, OverflowPolicy.DROP_OLDEST, listener));
+    }
+
+    /**
+     * Tests that each subscriber receives the readings of its device, of its sensor, or of every sensor.
+     */
+    @Test
+    void testPublishDeliversTheReadingsOfEachSubscription() {
+        //Arrange
+        RecordingListener ofDevice = new RecordingListener();
+        RecordingListener ofSensor = new RecordingListener();
+        RecordingListener ofAll = new RecordingListener();
+        service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, ofDevice);
+        service.subscribe(deviceId, thermometer, OverflowPolicy.DROP_OLDEST, ofSensor);
+        service.subscribe(null, null, OverflowPolicy.DROP_OLDEST, ofAll);
+        Reading temperature = reading(thermometer);
+        Reading humidity = reading(hygrometer);
+        Reading other = reading(otherSensor);
+
+        //Act
+        service.publish(List.of(temperature, humidity));
+        runTasks();
+        service.publish(List.of(other));
+        runTasks();
+
+        //Assert
+        assertEquals(List.of(temperature, humidity), ofDevice.readings);
+        assertEquals(List.of(temperature), ofSensor.readings);
+        assertEquals(List.of(temperature, humidity, other), ofAll.readings);
+    }
+
+    /**
+     * Tests that the readings buffered while a delivery is pending are delivered together, by a single task.
+     */
+    @Test
+    void testReadingsPublishedBeforeTheDeliveryAreDeliveredTogether() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, listener);
+
+        //Act
+        service.publish(List.of(reading(thermometer)));
+        service.publish(List.of(reading(hygrometer)));
+        int scheduled = tasks.size();
+        runTasks();
+
+        //Assert
+        assertEquals(1, scheduled);
+        assertEquals(1, listener.deliveries);
+        assertEquals(2, listener.readings.size());
+    }
+
+    /**
+     * Tests that readings published within a transaction are delivered only once it commits, and never if it rolls
+     * back.
+     */
+    @Test
+    void testReadingsPublishedInATransactionAreDeliveredAfterCommit() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, listener);
+        Reading committed = reading(thermometer);
+        Reading rolledBack = reading(hygrometer);
+
+        //Act
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.publish(List.of(committed));
+            runTasks();
+            assertTrue(listener.readings.isEmpty());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.publish(List.of(rolledBack));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        runTasks();
+
+        //Assert
+        assertEquals(List.of(committed), listener.readings);
+    }
+
+    /**
+     * Tests that a full buffer drops its oldest reading under the drop-oldest policy.
+     */
+    @Test
+    void testDropOldestKeepsTheNewestReadings() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        ReadingSubscription subscription = service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, listener);
+        Reading first = reading(thermometer);
+        Reading second = reading(thermometer);
+        Reading third = reading(thermometer);
+
+        //Act
+        service.publish(List.of(first, second, third));
+        runTasks();
+
+        //Assert
+        assertEquals(List.of(second, third), listener.readings);
+        assertEquals(1, subscription.getDroppedCount());
+    }
+
+    /**
+     * Tests that a full buffer drops the new reading under the drop-newest policy.
+     */
+    @Test
+    void testDropNewestKeepsTheOldestReadings() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        ReadingSubscription subscription = service.subscribe(deviceId, null, OverflowPolicy.DROP_NEWEST, listener);
+        Reading first = reading(thermometer);
+        Reading second = reading(thermometer);
+
+        //Act
+        service.publish(List.of(first, second, reading(thermometer)));
+        runTasks();
+
+        //Assert
+        assertEquals(List.of(first, second), listener.readings);
+        assertEquals(1, subscription.getDroppedCount());
+    }
+
+    /**
+     * Tests that a full buffer ends the subscription under the disconnect policy.
+     */
+    @Test
+    void testDisconnectEndsTheSubscription() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(deviceId, null, OverflowPolicy.DISCONNECT, listener);
+
+        //Act
+        service.publish(List.of(reading(thermometer), reading(thermometer), reading(thermometer)));
+        runTasks();
+        service.publish(List.of(reading(thermometer)));
+        runTasks();
+
+        //Assert
+        assertEquals(List.of(), listener.readings);
+        assertEquals(1, listener.closes);
+    }
+
+    /**
+     * Tests that a subscription whose readings cannot be delivered is ended.
+     */
+    @Test
+    void testFailedDeliveryEndsTheSubscription() {
+        //Arrange
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onReadings(List<Reading> delivered) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        service.subscribe(null, thermometer, OverflowPolicy.DROP_OLDEST, listener);
+
+        //Act
+        service.publish(List.of(reading(thermometer)));
+        runTasks();
+        service.publish(List.of(reading(thermometer)));
+
+        //Assert
+        assertEquals(1, listener.closes);
+        assertEquals(List.of(), tasks);
+    }
+
+    /**
+     * Tests that a cancelled subscription receives no more readings, and that the readings of a sensor with no
+     * subscribers are not delivered at all.
+     */
+    @Test
+    void testCancelledSubscriptionReceivesNoReadings() {
+        //Arrange
+        RecordingListener listener = new RecordingListener();
+        ReadingSubscription subscription = service.subscribe(deviceId, null, OverflowPolicy.DROP_OLDEST, listener);
+        assertNotNull(subscription);
+
+        //Act
+        service.publish(List.of(reading(thermometer)));
+        subscription.cancel();
+        runTasks();
+        service.publish(List.of(reading(thermometer)));
+
+        //Assert
+        assertEquals(List.of(), listener.readings);
+        assertEquals(0, listener.closes);
+        assertEquals(List.of(), tasks);
+    }
+}
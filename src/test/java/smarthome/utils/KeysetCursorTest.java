@@ -0,0 +1,53 @@
+package smarthome.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The KeysetCursorTest class tests the KeysetCursor class.
+ */
+class KeysetCursorTest {
+
+    /**
+     * Tests that the keys encoded in a cursor are decoded back, and that the cursor is safe in a URL.
+     */
+    @Test
+    void testDecodeReturnsEncodedKeys() {
+        //Arrange
+        String[] keys = {"2024-04-25T12:00:06", "Living Room/1?&"};
+
+        //Act
+        String cursor = KeysetCursor.encode(keys);
+
+        //Assert
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+        assertArrayEquals(keys, KeysetCursor.decode(cursor, 2));
+    }
+
+    /**
+     * Tests that a cursor that is not valid Base64 or does not hold the number of keys asked for is rejected.
+     */
+    @Test
+    void testDecodeWithInvalidCursorThrowsException() {
+        //Arrange
+        String cursor = KeysetCursor.encode("key");
+
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%", 1));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(cursor, 2));
+    }
+
+    /**
+     * Tests that no keys, or a null key, cannot be encoded.
+     */
+    @Test
+    void testEncodeWithInvalidKeysThrowsException() {
+        //Act + Assert
+        assertThrows(IllegalArgumentException.class, KeysetCursor::encode);
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.encode("key", null));
+    }
+}